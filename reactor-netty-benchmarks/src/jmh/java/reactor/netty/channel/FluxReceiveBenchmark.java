@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+
+/**
+ * Measures the delivery of inbound messages through {@link FluxReceive}.
+ * With an unbounded demand the messages are delivered through the fast path,
+ * with a bounded demand they are queued and drained.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class FluxReceiveBenchmark {
+
+	@Param({"16", "256"})
+	int messages;
+
+	@Param({"0", "32"})
+	int prefetch;
+
+	EmbeddedChannel channel;
+	ByteBuf buffer;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel();
+		buffer = Unpooled.unreleasableBuffer(Unpooled.directBuffer(64).writeZero(64));
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+	}
+
+	@Benchmark
+	public void receive(Blackhole blackhole) {
+		ChannelOperations<NettyInbound, NettyOutbound> operations =
+				new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+		FluxReceive inbound = operations.inbound;
+		inbound.subscribe(new DrainingSubscriber(blackhole, prefetch));
+		for (int i = 0; i < messages; i++) {
+			inbound.onInboundNext(buffer);
+		}
+		inbound.onInboundComplete();
+	}
+
+	static final class DrainingSubscriber implements CoreSubscriber<Object> {
+
+		final Blackhole blackhole;
+		final int prefetch;
+
+		Subscription subscription;
+		int consumed;
+
+		DrainingSubscriber(Blackhole blackhole, int prefetch) {
+			this.blackhole = blackhole;
+			this.prefetch = prefetch;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			subscription = s;
+			s.request(prefetch == 0 ? Long.MAX_VALUE : prefetch);
+		}
+
+		@Override
+		public void onNext(Object o) {
+			blackhole.consume(o);
+			if (prefetch != 0 && ++consumed == prefetch) {
+				consumed = 0;
+				subscription.request(prefetch);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			blackhole.consume(t);
+		}
+
+		@Override
+		public void onComplete() {
+			blackhole.consume(this);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures the cost of writing and flushing a stream of buffers with {@link MonoSendMany}.
+ * The channel is an {@link EmbeddedChannel} so that only the send machinery is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MonoSendManyBenchmark {
+
+	@Param({"1", "16", "256"})
+	int messages;
+
+	@Param({"false", "true"})
+	boolean flushOnEach;
+
+	@Param({"64", "8192"})
+	int messageSize;
+
+	EmbeddedChannel channel;
+	ByteBuf[] buffers;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel(new ChannelHandlerAdapter() {});
+		ByteBuf buffer = Unpooled.unreleasableBuffer(Unpooled.directBuffer(messageSize).writeZero(messageSize));
+		buffers = new ByteBuf[messages];
+		for (int i = 0; i < messages; i++) {
+			buffers[i] = buffer;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+	}
+
+	@Benchmark
+	public int sendMany() {
+		boolean flushOnEach = this.flushOnEach;
+		MonoSendMany.byteBufSource(Flux.fromArray(buffers), channel, b -> flushOnEach)
+		            .subscribe();
+		channel.runPendingTasks();
+		int written = channel.outboundMessages().size();
+		channel.releaseOutbound();
+		return written;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.internal.shaded.reactor.pool.PoolBuilder;
+import reactor.netty.internal.shaded.reactor.pool.PoolConfig;
+import reactor.netty.internal.shaded.reactor.pool.PooledRef;
+
+/**
+ * Measures the acquire and release of streams with {@link Http2Pool}.
+ * The connections are {@link EmbeddedChannel}s configured with the HTTP/2 frame codec and multiplex handler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class Http2PoolBenchmark {
+
+	@Param({"1", "8"})
+	int connections;
+
+	@Param({"1", "32"})
+	int streams;
+
+	EmbeddedChannel[] channels;
+	Http2Pool http2Pool;
+	PooledRef<Connection>[] acquired;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		channels = new EmbeddedChannel[connections];
+		for (int i = 0; i < connections; i++) {
+			channels[i] = new EmbeddedChannel(Http2FrameCodecBuilder.forClient().build(),
+					new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+		}
+		AtomicInteger allocated = new AtomicInteger();
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.fromSupplier(() -> Connection.from(channels[allocated.getAndIncrement() % connections])))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(0, connections);
+		// spread the streams over all connections
+		Http2AllocationStrategy allocationStrategy =
+				Http2AllocationStrategy.builder()
+				                       .maxConnections(connections)
+				                       .maxConcurrentStreams(Math.max(1, streams / connections))
+				                       .build();
+		http2Pool = poolBuilder.build(config -> new Http2Pool(config, allocationStrategy));
+		acquired = new PooledRef[streams];
+
+		// open all connections
+		acquireAll();
+		releaseAll();
+	}
+
+	@TearDown
+	public void tearDown() {
+		http2Pool.disposeLater().block();
+		for (EmbeddedChannel channel : channels) {
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	@Benchmark
+	public void acquireRelease() {
+		acquireAll();
+		releaseAll();
+	}
+
+	void acquireAll() {
+		for (int i = 0; i < streams; i++) {
+			int index = i;
+			http2Pool.acquire().subscribe(ref -> acquired[index] = ref);
+		}
+		for (EmbeddedChannel channel : channels) {
+			channel.runPendingTasks();
+		}
+	}
+
+	void releaseAll() {
+		for (int i = 0; i < streams; i++) {
+			acquired[i].release().subscribe();
+			acquired[i] = null;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.net.InetSocketAddress;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.ReactorNetty;
+import reactor.netty.http.logging.ReactorNettyHttpMessageLogFactory;
+import reactor.netty.transport.AddressUtils;
+
+import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HOST_NAME;
+import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HTTP_PORT;
+import static reactor.netty.http.server.HttpServerFormDecoderProvider.DEFAULT_FORM_DECODER_SPEC;
+
+/**
+ * Measures the route lookup and the path parameters extraction of {@link HttpServerRoutes}
+ * for a growing number of declared routes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HttpServerRoutesBenchmark {
+
+	@Param({"10", "100", "400"})
+	int routes;
+
+	EmbeddedChannel channel;
+	HttpServerRoutes httpServerRoutes;
+	HttpServerOperations first;
+	HttpServerOperations last;
+	HttpServerOperations notFound;
+
+	@Setup
+	public void setup() {
+		httpServerRoutes = HttpServerRoutes.newRoutes();
+		for (int i = 0; i < routes; i++) {
+			httpServerRoutes.get("/api/v1/resource" + i + "/{id}", (req, res) -> Mono.justOrEmpty(req.param("id")).then())
+			                .post("/api/v1/resource" + i, (req, res) -> Mono.empty());
+		}
+		channel = new EmbeddedChannel();
+		first = request(HttpMethod.GET, "/api/v1/resource0/42");
+		last = request(HttpMethod.GET, "/api/v1/resource" + (routes - 1) + "/42?q=1");
+		notFound = request(HttpMethod.GET, "/unknown/42");
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+	}
+
+	@Benchmark
+	public Publisher<Void> firstRoute() {
+		return httpServerRoutes.apply(first, first);
+	}
+
+	@Benchmark
+	public Publisher<Void> lastRoute() {
+		return httpServerRoutes.apply(last, last);
+	}
+
+	@Benchmark
+	public Publisher<Void> noRoute() {
+		return httpServerRoutes.apply(notFound, notFound);
+	}
+
+	HttpServerOperations request(HttpMethod method, String uri) {
+		InetSocketAddress localSocketAddress = AddressUtils.createUnresolved("localhost", 80);
+		InetSocketAddress remoteSocketAddress = AddressUtils.createUnresolved("localhost", 9999);
+		return new HttpServerOperations(
+				Connection.from(channel),
+				ConnectionObserver.emptyListener(),
+				new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, uri),
+				HttpCompressionOptions.DEFAULT,
+				null,
+				new ConnectionInfo(localSocketAddress, DEFAULT_HOST_NAME, DEFAULT_HTTP_PORT, remoteSocketAddress, "http", true),
+				ServerCookieDecoder.STRICT,
+				ServerCookieEncoder.STRICT,
+				DEFAULT_FORM_DECODER_SPEC,
+				ReactorNettyHttpMessageLogFactory.INSTANCE,
+				false,
+				null,
+				null,
+				null,
+				false,
+				ZonedDateTime.now(ReactorNetty.ZONE_ID_SYSTEM));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.netty.transport.AddressUtils;
+
+/**
+ * Measures the steady state recording path of {@link MicrometerHttpServerMetricsRecorder},
+ * i.e. when all meters are already registered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MicrometerHttpServerMetricsRecorderBenchmark {
+
+	static final Duration TIME = Duration.ofMillis(1);
+
+	MeterRegistry registry;
+	MicrometerHttpServerMetricsRecorder recorder;
+	InetSocketAddress remoteAddress;
+
+	@Setup
+	public void setup() {
+		registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		recorder = MicrometerHttpServerMetricsRecorder.INSTANCE;
+		remoteAddress = AddressUtils.createUnresolved("localhost", 8080);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Metrics.removeRegistry(registry);
+		registry.clear();
+		registry.close();
+	}
+
+	@Benchmark
+	public void recordResponse() {
+		recorder.recordDataReceivedTime("/api/v1/resource", "GET", TIME);
+		recorder.recordDataReceived(remoteAddress, "/api/v1/resource", 64);
+		recorder.recordDataSentTime("/api/v1/resource", "GET", "200", TIME);
+		recorder.recordResponseTime("/api/v1/resource", "GET", "200", TIME);
+		recorder.recordDataSent(remoteAddress, "/api/v1/resource", 64);
+	}
+}
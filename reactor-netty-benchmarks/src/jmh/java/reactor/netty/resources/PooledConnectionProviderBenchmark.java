@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.netty.resolver.DefaultAddressResolverGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.DisposableServer;
+import reactor.netty.channel.ChannelOperations;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpClientConfig;
+import reactor.netty.tcp.TcpServer;
+
+/**
+ * Measures {@link PooledConnectionProvider#acquire} followed by the release of the connection
+ * against a server bound on the loopback interface. The connections are opened during the setup,
+ * so that only the pool acquire/release path is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PooledConnectionProviderBenchmark {
+
+	@Param({"1", "16"})
+	int maxConnections;
+
+	DisposableServer server;
+	ConnectionProvider provider;
+	TcpClientConfig config;
+	Supplier<? extends SocketAddress> remoteAddress;
+
+	@Setup
+	public void setup() {
+		server = TcpServer.create()
+		                  .host("127.0.0.1")
+		                  .port(0)
+		                  .handle((in, out) -> Mono.never())
+		                  .bindNow();
+		provider = ConnectionProvider.create("benchmark", maxConnections);
+		config = TcpClient.create(provider)
+		                  .remoteAddress(server::address)
+		                  .configuration();
+		remoteAddress = config.remoteAddress();
+	}
+
+	@TearDown
+	public void tearDown() {
+		provider.disposeLater().block(Duration.ofSeconds(30));
+		server.disposeNow();
+	}
+
+	@Benchmark
+	public Connection acquireRelease() {
+		Connection connection = provider.acquire(config, ConnectionObserver.emptyListener(), remoteAddress,
+				DefaultAddressResolverGroup.INSTANCE).block(Duration.ofSeconds(30));
+		// releases the connection back to the pool
+		ChannelOperations<?, ?> ops = (ChannelOperations<?, ?>) connection;
+		ops.listener().onStateChange(ops, ConnectionObserver.State.DISCONNECTING);
+		return connection;
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Controls when the messages written with {@link NettyOutbound#send(org.reactivestreams.Publisher, FlushPolicy)}
+ * or {@link NettyOutbound#sendObject(org.reactivestreams.Publisher, FlushPolicy)} are flushed.
+ * <p>
+ * The written messages are accumulated and flushed together, with a single write system call when supported
+ * by the transport, as soon as one of the following happens:
+ * <ul>
+ *     <li>the accumulated messages reach {@link Builder#maxPendingBytes(int)} bytes</li>
+ *     <li>the accumulated messages reach {@link Builder#maxPendingMessages(int)} messages</li>
+ *     <li>{@link Builder#maxDelay(Duration)} elapsed since the first accumulated message was written</li>
+ *     <li>the channel is not writable anymore or the next message does not fit before the channel becomes unwritable</li>
+ *     <li>the sequence of messages completes</li>
+ * </ul>
+ * With a {@link Builder#maxDelay(Duration)} of {@link Duration#ZERO}, the messages are flushed as soon as
+ * no more messages are immediately available from the sequence, as without a {@link FlushPolicy}.
+ *
+ * @since 1.2.0
+ */
+public final class FlushPolicy {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link FlushPolicy}.
+		 *
+		 * @return a new {@link FlushPolicy}
+		 */
+		FlushPolicy build();
+
+		/**
+		 * Configures the maximum time a written message waits for a flush.
+		 * Default to {@code 1ms}.
+		 *
+		 * @param maxDelay the maximum time a written message waits for a flush, {@link Duration#ZERO} to flush
+		 * as soon as no more messages are immediately available
+		 * @return {@code this}
+		 */
+		Builder maxDelay(Duration maxDelay);
+
+		/**
+		 * Configures the number of accumulated bytes that triggers a flush.
+		 * Default to {@code 64KiB}.
+		 *
+		 * @param maxPendingBytes the number of accumulated bytes that triggers a flush
+		 * @return {@code this}
+		 */
+		Builder maxPendingBytes(int maxPendingBytes);
+
+		/**
+		 * Configures the number of accumulated messages that triggers a flush.
+		 * Default to {@code 64}.
+		 *
+		 * @param maxPendingMessages the number of accumulated messages that triggers a flush
+		 * @return {@code this}
+		 */
+		Builder maxPendingMessages(int maxPendingMessages);
+	}
+
+	/**
+	 * Creates a builder for {@link FlushPolicy}.
+	 *
+	 * @return a new {@link FlushPolicy.Builder}
+	 */
+	public static FlushPolicy.Builder builder() {
+		return new FlushPolicy.Build();
+	}
+
+	/**
+	 * Returns the maximum time a written message waits for a flush.
+	 *
+	 * @return the maximum time a written message waits for a flush
+	 */
+	public Duration maxDelay() {
+		return maxDelay;
+	}
+
+	/**
+	 * Returns the number of accumulated bytes that triggers a flush.
+	 *
+	 * @return the number of accumulated bytes that triggers a flush
+	 */
+	public int maxPendingBytes() {
+		return maxPendingBytes;
+	}
+
+	/**
+	 * Returns the number of accumulated messages that triggers a flush.
+	 *
+	 * @return the number of accumulated messages that triggers a flush
+	 */
+	public int maxPendingMessages() {
+		return maxPendingMessages;
+	}
+
+	@Override
+	public String toString() {
+		return "FlushPolicy{" +
+				"maxDelay=" + maxDelay +
+				", maxPendingBytes=" + maxPendingBytes +
+				", maxPendingMessages=" + maxPendingMessages +
+				'}';
+	}
+
+	final Duration maxDelay;
+	final int maxPendingBytes;
+	final int maxPendingMessages;
+
+	FlushPolicy(Build build) {
+		this.maxDelay = build.maxDelay;
+		this.maxPendingBytes = build.maxPendingBytes;
+		this.maxPendingMessages = build.maxPendingMessages;
+	}
+
+	static final class Build implements Builder {
+		static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+		static final int DEFAULT_MAX_PENDING_BYTES = 64 * 1024;
+		static final int DEFAULT_MAX_PENDING_MESSAGES = 64;
+
+		Duration maxDelay = DEFAULT_MAX_DELAY;
+		int maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+		int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
+
+		@Override
+		public FlushPolicy build() {
+			return new FlushPolicy(this);
+		}
+
+		@Override
+		public Builder maxDelay(Duration maxDelay) {
+			Objects.requireNonNull(maxDelay, "maxDelay");
+			if (maxDelay.isNegative()) {
+				throw new IllegalArgumentException("maxDelay must be positive or zero");
+			}
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		@Override
+		public Builder maxPendingBytes(int maxPendingBytes) {
+			if (maxPendingBytes < 1) {
+				throw new IllegalArgumentException("maxPendingBytes must be strictly positive");
+			}
+			this.maxPendingBytes = maxPendingBytes;
+			return this;
+		}
+
+		@Override
+		public Builder maxPendingMessages(int maxPendingMessages) {
+			if (maxPendingMessages < 1) {
+				throw new IllegalArgumentException("maxPendingMessages must be strictly positive");
+			}
+			this.maxPendingMessages = maxPendingMessages;
+			return this;
+		}
+	}
+}
@@ -145,6 +145,16 @@ public class Metrics {
 	 */
 	public static final String RESPONSE_TIME = ".response.time";
 
+	/**
+	 * The number of requests whose response is served from the HTTP client response cache.
+	 */
+	public static final String RESPONSE_CACHE_HITS = ".response.cache.hits";
+
+	/**
+	 * The number of requests whose response is not served from the HTTP client response cache.
+	 */
+	public static final String RESPONSE_CACHE_MISSES = ".response.cache.misses";
+
 	/**
 	 * The number of all connections, whether they are active or idle.
 	 */
@@ -162,6 +172,27 @@ public class Metrics {
 	 */
 	public static final String ADDRESS_RESOLVER = ".address.resolver";
 
+	/**
+	 * The number of name resolutions served by the refresh-ahead DNS cache with fresh addresses.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_HITS = ".address.resolver.cache.hits";
+
+	/**
+	 * The number of name resolutions that required a DNS query because the refresh-ahead DNS cache
+	 * did not contain the hostname.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_MISSES = ".address.resolver.cache.misses";
+
+	/**
+	 * The number of background refreshes started by the refresh-ahead DNS cache.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_REFRESHES = ".address.resolver.cache.refreshes";
+
+	/**
+	 * The number of name resolutions served by the refresh-ahead DNS cache with expired addresses.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_STALE_HITS = ".address.resolver.cache.stale.hits";
+
 
 	// PooledConnectionProvider Metrics
 	/**
@@ -15,6 +15,8 @@
  */
 package reactor.netty;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 
 import io.netty.channel.Channel;
@@ -44,6 +46,22 @@ public interface NettyInbound {
 	 */
 	Flux<?> receiveObject();
 
+	/**
+	 * a {@literal Object} inbound {@link Flux} emitting the messages received during a read cycle,
+	 * i.e. until {@code channelReadComplete}, as a single {@link List}.
+	 * Each batch counts as one element of the subscriber demand, when the subscriber does not keep up,
+	 * the next batch contains all the messages received in the meantime.
+	 * The messages are released once the subscriber returns from {@code onNext}, as with {@link #receiveObject()}.
+	 * <p>
+	 * By default, each message is emitted as a singleton {@link List}.
+	 *
+	 * @return a {@literal Object} inbound {@link Flux} emitting the messages in batches
+	 * @since 1.2.0
+	 */
+	default Flux<List<Object>> receiveObjectBatches() {
+		return receiveObject().map(Collections::<Object>singletonList);
+	}
+
 	/**
 	 * Calls the passed callback with a {@link Connection} to operate on the
 	 * underlying {@link Channel} state. This allows for chaining inbound API.
@@ -100,6 +100,24 @@ public interface NettyOutbound extends Publisher<Void> {
 	 */
 	NettyOutbound send(Publisher<? extends ByteBuf> dataStream, Predicate<ByteBuf> predicate);
 
+	/**
+	 * Sends data to the peer, listens for any error on write and closes on terminal signal
+	 * (complete|error). The written buffers are flushed according to the given {@link FlushPolicy},
+	 * trading a bounded latency for fewer flush operations.
+	 * <p>Note: Nesting any send* method is not supported.</p>
+	 *
+	 * @param dataStream the dataStream publishing OUT items to write on this channel
+	 * @param flushPolicy the {@link FlushPolicy} that decides when the written buffers are flushed
+	 *
+	 * @return A new {@link NettyOutbound} to append further send. It will emit a complete
+	 * signal successful sequence write (e.g. after "flush") or any error during write.
+	 * @since 1.2.0
+	 */
+	default NettyOutbound send(Publisher<? extends ByteBuf> dataStream, FlushPolicy flushPolicy) {
+		Objects.requireNonNull(flushPolicy, "flushPolicy");
+		return send(dataStream);
+	}
+
 	/**
 	 * Sends bytes to the peer, listens for any error on write and closes on terminal
 	 * signal (complete|error). If more than one publisher is attached (multiple calls to
@@ -260,6 +278,24 @@ public interface NettyOutbound extends Publisher<Void> {
 	 */
 	NettyOutbound sendObject(Publisher<?> dataStream, Predicate<Object> predicate);
 
+	/**
+	 * Sends an object through Netty pipeline. If type of {@link Publisher}, sends all signals,
+	 * flushing according to the given {@link FlushPolicy}. Write occur in FIFO sequence.
+	 * <p>Note: Nesting any send* method is not supported.</p>
+	 *
+	 * @param dataStream the dataStream publishing items to write on this channel
+	 * or a simple pojo supported by configured Netty handlers
+	 * @param flushPolicy the {@link FlushPolicy} that decides when the written objects are flushed
+	 *
+	 * @return A Publisher to signal successful sequence write (e.g. after "flush") or any
+	 * error during write
+	 * @since 1.2.0
+	 */
+	default NettyOutbound sendObject(Publisher<?> dataStream, FlushPolicy flushPolicy) {
+		Objects.requireNonNull(flushPolicy, "flushPolicy");
+		return sendObject(dataStream);
+	}
+
 	/**
 	 * Sends data to the peer, listens for any error on write and closes on terminal signal
 	 * (complete|error).
@@ -45,7 +45,6 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
-import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCounted;
 import org.reactivestreams.Publisher;
@@ -55,6 +54,7 @@ import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
+import reactor.netty.internal.util.TimerIdleStateHandler;
 import reactor.pool.AllocationStrategy;
 import reactor.pool.PoolBuilder;
 import reactor.pool.introspection.SamplingAllocationStrategy;
@@ -119,6 +119,13 @@ public final class ReactorNetty {
 	 */
 	public static final String NATIVE = "reactor.netty.native";
 
+	/**
+	 * Specifies whether the connection timeouts (idle, read, request, response and pending acquire timeouts)
+	 * are scheduled on the hashed wheel timer of the event loop, see {@link reactor.netty.resources.EventLoopTimer},
+	 * or directly on the event loop. By default, the hashed wheel timer is used.
+	 */
+	public static final String EVENT_LOOP_TIMER = "reactor.netty.eventLoopTimer";
+
 
 	/**
 	 * Default max connections. Fallback to
@@ -778,11 +785,21 @@ public final class ReactorNetty {
 			return then(source.send(dataStream, predicate));
 		}
 
+		@Override
+		public NettyOutbound send(Publisher<? extends ByteBuf> dataStream, FlushPolicy flushPolicy) {
+			return then(source.send(dataStream, flushPolicy));
+		}
+
 		@Override
 		public NettyOutbound sendObject(Publisher<?> dataStream, Predicate<Object> predicate) {
 			return then(source.sendObject(dataStream, predicate));
 		}
 
+		@Override
+		public NettyOutbound sendObject(Publisher<?> dataStream, FlushPolicy flushPolicy) {
+			return then(source.sendObject(dataStream, flushPolicy));
+		}
+
 		@Override
 		public NettyOutbound sendObject(Object message) {
 			return then(source.sendObject(message),
@@ -795,12 +812,12 @@ public final class ReactorNetty {
 		}
 	}
 
-	static final class OutboundIdleStateHandler extends IdleStateHandler {
+	static final class OutboundIdleStateHandler extends TimerIdleStateHandler {
 
 		final Runnable onWriteIdle;
 
 		OutboundIdleStateHandler(long idleTimeout, Runnable onWriteIdle) {
-			super(0, idleTimeout, 0, TimeUnit.MILLISECONDS);
+			super(0, idleTimeout, TimeUnit.MILLISECONDS);
 			this.onWriteIdle = requireNonNull(onWriteIdle, "onWriteIdle");
 		}
 
@@ -814,12 +831,12 @@ public final class ReactorNetty {
 		}
 	}
 
-	static final class InboundIdleStateHandler extends IdleStateHandler {
+	static final class InboundIdleStateHandler extends TimerIdleStateHandler {
 
 		final Runnable onReadIdle;
 
 		InboundIdleStateHandler(long idleTimeout, Runnable onReadIdle) {
-			super(idleTimeout, 0, 0, TimeUnit.MILLISECONDS);
+			super(idleTimeout, 0, TimeUnit.MILLISECONDS);
 			this.onReadIdle = requireNonNull(onReadIdle, "onReadIdle");
 		}
 
@@ -1030,7 +1047,13 @@ public final class ReactorNetty {
 	};
 
 
-	static final Predicate<ByteBuf>        PREDICATE_BB_FLUSH    = b -> false;
+	/**
+	 * The flush predicate of the {@link ByteBuf} streams that are not flushed on a given item,
+	 * i.e. flushed on completion or according to a {@link FlushPolicy}.
+	 *
+	 * @since 1.2.0
+	 */
+	public static final Predicate<ByteBuf> PREDICATE_BB_FLUSH    = b -> false;
 
 	static final Predicate<Object>         PREDICATE_FLUSH       = o -> false;
 
@@ -17,6 +17,7 @@ package reactor.netty.channel;
 
 import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
@@ -41,6 +42,7 @@ import reactor.netty.ByteBufFlux;
 import reactor.netty.ChannelOperationsId;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.FlushPolicy;
 import reactor.netty.FutureMono;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
@@ -279,6 +281,11 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		return inbound;
 	}
 
+	@Override
+	public Flux<List<Object>> receiveObjectBatches() {
+		return inbound.batches();
+	}
+
 	@Override
 	public ByteBufFlux receive() {
 		return ByteBufFlux.fromInbound(receiveObject(), connection.channel()
@@ -298,6 +305,18 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		return then(MonoSendMany.byteBufSource(dataStream, channel(), predicate));
 	}
 
+	@Override
+	public NettyOutbound send(Publisher<? extends ByteBuf> dataStream, FlushPolicy flushPolicy) {
+		requireNonNull(flushPolicy, "flushPolicy");
+		if (dataStream instanceof Mono) {
+			return send(dataStream);
+		}
+		if (!channel().isActive()) {
+			return then(Mono.error(AbortedException.beforeSend()));
+		}
+		return then(MonoSendMany.byteBufSource(dataStream, channel(), ReactorNetty.PREDICATE_BB_FLUSH, flushPolicy));
+	}
+
 	@Override
 	public NettyOutbound sendObject(Publisher<?> dataStream, Predicate<Object> predicate) {
 		requireNonNull(predicate, "predicate");
@@ -311,6 +330,18 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		return then(MonoSendMany.objectSource(dataStream, channel(), predicate));
 	}
 
+	@Override
+	public NettyOutbound sendObject(Publisher<?> dataStream, FlushPolicy flushPolicy) {
+		requireNonNull(flushPolicy, "flushPolicy");
+		if (dataStream instanceof Mono) {
+			return sendObject(dataStream);
+		}
+		if (!channel().isActive()) {
+			return then(Mono.error(AbortedException.beforeSend()));
+		}
+		return then(MonoSendMany.objectSource(dataStream, channel(), o -> false, flushPolicy));
+	}
+
 	@Override
 	public NettyOutbound sendObject(Object message) {
 		if (!channel().isActive()) {
@@ -426,6 +457,13 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		inbound.onInboundNext(msg);
 	}
 
+	/**
+	 * React on inbound {@code channelReadComplete}.
+	 */
+	final void onInboundReadComplete() {
+		inbound.onInboundReadComplete();
+	}
+
 	/**
 	 * React on inbound cancel (receive() subscriber cancelled).
 	 */
@@ -137,6 +137,15 @@ final class ChannelOperationsHandler extends ChannelInboundHandlerAdapter {
 		}
 	}
 
+	@Override
+	public final void channelReadComplete(ChannelHandlerContext ctx) {
+		ChannelOperations<?, ?> ops = ChannelOperations.get(ctx.channel());
+		if (ops != null) {
+			ops.onInboundReadComplete();
+		}
+		ctx.fireChannelReadComplete();
+	}
+
 	@Override
 	public final void exceptionCaught(ChannelHandlerContext ctx, Throwable err) {
 		Connection connection = Connection.from(ctx.channel());
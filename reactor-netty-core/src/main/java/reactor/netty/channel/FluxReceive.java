@@ -17,6 +17,8 @@ package reactor.netty.channel;
 
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.IntConsumer;
@@ -51,6 +53,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	final EventLoop         eventLoop;
 
 	CoreSubscriber<? super Object> receiver;
+	boolean                        receiverBatch;
 	boolean                        receiverFastpath;
 	long                           receiverDemand;
 	Queue<Object>                  receiverQueue;
@@ -143,15 +146,29 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 
 	@Override
 	public void subscribe(CoreSubscriber<? super Object> s) {
+		subscribe(s, false);
+	}
+
+	/**
+	 * Returns a {@link Flux} delivering the messages received during a read cycle as a single {@link List},
+	 * each batch counts as one element of the subscriber demand.
+	 *
+	 * @return a {@link Flux} delivering the messages received during a read cycle as a single {@link List}
+	 */
+	final Flux<List<Object>> batches() {
+		return new FluxReceiveBatch(this);
+	}
+
+	final void subscribe(CoreSubscriber<? super Object> s, boolean batch) {
 		if (eventLoop.inEventLoop()) {
-			startReceiver(s);
+			startReceiver(s, batch);
 		}
 		else {
-			eventLoop.execute(() -> startReceiver(s));
+			eventLoop.execute(() -> startReceiver(s, batch));
 		}
 	}
 
-	final void startReceiver(CoreSubscriber<? super Object> s) {
+	final void startReceiver(CoreSubscriber<? super Object> s, boolean batch) {
 		if (!subscribedOnce) {
 			subscribedOnce = true;
 			if (log.isDebugEnabled()) {
@@ -168,6 +185,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 			}
 
 			receiver = s;
+			receiverBatch = batch;
 
 			s.onSubscribe(this);
 		}
@@ -268,7 +286,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 
 				d = inboundDone;
-				Object v = q != null ? q.poll() : null;
+				Object v = q != null ? (receiverBatch ? pollBatch(q) : q.poll()) : null;
 				boolean empty = v == null;
 
 				if (d && empty) {
@@ -282,20 +300,25 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 
 				try {
 					if (logLeakDetection.isDebugEnabled()) {
-						if (v instanceof ByteBuf) {
-							((ByteBuf) v).touch(format(channel, "Receiver " + a.getClass().getName() +
-									" will handle the message from this point"));
+						if (receiverBatch) {
+							for (Object o : (List<?>) v) {
+								touchReceived(o, a);
+							}
 						}
-						else if (v instanceof ByteBufHolder) {
-							((ByteBufHolder) v).touch(format(channel, "Receiver " + a.getClass().getName() +
-									" will handle the message from this point"));
+						else {
+							touchReceived(v, a);
 						}
 					}
 					a.onNext(v);
 				}
 				finally {
 					try {
-						ReferenceCountUtil.release(v);
+						if (receiverBatch) {
+							releaseBatch((List<?>) v);
+						}
+						else {
+							ReferenceCountUtil.release(v);
+						}
 					}
 					catch (Throwable t) {
 						inboundError = t;
@@ -319,7 +342,8 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 			}
 
 			if (r == Long.MAX_VALUE) {
-				receiverFastpath = true;
+				// Batches are collected in the queue until channelReadComplete, they cannot take the fast path
+				receiverFastpath = !receiverBatch;
 				if (needRead) {
 					needRead = false;
 					channel.config()
@@ -367,14 +391,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		if (receiverFastpath && receiver != null) {
 			try {
 				if (logLeakDetection.isDebugEnabled()) {
-					if (msg instanceof ByteBuf) {
-						((ByteBuf) msg).touch(format(channel, "Receiver " + receiver.getClass().getName() +
-								" will handle the message from this point"));
-					}
-					else if (msg instanceof ByteBufHolder) {
-						((ByteBufHolder) msg).touch(format(channel, "Receiver " + receiver.getClass().getName() +
-								" will handle the message from this point"));
-					}
+					touchReceived(msg, receiver);
 				}
 				receiver.onNext(msg);
 			}
@@ -400,6 +417,15 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 			}
 			q.offer(msg);
+			// In batch mode, the messages are delivered once the read cycle completes
+			if (!receiverBatch) {
+				drainReceiver();
+			}
+		}
+	}
+
+	final void onInboundReadComplete() {
+		if (receiverBatch && receiverQueue != null && !receiverQueue.isEmpty()) {
 			drainReceiver();
 		}
 	}
@@ -469,6 +495,17 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		}
 	}
 
+	final void touchReceived(Object msg, CoreSubscriber<?> a) {
+		if (msg instanceof ByteBuf) {
+			((ByteBuf) msg).touch(format(channel, "Receiver " + a.getClass().getName() +
+					" will handle the message from this point"));
+		}
+		else if (msg instanceof ByteBufHolder) {
+			((ByteBufHolder) msg).touch(format(channel, "Receiver " + a.getClass().getName() +
+					" will handle the message from this point"));
+		}
+	}
+
 	final void terminateReceiver(@Nullable Queue<?> q, CoreSubscriber<?> a) {
 		if (q != null) {
 			q.clear();
@@ -525,6 +562,52 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				']';
 	}
 
+	@Nullable
+	static List<Object> pollBatch(Queue<Object> q) {
+		if (q.isEmpty()) {
+			return null;
+		}
+		List<Object> batch = new ArrayList<>(q.size());
+		Object o;
+		while ((o = q.poll()) != null) {
+			batch.add(o);
+		}
+		return batch;
+	}
+
+	static void releaseBatch(List<?> batch) {
+		RuntimeException error = null;
+		for (Object o : batch) {
+			try {
+				ReferenceCountUtil.release(o);
+			}
+			catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				}
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	static final class FluxReceiveBatch extends Flux<List<Object>> {
+
+		final FluxReceive source;
+
+		FluxReceiveBatch(FluxReceive source) {
+			this.source = source;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void subscribe(CoreSubscriber<? super List<Object>> actual) {
+			// FluxReceive emits the batches as objects, the subscriber receives only lists
+			source.subscribe((CoreSubscriber<? super Object>) (CoreSubscriber<?>) actual, true);
+		}
+	}
+
 	static final AtomicReferenceFieldUpdater<FluxReceive, IntConsumer> CANCEL =
 			AtomicReferenceFieldUpdater.newUpdater(FluxReceive.class,
 					IntConsumer.class,
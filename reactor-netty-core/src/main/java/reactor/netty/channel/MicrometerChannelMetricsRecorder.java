@@ -22,6 +22,7 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.noop.NoopMeter;
 import reactor.netty.internal.util.MapUtils;
+import reactor.netty.internal.util.MeterCache;
 import reactor.util.annotation.Nullable;
 
 import java.net.SocketAddress;
@@ -49,11 +50,17 @@ import static reactor.netty.Metrics.formatSocketAddress;
  * @since 0.9
  */
 public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder {
-	final ConcurrentMap<String, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
+	final MeterCache<DistributionSummary> dataReceivedCache = new MeterCache<>();
 
-	final ConcurrentMap<String, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
+	final MeterCache<DistributionSummary> dataSentCache = new MeterCache<>();
 
-	final ConcurrentMap<String, Counter> errorsCache = new ConcurrentHashMap<>();
+	final MeterCache<Counter> errorsCache = new MeterCache<>();
+
+	final MeterCache<Timer> connectTimers = new MeterCache<>();
+
+	final MeterCache<Timer> tlsHandshakeTimers = new MeterCache<>();
+
+	final MeterCache<Timer> addressResolverTimers = new MeterCache<>();
 
 	final ConcurrentMap<MeterKey, Timer> connectTimeCache = new ConcurrentHashMap<>();
 
@@ -61,7 +68,7 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	final ConcurrentMap<MeterKey, Timer> addressResolverTimeCache = new ConcurrentHashMap<>();
 
-	final ConcurrentMap<String, LongAdder> totalConnectionsCache = new ConcurrentHashMap<>();
+	final MeterCache<LongAdder> totalConnectionsCache = new MeterCache<>();
 
 	final String name;
 	final String protocol;
@@ -73,13 +80,15 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
-		String address = formatSocketAddress(remoteAddress);
-		DistributionSummary ds = MapUtils.computeIfAbsent(dataReceivedCache, address,
-				key -> filter(DistributionSummary.builder(name + DATA_RECEIVED)
-				                                 .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
-				                                 .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-				                                       ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address)
-				                                 .register(REGISTRY)));
+		DistributionSummary ds = dataReceivedCache.get(remoteAddress);
+		if (ds == null) {
+			ds = dataReceivedCache.computeIfAbsent(remoteAddress,
+					() -> filter(DistributionSummary.builder(name + DATA_RECEIVED)
+					                                .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
+					                                .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
+					                                      ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress))
+					                                .register(REGISTRY)));
+		}
 		if (ds != null) {
 			ds.record(bytes);
 		}
@@ -87,13 +96,15 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, long bytes) {
-		String address = formatSocketAddress(remoteAddress);
-		DistributionSummary ds = MapUtils.computeIfAbsent(dataSentCache, address,
-				key -> filter(DistributionSummary.builder(name + DATA_SENT)
-				                                 .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
-				                                 .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-				                                       ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address)
-				                                 .register(REGISTRY)));
+		DistributionSummary ds = dataSentCache.get(remoteAddress);
+		if (ds == null) {
+			ds = dataSentCache.computeIfAbsent(remoteAddress,
+					() -> filter(DistributionSummary.builder(name + DATA_SENT)
+					                                .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
+					                                .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
+					                                      ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress))
+					                                .register(REGISTRY)));
+		}
 		if (ds != null) {
 			ds.record(bytes);
 		}
@@ -101,12 +112,14 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress) {
-		String address = formatSocketAddress(remoteAddress);
-		Counter c = MapUtils.computeIfAbsent(errorsCache, address,
-				key -> filter(Counter.builder(name + ERRORS)
-				                     .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-				                           ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address)
-				                     .register(REGISTRY)));
+		Counter c = errorsCache.get(remoteAddress);
+		if (c == null) {
+			c = errorsCache.computeIfAbsent(remoteAddress,
+					() -> filter(Counter.builder(name + ERRORS)
+					                    .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
+					                          ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress))
+					                    .register(REGISTRY)));
+		}
 		if (c != null) {
 			c.increment();
 		}
@@ -114,8 +127,11 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
-		String address = formatSocketAddress(remoteAddress);
-		Timer timer = getTlsHandshakeTimer(name + TLS_HANDSHAKE_TIME, address, status);
+		Timer timer = tlsHandshakeTimers.get(remoteAddress, status);
+		if (timer == null) {
+			timer = tlsHandshakeTimers.computeIfAbsent(remoteAddress, status,
+					() -> getTlsHandshakeTimer(name + TLS_HANDSHAKE_TIME, formatSocketAddress(remoteAddress), status));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
@@ -132,8 +148,11 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
-		String address = formatSocketAddress(remoteAddress);
-		Timer timer = getConnectTimer(name + CONNECT_TIME, address, status);
+		Timer timer = connectTimers.get(remoteAddress, status);
+		if (timer == null) {
+			timer = connectTimers.computeIfAbsent(remoteAddress, status,
+					() -> getConnectTimer(name + CONNECT_TIME, formatSocketAddress(remoteAddress), status));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
@@ -150,8 +169,11 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Override
 	public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
-		String address = formatSocketAddress(remoteAddress);
-		Timer timer = getResolveAddressTimer(name + ADDRESS_RESOLVER, address, status);
+		Timer timer = addressResolverTimers.get(remoteAddress, status);
+		if (timer == null) {
+			timer = addressResolverTimers.computeIfAbsent(remoteAddress, status,
+					() -> getResolveAddressTimer(name + ADDRESS_RESOLVER, formatSocketAddress(remoteAddress), status));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
@@ -202,15 +224,18 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	@Nullable
 	LongAdder getTotalConnectionsAdder(SocketAddress serverAddress) {
-		String address = formatSocketAddress(serverAddress);
-		return MapUtils.computeIfAbsent(totalConnectionsCache, address,
-				key -> {
-					LongAdder totalConnectionsAdder = new LongAdder();
-					Gauge gauge = filter(Gauge.builder(name + CONNECTIONS_TOTAL, totalConnectionsAdder, LongAdder::longValue)
+		LongAdder totalConnectionsAdder = totalConnectionsCache.get(serverAddress);
+		if (totalConnectionsAdder != null) {
+			return totalConnectionsAdder;
+		}
+		return totalConnectionsCache.computeIfAbsent(serverAddress,
+				() -> {
+					LongAdder adder = new LongAdder();
+					Gauge gauge = filter(Gauge.builder(name + CONNECTIONS_TOTAL, adder, LongAdder::longValue)
 					                          .tags(ChannelMeters.ConnectionsTotalMeterTags.URI.asString(), protocol,
-					                                ChannelMeters.ConnectionsTotalMeterTags.LOCAL_ADDRESS.asString(), address)
+					                                ChannelMeters.ConnectionsTotalMeterTags.LOCAL_ADDRESS.asString(), formatSocketAddress(serverAddress))
 					                          .register(REGISTRY));
-					return gauge != null ? totalConnectionsAdder : null;
+					return gauge != null ? adder : null;
 				});
 	}
 }
@@ -50,6 +50,7 @@ import reactor.core.Exceptions;
 import reactor.core.Fuseable;
 import reactor.core.Scannable;
 import reactor.core.publisher.Operators;
+import reactor.netty.FlushPolicy;
 import reactor.util.annotation.Nullable;
 import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
@@ -76,25 +77,40 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 	static MonoSendMany<ByteBuf, ByteBuf> byteBufSource(Publisher<? extends ByteBuf> source,
 			Channel channel,
 			Predicate<ByteBuf> predicate) {
-		return new MonoSendMany<>(source, channel, predicate, TRANSFORMATION_FUNCTION_BB, CONSUMER_NOCHECK_CLEANUP, SIZE_OF_BB);
+		return byteBufSource(source, channel, predicate, null);
+	}
+
+	static MonoSendMany<ByteBuf, ByteBuf> byteBufSource(Publisher<? extends ByteBuf> source,
+			Channel channel,
+			Predicate<ByteBuf> predicate,
+			@Nullable FlushPolicy flushPolicy) {
+		return new MonoSendMany<>(source, channel, predicate, flushPolicy, TRANSFORMATION_FUNCTION_BB, CONSUMER_NOCHECK_CLEANUP, SIZE_OF_BB);
 	}
 
 	static MonoSendMany<?, ?> objectSource(Publisher<?> source, Channel channel, Predicate<Object> predicate) {
-		return new MonoSendMany<>(source, channel, predicate, TRANSFORMATION_FUNCTION, CONSUMER_NOCHECK_CLEANUP, SIZE_OF);
+		return objectSource(source, channel, predicate, null);
+	}
+
+	static MonoSendMany<?, ?> objectSource(Publisher<?> source, Channel channel, Predicate<Object> predicate,
+			@Nullable FlushPolicy flushPolicy) {
+		return new MonoSendMany<>(source, channel, predicate, flushPolicy, TRANSFORMATION_FUNCTION, CONSUMER_NOCHECK_CLEANUP, SIZE_OF);
 	}
 
 	final Publisher<? extends I> source;
 	final Predicate<I> predicate;
+	final FlushPolicy flushPolicy;
 
 	MonoSendMany(Publisher<? extends I> source,
 			Channel channel,
 			Predicate<I> predicate,
+			@Nullable FlushPolicy flushPolicy,
 			Function<? super I, ? extends O> transformer,
 			Consumer<? super I> sourceCleanup,
 			ToIntFunction<O> sizeOf) {
 		super(channel, transformer, sourceCleanup, sizeOf);
 		this.source = Objects.requireNonNull(source, "source publisher cannot be null");
 		this.predicate = Objects.requireNonNull(predicate, "predicate cannot be null");
+		this.flushPolicy = flushPolicy;
 	}
 
 	@Override
@@ -125,7 +141,10 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 		final CoreSubscriber<? super Void> actual;
 		final Context                      actualContext;
 		final Runnable                     asyncFlush;
-
+		final Runnable                     delayedFlush;
+		final long                         maxDelayNanos;
+		final long                         maxPendingBytes;
+		final int                          maxPendingMessages;
 
 		@SuppressWarnings("unused")
 		volatile Subscription s;
@@ -140,6 +159,12 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 		boolean  needFlush;
 		Throwable terminalSignal;
 
+		// Messages written since the last flush, see FlushPolicy
+		long    unflushedBytes;
+		int     unflushedMessages;
+		long    unflushedSinceNanos;
+		boolean delayedFlushScheduled;
+
 		int nextRequest;
 
 		SendManyInner(MonoSendMany<I, O> parent, CoreSubscriber<? super Void> actual) {
@@ -152,6 +177,20 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 
 			this.asyncFlush = new AsyncFlush();
 
+			FlushPolicy flushPolicy = parent.flushPolicy;
+			if (flushPolicy != null) {
+				this.delayedFlush = new DelayedFlush();
+				this.maxDelayNanos = flushPolicy.maxDelay().toNanos();
+				this.maxPendingBytes = flushPolicy.maxPendingBytes();
+				this.maxPendingMessages = flushPolicy.maxPendingMessages();
+			}
+			else {
+				this.delayedFlush = asyncFlush;
+				this.maxDelayNanos = 0;
+				this.maxPendingBytes = Long.MAX_VALUE;
+				this.maxPendingMessages = Integer.MAX_VALUE;
+			}
+
 			//TODO should also cleanup on complete operation (ChannelOperation.OnTerminate) ?
 			ctx.channel()
 			   .closeFuture()
@@ -302,8 +341,7 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						if (encodedMessage == null) {
 							if (parent.predicate.test(sourceMessage)) {
 								nextRequest++;
-								needFlush = false;
-								ctx.flush();
+								flush();
 							}
 							continue;
 						}
@@ -320,9 +358,16 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						//"FutureReturnValueIgnored" this is deliberate
 						ctx.write(encodedMessage, this);
 
-						if (parent.predicate.test(sourceMessage) || !ctx.channel().isWritable() || readableBytes > ctx.channel().bytesBeforeUnwritable()) {
-							needFlush = false;
-							ctx.flush();
+						if (unflushedMessages++ == 0 && maxDelayNanos != 0) {
+							unflushedSinceNanos = System.nanoTime();
+						}
+						if (readableBytes > 0) {
+							unflushedBytes += readableBytes;
+						}
+
+						if (parent.predicate.test(sourceMessage) || !ctx.channel().isWritable() || readableBytes > ctx.channel().bytesBeforeUnwritable() ||
+								unflushedBytes >= maxPendingBytes || unflushedMessages >= maxPendingMessages) {
+							flush();
 						}
 						else {
 							needFlush = true;
@@ -330,8 +375,15 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 					}
 
 					if (needFlush && pending != 0) {
-						needFlush = false;
-						eventLoop.execute(asyncFlush);
+						if (maxDelayNanos == 0 || terminalSignal != null) {
+							needFlush = false;
+							eventLoop.execute(asyncFlush);
+						}
+						else if (!delayedFlushScheduled) {
+							// No more messages are immediately available, wait for more messages up to the maximum delay
+							delayedFlushScheduled = true;
+							eventLoop.schedule(delayedFlush, maxDelayNanos - (System.nanoTime() - unflushedSinceNanos), TimeUnit.NANOSECONDS);
+						}
 					}
 
 					if (Operators.cancelledSubscription() == s) {
@@ -415,6 +467,13 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			return pending == 0 && terminalSignal != null;
 		}
 
+		void flush() {
+			needFlush = false;
+			unflushedBytes = 0;
+			unflushedMessages = 0;
+			ctx.flush();
+		}
+
 		void trySchedule() {
 			int wip = wipIncrement(WIP, this);
 			if (wip != 0) {
@@ -797,7 +856,28 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			@Override
 			public void run() {
 				if (pending != 0) {
-					ctx.flush();
+					flush();
+				}
+			}
+		}
+
+		final class DelayedFlush implements Runnable {
+			@Override
+			@SuppressWarnings("FutureReturnValueIgnored")
+			public void run() {
+				delayedFlushScheduled = false;
+				if (unflushedMessages == 0 || pending == 0) {
+					return;
+				}
+				long remaining = maxDelayNanos - (System.nanoTime() - unflushedSinceNanos);
+				if (remaining > 0 && terminalSignal == null && ctx.channel().isWritable()) {
+					// A flush happened meanwhile, the pending messages are more recent
+					delayedFlushScheduled = true;
+					//"FutureReturnValueIgnored" this is deliberate
+					eventLoop.schedule(this, remaining, TimeUnit.NANOSECONDS);
+				}
+				else {
+					flush();
 				}
 			}
 		}
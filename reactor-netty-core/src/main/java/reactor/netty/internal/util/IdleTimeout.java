@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.internal.util;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import reactor.netty.resources.EventLoopTimer;
+import reactor.util.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the idle time of a connection for one {@link IdleState} with the {@link EventLoopTimer}
+ * of its event loop. The activity of the connection only records a timestamp, the timeout is re-armed
+ * with the remaining time when it expires.
+ * <p>
+ * All the methods are invoked on the event loop.
+ *
+ * @since 1.2.0
+ */
+final class IdleTimeout implements TimerTask {
+
+	interface Callback {
+
+		void onIdle(ChannelHandlerContext ctx, IdleStateEvent evt) throws Exception;
+	}
+
+	final IdleState state;
+	final long timeoutNanos;
+	final Callback callback;
+
+	@Nullable
+	ChannelHandlerContext ctx;
+	@Nullable
+	Timer timer;
+	@Nullable
+	Timeout timeout;
+	long lastActivity;
+	boolean first = true;
+	boolean inProgress;
+	boolean destroyed;
+
+	IdleTimeout(IdleState state, long timeoutNanos, Callback callback) {
+		this.state = state;
+		this.timeoutNanos = timeoutNanos;
+		this.callback = callback;
+	}
+
+	void activityStarted() {
+		inProgress = true;
+		first = true;
+	}
+
+	void activityCompleted() {
+		inProgress = false;
+		lastActivity = System.nanoTime();
+		first = true;
+	}
+
+	void start(ChannelHandlerContext ctx) {
+		if (destroyed || timeout != null || timeoutNanos <= 0) {
+			return;
+		}
+		this.ctx = ctx;
+		this.timer = EventLoopTimer.get(ctx.executor());
+		this.lastActivity = System.nanoTime();
+		this.timeout = timer.newTimeout(this, timeoutNanos, TimeUnit.NANOSECONDS);
+	}
+
+	void stop() {
+		destroyed = true;
+		Timeout timeout = this.timeout;
+		if (timeout != null) {
+			timeout.cancel();
+			this.timeout = null;
+		}
+	}
+
+	@Override
+	public void run(Timeout timeout) {
+		ChannelHandlerContext ctx = this.ctx;
+		Timer timer = this.timer;
+		if (destroyed || timeout != this.timeout || ctx == null || timer == null || !ctx.channel().isOpen()) {
+			return;
+		}
+
+		long nextDelay = timeoutNanos;
+		if (!inProgress) {
+			nextDelay -= System.nanoTime() - lastActivity;
+		}
+
+		if (nextDelay <= 0) {
+			this.timeout = timer.newTimeout(this, timeoutNanos, TimeUnit.NANOSECONDS);
+			boolean first = this.first;
+			this.first = false;
+			try {
+				callback.onIdle(ctx, newIdleStateEvent(first));
+			}
+			catch (Throwable t) {
+				ctx.fireExceptionCaught(t);
+			}
+		}
+		else {
+			this.timeout = timer.newTimeout(this, nextDelay, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	IdleStateEvent newIdleStateEvent(boolean first) {
+		switch (state) {
+			case READER_IDLE:
+				return first ? IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT : IdleStateEvent.READER_IDLE_STATE_EVENT;
+			case WRITER_IDLE:
+				return first ? IdleStateEvent.FIRST_WRITER_IDLE_STATE_EVENT : IdleStateEvent.WRITER_IDLE_STATE_EVENT;
+			default:
+				return first ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT : IdleStateEvent.ALL_IDLE_STATE_EVENT;
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.internal.util;
+
+import reactor.util.annotation.Nullable;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A cache of meters indexed by up to four key components.
+ * <p>
+ * Instead of combining the components in a composite key, every component selects a node of a tree of
+ * {@link ConcurrentHashMap}s. A lookup for a meter that is already cached walks the tree with the components
+ * as they are provided by the caller, thus it does not allocate a composite key. The components should be values that are
+ * stable for the caller (e.g. the {@link java.net.SocketAddress} of the channel, the {@link String} constants
+ * for the method or the status) so that the tag values are computed only when the meter is created.
+ * An {@link InetSocketAddress} component selects a node by its host string and then by its port, as the address
+ * is formatted in the tag value. Thus, the virtual hosts of the same IP address have their own meters, and the
+ * different {@link InetSocketAddress} instances of the same host and port share the same meters. The port
+ * is boxed for the lookup.
+ * {@code null} components are supported.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @param <M> the type of the meter
+ * @since 1.2.0
+ */
+public final class MeterCache<M> {
+
+	static final Object NULL_KEY = new Object();
+
+	final Node<M> root = new Node<>();
+
+	/**
+	 * Returns the meter cached for the given components.
+	 *
+	 * @return the meter cached for the given components or {@code null}
+	 */
+	@Nullable
+	public M get(@Nullable Object k1) {
+		return get(k1, null, null, null);
+	}
+
+	/**
+	 * Returns the meter cached for the given components.
+	 *
+	 * @return the meter cached for the given components or {@code null}
+	 */
+	@Nullable
+	public M get(@Nullable Object k1, @Nullable Object k2) {
+		return get(k1, k2, null, null);
+	}
+
+	/**
+	 * Returns the meter cached for the given components.
+	 *
+	 * @return the meter cached for the given components or {@code null}
+	 */
+	@Nullable
+	public M get(@Nullable Object k1, @Nullable Object k2, @Nullable Object k3) {
+		return get(k1, k2, k3, null);
+	}
+
+	/**
+	 * Returns the meter cached for the given components.
+	 *
+	 * @return the meter cached for the given components or {@code null}
+	 */
+	@Nullable
+	public M get(@Nullable Object k1, @Nullable Object k2, @Nullable Object k3, @Nullable Object k4) {
+		Node<M> node = child(root, k1);
+		if (node == null) {
+			return null;
+		}
+		node = child(node, k2);
+		if (node == null) {
+			return null;
+		}
+		node = child(node, k3);
+		if (node == null) {
+			return null;
+		}
+		node = child(node, k4);
+		return node != null ? node.meter : null;
+	}
+
+	/**
+	 * See {@link #computeIfAbsent(Object, Object, Object, Object, Supplier)}.
+	 */
+	@Nullable
+	public M computeIfAbsent(@Nullable Object k1, Supplier<M> factory) {
+		return computeIfAbsent(k1, null, null, null, factory);
+	}
+
+	/**
+	 * See {@link #computeIfAbsent(Object, Object, Object, Object, Supplier)}.
+	 */
+	@Nullable
+	public M computeIfAbsent(@Nullable Object k1, @Nullable Object k2, Supplier<M> factory) {
+		return computeIfAbsent(k1, k2, null, null, factory);
+	}
+
+	/**
+	 * See {@link #computeIfAbsent(Object, Object, Object, Object, Supplier)}.
+	 */
+	@Nullable
+	public M computeIfAbsent(@Nullable Object k1, @Nullable Object k2, @Nullable Object k3, Supplier<M> factory) {
+		return computeIfAbsent(k1, k2, k3, null, factory);
+	}
+
+	/**
+	 * Returns the meter cached for the given components, if there is no such meter,
+	 * creates it with the given factory and caches it.
+	 * <p>
+	 * The callers should invoke {@link #get(Object, Object, Object, Object)} first, so that the factory,
+	 * which typically captures the components, is allocated only on a cache miss.
+	 *
+	 * @param factory the factory that creates the meter, it might return {@code null}
+	 * in which case nothing is cached
+	 * @return the current (existing or created) meter or {@code null}
+	 */
+	@Nullable
+	public M computeIfAbsent(@Nullable Object k1, @Nullable Object k2, @Nullable Object k3, @Nullable Object k4,
+			Supplier<M> factory) {
+		Node<M> node = getOrCreateChild(getOrCreateChild(getOrCreateChild(getOrCreateChild(root, k1), k2), k3), k4);
+		M meter = node.meter;
+		if (meter == null) {
+			synchronized (node) {
+				meter = node.meter;
+				if (meter == null) {
+					meter = factory.get();
+					node.meter = meter;
+				}
+			}
+		}
+		return meter;
+	}
+
+	@Nullable
+	static <M> Node<M> child(Node<M> node, @Nullable Object key) {
+		if (key instanceof InetSocketAddress) {
+			InetSocketAddress address = (InetSocketAddress) key;
+			Node<M> host = node.child(address.getHostString());
+			return host != null ? host.child(address.getPort()) : null;
+		}
+		return node.child(key);
+	}
+
+	static <M> Node<M> getOrCreateChild(Node<M> node, @Nullable Object key) {
+		if (key instanceof InetSocketAddress) {
+			InetSocketAddress address = (InetSocketAddress) key;
+			return node.getOrCreateChild(address.getHostString())
+			           .getOrCreateChild(address.getPort());
+		}
+		return node.getOrCreateChild(key);
+	}
+
+	static final class Node<M> {
+
+		final ConcurrentMap<Object, Node<M>> children = new ConcurrentHashMap<>(4);
+
+		volatile M meter;
+
+		@Nullable
+		Node<M> child(@Nullable Object key) {
+			return children.get(key != null ? key : NULL_KEY);
+		}
+
+		Node<M> getOrCreateChild(@Nullable Object key) {
+			return MapUtils.computeIfAbsent(children, key != null ? key : NULL_KEY, k -> new Node<>());
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.internal.util;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateHandler;
+import reactor.netty.resources.EventLoopTimer;
+import reactor.util.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link IdleStateHandler} that schedules its reader and writer idle timeouts
+ * on the {@link EventLoopTimer} of the event loop instead of the scheduled task queue of the event loop.
+ * The all idle timeout is not supported.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.2.0
+ */
+public class TimerIdleStateHandler extends IdleStateHandler {
+
+	@Nullable
+	final IdleTimeout reader;
+	@Nullable
+	final IdleTimeout writer;
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param readerIdleTime the reader idle time, {@code 0} disables it
+	 * @param writerIdleTime the writer idle time, {@code 0} disables it
+	 * @param unit the {@link TimeUnit} of {@code readerIdleTime} and {@code writerIdleTime}
+	 */
+	public TimerIdleStateHandler(long readerIdleTime, long writerIdleTime, TimeUnit unit) {
+		super(readerIdleTime, writerIdleTime, 0, unit);
+		long readerIdleTimeNanos = TimeUnit.MILLISECONDS.toNanos(getReaderIdleTimeInMillis());
+		long writerIdleTimeNanos = TimeUnit.MILLISECONDS.toNanos(getWriterIdleTimeInMillis());
+		this.reader = readerIdleTimeNanos > 0 ? new IdleTimeout(IdleState.READER_IDLE, readerIdleTimeNanos, this::channelIdle) : null;
+		this.writer = writerIdleTimeNanos > 0 ? new IdleTimeout(IdleState.WRITER_IDLE, writerIdleTimeNanos, this::channelIdle) : null;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) {
+		if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+			initialize(ctx);
+		}
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext ctx) {
+		destroy();
+	}
+
+	@Override
+	public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+		if (ctx.channel().isActive()) {
+			initialize(ctx);
+		}
+		ctx.fireChannelRegistered();
+	}
+
+	@Override
+	public void channelActive(ChannelHandlerContext ctx) throws Exception {
+		initialize(ctx);
+		ctx.fireChannelActive();
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+		destroy();
+		ctx.fireChannelInactive();
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+		if (reader != null) {
+			reader.activityStarted();
+		}
+		ctx.fireChannelRead(msg);
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) {
+		if (reader != null && reader.inProgress) {
+			reader.activityCompleted();
+		}
+		ctx.fireChannelReadComplete();
+	}
+
+	@Override
+	public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+		IdleTimeout writer = this.writer;
+		if (writer != null) {
+			ctx.write(msg, promise.unvoid()).addListener(f -> writer.activityCompleted());
+		}
+		else {
+			ctx.write(msg, promise);
+		}
+	}
+
+	void initialize(ChannelHandlerContext ctx) {
+		if (reader != null) {
+			reader.start(ctx);
+		}
+		if (writer != null) {
+			writer.start(ctx);
+		}
+	}
+
+	void destroy() {
+		if (reader != null) {
+			reader.stop();
+		}
+		if (writer != null) {
+			writer.stop();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.internal.util;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import reactor.netty.resources.EventLoopTimer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ReadTimeoutHandler} that schedules its timeout on the {@link EventLoopTimer} of the event loop
+ * instead of the scheduled task queue of the event loop.
+ * As {@link ReadTimeoutHandler}, it raises a {@link ReadTimeoutException} and closes the connection
+ * when no data was read within the timeout.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.2.0
+ */
+public class TimerReadTimeoutHandler extends ReadTimeoutHandler {
+
+	final IdleTimeout reader;
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param timeout the read timeout
+	 * @param unit the {@link TimeUnit} of {@code timeout}
+	 */
+	public TimerReadTimeoutHandler(long timeout, TimeUnit unit) {
+		super(timeout, unit);
+		this.reader = new IdleTimeout(IdleState.READER_IDLE,
+				TimeUnit.MILLISECONDS.toNanos(getReaderIdleTimeInMillis()), this::channelIdle);
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) {
+		if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+			reader.start(ctx);
+		}
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext ctx) {
+		reader.stop();
+	}
+
+	@Override
+	public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+		if (ctx.channel().isActive()) {
+			reader.start(ctx);
+		}
+		ctx.fireChannelRegistered();
+	}
+
+	@Override
+	public void channelActive(ChannelHandlerContext ctx) throws Exception {
+		reader.start(ctx);
+		ctx.fireChannelActive();
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+		reader.stop();
+		ctx.fireChannelInactive();
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+		reader.activityStarted();
+		ctx.fireChannelRead(msg);
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) {
+		if (reader.inProgress) {
+			reader.activityCompleted();
+		}
+		ctx.fireChannelReadComplete();
+	}
+}
@@ -510,6 +510,7 @@ public interface ConnectionProvider extends Disposable {
 
 		Duration evictionInterval       = EVICT_IN_BACKGROUND_DISABLED;
 		int      maxConnections         = DEFAULT_POOL_MAX_CONNECTIONS;
+		int      minConnections;
 		int      pendingAcquireMaxCount = PENDING_ACQUIRE_MAX_COUNT_NOT_SPECIFIED;
 		Duration pendingAcquireTimeout  = Duration.ofMillis(DEFAULT_POOL_ACQUIRE_TIMEOUT);
 		Duration maxIdleTime;
@@ -520,6 +521,8 @@ public interface ConnectionProvider extends Disposable {
 		BiFunction<Runnable, Duration, Disposable> pendingAcquireTimer;
 		AllocationStrategy<?> allocationStrategy;
 		BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
+		boolean  eventLoopAffinity;
+		Duration rebalanceOnDnsChange;
 
 		/**
 		 * Returns {@link ConnectionPoolSpec} new instance with default properties.
@@ -536,6 +539,7 @@ public interface ConnectionProvider extends Disposable {
 		ConnectionPoolSpec(ConnectionPoolSpec<SPEC> copy) {
 			this.evictionInterval = copy.evictionInterval;
 			this.maxConnections = copy.maxConnections;
+			this.minConnections = copy.minConnections;
 			this.pendingAcquireMaxCount = copy.pendingAcquireMaxCount;
 			this.pendingAcquireTimeout = copy.pendingAcquireTimeout;
 			this.maxIdleTime = copy.maxIdleTime;
@@ -546,6 +550,8 @@ public interface ConnectionProvider extends Disposable {
 			this.pendingAcquireTimer = copy.pendingAcquireTimer;
 			this.allocationStrategy = copy.allocationStrategy;
 			this.evictionPredicate = copy.evictionPredicate;
+			this.eventLoopAffinity = copy.eventLoopAffinity;
+			this.rebalanceOnDnsChange = copy.rebalanceOnDnsChange;
 		}
 
 		/**
@@ -582,6 +588,35 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Set the options to use for configuring {@link ConnectionProvider} minimum connections per connection pool.
+		 * The connection pool keeps at least this number of connections open, whether they are idle or acquired.
+		 * When the connection pool is created, i.e. on the first acquire for a remote host, the missing connections
+		 * are opened in the background, including the TLS handshake when the connections are secured.
+		 * When a connection is closed or evicted, the missing connections are opened along with the next new
+		 * connection and, when the background eviction is enabled with {@link #evictInBackground(Duration)},
+		 * after every background eviction run, so that connections stay warm during idle periods.
+		 * Note that idle connections are still evicted after {@link #maxIdleTime(Duration)}, they are then replaced
+		 * by new connections.
+		 * <p>The minimum applies only with {@link #maxConnections(int)}, it is ignored when a custom
+		 * {@link #allocationStrategy(AllocationStrategy)} is configured. It is capped to the maximum connections.
+		 * Default to {@code 0}.
+		 * <p><strong>Note:</strong> This configuration is not applicable for {@link reactor.netty.tcp.TcpClient}
+		 * and for the HTTP/2 connections.
+		 *
+		 * @param minConnections the minimum number of connections (per connection pool) to keep open
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if minConnections is negative
+		 * @since 1.2.0
+		 */
+		public final SPEC minConnections(int minConnections) {
+			if (minConnections < 0) {
+				throw new IllegalArgumentException("Min Connections value must be positive or zero");
+			}
+			this.minConnections = minConnections;
+			return get();
+		}
+
 		/**
 		 * Set the options to use for configuring {@link ConnectionProvider} the maximum number of registered
 		 * requests for acquire to keep in a pending queue
@@ -746,7 +781,8 @@ public interface ConnectionProvider extends Disposable {
 		 * <p>
 		 * Use this function if you want to specify your own implementation for scheduling pending acquire timers.
 		 *
-		 * <p> Default to {@link Schedulers#parallel()}.
+		 * <p> Default to the {@link EventLoopTimer} of the event loop when the connection is acquired
+		 * from an event loop, otherwise to {@link Schedulers#parallel()}.
 		 *
 		 * <p>Examples using Netty HashedWheelTimer implementation:</p>
 		 * <pre>
@@ -791,6 +827,60 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Specifies whether the connection pool for a remote host is partitioned per event loop.
+		 * When enabled, every event loop has its own pool of connections for a remote host and the acquire operation
+		 * is served by the pool of the caller's event loop, so that the connection is registered on the same event loop
+		 * as the caller. When this pool has no idle connections, an idle connection from the pool of another event loop
+		 * is used, if any, before opening a new connection.
+		 * The {@link #maxConnections(int)} and {@link #pendingAcquireMaxCount(int)} limits are divided
+		 * between the partitions, rounding up. The {@link #minConnections(int)} are distributed between the partitions,
+		 * so that their sum is the configured value. A custom {@link #allocationStrategy(AllocationStrategy)} applies to every partition.
+		 * <p>The partitioning requires the client event loops to be colocated (the default).
+		 * <p>By default this is not enabled.
+		 * <p><strong>Note:</strong> This configuration is not applicable for {@link reactor.netty.tcp.TcpClient}.
+		 * A TCP connection is always closed and never returned to the pool.
+		 *
+		 * @param eventLoopAffinity true partitions the connection pool per event loop; false uses a single pool
+		 * @return {@literal this}
+		 * @since 1.2.0
+		 */
+		public final SPEC eventLoopAffinity(boolean eventLoopAffinity) {
+			this.eventLoopAffinity = eventLoopAffinity;
+			return get();
+		}
+
+		/**
+		 * Enables the rebalancing of the connections when the addresses that the remote host resolves to change.
+		 * The pool tracks the resolved addresses of the remote host and opens every new connection to the address
+		 * with the fewest connections, so that the connections are spread across all current addresses.
+		 * The addresses are resolved again at most every {@code refreshInterval}, when a connection is opened,
+		 * acquired or released. A connection to an address that is no longer resolved is retired: it is evicted
+		 * instead of being reused once it is idle, thus the connections move progressively to the new addresses.
+		 * <p>The rebalancing applies only when the remote address is an unresolved hostname and the connection
+		 * does not go through a proxy. When a custom {@link #evictionPredicate(BiPredicate)} is configured,
+		 * the connections to the addresses that are no longer resolved are not retired.
+		 * <p>Every connection is opened to a single selected address, thus the connection attempts are not raced
+		 * across the resolved addresses even when {@code connectAttemptDelay} is configured on the client.
+		 * <p>By default this is not enabled.
+		 * <p><strong>Note:</strong> This configuration is not applicable for {@link reactor.netty.tcp.TcpClient}
+		 * and for the HTTP/2 connections.
+		 *
+		 * @param refreshInterval the minimum interval between two resolutions of the remote host
+		 * @return {@literal this}
+		 * @throws NullPointerException if refreshInterval is null
+		 * @throws IllegalArgumentException if refreshInterval is negative
+		 * @since 1.2.0
+		 */
+		public final SPEC rebalanceOnDnsChange(Duration refreshInterval) {
+			Objects.requireNonNull(refreshInterval, "refreshInterval");
+			if (refreshInterval.isNegative()) {
+				throw new IllegalArgumentException("refreshInterval must be positive or zero");
+			}
+			this.rebalanceOnDnsChange = refreshInterval;
+			return get();
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public SPEC get() {
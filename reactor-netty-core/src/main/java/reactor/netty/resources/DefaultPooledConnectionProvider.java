@@ -16,6 +16,7 @@
 package reactor.netty.resources;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Clock;
 import java.time.Duration;
@@ -43,6 +44,8 @@ import reactor.netty.ConnectionObserver;
 import reactor.netty.FutureMono;
 import reactor.netty.NettyPipeline;
 import reactor.netty.channel.ChannelOperations;
+import reactor.netty.transport.ClientTransportConfig;
+import reactor.netty.transport.ProxyProvider;
 import reactor.netty.transport.TransportConfig;
 import reactor.netty.transport.TransportConnector;
 import reactor.pool.InstrumentedPool;
@@ -110,6 +113,12 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 
 	static final AttributeKey<ConnectionObserver> OWNER = AttributeKey.valueOf("connectionOwner");
 
+	/**
+	 * The {@link PooledConnection} created for a channel, until the channel is emitted by the connect.
+	 * When the connect races several addresses, each attempt has its own channel and pooled connection.
+	 */
+	static final AttributeKey<PooledConnection> POOLED_CONNECTION = AttributeKey.valueOf("pooledConnection");
+
 	static final class DisposableAcquire
 			implements ConnectionObserver, Runnable, CoreSubscriber<PooledRef<PooledConnection>>, Disposable {
 		final Disposable.Composite cancellations;
@@ -502,6 +511,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 	}
 
 	static final class PooledConnectionAllocator {
+		final ResolvedAddressBalancer balancer;
 		final TransportConfig config;
 		final InstrumentedPool<PooledConnection> pool;
 		final SocketAddress remoteAddress;
@@ -525,9 +535,15 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			this.config = config;
 			this.remoteAddress = remoteAddress;
 			this.resolver = resolver;
+			this.balancer = provider.rebalanceOnDnsChange != null && isBalanced(config, remoteAddress) ?
+					new ResolvedAddressBalancer((InetSocketAddress) remoteAddress, resolver, provider.rebalanceOnDnsChange) :
+					null;
+			BiPredicate<PooledConnection, PooledRefMetadata> evictionPredicate = balancer == null ?
+					DEFAULT_EVICTION_PREDICATE :
+					DEFAULT_EVICTION_PREDICATE.or((pooledConnection, metadata) -> balancer.isRetired(pooledConnection.channel));
 			this.pool = id == null ?
-					provider.newPool(connectChannel(), null, DEFAULT_DESTROY_HANDLER, DEFAULT_EVICTION_PREDICATE) :
-					provider.newPool(connectChannel(), DEFAULT_DESTROY_HANDLER, DEFAULT_EVICTION_PREDICATE,
+					provider.newPool(connectChannel(), null, DEFAULT_DESTROY_HANDLER, evictionPredicate) :
+					provider.newPool(connectChannel(), DEFAULT_DESTROY_HANDLER, evictionPredicate,
 							new MicrometerPoolMetricsRecorder(id, name, remoteAddress));
 		}
 
@@ -536,7 +552,20 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 				PooledConnectionInitializer initializer = new PooledConnectionInitializer(sink);
 				EventLoop callerEventLoop = sink.contextView().hasKey(CONTEXT_CALLER_EVENTLOOP) ?
 						sink.contextView().get(CONTEXT_CALLER_EVENTLOOP) : null;
-				if (callerEventLoop != null) {
+				if (balancer != null) {
+					EventLoop eventLoop = callerEventLoop != null ? callerEventLoop : TransportConnector.nextEventLoop(config);
+					balancer.resolved(eventLoop)
+					        .then(Mono.defer(() -> {
+					            // The address is selected when the connection is opened, it is released on every outcome
+					            SocketAddress address = balancer.select();
+					            return TransportConnector.connect(config, address, resolver, initializer, eventLoop, sink.contextView())
+					                                     .doOnNext(channel -> channel.closeFuture().addListener(f -> balancer.release(address)))
+					                                     .doOnError(t -> balancer.release(address))
+					                                     .doOnCancel(() -> balancer.release(address));
+					        }))
+					        .subscribe(initializer);
+				}
+				else if (callerEventLoop != null) {
 					TransportConnector.connect(config, remoteAddress, resolver, initializer, callerEventLoop, sink.contextView())
 							.subscribe(initializer);
 				}
@@ -549,8 +578,6 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		final class PooledConnectionInitializer extends ChannelInitializer<Channel> implements CoreSubscriber<Channel> {
 			final MonoSink<PooledConnection> sink;
 
-			PooledConnection pooledConnection;
-
 			PooledConnectionInitializer(MonoSink<PooledConnection> sink) {
 				this.sink = sink;
 			}
@@ -563,7 +590,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 
 				PooledConnection pooledConnection = new PooledConnection(ch, pool);
 
-				this.pooledConnection = pooledConnection;
+				ch.attr(POOLED_CONNECTION).set(pooledConnection);
 
 				ch.attr(OWNER).compareAndSet(null, new PendingConnectionObserver(Context.of(sink.contextView())));
 				ch.pipeline().remove(this);
@@ -585,7 +612,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 
 			@Override
 			public void onNext(Channel channel) {
-				sink.success(pooledConnection);
+				sink.success(channel.attr(POOLED_CONNECTION).getAndSet(null));
 			}
 
 			@Override
@@ -594,6 +621,17 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			}
 		}
 
+		static boolean isBalanced(TransportConfig config, SocketAddress remoteAddress) {
+			if (!(remoteAddress instanceof InetSocketAddress) || !((InetSocketAddress) remoteAddress).isUnresolved()) {
+				return false;
+			}
+			if (config instanceof ClientTransportConfig) {
+				ProxyProvider proxyProvider = ((ClientTransportConfig<?>) config).proxyProvider();
+				return proxyProvider == null || !proxyProvider.shouldProxy(remoteAddress);
+			}
+			return true;
+		}
+
 		static final BiPredicate<PooledConnection, PooledRefMetadata> DEFAULT_EVICTION_PREDICATE =
 				(pooledConnection, metadata) -> !pooledConnection.channel.isActive() || !pooledConnection.isPersistent();
 
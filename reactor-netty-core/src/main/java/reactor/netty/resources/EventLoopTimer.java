@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.netty.util.internal.ThreadExecutorMap;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ReactorNetty;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiFunction;
+
+/**
+ * A hashed wheel {@link Timer} owned by an event loop, used for the timeouts of the connections
+ * served by this event loop.
+ * <p>
+ * The timeouts are kept in a wheel of {@code 512} buckets of {@code 10ms}, so that adding or cancelling
+ * a timeout is {@code O(1)} instead of {@code O(log n)} on the scheduled task queue of the event loop,
+ * and a single periodic task of the event loop, that runs only while there are pending timeouts,
+ * expires them. The timeouts expire on the event loop, not earlier than their delay and at most one tick later.
+ * <p>
+ * The timer is shared by all the connections of an event loop, obtain it with {@link #get(EventExecutor)}.
+ * When {@link ReactorNetty#EVENT_LOOP_TIMER} is {@code false}, or for an event loop that is not a
+ * {@link SingleThreadEventExecutor}, {@link #get(EventExecutor)} returns a {@link Timer} that schedules the timeouts
+ * directly on the event loop.
+ * <p>
+ * The timer implementation is not pluggable, the system property only switches between these two timers.
+ * Only the pending acquire timeout of the connection pools can be scheduled on a custom timer, see
+ * {@link ConnectionProvider.ConnectionPoolSpec#pendingAcquireTimer(BiFunction)}.
+ *
+ * @since 1.2.0
+ */
+public final class EventLoopTimer implements Timer {
+
+	/**
+	 * Default value whether the timeouts are scheduled on the hashed wheel timer of the event loop,
+	 * fallback to {@code true}.
+	 */
+	static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ReactorNetty.EVENT_LOOP_TIMER, "true"));
+
+	/**
+	 * The default pending acquire timer of the connection pools, which uses the timer of the event loop
+	 * when the connection is acquired from an event loop, and {@link Schedulers#parallel()} otherwise.
+	 */
+	static final BiFunction<Runnable, Duration, Disposable> PENDING_ACQUIRE_TIMER = (r, d) -> {
+		EventExecutor executor = ENABLED ? ThreadExecutorMap.currentExecutor() : null;
+		if (executor != null && !executor.isShuttingDown()) {
+			Timeout timeout = get(executor).newTimeout(t -> r.run(), d.toNanos(), TimeUnit.NANOSECONDS);
+			return timeout::cancel;
+		}
+		return Schedulers.parallel().schedule(r, d.toMillis(), TimeUnit.MILLISECONDS);
+	};
+
+	static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	static final int WHEEL_SIZE = 512;
+
+	/**
+	 * Returns the timer of the given event loop.
+	 *
+	 * @param executor the event loop
+	 * @return the timer of the given event loop
+	 */
+	public static Timer get(EventExecutor executor) {
+		Objects.requireNonNull(executor, "executor");
+		if (!ENABLED || !(executor instanceof SingleThreadEventExecutor)) {
+			return new ExecutorTimer(executor);
+		}
+		EventLoopTimer timer = TIMERS.get(executor);
+		if (timer != null) {
+			return timer;
+		}
+		return TIMERS.computeIfAbsent(executor, e -> {
+			EventLoopTimer t = new EventLoopTimer(e);
+			e.terminationFuture().addListener(f -> TIMERS.remove(e));
+			return t;
+		});
+	}
+
+	@Override
+	public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+		Objects.requireNonNull(task, "task");
+		Objects.requireNonNull(unit, "unit");
+		WheelTimeout timeout = new WheelTimeout(this, task, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+		if (executor.inEventLoop()) {
+			add(timeout);
+		}
+		else {
+			executor.execute(() -> add(timeout));
+		}
+		return timeout;
+	}
+
+	/**
+	 * The timer is shared by the connections of the event loop and is stopped with the event loop,
+	 * this method does not cancel the pending timeouts.
+	 *
+	 * @return an empty set
+	 */
+	@Override
+	public Set<Timeout> stop() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public String toString() {
+		return "EventLoopTimer{executor=" + executor + ", pending=" + pending + '}';
+	}
+
+	static final Logger log = Loggers.getLogger(EventLoopTimer.class);
+
+	static final Map<EventExecutor, EventLoopTimer> TIMERS = new ConcurrentHashMap<>();
+
+	final EventExecutor executor;
+	final WheelTimeout[] buckets;
+
+	// Accessed only from the event loop
+	long lastTick;
+	int pending;
+	@Nullable
+	ScheduledFuture<?> ticker;
+
+	EventLoopTimer(EventExecutor executor) {
+		this.executor = executor;
+		this.buckets = new WheelTimeout[WHEEL_SIZE];
+	}
+
+	void add(WheelTimeout timeout) {
+		if (timeout.state != WheelTimeout.ST_INIT) {
+			return;
+		}
+		if (pending == 0 && ticker == null) {
+			lastTick = Math.floorDiv(System.nanoTime(), TICK_NANOS);
+			try {
+				ticker = executor.scheduleWithFixedDelay(this::expireTimeouts, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+			}
+			catch (RejectedExecutionException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Cannot schedule timeouts, the event loop {} is shutting down", executor);
+				}
+				return;
+			}
+		}
+		// The deadline falls in the bucket of its tick, or of the next tick when this tick is already expired
+		long tick = Math.max(-Math.floorDiv(-timeout.deadline, TICK_NANOS), lastTick + 1);
+		int index = (int) (tick & (WHEEL_SIZE - 1));
+		WheelTimeout head = buckets[index];
+		timeout.bucket = index;
+		timeout.next = head;
+		if (head != null) {
+			head.prev = timeout;
+		}
+		buckets[index] = timeout;
+		pending++;
+	}
+
+	void expireTimeouts() {
+		long now = System.nanoTime();
+		long nowTick = Math.floorDiv(now, TICK_NANOS);
+		// Each bucket is visited once even when the event loop was late for more than a wheel round
+		long end = Math.min(nowTick, lastTick + WHEEL_SIZE);
+		WheelTimeout expired = null;
+		for (long tick = lastTick + 1; tick <= end; tick++) {
+			lastTick = tick;
+			WheelTimeout timeout = buckets[(int) (tick & (WHEEL_SIZE - 1))];
+			while (timeout != null) {
+				WheelTimeout next = timeout.next;
+				if (timeout.state != WheelTimeout.ST_INIT) {
+					remove(timeout);
+				}
+				else if (timeout.deadline - now <= 0) {
+					remove(timeout);
+					timeout.next = expired;
+					expired = timeout;
+				}
+				timeout = next;
+			}
+		}
+		lastTick = nowTick;
+
+		while (expired != null) {
+			WheelTimeout next = expired.next;
+			expired.next = null;
+			expired.expire();
+			expired = next;
+		}
+
+		if (pending == 0 && ticker != null) {
+			ticker.cancel(false);
+			ticker = null;
+		}
+	}
+
+	void remove(WheelTimeout timeout) {
+		if (timeout.bucket < 0) {
+			return;
+		}
+		WheelTimeout prev = timeout.prev;
+		WheelTimeout next = timeout.next;
+		if (prev != null) {
+			prev.next = next;
+		}
+		else {
+			buckets[timeout.bucket] = next;
+		}
+		if (next != null) {
+			next.prev = prev;
+		}
+		timeout.bucket = -1;
+		timeout.prev = null;
+		timeout.next = null;
+		pending--;
+	}
+
+	static final class WheelTimeout implements Timeout {
+
+		static final int ST_INIT = 0;
+		static final int ST_CANCELLED = 1;
+		static final int ST_EXPIRED = 2;
+
+		final EventLoopTimer timer;
+		final TimerTask task;
+		final long deadline;
+
+		volatile int state;
+
+		// Accessed only from the event loop
+		int bucket = -1;
+		@Nullable
+		WheelTimeout prev;
+		@Nullable
+		WheelTimeout next;
+
+		WheelTimeout(EventLoopTimer timer, TimerTask task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public Timer timer() {
+			return timer;
+		}
+
+		@Override
+		public TimerTask task() {
+			return task;
+		}
+
+		@Override
+		public boolean isExpired() {
+			return state == ST_EXPIRED;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return state == ST_CANCELLED;
+		}
+
+		@Override
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+				return false;
+			}
+			// Outside the event loop, the timeout is removed when its bucket is visited
+			if (timer.executor.inEventLoop()) {
+				timer.remove(this);
+			}
+			return true;
+		}
+
+		void expire() {
+			if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+				return;
+			}
+			try {
+				task.run(this);
+			}
+			catch (Throwable t) {
+				log.warn("An exception was thrown by {}.", task.getClass().getSimpleName(), t);
+			}
+		}
+
+		static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+	}
+
+	/**
+	 * A {@link Timer} that schedules the timeouts directly on the event loop.
+	 */
+	static final class ExecutorTimer implements Timer {
+
+		final EventExecutor executor;
+
+		ExecutorTimer(EventExecutor executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+			Objects.requireNonNull(task, "task");
+			ExecutorTimeout timeout = new ExecutorTimeout(this, task);
+			timeout.future = executor.schedule(timeout, delay, unit);
+			return timeout;
+		}
+
+		@Override
+		public Set<Timeout> stop() {
+			return Collections.emptySet();
+		}
+	}
+
+	static final class ExecutorTimeout implements Timeout, Runnable {
+
+		final ExecutorTimer timer;
+		final TimerTask task;
+
+		volatile ScheduledFuture<?> future;
+
+		ExecutorTimeout(ExecutorTimer timer, TimerTask task) {
+			this.timer = timer;
+			this.task = task;
+		}
+
+		@Override
+		public Timer timer() {
+			return timer;
+		}
+
+		@Override
+		public TimerTask task() {
+			return task;
+		}
+
+		@Override
+		public boolean isExpired() {
+			return future.isDone() && !future.isCancelled();
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return future.isCancelled();
+		}
+
+		@Override
+		public boolean cancel() {
+			return future.cancel(false);
+		}
+
+		@Override
+		public void run() {
+			try {
+				task.run(this);
+			}
+			catch (Throwable t) {
+				log.warn("An exception was thrown by {}.", task.getClass().getSimpleName(), t);
+			}
+		}
+	}
+}
@@ -19,9 +19,11 @@ import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.scheduler.Schedulers;
@@ -125,19 +127,60 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		Objects.requireNonNull(resolverGroup, "resolverGroup");
 		return Mono.create(sink -> {
 			SocketAddress remoteAddress = Objects.requireNonNull(remote.get(), "Remote Address supplier returned null");
-			PoolKey holder = new PoolKey(remoteAddress, config.channelHash());
 			PoolFactory<T> poolFactory = poolFactory(remoteAddress);
+
+			EventLoop callerEventLoop;
+			if (sink.contextView().hasKey(CONTEXT_CALLER_EVENTLOOP)) {
+				callerEventLoop = sink.contextView().get(CONTEXT_CALLER_EVENTLOOP);
+			}
+			else {
+				EventLoopGroup group = config.loopResources().onClient(config.isPreferNative());
+				if (group instanceof ColocatedEventLoopGroup) {
+					callerEventLoop = ((ColocatedEventLoopGroup) group).nextInternal();
+				}
+				else {
+					callerEventLoop = null;
+				}
+			}
+
+			EventLoopGroup partitions = poolFactory.eventLoopAffinity ?
+					config.loopResources().onClient(config.isPreferNative()) : null;
+			if (partitions != null && callerEventLoop == null) {
+				// The caller is not on an event loop, the partitions are used in a round-robin fashion
+				callerEventLoop = partitions.next();
+			}
+			PoolKey holder = partitions != null ?
+					new PoolKey(remoteAddress, config.channelHash(), callerEventLoop) :
+					new PoolKey(remoteAddress, config.channelHash());
+			if (partitions != null) {
+				InstrumentedPool<T> callerPool = channelPools.get(holder);
+				if (callerPool == null || !hasIdleCapacity(callerPool)) {
+					// Prefer an idle connection registered on another event loop over opening a new connection.
+					// If the idle connection is acquired by another caller in the meantime, the pool of the other
+					// event loop opens the connection on its own event loop.
+					PoolKey idleKey = findIdlePartition(holder, partitions);
+					if (idleKey != null) {
+						holder = idleKey;
+					}
+				}
+			}
+			EventLoop eventLoop = partitions != null ? holder.eventLoop : callerEventLoop;
 			InstrumentedPool<T> pool = MapUtils.computeIfAbsent(channelPools, holder, poolKey -> {
+				PoolFactory<T> factory = partitions != null ? poolFactory.partition(partitions, poolKey.eventLoop) : poolFactory;
 				if (log.isDebugEnabled()) {
-					log.debug("Creating a new [{}] client pool [{}] for [{}]", name, poolFactory, remoteAddress);
+					log.debug("Creating a new [{}] client pool [{}] for [{}]", name, factory, remoteAddress);
 				}
 
 				boolean metricsEnabled = poolFactory.metricsEnabled || config.metricsRecorder() != null;
 				String id = metricsEnabled ? poolKey.hashCode() + "" : null;
 
 				InstrumentedPool<T> newPool = metricsEnabled && Metrics.isMicrometerAvailable() ?
-						createPool(id, config, poolFactory, remoteAddress, resolverGroup) :
-						createPool(config, poolFactory, remoteAddress, resolverGroup);
+						createPool(id, config, factory, remoteAddress, resolverGroup) :
+						createPool(config, factory, remoteAddress, resolverGroup);
+
+				if (factory.minConnections > 0 && factory.allocationStrategy == null && !factory.evictionInterval.isZero()) {
+					scheduleReplenishment(newPool, factory.evictionInterval);
+				}
 
 				if (metricsEnabled) {
 					// registrar is null when metrics are enabled on HttpClient level or
@@ -155,24 +198,12 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 				return newPool;
 			});
 
-			EventLoop eventLoop;
-			if (sink.contextView().hasKey(CONTEXT_CALLER_EVENTLOOP)) {
-				eventLoop = sink.contextView().get(CONTEXT_CALLER_EVENTLOOP);
-			}
-			else {
-				EventLoopGroup group = config.loopResources().onClient(config.isPreferNative());
-				if (group instanceof ColocatedEventLoopGroup) {
-					eventLoop = ((ColocatedEventLoopGroup) group).nextInternal();
-				}
-				else {
-					eventLoop = null;
-				}
-			}
-
-			Mono<PooledRef<T>> mono = pool.acquire(Duration.ofMillis(poolFactory.pendingAcquireTimeout));
+			Duration pendingAcquireTimeout = Duration.ofMillis(poolFactory.pendingAcquireTimeout);
+			Mono<PooledRef<T>> mono = pool.acquire(pendingAcquireTimeout);
 			if (eventLoop != null) {
 				mono = mono.contextWrite(ctx -> ctx.put(CONTEXT_CALLER_EVENTLOOP, eventLoop));
 			}
+
 			Context currentContext = Context.of(sink.contextView());
 			if ((poolFactory.metricsEnabled || config.metricsRecorder() != null)
 					&& Metrics.isMicrometerAvailable()) {
@@ -329,6 +360,41 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		return createPool(config, poolFactory, remoteAddress, resolverGroup);
 	}
 
+	/**
+	 * Returns whether the pool has an idle connection that can serve a new acquisition.
+	 * By default, this is the case when the pool has idle connections. Pools that share a connection
+	 * between several acquisitions have to check the remaining capacity of their connections.
+	 *
+	 * @param pool the pool
+	 * @return {@code true} if the pool has an idle connection that can serve a new acquisition
+	 * @since 1.2.0
+	 */
+	protected boolean hasIdleCapacity(InstrumentedPool<T> pool) {
+		return pool.metrics().idleSize() > 0;
+	}
+
+	/**
+	 * Finds the pool of another event loop for the same remote host that has idle connections
+	 * with free capacity and no pending acquisitions.
+	 *
+	 * @param key the key of the pool of the caller's event loop
+	 * @param partitions the event loops
+	 * @return the key of the pool of another event loop that has idle connections or {@code null}
+	 */
+	@Nullable
+	final PoolKey findIdlePartition(PoolKey key, EventLoopGroup partitions) {
+		for (EventExecutor executor : partitions) {
+			if (executor != key.eventLoop && executor instanceof EventLoop) {
+				PoolKey partitionKey = key.partition((EventLoop) executor);
+				InstrumentedPool<T> pool = channelPools.get(partitionKey);
+				if (pool != null && pool.metrics().pendingAcquireSize() == 0 && hasIdleCapacity(pool)) {
+					return partitionKey;
+				}
+			}
+		}
+		return null;
+	}
+
 	protected PoolFactory<T> poolFactory(SocketAddress remoteAddress) {
 		return poolFactoryPerRemoteHost.getOrDefault(remoteAddress, defaultPoolFactory);
 	}
@@ -378,6 +444,32 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		}
 	}
 
+	/**
+	 * Replenishes the pool up to its minimum number of connections after every background eviction run,
+	 * until the pool is disposed.
+	 *
+	 * @param pool the pool to replenish
+	 * @param evictionInterval the background eviction interval
+	 */
+	static void scheduleReplenishment(InstrumentedPool<?> pool, Duration evictionInterval) {
+		Disposable.Swap task = Disposables.swap();
+		long interval = evictionInterval.toNanos();
+		task.update(Schedulers.parallel().schedulePeriodically(() -> {
+			if (pool.isDisposed()) {
+				task.dispose();
+			}
+			else {
+				pool.warmup()
+				    .subscribe(count -> {
+				                   if (count > 0 && log.isDebugEnabled()) {
+				                       log.debug("Replenished the connection pool with {} connections", count);
+				                   }
+				               },
+				               t -> log.debug("Failed to replenish the connection pool", t));
+			}
+		}, interval, interval, TimeUnit.NANOSECONDS));
+	}
+
 	final void disposeInactivePoolsInBackground() {
 		if (!channelPools.isEmpty()) {
 			List<Map.Entry<PoolKey, InstrumentedPool<T>>> toDispose;
@@ -456,6 +548,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		final long maxIdleTime;
 		final long maxLifeTime;
 		final boolean metricsEnabled;
+		final int minConnections;
 		final int pendingAcquireMaxCount;
 		final long pendingAcquireTimeout;
 		final Supplier<? extends MeterRegistrar> registrar;
@@ -464,6 +557,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		final BiFunction<Runnable, Duration, Disposable> pendingAcquireTimer;
 		final AllocationStrategy<?> allocationStrategy;
 		final BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
+		final boolean eventLoopAffinity;
+		final Duration rebalanceOnDnsChange;
 
 		PoolFactory(ConnectionPoolSpec<?> conf, Duration disposeTimeout) {
 			this(conf, disposeTimeout, null);
@@ -477,6 +572,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			this.maxIdleTime = conf.maxIdleTime != null ? conf.maxIdleTime.toMillis() : -1;
 			this.maxLifeTime = conf.maxLifeTime != null ? conf.maxLifeTime.toMillis() : -1;
 			this.metricsEnabled = conf.metricsEnabled;
+			this.minConnections = Math.min(conf.minConnections, conf.maxConnections);
 			this.pendingAcquireMaxCount = conf.pendingAcquireMaxCount == PENDING_ACQUIRE_MAX_COUNT_NOT_SPECIFIED ?
 					2 * conf.maxConnections : conf.pendingAcquireMaxCount;
 			this.pendingAcquireTimeout = conf.pendingAcquireTimeout.toMillis();
@@ -486,6 +582,29 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			this.pendingAcquireTimer = conf.pendingAcquireTimer;
 			this.allocationStrategy = conf.allocationStrategy;
 			this.evictionPredicate = conf.evictionPredicate;
+			this.eventLoopAffinity = conf.eventLoopAffinity;
+			this.rebalanceOnDnsChange = conf.rebalanceOnDnsChange;
+		}
+
+		PoolFactory(PoolFactory<T> parent, int partitions, int index) {
+			this.evictionInterval = parent.evictionInterval;
+			this.leasingStrategy = parent.leasingStrategy;
+			this.maxConnections = divide(parent.maxConnections, partitions);
+			this.maxIdleTime = parent.maxIdleTime;
+			this.maxLifeTime = parent.maxLifeTime;
+			this.metricsEnabled = parent.metricsEnabled;
+			this.minConnections = parent.minConnections > 0 ? distribute(parent.minConnections, partitions, index) : 0;
+			this.pendingAcquireMaxCount = parent.pendingAcquireMaxCount > 0 ?
+					divide(parent.pendingAcquireMaxCount, partitions) : parent.pendingAcquireMaxCount;
+			this.pendingAcquireTimeout = parent.pendingAcquireTimeout;
+			this.registrar = parent.registrar;
+			this.clock = parent.clock;
+			this.disposeTimeout = parent.disposeTimeout;
+			this.pendingAcquireTimer = parent.pendingAcquireTimer;
+			this.allocationStrategy = parent.allocationStrategy;
+			this.evictionPredicate = parent.evictionPredicate;
+			this.eventLoopAffinity = parent.eventLoopAffinity;
+			this.rebalanceOnDnsChange = parent.rebalanceOnDnsChange;
 		}
 
 		public InstrumentedPool<T> newPool(
@@ -569,23 +688,22 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			if (DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE > 0d && DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE <= 1d
 					&& DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE > 0d && DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE <= 1d) {
 				poolBuilder = poolBuilder.allocationStrategy(SamplingAllocationStrategy.sizeBetweenWithSampling(
-						0,
+						minConnections,
 						maxConnections,
 						DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE,
 						DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE));
 			}
 			else {
 				if (allocationStrategy == null) {
-					poolBuilder = poolBuilder.sizeBetween(0, maxConnections);
+					poolBuilder = poolBuilder.sizeBetween(minConnections, maxConnections);
 				}
 				else {
 					poolBuilder = poolBuilder.allocationStrategy(new DelegatingAllocationStrategy(allocationStrategy.copy()));
 				}
 			}
 
-			if (pendingAcquireTimer != null) {
-				poolBuilder = poolBuilder.pendingAcquireTimer(pendingAcquireTimer);
-			}
+			poolBuilder = poolBuilder.pendingAcquireTimer(
+					pendingAcquireTimer != null ? pendingAcquireTimer : EventLoopTimer.PENDING_ACQUIRE_TIMER);
 
 			if (clock != null) {
 				poolBuilder = poolBuilder.clock(clock);
@@ -610,6 +728,37 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			return allocationStrategy;
 		}
 
+		/**
+		 * Returns a {@link PoolFactory} for the pool of one event loop,
+		 * the connection limits are divided between the event loops.
+		 *
+		 * @param partitions the event loops
+		 * @param eventLoop the event loop of the pool
+		 * @return a {@link PoolFactory} for the pool of one event loop
+		 */
+		PoolFactory<T> partition(EventLoopGroup partitions, EventLoop eventLoop) {
+			int count = 0;
+			int index = -1;
+			for (EventExecutor executor : partitions) {
+				if (executor == eventLoop) {
+					index = count;
+				}
+				count++;
+			}
+			return count > 1 ? new PoolFactory<>(this, count, index) : this;
+		}
+
+		static int divide(int limit, int partitions) {
+			// round up so that the sum of the partitions limits is not below the configured limit
+			return (int) Math.min(Integer.MAX_VALUE, ((long) limit + partitions - 1) / partitions);
+		}
+
+		static int distribute(int value, int partitions, int index) {
+			// the remainder goes to the first partitions so that the sum of the partitions values is the configured value,
+			// an event loop that is not one of the partitions gets the quotient
+			return value / partitions + (index >= 0 && index < value % partitions ? 1 : 0);
+		}
+
 		public long maxIdleTime() {
 			return this.maxIdleTime;
 		}
@@ -627,8 +776,11 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 					", maxIdleTime=" + maxIdleTime +
 					", maxLifeTime=" + maxLifeTime +
 					", metricsEnabled=" + metricsEnabled +
+					", minConnections=" + minConnections +
 					", pendingAcquireMaxCount=" + pendingAcquireMaxCount +
 					", pendingAcquireTimeout=" + pendingAcquireTimeout +
+					", eventLoopAffinity=" + eventLoopAffinity +
+					", rebalanceOnDnsChange=" + rebalanceOnDnsChange +
 					'}';
 		}
 
@@ -707,11 +859,16 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	}
 
 	static final class PoolKey {
+		final EventLoop eventLoop;
 		final String fqdn;
 		final SocketAddress holder;
 		final int pipelineKey;
 
 		PoolKey(SocketAddress holder, int pipelineKey) {
+			this(holder, pipelineKey, null);
+		}
+
+		PoolKey(SocketAddress holder, int pipelineKey, @Nullable EventLoop eventLoop) {
 			String fqdn = null;
 			if (holder instanceof InetSocketAddress) {
 				InetSocketAddress inetSocketAddress = (InetSocketAddress) holder;
@@ -720,11 +877,23 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 					fqdn = inetSocketAddress.getHostString().toLowerCase();
 				}
 			}
+			this.eventLoop = eventLoop;
 			this.fqdn = fqdn;
 			this.holder = holder;
 			this.pipelineKey = pipelineKey;
 		}
 
+		PoolKey(PoolKey key, EventLoop eventLoop) {
+			this.eventLoop = eventLoop;
+			this.fqdn = key.fqdn;
+			this.holder = key.holder;
+			this.pipelineKey = key.pipelineKey;
+		}
+
+		PoolKey partition(EventLoop eventLoop) {
+			return new PoolKey(this, eventLoop);
+		}
+
 		@Override
 		public boolean equals(Object o) {
 			if (this == o) {
@@ -736,7 +905,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			PoolKey poolKey = (PoolKey) o;
 			return Objects.equals(fqdn, poolKey.fqdn) &&
 						   Objects.equals(holder, poolKey.holder) &&
-						   pipelineKey == poolKey.pipelineKey;
+						   pipelineKey == poolKey.pipelineKey &&
+						   eventLoop == poolKey.eventLoop;
 		}
 
 		@Override
@@ -745,6 +915,9 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			result = 31 * result + Objects.hashCode(fqdn);
 			result = 31 * result + Objects.hashCode(holder);
 			result = 31 * result + pipelineKey;
+			if (eventLoop != null) {
+				result = 31 * result + eventLoop.hashCode();
+			}
 			return result;
 		}
 	}
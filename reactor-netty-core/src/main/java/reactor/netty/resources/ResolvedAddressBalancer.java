@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.LongSupplier;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Tracks the addresses that a hostname resolves to and spreads the connections of a pool across them.
+ * <p>
+ * Every new connection is opened to the resolved address with the fewest connections. The addresses are
+ * re-resolved at most every {@code refreshInterval}, when a connection is opened, acquired or released.
+ * A connection to an address that is no longer returned by the name resolution is retired, i.e. evicted
+ * once it is idle, so that the connections move progressively to the current addresses.
+ * At most one name resolution is in progress at a time, the known addresses are used while they are re-resolved.
+ * <p>
+ * Every connection is opened to a single selected address, thus the connection attempts are not raced
+ * across the resolved addresses even when a connection attempt delay is configured.
+ *
+ * @since 1.2.0
+ */
+final class ResolvedAddressBalancer {
+
+	static final Logger log = Loggers.getLogger(ResolvedAddressBalancer.class);
+
+	final LongSupplier clock;
+	// The number of connections per address, an address without connections has no entry.
+	// The counters are updated atomically per address with merge/computeIfPresent.
+	final ConcurrentMap<InetAddress, Integer> connections = new ConcurrentHashMap<>();
+	final AtomicInteger next = new AtomicInteger();
+	final long refreshIntervalNanos;
+	final InetSocketAddress remoteAddress;
+	final AddressResolverGroup<?> resolverGroup;
+
+	volatile List<InetSocketAddress> addresses = Collections.emptyList();
+	volatile long resolvedAt;
+
+	// The completion of the name resolution in progress, if any
+	volatile Future<?> resolving;
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<ResolvedAddressBalancer, Future> RESOLVING =
+			AtomicReferenceFieldUpdater.newUpdater(ResolvedAddressBalancer.class, Future.class, "resolving");
+
+	ResolvedAddressBalancer(InetSocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup, Duration refreshInterval) {
+		this(remoteAddress, resolverGroup, refreshInterval, System::nanoTime);
+	}
+
+	ResolvedAddressBalancer(InetSocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup, Duration refreshInterval,
+			LongSupplier clock) {
+		this.clock = clock;
+		this.refreshIntervalNanos = refreshInterval.toNanos();
+		this.remoteAddress = remoteAddress;
+		this.resolverGroup = resolverGroup;
+	}
+
+	/**
+	 * Resolves the addresses when they are stale. The returned {@link Mono} waits for the name resolution only
+	 * when no address is known yet, otherwise the known addresses are used while they are re-resolved
+	 * in the background.
+	 *
+	 * @param eventLoop the event loop used for the name resolution
+	 * @return a {@link Mono} that completes once the addresses can be selected with {@link #select()}
+	 */
+	Mono<Void> resolved(EventLoop eventLoop) {
+		if (!addresses.isEmpty() && !isStale()) {
+			return Mono.empty();
+		}
+		Future<?> future = refresh(eventLoop);
+		if (future.isDone() || !addresses.isEmpty()) {
+			// Typically the addresses are in the resolver cache
+			return Mono.empty();
+		}
+		return Mono.create(sink -> future.addListener(f -> sink.success()));
+	}
+
+	/**
+	 * Returns whether the connection is opened to an address that is no longer returned by the name resolution.
+	 * Re-resolves the addresses in the background when they are stale.
+	 *
+	 * @param channel the connection
+	 * @return true if the connection is opened to an address that is no longer returned by the name resolution
+	 */
+	boolean isRetired(Channel channel) {
+		if (isStale()) {
+			refresh(channel.eventLoop());
+		}
+		List<InetSocketAddress> addresses = this.addresses;
+		SocketAddress address = channel.remoteAddress();
+		if (addresses.isEmpty() || !(address instanceof InetSocketAddress)) {
+			return false;
+		}
+		InetAddress inetAddress = ((InetSocketAddress) address).getAddress();
+		if (contains(addresses, inetAddress)) {
+			return false;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug(format(channel, "Retiring the connection, [" + inetAddress + "] is no longer returned for [" +
+					remoteAddress.getHostString() + "]"));
+		}
+		return true;
+	}
+
+	void release(SocketAddress address) {
+		if (address instanceof InetSocketAddress && !((InetSocketAddress) address).isUnresolved()) {
+			connections.computeIfPresent(((InetSocketAddress) address).getAddress(), (k, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+
+	boolean isStale() {
+		return clock.getAsLong() - resolvedAt >= refreshIntervalNanos;
+	}
+
+	/**
+	 * Starts a name resolution unless one is already in progress.
+	 *
+	 * @param eventLoop the event loop used for the name resolution
+	 * @return the completion of the name resolution in progress
+	 */
+	Future<?> refresh(EventLoop eventLoop) {
+		for (;;) {
+			Future<?> pending = resolving;
+			if (pending != null) {
+				return pending;
+			}
+			Promise<Void> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+			if (RESOLVING.compareAndSet(this, null, promise)) {
+				Future<? extends List<?>> future;
+				try {
+					future = resolverGroup.getResolver(eventLoop).resolveAll(remoteAddress);
+				}
+				catch (Throwable t) {
+					future = ImmediateEventExecutor.INSTANCE.newFailedFuture(t);
+				}
+				if (future.isDone()) {
+					onResolved(future, promise);
+				}
+				else {
+					Future<? extends List<?>> f = future;
+					future.addListener(l -> onResolved(f, promise));
+				}
+				return promise;
+			}
+		}
+	}
+
+	void onResolved(Future<? extends List<?>> future, Promise<Void> promise) {
+		try {
+			if (future.isSuccess()) {
+				List<?> resolved = future.getNow();
+				List<InetSocketAddress> addresses = new ArrayList<>(resolved.size());
+				for (Object address : resolved) {
+					if (address instanceof InetSocketAddress && !((InetSocketAddress) address).isUnresolved()) {
+						addresses.add((InetSocketAddress) address);
+					}
+				}
+				update(addresses);
+			}
+			else if (log.isDebugEnabled()) {
+				log.debug("Failed to resolve the addresses of [" + remoteAddress.getHostString() + "]", future.cause());
+			}
+		}
+		finally {
+			resolving = null;
+			promise.trySuccess(null);
+		}
+	}
+
+	/**
+	 * Selects the address for a new connection, the selected address must be released with
+	 * {@link #release(SocketAddress)} when the connection is closed or cannot be established.
+	 * Returns the least loaded resolved address or the unresolved remote address when the name resolution
+	 * has never succeeded, so that the error is reported by the connect operation.
+	 *
+	 * @return the least loaded resolved address or the unresolved remote address
+	 */
+	SocketAddress select() {
+		List<InetSocketAddress> addresses = this.addresses;
+		return addresses.isEmpty() ? remoteAddress : leastLoaded(addresses);
+	}
+
+	void update(List<InetSocketAddress> addresses) {
+		resolvedAt = clock.getAsLong();
+		if (addresses.isEmpty()) {
+			// Keep the known addresses, there is nothing to balance on
+			return;
+		}
+		if (log.isDebugEnabled() && !addresses.equals(this.addresses)) {
+			log.debug("Resolved addresses of [" + remoteAddress.getHostString() + "]: " + addresses);
+		}
+		this.addresses = Collections.unmodifiableList(addresses);
+	}
+
+	SocketAddress leastLoaded(List<InetSocketAddress> addresses) {
+		int size = addresses.size();
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		InetSocketAddress selected = null;
+		int min = Integer.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			InetSocketAddress address = addresses.get((start + i) % size);
+			int count = connections.getOrDefault(address.getAddress(), 0);
+			if (count < min) {
+				min = count;
+				selected = address;
+			}
+		}
+		connections.merge(selected.getAddress(), 1, Integer::sum);
+		return selected;
+	}
+
+	static boolean contains(List<InetSocketAddress> addresses, InetAddress address) {
+		for (InetSocketAddress a : addresses) {
+			if (a.getAddress().equals(address)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
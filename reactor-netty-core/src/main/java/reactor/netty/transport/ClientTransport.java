@@ -97,6 +97,32 @@ public abstract class ClientTransport<T extends ClientTransport<T, CONF>,
 		}
 	}
 
+	/**
+	 * Race the connection attempts when the remote address resolves to several addresses, as described in
+	 * <a href="https://datatracker.ietf.org/doc/html/rfc8305">RFC 8305</a> (Happy Eyeballs).
+	 * The resolved addresses are interleaved by address family and a new connection attempt starts when
+	 * the previous attempt fails or once the given delay expires, without waiting for the previous attempt to fail.
+	 * The first established connection is used and the other attempts are cancelled.
+	 * This way an unreachable address adds at most the given delay to the connection establishment, instead of
+	 * the connect timeout.
+	 * By default, the resolved addresses are tried one after another.
+	 * <p><strong>Note:</strong> The connection attempts are not raced when the connection pool rebalances
+	 * the connections on DNS changes, as every connection is then opened to a single selected address.
+	 *
+	 * @param connectAttemptDelay the delay before starting the next connection attempt, RFC 8305 recommends 250ms
+	 * @return a new {@link ClientTransport} reference
+	 * @since 1.2.0
+	 */
+	public T connectAttemptDelay(Duration connectAttemptDelay) {
+		Objects.requireNonNull(connectAttemptDelay, "connectAttemptDelay");
+		if (connectAttemptDelay.isNegative()) {
+			throw new IllegalArgumentException("connectAttemptDelay must not be negative");
+		}
+		T dup = duplicate();
+		dup.configuration().connectAttemptDelay = connectAttemptDelay;
+		return dup;
+	}
+
 	/**
 	 * Set or add a callback called when {@link ClientTransport} is about to connect to the remote endpoint.
 	 *
@@ -16,6 +16,7 @@
 package reactor.netty.transport;
 
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -68,6 +69,17 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 		return connectionProvider;
 	}
 
+	/**
+	 * Return the configured connection attempt delay or null when the connection attempts are sequential.
+	 *
+	 * @return the configured connection attempt delay or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public final Duration connectAttemptDelay() {
+		return connectAttemptDelay;
+	}
+
 	/**
 	 * Return the configured callback or null.
 	 *
@@ -152,6 +164,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 
 	final ConnectionProvider connectionProvider;
 
+	Duration                                 connectAttemptDelay;
 	Consumer<? super CONF>                   doOnConnect;
 	Consumer<? super Connection>             doOnConnected;
 	Consumer<? super Connection>             doOnDisconnected;
@@ -173,6 +186,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 	protected ClientTransportConfig(ClientTransportConfig<CONF> parent) {
 		super(parent);
 		this.connectionProvider = parent.connectionProvider;
+		this.connectAttemptDelay = parent.connectAttemptDelay;
 		this.doOnConnect = parent.doOnConnect;
 		this.doOnConnected = parent.doOnConnected;
 		this.doOnDisconnected = parent.doOnDisconnected;
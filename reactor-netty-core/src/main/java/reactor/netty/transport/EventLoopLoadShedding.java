@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds the load of a server when its event loops are saturated.
+ * <p>
+ * Every event loop of the server is probed with a task scheduled every {@link Builder#probeInterval(Duration)}:
+ * the event loop is overloaded when the task runs more than {@link Builder#maxLag(Duration)} after its scheduled
+ * time, or when more than {@link Builder#maxPendingTasks(int)} tasks wait in its queue
+ * (see {@code reactor.netty.eventloop.pending.tasks}).
+ * <p>
+ * When a connection is accepted for an overloaded event loop, the server stops accepting connections
+ * for {@link Builder#probeInterval(Duration)}, leaving the pending connections in the accept backlog, and the
+ * accepted connection is not read until its event loop recovers. The protocols built on top of the server
+ * may in addition fail fast the requests received on an overloaded event loop, see {@link #isOverloaded(EventExecutor)}.
+ * The established connections of an event loop that is not overloaded are not affected.
+ * <p>
+ * The same instance can be shared by several servers.
+ *
+ * @since 1.2.0
+ */
+public final class EventLoopLoadShedding {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link EventLoopLoadShedding}.
+		 *
+		 * @return a new {@link EventLoopLoadShedding}
+		 */
+		EventLoopLoadShedding build();
+
+		/**
+		 * Configures the delay between the scheduled time of the probe task and its execution
+		 * above which an event loop is overloaded.
+		 * Default to {@code 100ms}.
+		 *
+		 * @param maxLag the delay above which an event loop is overloaded
+		 * @return {@code this}
+		 */
+		Builder maxLag(Duration maxLag);
+
+		/**
+		 * Configures the number of pending tasks above which an event loop is overloaded.
+		 * Default to {@code 10000}.
+		 *
+		 * @param maxPendingTasks the number of pending tasks above which an event loop is overloaded
+		 * @return {@code this}
+		 */
+		Builder maxPendingTasks(int maxPendingTasks);
+
+		/**
+		 * Configures the interval between two probes of an event loop, this is also the time during which
+		 * the server stops accepting connections, and the interval at which the reads of a connection
+		 * accepted for an overloaded event loop are retried.
+		 * Default to {@code 100ms}.
+		 *
+		 * @param probeInterval the interval between two probes of an event loop
+		 * @return {@code this}
+		 */
+		Builder probeInterval(Duration probeInterval);
+	}
+
+	/**
+	 * Creates a builder for {@link EventLoopLoadShedding}.
+	 *
+	 * @return a new {@link EventLoopLoadShedding.Builder}
+	 */
+	public static EventLoopLoadShedding.Builder builder() {
+		return new EventLoopLoadShedding.Build();
+	}
+
+	/**
+	 * Returns whether the given event loop is overloaded.
+	 * Returns {@code false} when the event loop is not probed, i.e. it is not used by a bound server.
+	 *
+	 * @param executor the event loop
+	 * @return whether the given event loop is overloaded
+	 */
+	public boolean isOverloaded(EventExecutor executor) {
+		Probe probe = probes.get(executor);
+		return probe != null && probe.isOverloaded();
+	}
+
+	/**
+	 * Returns the delay of the last probe of the given event loop or {@link Duration#ZERO} when
+	 * the event loop is not probed.
+	 *
+	 * @param executor the event loop
+	 * @return the delay of the last probe of the given event loop
+	 */
+	public Duration lag(EventExecutor executor) {
+		Probe probe = probes.get(executor);
+		return probe != null ? Duration.ofNanos(probe.lag) : Duration.ZERO;
+	}
+
+	@Override
+	public String toString() {
+		return "EventLoopLoadShedding{" +
+				"maxLag=" + Duration.ofNanos(maxLagNanos) +
+				", maxPendingTasks=" + maxPendingTasks +
+				", probeInterval=" + Duration.ofNanos(probeIntervalNanos) +
+				'}';
+	}
+
+	final long maxLagNanos;
+	final int maxPendingTasks;
+	final long probeIntervalNanos;
+	final Map<EventExecutor, Probe> probes = new ConcurrentHashMap<>();
+
+	EventLoopLoadShedding(Build build) {
+		this.maxLagNanos = build.maxLag.toNanos();
+		this.maxPendingTasks = build.maxPendingTasks;
+		this.probeIntervalNanos = build.probeInterval.toNanos();
+	}
+
+	/**
+	 * Starts probing the event loops of the given group, until {@link #stop(EventLoopGroup)} is invoked
+	 * as many times as this method.
+	 *
+	 * @param group the event loops of a server
+	 */
+	synchronized void start(EventLoopGroup group) {
+		for (EventExecutor executor : group) {
+			Probe probe = probes.get(executor);
+			if (probe == null) {
+				probe = new Probe(executor);
+				probes.put(executor, probe);
+				probe.schedule();
+			}
+			probe.refCnt++;
+		}
+	}
+
+	/**
+	 * Stops probing the event loops of the given group.
+	 *
+	 * @param group the event loops of a server
+	 */
+	synchronized void stop(EventLoopGroup group) {
+		for (EventExecutor executor : group) {
+			Probe probe = probes.get(executor);
+			if (probe != null && --probe.refCnt == 0) {
+				probes.remove(executor);
+				probe.cancel();
+			}
+		}
+	}
+
+	/**
+	 * Probes an event loop with a periodic task.
+	 */
+	final class Probe implements Runnable {
+
+		final EventExecutor executor;
+
+		// Guarded by EventLoopLoadShedding.this
+		int refCnt;
+
+		volatile boolean cancelled;
+		volatile long expected;
+		volatile ScheduledFuture<?> future;
+		volatile long lag;
+		volatile boolean overloaded;
+
+		Probe(EventExecutor executor) {
+			this.executor = executor;
+		}
+
+		void cancel() {
+			cancelled = true;
+			ScheduledFuture<?> f = future;
+			if (f != null) {
+				f.cancel(false);
+			}
+		}
+
+		boolean isOverloaded() {
+			// A probe that is already late tells that the event loop is blocked before it runs
+			return overloaded || System.nanoTime() - expected > maxLagNanos;
+		}
+
+		@Override
+		public void run() {
+			long delay = Math.max(0, System.nanoTime() - expected);
+			int pendingTasks = executor instanceof SingleThreadEventExecutor ?
+					((SingleThreadEventExecutor) executor).pendingTasks() : 0;
+			lag = delay;
+			overloaded = delay > maxLagNanos || pendingTasks > maxPendingTasks;
+			schedule();
+		}
+
+		void schedule() {
+			if (!cancelled) {
+				expected = System.nanoTime() + probeIntervalNanos;
+				future = executor.schedule(this, probeIntervalNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Holds back the reads of a connection accepted for an overloaded event loop until the event loop recovers.
+	 */
+	static final class ReadThrottle extends ChannelOutboundHandlerAdapter {
+
+		final EventLoopLoadShedding loadShedding;
+
+		boolean readPending;
+
+		ReadThrottle(EventLoopLoadShedding loadShedding) {
+			this.loadShedding = loadShedding;
+		}
+
+		@Override
+		public void read(ChannelHandlerContext ctx) {
+			if (!loadShedding.isOverloaded(ctx.executor())) {
+				ctx.read();
+				ctx.pipeline().remove(this);
+				return;
+			}
+			if (!readPending) {
+				readPending = true;
+				ctx.executor().schedule(() -> {
+					readPending = false;
+					if (ctx.channel().isActive()) {
+						read(ctx);
+					}
+				}, loadShedding.probeIntervalNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	static final class Build implements Builder {
+		static final Duration DEFAULT_MAX_LAG = Duration.ofMillis(100);
+		static final int DEFAULT_MAX_PENDING_TASKS = 10_000;
+		static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofMillis(100);
+
+		Duration maxLag = DEFAULT_MAX_LAG;
+		int maxPendingTasks = DEFAULT_MAX_PENDING_TASKS;
+		Duration probeInterval = DEFAULT_PROBE_INTERVAL;
+
+		@Override
+		public EventLoopLoadShedding build() {
+			return new EventLoopLoadShedding(this);
+		}
+
+		@Override
+		public Builder maxLag(Duration maxLag) {
+			this.maxLag = requirePositive(maxLag, "maxLag");
+			return this;
+		}
+
+		@Override
+		public Builder maxPendingTasks(int maxPendingTasks) {
+			if (maxPendingTasks < 1) {
+				throw new IllegalArgumentException("maxPendingTasks must be strictly positive");
+			}
+			this.maxPendingTasks = maxPendingTasks;
+			return this;
+		}
+
+		@Override
+		public Builder probeInterval(Duration probeInterval) {
+			this.probeInterval = requirePositive(probeInterval, "probeInterval");
+			return this;
+		}
+
+		static Duration requirePositive(Duration duration, String name) {
+			Objects.requireNonNull(duration, name);
+			if (duration.isNegative() || duration.isZero()) {
+				throw new IllegalArgumentException(name + " must be strictly positive");
+			}
+			return duration;
+		}
+	}
+}
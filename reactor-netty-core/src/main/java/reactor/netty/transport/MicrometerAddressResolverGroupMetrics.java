@@ -16,6 +16,9 @@
 package reactor.netty.transport;
 
 import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.netty.resolver.AddressResolver;
@@ -36,9 +39,15 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import static reactor.netty.Metrics.ADDRESS_RESOLVER;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_HITS;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_MISSES;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_REFRESHES;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_STALE_HITS;
 import static reactor.netty.Metrics.ERROR;
+import static reactor.netty.Metrics.NAME;
 import static reactor.netty.Metrics.OBSERVATION_KEY;
 import static reactor.netty.Metrics.OBSERVATION_REGISTRY;
+import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.SUCCESS;
 import static reactor.netty.Metrics.UNKNOWN;
 import static reactor.netty.transport.HostnameResolutionObservations.HostnameResolutionTimeHighCardinalityTags.NET_PEER_NAME;
@@ -68,6 +77,10 @@ final class MicrometerAddressResolverGroupMetrics<T extends SocketAddress> exten
 
 	MicrometerAddressResolverGroupMetrics(AddressResolverGroup<T> resolverGroup, MicrometerChannelMetricsRecorder recorder) {
 		super(resolverGroup, recorder);
+		RefreshAheadDnsCache refreshAheadCache = RefreshAheadDnsCache.of(resolverGroup);
+		if (refreshAheadCache != null) {
+			registerCacheMeters(recorder.name(), refreshAheadCache);
+		}
 	}
 
 	@Override
@@ -75,6 +88,35 @@ final class MicrometerAddressResolverGroupMetrics<T extends SocketAddress> exten
 		return new MicrometerDelegatingAddressResolver<>((MicrometerChannelMetricsRecorder) recorder, resolverGroup.getResolver(executor));
 	}
 
+	static void registerCacheMeters(String name, RefreshAheadDnsCache cache) {
+		// Several caches can be registered with the same name, each cache has its own meters
+		Tags tags = Tags.of(NAME, cache.name);
+
+		Meter hits = FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_HITS, cache, c -> c.hits.sum())
+		                            .tags(tags)
+		                            .register(REGISTRY);
+
+		Meter misses = FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_MISSES, cache, c -> c.misses.sum())
+		                              .tags(tags)
+		                              .register(REGISTRY);
+
+		Meter refreshes = FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_REFRESHES, cache, c -> c.refreshes.sum())
+		                                 .tags(tags)
+		                                 .register(REGISTRY);
+
+		Meter staleHits = FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_STALE_HITS, cache, c -> c.staleHits.sum())
+		                                 .tags(tags)
+		                                 .register(REGISTRY);
+
+		// The meters are removed when the resolver group using the cache is closed
+		cache.onClose(() -> {
+			REGISTRY.remove(hits);
+			REGISTRY.remove(misses);
+			REGISTRY.remove(refreshes);
+			REGISTRY.remove(staleHits);
+		});
+	}
+
 	static final class FutureHandlerContext extends Observation.Context
 			implements ReactorNettyHandlerContext, Supplier<Observation.Context> {
 		static final String CONTEXTUAL_NAME = "hostname resolution";
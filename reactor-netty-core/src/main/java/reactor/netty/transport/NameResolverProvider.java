@@ -92,6 +92,26 @@ public final class NameResolverProvider {
 		 */
 		NameResolverSpec cacheNegativeTimeToLive(Duration cacheNegativeTimeToLive);
 
+		/**
+		 * Enables the refresh-ahead mode of the DNS cache.
+		 * An entry that is looked up during the last {@code 20%} of its time to live is refreshed in the background,
+		 * while the cached addresses continue to be served. An entry that is looked up after it expired is served
+		 * stale for up to {@code maxStaleness} while it is refreshed in the background.
+		 * Thus, the hostnames that are frequently resolved do not wait for a DNS query when their entries expire.
+		 * The refresh-ahead mode is ignored when a custom {@link #resolveCache(DnsCache)} is configured.
+		 * By default, the refresh-ahead mode is disabled.
+		 * The default implementation throws {@link UnsupportedOperationException},
+		 * the spec provided by {@link NameResolverProvider#builder()} supports it.
+		 *
+		 * @param maxStaleness the maximum duration after the expiration during which an entry can be served stale,
+		 * {@link Duration#ZERO} disables serving stale entries
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		default NameResolverSpec cacheRefreshAhead(Duration maxStaleness) {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * If {@code true}, the resolver notifies the returned {@link Future} as
 		 * soon as all queries for the preferred address type are complete.
@@ -306,6 +326,18 @@ public final class NameResolverProvider {
 		return cacheNegativeTimeToLive;
 	}
 
+	/**
+	 * Returns the configured max staleness of the refresh-ahead mode of the DNS cache or null
+	 * when the refresh-ahead mode is disabled.
+	 *
+	 * @return the configured max staleness of the refresh-ahead mode of the DNS cache or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public Duration cacheRefreshAhead() {
+		return cacheRefreshAhead;
+	}
+
 	/**
 	 * Returns the configured custom provider of {@link DnsAddressResolverGroup} or null.
 	 *
@@ -486,6 +518,7 @@ public final class NameResolverProvider {
 				cacheMaxTimeToLive.equals(that.cacheMaxTimeToLive) &&
 				cacheMinTimeToLive.equals(that.cacheMinTimeToLive) &&
 				cacheNegativeTimeToLive.equals(that.cacheNegativeTimeToLive) &&
+				Objects.equals(cacheRefreshAhead, that.cacheRefreshAhead) &&
 				Objects.equals(loopResources, that.loopResources) &&
 				queryTimeout.equals(that.queryTimeout) &&
 				resolvedAddressTypes == that.resolvedAddressTypes &&
@@ -501,6 +534,7 @@ public final class NameResolverProvider {
 		result = 31 * result + Objects.hashCode(cacheMaxTimeToLive);
 		result = 31 * result + Objects.hashCode(cacheMinTimeToLive);
 		result = 31 * result + Objects.hashCode(cacheNegativeTimeToLive);
+		result = 31 * result + Objects.hashCode(cacheRefreshAhead);
 		result = 31 * result + Boolean.hashCode(completeOncePreferredResolved);
 		result = 31 * result + Objects.hashCode(dnsAddressResolverGroupProvider);
 		result = 31 * result + Boolean.hashCode(disableRecursionDesired);
@@ -560,9 +594,16 @@ public final class NameResolverProvider {
 		if (resolvedAddressTypes != null) {
 			builder.resolvedAddressTypes(resolvedAddressTypes);
 		}
+		RefreshAheadDnsCache refreshAheadCache = null;
 		if (resolveCache != null) {
 			builder.resolveCache(resolveCache);
 		}
+		else if (cacheRefreshAhead != null) {
+			refreshAheadCache = new RefreshAheadDnsCache(Math.toIntExact(cacheMinTimeToLive.getSeconds()),
+					Math.toIntExact(cacheMaxTimeToLive.getSeconds()), Math.toIntExact(cacheNegativeTimeToLive.getSeconds()),
+					cacheRefreshAhead);
+			builder.resolveCache(refreshAheadCache);
+		}
 		if (bindAddressSupplier != null) {
 			// There is no check for bindAddressSupplier.get() == null
 			// This is deliberate, when null value is provided Netty will use the default behaviour
@@ -572,7 +613,14 @@ public final class NameResolverProvider {
 			builder.searchDomains(searchDomains);
 		}
 		if (dnsAddressResolverGroupProvider != null) {
-			return dnsAddressResolverGroupProvider.apply(builder);
+			DnsAddressResolverGroup resolverGroup = dnsAddressResolverGroupProvider.apply(builder);
+			if (refreshAheadCache != null) {
+				refreshAheadCache.resolverGroup(resolverGroup);
+			}
+			return resolverGroup;
+		}
+		if (refreshAheadCache != null) {
+			return new RefreshAheadDnsAddressResolverGroup(builder, refreshAheadCache, roundRobinSelection);
 		}
 		return roundRobinSelection ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
 	}
@@ -580,6 +628,7 @@ public final class NameResolverProvider {
 	final Duration cacheMaxTimeToLive;
 	final Duration cacheMinTimeToLive;
 	final Duration cacheNegativeTimeToLive;
+	final Duration cacheRefreshAhead;
 	final boolean completeOncePreferredResolved;
 	final boolean disableRecursionDesired;
 	final boolean disableOptionalRecord;
@@ -603,6 +652,7 @@ public final class NameResolverProvider {
 		this.cacheMaxTimeToLive = build.cacheMaxTimeToLive;
 		this.cacheMinTimeToLive = build.cacheMinTimeToLive;
 		this.cacheNegativeTimeToLive = build.cacheNegativeTimeToLive;
+		this.cacheRefreshAhead = build.cacheRefreshAhead;
 		this.completeOncePreferredResolved = build.completeOncePreferredResolved;
 		this.dnsAddressResolverGroupProvider = build.dnsAddressResolverGroupProvider;
 		this.disableOptionalRecord = build.disableOptionalRecord;
@@ -635,6 +685,7 @@ public final class NameResolverProvider {
 		Duration cacheMaxTimeToLive = DEFAULT_CACHE_MAX_TIME_TO_LIVE;
 		Duration cacheMinTimeToLive = DEFAULT_CACHE_MIN_TIME_TO_LIVE;
 		Duration cacheNegativeTimeToLive = DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE;
+		Duration cacheRefreshAhead;
 		boolean completeOncePreferredResolved = DEFAULT_COMPLETE_ONCE_PREFERRED_RESOLVED;
 		boolean disableOptionalRecord;
 		boolean disableRecursionDesired;
@@ -672,6 +723,16 @@ public final class NameResolverProvider {
 			return this;
 		}
 
+		@Override
+		public NameResolverSpec cacheRefreshAhead(Duration maxStaleness) {
+			Objects.requireNonNull(maxStaleness, "maxStaleness");
+			if (maxStaleness.isNegative()) {
+				throw new IllegalArgumentException("maxStaleness must be positive or zero");
+			}
+			this.cacheRefreshAhead = maxStaleness;
+			return this;
+		}
+
 		@Override
 		public NameResolverSpec completeOncePreferredResolved(boolean enable) {
 			this.completeOncePreferredResolved = enable;
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.NameResolver;
+import io.netty.resolver.RoundRobinInetAddressResolver;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * {@link DnsAddressResolverGroup} which resolvers use a {@link RefreshAheadDnsCache}.
+ *
+ * @since 1.2.0
+ */
+final class RefreshAheadDnsAddressResolverGroup extends DnsAddressResolverGroup {
+
+	final RefreshAheadDnsCache cache;
+	final boolean roundRobinSelection;
+
+	RefreshAheadDnsAddressResolverGroup(DnsNameResolverBuilder builder, RefreshAheadDnsCache cache, boolean roundRobinSelection) {
+		super(builder.resolveCache(cache));
+		this.cache = cache;
+		this.roundRobinSelection = roundRobinSelection;
+		cache.resolverGroup(this);
+	}
+
+	@Override
+	public void close() {
+		try {
+			super.close();
+		}
+		finally {
+			cache.close();
+		}
+	}
+
+	@Override
+	protected AddressResolver<InetSocketAddress> newAddressResolver(EventLoop eventLoop, NameResolver<InetAddress> resolver)
+			throws Exception {
+		return roundRobinSelection ? new RoundRobinInetAddressResolver(eventLoop, resolver).asAddressResolver() :
+				super.newAddressResolver(eventLoop, resolver);
+	}
+}
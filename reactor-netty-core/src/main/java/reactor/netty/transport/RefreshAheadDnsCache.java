@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link DnsCache} that refreshes the entries in the background before they expire and serves the expired entries
+ * while they are refreshed.
+ * <p>
+ * An entry that is looked up during the last {@code 20%} of its time to live is considered as popular and
+ * is refreshed in the background, the lookups continue to be served with the cached addresses until the
+ * refresh completes. An entry that is looked up after it expired, but before {@code maxStaleness} elapses,
+ * is served stale while it is refreshed in the background. When the refresh fails, the cached addresses are
+ * served until the end of the staleness window.
+ * Failed resolutions are cached for the negative time to live and are not refreshed.
+ * As in Netty's {@code DefaultDnsCache}, the removal of an entry is scheduled on its event loop when
+ * the entry is cached, so that the entries of the hostnames that are not looked up anymore are removed as well.
+ *
+ * @since 1.2.0
+ */
+final class RefreshAheadDnsCache implements DnsCache {
+
+	static final Logger log = Loggers.getLogger(RefreshAheadDnsCache.class);
+
+	/**
+	 * The percentage of the time to live after which a looked up entry is refreshed.
+	 */
+	static final int REFRESH_AHEAD_PERCENTAGE = 80;
+
+	/**
+	 * The caches indexed by the {@link AddressResolverGroup} using them, including the groups created with
+	 * a custom {@code dnsAddressResolverGroupProvider}. Neither the groups nor the caches are retained.
+	 */
+	static final Map<AddressResolverGroup<?>, WeakReference<RefreshAheadDnsCache>> CACHES =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns the cache used by the given {@link AddressResolverGroup} or null.
+	 *
+	 * @param resolverGroup the {@link AddressResolverGroup}
+	 * @return the cache used by the given {@link AddressResolverGroup} or null
+	 */
+	@Nullable
+	static RefreshAheadDnsCache of(AddressResolverGroup<?> resolverGroup) {
+		WeakReference<RefreshAheadDnsCache> cache = CACHES.get(resolverGroup);
+		return cache != null ? cache.get() : null;
+	}
+
+	static final AtomicInteger COUNTER = new AtomicInteger();
+
+	final LongSupplier clock;
+	final long maxStaleNanos;
+	final int maxTtl;
+	final int minTtl;
+	final String name;
+	final int negativeTtl;
+	final ConcurrentMap<String, Entries> resolveCache = new ConcurrentHashMap<>();
+	final ConcurrentLinkedQueue<Runnable> onClose = new ConcurrentLinkedQueue<>();
+
+	final LongAdder hits = new LongAdder();
+	final LongAdder misses = new LongAdder();
+	final LongAdder refreshes = new LongAdder();
+	final LongAdder staleHits = new LongAdder();
+
+	volatile AddressResolverGroup<?> resolverGroup;
+
+	RefreshAheadDnsCache(int minTtl, int maxTtl, int negativeTtl, Duration maxStaleness) {
+		this(minTtl, maxTtl, negativeTtl, maxStaleness, System::nanoTime);
+	}
+
+	RefreshAheadDnsCache(int minTtl, int maxTtl, int negativeTtl, Duration maxStaleness, LongSupplier clock) {
+		this.clock = clock;
+		this.maxStaleNanos = maxStaleness.toNanos();
+		this.maxTtl = maxTtl;
+		this.minTtl = Math.min(minTtl, maxTtl);
+		this.name = "refreshAheadDnsCache-" + COUNTER.incrementAndGet();
+		this.negativeTtl = negativeTtl;
+	}
+
+	/**
+	 * Adds a task to run when the {@link AddressResolverGroup} using this cache is closed,
+	 * e.g. for removing the meters of this cache.
+	 *
+	 * @param task the task to run when the {@link AddressResolverGroup} using this cache is closed
+	 */
+	void onClose(Runnable task) {
+		onClose.add(task);
+	}
+
+	/**
+	 * Clears this cache and runs the tasks registered with {@link #onClose(Runnable)}.
+	 */
+	void close() {
+		clear();
+		Runnable task;
+		while ((task = onClose.poll()) != null) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Sets the {@link AddressResolverGroup} used for refreshing the entries. The resolvers of this group
+	 * must use this cache. Only {@link RefreshAheadDnsAddressResolverGroup} closes this cache when it is closed,
+	 * a group created with a custom {@code dnsAddressResolverGroupProvider} does not.
+	 *
+	 * @param resolverGroup the {@link AddressResolverGroup} used for refreshing the entries
+	 */
+	void resolverGroup(AddressResolverGroup<?> resolverGroup) {
+		this.resolverGroup = resolverGroup;
+		CACHES.put(resolverGroup, new WeakReference<>(this));
+	}
+
+	@Override
+	public void clear() {
+		while (!resolveCache.isEmpty()) {
+			for (Map.Entry<String, Entries> entry : resolveCache.entrySet()) {
+				if (resolveCache.remove(entry.getKey(), entry.getValue())) {
+					entry.getValue().cancelExpiration();
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean clear(String hostname) {
+		Entries entries = resolveCache.remove(hostname);
+		if (entries != null) {
+			entries.cancelExpiration();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+		if (additionals.length != 0) {
+			return null;
+		}
+
+		Entries entries = resolveCache.get(hostname);
+		if (entries == null) {
+			misses.increment();
+			return null;
+		}
+
+		if (entries.refreshThread == Thread.currentThread()) {
+			// The lookup is performed by the refresh itself
+			return null;
+		}
+
+		long now = clock.getAsLong();
+		if (now - entries.refreshAt < 0) {
+			hits.increment();
+			return entries.entries;
+		}
+
+		if (now - entries.expiresAt < 0) {
+			hits.increment();
+			refresh(hostname, entries);
+			return entries.entries;
+		}
+
+		if (entries.cause == null && now - entries.expiresAt < maxStaleNanos) {
+			staleHits.increment();
+			refresh(hostname, entries);
+			return entries.entries;
+		}
+
+		if (resolveCache.remove(hostname, entries)) {
+			entries.cancelExpiration();
+		}
+		misses.increment();
+		return null;
+	}
+
+	@Override
+	public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl, EventLoop loop) {
+		Entry entry = new Entry(hostname, address, null);
+		if (maxTtl == 0 || additionals.length != 0) {
+			return entry;
+		}
+
+		long ttl = TimeUnit.SECONDS.toNanos(Math.max(minTtl, (int) Math.min(maxTtl, originalTtl)));
+		long now = clock.getAsLong();
+		Entries current = resolveCache.get(hostname);
+		while (true) {
+			if (current != null &&
+					(current.addPending(entry, now, now + ttl) ||
+							(current.cause == null && now - current.expiresAt < 0 && current.add(entry, now + ttl)))) {
+				return entry;
+			}
+			Entries next = new Entries(Collections.singletonList(entry), null, now, now + ttl, loop);
+			if (current == null ? resolveCache.putIfAbsent(hostname, next) == null :
+					resolveCache.replace(hostname, current, next)) {
+				scheduleExpiration(hostname, current, next, now);
+				return entry;
+			}
+			current = resolveCache.get(hostname);
+		}
+	}
+
+	@Override
+	public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+		Entry entry = new Entry(hostname, null, cause);
+		if (negativeTtl == 0 || additionals.length != 0) {
+			return entry;
+		}
+
+		Entries current = resolveCache.get(hostname);
+		if (current != null && current.state == Entries.REFRESHING) {
+			// Keep serving the cached addresses, the refresh failure is handled when the refresh completes
+			return entry;
+		}
+
+		long now = clock.getAsLong();
+		Entries next = new Entries(Collections.singletonList(entry), cause, now, now + TimeUnit.SECONDS.toNanos(negativeTtl), loop);
+		scheduleExpiration(hostname, resolveCache.put(hostname, next), next, now);
+		return entry;
+	}
+
+	@Override
+	public String toString() {
+		return "RefreshAheadDnsCache(minTtl=" + minTtl + ", maxTtl=" + maxTtl + ", negativeTtl=" + negativeTtl +
+				", maxStaleness=" + Duration.ofNanos(maxStaleNanos) + ", cached resolved hostname=" + resolveCache.size() + ')';
+	}
+
+	void refresh(String hostname, Entries entries) {
+		AddressResolverGroup<?> resolverGroup = this.resolverGroup;
+		if (resolverGroup == null || !Entries.STATE.compareAndSet(entries, Entries.IDLE, Entries.REFRESHING)) {
+			return;
+		}
+
+		refreshes.increment();
+		EventLoop loop = entries.loop;
+		try {
+			loop.execute(() -> {
+				Future<?> future;
+				entries.refreshThread = Thread.currentThread();
+				try {
+					AddressResolver<?> resolver = resolverGroup.getResolver(loop);
+					future = resolver.resolveAll(InetSocketAddress.createUnresolved(hostname, 0));
+				}
+				catch (Throwable t) {
+					onRefreshFailure(hostname, entries, t);
+					return;
+				}
+				finally {
+					entries.refreshThread = null;
+				}
+				future.addListener(f -> {
+					if (f.isSuccess()) {
+						onRefreshSuccess(hostname, entries);
+					}
+					else {
+						onRefreshFailure(hostname, entries, f.cause());
+					}
+				});
+			});
+		}
+		catch (Throwable t) {
+			// The event loop is shutting down
+			onRefreshFailure(hostname, entries, t);
+		}
+	}
+
+	void onRefreshSuccess(String hostname, Entries entries) {
+		Entries next = entries.completeRefresh(true);
+		if (next != null && resolveCache.replace(hostname, entries, next)) {
+			scheduleExpiration(hostname, entries, next, clock.getAsLong());
+		}
+	}
+
+	/**
+	 * Cancels the expiration of the replaced entries and schedules the expiration of the new entries.
+	 * The entries with addresses expire at the end of the staleness window.
+	 */
+	void scheduleExpiration(String hostname, @Nullable Entries previous, Entries next, long now) {
+		if (previous != null) {
+			previous.cancelExpiration();
+		}
+		long delay = (next.cause == null ? next.expiresAt + maxStaleNanos : next.expiresAt) - now;
+		try {
+			next.expiration = next.loop.schedule(() -> resolveCache.remove(hostname, next), delay, TimeUnit.NANOSECONDS);
+		}
+		catch (Throwable t) {
+			// The event loop is shutting down, the entries are removed on lookup
+			if (log.isDebugEnabled()) {
+				log.debug("Failed to schedule the expiration of the cached addresses of [" + hostname + "]", t);
+			}
+		}
+	}
+
+	void onRefreshFailure(String hostname, Entries entries, Throwable cause) {
+		if (log.isDebugEnabled()) {
+			log.debug("Failed to refresh the cached addresses of [" + hostname + "]", cause);
+		}
+		entries.completeRefresh(false);
+	}
+
+	static final class Entries {
+
+		final Throwable cause;
+		final long createdAt;
+		final EventLoop loop;
+
+		volatile List<Entry> entries;
+		volatile long expiresAt;
+		volatile long refreshAt;
+
+		static final int IDLE = 0;
+		static final int REFRESHING = 1;
+		static final int REFRESH_FAILED = 2;
+
+		volatile int state;
+		static final AtomicIntegerFieldUpdater<Entries> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(Entries.class, "state");
+
+		volatile Thread refreshThread;
+
+		volatile ScheduledFuture<?> expiration;
+
+		List<Entry> pending;
+		long pendingCreatedAt;
+		long pendingExpiresAt;
+
+		Entries(List<Entry> entries, @Nullable Throwable cause, long createdAt, long expiresAt, EventLoop loop) {
+			this.cause = cause;
+			this.createdAt = createdAt;
+			this.entries = entries;
+			this.expiresAt = expiresAt;
+			this.loop = loop;
+			this.refreshAt = refreshAt(createdAt, expiresAt);
+		}
+
+		synchronized boolean add(Entry entry, long expiresAt) {
+			if (state != IDLE) {
+				return false;
+			}
+			List<Entry> entries = this.entries;
+			for (Entry e : entries) {
+				if (e.address.equals(entry.address)) {
+					return true;
+				}
+			}
+			List<Entry> next = new ArrayList<>(entries.size() + 1);
+			next.addAll(entries);
+			next.add(entry);
+			this.entries = Collections.unmodifiableList(next);
+			if (expiresAt - this.expiresAt < 0) {
+				this.expiresAt = expiresAt;
+				this.refreshAt = refreshAt(createdAt, expiresAt);
+			}
+			return true;
+		}
+
+		synchronized boolean addPending(Entry entry, long now, long expiresAt) {
+			if (state != REFRESHING) {
+				return false;
+			}
+			if (pending == null) {
+				pending = new ArrayList<>(2);
+				pendingCreatedAt = now;
+				pendingExpiresAt = expiresAt;
+			}
+			else if (expiresAt - pendingExpiresAt < 0) {
+				pendingExpiresAt = expiresAt;
+			}
+			pending.add(entry);
+			return true;
+		}
+
+		/**
+		 * Completes the refresh and returns the refreshed entries or {@code null} when the refresh failed
+		 * or did not provide any address. In the latter case, the current entries are not refreshed anymore,
+		 * they are served until the end of the staleness window.
+		 *
+		 * @param success whether the refresh succeeded
+		 * @return the refreshed entries or {@code null}
+		 */
+		@Nullable
+		synchronized Entries completeRefresh(boolean success) {
+			List<Entry> pending = this.pending;
+			this.pending = null;
+			if (!success || pending == null) {
+				state = REFRESH_FAILED;
+				return null;
+			}
+			state = IDLE;
+			return new Entries(Collections.unmodifiableList(pending), null, pendingCreatedAt, pendingExpiresAt, loop);
+		}
+
+		void cancelExpiration() {
+			ScheduledFuture<?> expiration = this.expiration;
+			if (expiration != null) {
+				expiration.cancel(false);
+			}
+		}
+
+		static long refreshAt(long createdAt, long expiresAt) {
+			return createdAt + (expiresAt - createdAt) / 100 * REFRESH_AHEAD_PERCENTAGE;
+		}
+	}
+
+	static final class Entry implements DnsCacheEntry {
+
+		final InetAddress address;
+		final Throwable cause;
+		final String hostname;
+
+		Entry(String hostname, @Nullable InetAddress address, @Nullable Throwable cause) {
+			this.address = address;
+			this.cause = cause;
+			this.hostname = hostname;
+		}
+
+		@Override
+		@Nullable
+		public InetAddress address() {
+			return address;
+		}
+
+		@Override
+		@Nullable
+		public Throwable cause() {
+			return cause;
+		}
+
+		@Override
+		public String toString() {
+			return cause != null ? hostname + '/' + cause : address.toString();
+		}
+	}
+}
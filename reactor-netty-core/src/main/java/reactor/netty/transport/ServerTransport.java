@@ -36,6 +36,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.unix.DomainSocketAddress;
@@ -111,7 +112,7 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 			ConnectionObserver childObs =
 					new ChildObserver(config.defaultChildObserver().then(config.childObserver()));
 			Acceptor acceptor = new Acceptor(config.childEventLoopGroup(), config.channelInitializer(childObs, null, true),
-					config.childOptions, config.childAttrs, isDomainSocket);
+					config.childOptions, config.childAttrs, isDomainSocket, config.loadShedding);
 			TransportConnector.bind(config, new AcceptorInitializer(acceptor), local, isDomainSocket)
 			                  .subscribe(disposableServer);
 		});
@@ -308,6 +309,27 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		return dup;
 	}
 
+	/**
+	 * Sheds the load of the server when its event loops are saturated: the server stops accepting connections
+	 * and does not read the connections accepted for an overloaded event loop until it recovers.
+	 * If the {@code loadShedding} is {@code null}, any previous setting will be removed.
+	 * <p>By default the load is not shed.
+	 *
+	 * @param loadShedding the {@link EventLoopLoadShedding} to use or null to disable the load shedding
+	 * @return a new {@link ServerTransport} reference
+	 * @since 1.2.0
+	 */
+	public T loadShedding(@Nullable EventLoopLoadShedding loadShedding) {
+		if (loadShedding == configuration().loadShedding) {
+			@SuppressWarnings("unchecked")
+			T dup = (T) this;
+			return dup;
+		}
+		T dup = duplicate();
+		dup.configuration().loadShedding = loadShedding;
+		return dup;
+	}
+
 	/**
 	 * The host to which this server should bind.
 	 *
@@ -359,30 +381,55 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		final Map<ChannelOption<?>, ?> childOptions;
 		final Map<AttributeKey<?>, ?> childAttrs;
 		final boolean isDomainSocket;
+		final EventLoopLoadShedding loadShedding;
 
 		Runnable enableAutoReadTask;
 
 		Acceptor(EventLoopGroup childGroup, ChannelHandler childHandler,
 				Map<ChannelOption<?>, ?> childOptions, Map<AttributeKey<?>, ?> childAttrs,
-				boolean isDomainSocket) {
+				boolean isDomainSocket, @Nullable EventLoopLoadShedding loadShedding) {
 			this.childGroup = childGroup;
 			this.childHandler = childHandler;
 			this.childOptions = childOptions;
 			this.childAttrs = childAttrs;
 			this.isDomainSocket = isDomainSocket;
+			this.loadShedding = loadShedding;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			if (loadShedding != null) {
+				loadShedding.start(childGroup);
+			}
+		}
+
+		@Override
+		public void handlerRemoved(ChannelHandlerContext ctx) {
+			if (loadShedding != null) {
+				loadShedding.stop(childGroup);
+			}
 		}
 
 		@Override
 		public void channelRead(ChannelHandlerContext ctx, Object msg) {
 			final Channel child = (Channel) msg;
 
+			EventLoop childLoop = childGroup.next();
+			if (loadShedding != null && loadShedding.isOverloaded(childLoop)) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(child, "Event loop {} is overloaded, pausing the reads and the accepts"), childLoop);
+				}
+				child.pipeline().addLast(new EventLoopLoadShedding.ReadThrottle(loadShedding));
+				pauseAccept(ctx, loadShedding.probeIntervalNanos);
+			}
+
 			child.pipeline().addLast(childHandler);
 
 			TransportConnector.setChannelOptions(child, childOptions, isDomainSocket);
 			TransportConnector.setAttributes(child, childAttrs);
 
 			try {
-				childGroup.register(child).addListener((ChannelFutureListener) future -> {
+				childLoop.register(child).addListener((ChannelFutureListener) future -> {
 					if (!future.isSuccess()) {
 						forceClose(child, future.cause());
 					}
@@ -395,14 +442,18 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 
 		@Override
 		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			// stop accept new connections for 1 second to allow the channel to recover
+			// See https://github.com/netty/netty/issues/1328
+			pauseAccept(ctx, TimeUnit.SECONDS.toNanos(1));
+		}
+
+		void pauseAccept(ChannelHandlerContext ctx, long delayNanos) {
 			ChannelConfig config = ctx.channel().config();
 			if (config.isAutoRead()) {
-				// stop accept new connections for 1 second to allow the channel to recover
-				// See https://github.com/netty/netty/issues/1328
 				config.setAutoRead(false);
 				ctx.channel()
 				   .eventLoop()
-				   .schedule(enableAutoReadTask, 1, TimeUnit.SECONDS)
+				   .schedule(enableAutoReadTask, delayNanos, TimeUnit.NANOSECONDS)
 				   .addListener(future -> {
 				       if (!future.isSuccess() && log.isDebugEnabled()) {
 				           log.debug(format(ctx.channel(), "Cannot enable auto-read"), future.cause());
@@ -122,6 +122,17 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		return doOnUnbound;
 	}
 
+	/**
+	 * Return the configured {@link EventLoopLoadShedding} or null.
+	 *
+	 * @return the configured {@link EventLoopLoadShedding} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public final EventLoopLoadShedding loadShedding() {
+		return loadShedding;
+	}
+
 
 	// Protected/Package private write API
 
@@ -132,6 +143,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 	Consumer<? super DisposableServer> doOnBound;
 	Consumer<? super Connection>       doOnConnection;
 	Consumer<? super DisposableServer> doOnUnbound;
+	EventLoopLoadShedding              loadShedding;
 
 	/**
 	 * Default ServerTransportConfig with options.
@@ -157,6 +169,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		this.doOnBound = parent.doOnBound;
 		this.doOnConnection = parent.doOnConnection;
 		this.doOnUnbound = parent.doOnUnbound;
+		this.loadShedding = parent.loadShedding;
 	}
 
 	@Override
@@ -30,9 +30,11 @@ import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 import reactor.netty.Connection;
 import reactor.util.Logger;
 import reactor.util.Loggers;
@@ -41,7 +43,11 @@ import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +99,19 @@ public final class TransportConnector {
 				});
 	}
 
+	/**
+	 * Returns the next {@link EventLoop} of the {@link io.netty.channel.EventLoopGroup} configured for the transport,
+	 * i.e. the {@link EventLoop} that is used when connecting without an explicit {@link EventLoop}.
+	 *
+	 * @param config the transport configuration
+	 * @return the next {@link EventLoop} of the {@link io.netty.channel.EventLoopGroup} configured for the transport
+	 * @since 1.2.0
+	 */
+	public static EventLoop nextEventLoop(TransportConfig config) {
+		Objects.requireNonNull(config, "config");
+		return config.eventLoopGroup().next();
+	}
+
 	/**
 	 * Connect a {@link Channel} to the remote peer.
 	 *
@@ -161,8 +180,15 @@ public final class TransportConnector {
 		Objects.requireNonNull(contextView, "contextView");
 
 		boolean isDomainAddress = remoteAddress instanceof DomainSocketAddress;
+		Supplier<Mono<Channel>> newChannel = () ->
+				doInitAndRegister(config, channelInitializer, isDomainAddress, eventLoop)
+						.doOnNext(channel -> {
+							if (!contextView.isEmpty()) {
+								setChannelContext(channel, contextView);
+							}
+						});
 		return doInitAndRegister(config, channelInitializer, isDomainAddress, eventLoop)
-				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup, contextView)
+				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup, contextView, newChannel)
 						.onErrorResume(RetryConnectException.class,
 								t -> {
 									AtomicInteger index = new AtomicInteger(1);
@@ -294,9 +320,21 @@ public final class TransportConnector {
 		return monoChannelPromise;
 	}
 
-	@SuppressWarnings({"unchecked", "FutureReturnValueIgnored", "try"})
 	static Mono<Channel> doResolveAndConnect(Channel channel, TransportConfig config,
 			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup, ContextView contextView) {
+		return doResolveAndConnect(channel, config, remoteAddress, resolverGroup, contextView, null);
+	}
+
+	/**
+	 * Resolves the remote address and connects the channel.
+	 * When a connection attempt delay is configured and the remote address resolves to several addresses,
+	 * the connection attempts are raced as described in <a href="https://datatracker.ietf.org/doc/html/rfc8305">RFC 8305</a>,
+	 * in which case the emitted channel might be a channel created with {@code newChannel}.
+	 */
+	@SuppressWarnings({"unchecked", "FutureReturnValueIgnored", "try"})
+	static Mono<Channel> doResolveAndConnect(Channel channel, TransportConfig config,
+			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup, ContextView contextView,
+			@Nullable Supplier<Mono<Channel>> newChannel) {
 		try {
 			AddressResolver<SocketAddress> resolver;
 			try {
@@ -313,6 +351,8 @@ public final class TransportConnector {
 			}
 
 			Supplier<? extends SocketAddress> bindAddress = config.bindAddress();
+			Duration attemptDelay = newChannel != null && config instanceof ClientTransportConfig ?
+					((ClientTransportConfig<?>) config).connectAttemptDelay : null;
 			if (!resolver.isSupported(remoteAddress) || resolver.isResolved(remoteAddress)) {
 				MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
 				doConnect(Collections.singletonList(remoteAddress), bindAddress, monoChannelPromise, 0);
@@ -362,6 +402,9 @@ public final class TransportConnector {
 					channel.close();
 					return Mono.error(cause);
 				}
+				else if (attemptDelay != null && resolveFuture.getNow().size() > 1) {
+					return new ConnectRace(channel, resolveFuture.getNow(), bindAddress, attemptDelay, newChannel).connect();
+				}
 				else {
 					MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
 					doConnect(resolveFuture.getNow(), bindAddress, monoChannelPromise, 0);
@@ -369,6 +412,27 @@ public final class TransportConnector {
 				}
 			}
 
+			if (attemptDelay != null) {
+				MonoChannelPromise resolved = new MonoChannelPromise(channel);
+				resolveFuture.addListener((FutureListener<List<SocketAddress>>) future -> {
+					if (future.cause() != null) {
+						resolved.tryFailure(future.cause());
+					}
+					else {
+						resolved.trySuccess();
+					}
+				});
+				return resolved.flatMap(ch -> {
+					List<SocketAddress> addresses = resolveFuture.getNow();
+					if (addresses.size() > 1) {
+						return new ConnectRace(ch, addresses, bindAddress, attemptDelay, newChannel).connect();
+					}
+					MonoChannelPromise monoChannelPromise = new MonoChannelPromise(ch);
+					doConnect(addresses, bindAddress, monoChannelPromise, 0);
+					return monoChannelPromise;
+				});
+			}
+
 			MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
 			resolveFuture.addListener((FutureListener<List<SocketAddress>>) future -> {
 				if (future.cause() != null) {
@@ -385,6 +449,198 @@ public final class TransportConnector {
 		}
 	}
 
+	/**
+	 * Races the connection attempts to the resolved addresses as described in
+	 * <a href="https://datatracker.ietf.org/doc/html/rfc8305">RFC 8305</a> (Happy Eyeballs).
+	 * The addresses are interleaved by address family, a new attempt starts when the previous attempt fails
+	 * or when the connection attempt delay expires, whichever comes first. The first established connection
+	 * wins, the other attempts are cancelled.
+	 * All channels are registered with the same event loop, the state is accessed only from this event loop.
+	 */
+	static final class ConnectRace {
+
+		final Channel first;
+		final List<SocketAddress> addresses;
+		final Supplier<? extends SocketAddress> bindAddress;
+		final long attemptDelayNanos;
+		final Supplier<Mono<Channel>> newChannel;
+		final EventLoop eventLoop;
+		final List<Channel> channels = new ArrayList<>();
+
+		MonoSink<Channel> sink;
+		ScheduledFuture<?> nextAttemptTask;
+		Channel winner;
+		boolean done;
+		int failed;
+		int next;
+
+		ConnectRace(Channel first, List<SocketAddress> addresses, @Nullable Supplier<? extends SocketAddress> bindAddress,
+				Duration attemptDelay, Supplier<Mono<Channel>> newChannel) {
+			this.first = first;
+			this.addresses = interleaveAddressFamilies(addresses);
+			this.bindAddress = bindAddress;
+			this.attemptDelayNanos = attemptDelay.toNanos();
+			this.newChannel = newChannel;
+			this.eventLoop = first.eventLoop();
+		}
+
+		Mono<Channel> connect() {
+			return Mono.create(sink -> {
+				this.sink = sink;
+				sink.onCancel(() -> eventLoop.execute(this::cancel));
+				eventLoop.execute(() -> attempt(first, next++));
+			});
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void attempt(Channel channel, int index) {
+			if (done) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				return;
+			}
+
+			channels.add(channel);
+			SocketAddress remoteAddress = addresses.get(index);
+			if (log.isDebugEnabled()) {
+				log.debug(format(channel, "Connecting to [" + remoteAddress + "]."));
+			}
+
+			ChannelFuture f;
+			if (bindAddress == null) {
+				f = channel.connect(remoteAddress);
+			}
+			else {
+				SocketAddress local = Objects.requireNonNull(bindAddress.get(), "bindAddress");
+				f = channel.connect(remoteAddress, local);
+			}
+
+			f.addListener(future -> {
+				if (future.isSuccess()) {
+					onSuccess(channel);
+				}
+				else {
+					if (log.isDebugEnabled()) {
+						log.debug(format(channel, "Connect attempt to [" + remoteAddress + "] failed."), future.cause());
+					}
+					onFailure(channel, future.cause());
+				}
+			});
+
+			if (next < addresses.size() && !done) {
+				if (nextAttemptTask != null) {
+					nextAttemptTask.cancel(false);
+				}
+				nextAttemptTask = eventLoop.schedule(this::nextAttempt, attemptDelayNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		void nextAttempt() {
+			if (nextAttemptTask != null) {
+				nextAttemptTask.cancel(false);
+				nextAttemptTask = null;
+			}
+			if (done || next >= addresses.size()) {
+				return;
+			}
+
+			int index = next++;
+			newChannel.get()
+			          .subscribe(channel -> attempt(channel, index), t -> onFailure(null, t));
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onFailure(@Nullable Channel channel, Throwable cause) {
+			if (channel != null) {
+				channels.remove(channel);
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+			}
+			if (done) {
+				return;
+			}
+
+			if (++failed == addresses.size()) {
+				done = true;
+				sink.error(cause);
+			}
+			else {
+				// Do not wait for the delay when the previous attempt failed
+				nextAttempt();
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onSuccess(Channel channel) {
+			if (done) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				return;
+			}
+
+			done = true;
+			winner = channel;
+			channels.remove(channel);
+			closeAttempts();
+			sink.success(channel);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void cancel() {
+			done = true;
+			closeAttempts();
+			if (winner != null) {
+				// Same as MonoChannelPromise#cancel
+				// "FutureReturnValueIgnored" this is deliberate
+				winner.close();
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void closeAttempts() {
+			if (nextAttemptTask != null) {
+				nextAttemptTask.cancel(false);
+				nextAttemptTask = null;
+			}
+			for (Channel channel : channels) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+			}
+			channels.clear();
+		}
+
+		/**
+		 * Reorders the addresses so that the address families alternate, starting with the family of the
+		 * first address, the order within a family is preserved.
+		 */
+		static List<SocketAddress> interleaveAddressFamilies(List<SocketAddress> addresses) {
+			boolean firstIsIPv6 = isIPv6(addresses.get(0));
+			List<SocketAddress> preferred = new ArrayList<>(addresses.size());
+			List<SocketAddress> others = new ArrayList<>(addresses.size());
+			for (SocketAddress address : addresses) {
+				(isIPv6(address) == firstIsIPv6 ? preferred : others).add(address);
+			}
+			if (others.isEmpty()) {
+				return addresses;
+			}
+
+			List<SocketAddress> result = new ArrayList<>(addresses.size());
+			for (int i = 0; i < preferred.size() || i < others.size(); i++) {
+				if (i < preferred.size()) {
+					result.add(preferred.get(i));
+				}
+				if (i < others.size()) {
+					result.add(others.get(i));
+				}
+			}
+			return result;
+		}
+
+		static boolean isIPv6(SocketAddress address) {
+			return address instanceof InetSocketAddress && ((InetSocketAddress) address).getAddress() instanceof Inet6Address;
+		}
+	}
+
 	static final class MonoChannelPromise extends Mono<Channel> implements ChannelPromise, Subscription {
 
 		final Channel channel;
@@ -15,15 +15,25 @@
  */
 package reactor.netty.channel;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
 import reactor.test.subscriber.TestSubscriber;
 import reactor.test.util.RaceTestUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class FluxReceiveTest {
 
 	@Test
@@ -39,4 +49,44 @@ public class FluxReceiveTest {
 			subscriber.block(Duration.ofSeconds(5));
 		}
 	}
+
+	@Test
+	void receiveObjectBatches() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		ChannelOperations.addReactiveBridge(channel, ChannelOperations.OnSetup.empty(), ConnectionObserver.emptyListener());
+		ChannelOperations<NettyInbound, NettyOutbound> operations =
+				new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+		operations.bind();
+
+		TestSubscriber<List<String>> subscriber = TestSubscriber.<List<String>>builder().initialRequest(1).build();
+		operations.receiveObjectBatches()
+		          .map(batch -> batch.stream()
+		                             .map(o -> ((ByteBuf) o).toString(StandardCharsets.UTF_8))
+		                             .collect(Collectors.toList()))
+		          .subscribe(subscriber);
+
+		ByteBuf[] buffers = new ByteBuf[6];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = Unpooled.copiedBuffer(String.valueOf(i), StandardCharsets.UTF_8);
+		}
+
+		// One read cycle, one batch
+		channel.writeInbound(buffers[0], buffers[1], buffers[2]);
+		assertThat(subscriber.getReceivedOnNext()).containsExactly(Arrays.asList("0", "1", "2"));
+
+		// No demand, the next read cycles are delivered together once requested
+		channel.writeInbound(buffers[3]);
+		channel.writeInbound(buffers[4], buffers[5]);
+		assertThat(subscriber.getReceivedOnNext()).hasSize(1);
+		assertThat(channel.config().isAutoRead()).isFalse();
+
+		subscriber.request(1);
+		assertThat(subscriber.getReceivedOnNext()).containsExactly(
+				Arrays.asList("0", "1", "2"), Arrays.asList("3", "4", "5"));
+		assertThat(buffers).allMatch(buffer -> buffer.refCnt() == 0);
+
+		operations.onInboundComplete();
+		assertThat(subscriber.isTerminatedComplete()).isTrue();
+		channel.finishAndReleaseAll();
+	}
 }
@@ -15,13 +15,21 @@
  */
 package reactor.netty.channel;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import reactor.netty.transport.AddressUtils;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static reactor.netty.Metrics.CONNECT_TIME;
+import static reactor.netty.Metrics.REMOTE_ADDRESS;
+import static reactor.netty.Metrics.STATUS;
 
 class MicrometerChannelMetricsRecorderTests {
 	static final InetSocketAddress ADDRESS_1 = AddressUtils.createUnresolved("127.0.0.1", 80);
@@ -37,4 +45,72 @@ class MicrometerChannelMetricsRecorderTests {
 
 		assertThat(longAdder1).isNotSameAs(longAdder2);
 	}
+
+	@Test
+	void testMetersAreCachedPerAddressAndStatus() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		try {
+			MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test.cache", "test");
+
+			recorder.recordConnectTime(ADDRESS_1, Duration.ofMillis(1), "SUCCESS");
+			recorder.recordConnectTime(ADDRESS_1, Duration.ofMillis(1), "SUCCESS");
+			recorder.recordConnectTime(ADDRESS_1, Duration.ofMillis(1), "ERROR");
+			recorder.recordConnectTime(AddressUtils.createUnresolved("127.0.0.1", 80), Duration.ofMillis(1), "SUCCESS");
+
+			Timer success = registry.find("test.cache" + CONNECT_TIME).tags(REMOTE_ADDRESS, "127.0.0.1:80", STATUS, "SUCCESS").timer();
+			Timer error = registry.find("test.cache" + CONNECT_TIME).tags(REMOTE_ADDRESS, "127.0.0.1:80", STATUS, "ERROR").timer();
+			assertThat(success).isNotNull();
+			assertThat(success.count()).isEqualTo(3);
+			assertThat(error).isNotNull();
+			assertThat(error.count()).isEqualTo(1);
+
+			Timer cachedSuccess = recorder.connectTimers.get(ADDRESS_1, "SUCCESS");
+			assertThat(cachedSuccess).isNotNull();
+			assertThat(cachedSuccess.getId()).isEqualTo(success.getId());
+			Timer cachedError = recorder.connectTimers.get(ADDRESS_1, "ERROR");
+			assertThat(cachedError).isNotNull();
+			assertThat(cachedError.getId()).isEqualTo(error.getId());
+			assertThat(recorder.connectTimers.get(ADDRESS_2, "SUCCESS")).isNull();
+		}
+		finally {
+			Metrics.removeRegistry(registry);
+			registry.close();
+		}
+	}
+
+	@Test
+	void testMetersAreCachedPerHostStringAndPort() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		try {
+			MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test.host", "test");
+
+			// virtual hosts of the same IP address are equal as InetSocketAddress instances
+			byte[] ip = {127, 0, 0, 1};
+			InetSocketAddress host1 = new InetSocketAddress(InetAddress.getByAddress("host1.example", ip), 80);
+			InetSocketAddress host2 = new InetSocketAddress(InetAddress.getByAddress("host2.example", ip), 80);
+			assertThat(host1).isEqualTo(host2);
+
+			recorder.recordConnectTime(host1, Duration.ofMillis(1), "SUCCESS");
+			recorder.recordConnectTime(host2, Duration.ofMillis(1), "SUCCESS");
+
+			Timer timer1 = registry.find("test.host" + CONNECT_TIME).tags(REMOTE_ADDRESS, "host1.example:80", STATUS, "SUCCESS").timer();
+			Timer timer2 = registry.find("test.host" + CONNECT_TIME).tags(REMOTE_ADDRESS, "host2.example:80", STATUS, "SUCCESS").timer();
+			assertThat(timer1).isNotNull();
+			assertThat(timer1.count()).isEqualTo(1);
+			assertThat(timer2).isNotNull();
+			assertThat(timer2.count()).isEqualTo(1);
+
+			// the resolved and the unresolved forms of the same host and port share the same meter
+			InetSocketAddress resolved = new InetSocketAddress(InetAddress.getByAddress(ip), 80);
+			recorder.recordConnectTime(resolved, Duration.ofMillis(1), "SUCCESS");
+			assertThat(recorder.connectTimers.get(ADDRESS_1, "SUCCESS")).isNotNull();
+			assertThat(recorder.connectTimers.get(ADDRESS_1, "SUCCESS")).isSameAs(recorder.connectTimers.get(resolved, "SUCCESS"));
+		}
+		finally {
+			Metrics.removeRegistry(registry);
+			registry.close();
+		}
+	}
 }
@@ -16,6 +16,7 @@
 package reactor.netty.channel;
 
 import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
@@ -23,16 +24,20 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ReferenceCounted;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.reactivestreams.Subscription;
@@ -45,11 +50,13 @@ import reactor.core.publisher.Hooks;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Operators;
 import reactor.core.publisher.Sinks;
+import reactor.netty.FlushPolicy;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.TestPublisher;
 import reactor.test.util.RaceTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * This test class verifies {@link MonoSendMany}.
@@ -344,6 +351,96 @@ class MonoSendManyTest {
 		assertThat(cleared).isTrue();
 	}
 
+	@Test
+	void flushPolicyFlushesWhenMaxPendingMessagesReached() {
+		AtomicInteger flushes = new AtomicInteger();
+		EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes), new ChannelHandlerAdapter() {});
+
+		FlushPolicy flushPolicy = FlushPolicy.builder()
+		                                     .maxPendingMessages(4)
+		                                     .maxDelay(Duration.ofMinutes(1))
+		                                     .build();
+		Flux<String> flux = Flux.range(0, 10).map(count -> count + "");
+		Mono<Void> m = MonoSendMany.objectSource(flux, channel, o -> false, flushPolicy);
+
+		StepVerifier.create(m)
+		            .then(() -> {
+		                // 2 batches of 4 messages, the last 2 messages are flushed on completion
+		                assertThat(flushes).hasValue(2);
+		                channel.runPendingTasks();
+		            })
+		            .verifyComplete();
+
+		assertThat(flushes).hasValue(3);
+		for (int i = 0; i < 10; i++) {
+			assertThat(channel.<String>readOutbound()).isEqualTo(i + "");
+		}
+	}
+
+	@Test
+	void flushPolicyFlushesAfterMaxDelay() throws Exception {
+		AtomicInteger flushes = new AtomicInteger();
+		EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes), new ChannelHandlerAdapter() {});
+
+		FlushPolicy flushPolicy = FlushPolicy.builder()
+		                                     .maxPendingMessages(100)
+		                                     .maxDelay(Duration.ofMillis(50))
+		                                     .build();
+		Sinks.Many<String> source = Sinks.many().unicast().onBackpressureBuffer();
+		AtomicBoolean completed = new AtomicBoolean();
+		MonoSendMany.objectSource(source.asFlux(), channel, o -> false, flushPolicy)
+		            .doOnSuccess(v -> completed.set(true))
+		            .subscribe();
+
+		source.emitNext("0", Sinks.EmitFailureHandler.FAIL_FAST);
+		source.emitNext("1", Sinks.EmitFailureHandler.FAIL_FAST);
+		channel.runPendingTasks();
+
+		// Without a flush policy, the messages would be flushed as soon as no more messages are available
+		assertThat(flushes).hasValue(0);
+		assertThat(channel.<String>readOutbound()).isNull();
+
+		Thread.sleep(100);
+		channel.runPendingTasks();
+
+		assertThat(flushes).hasValue(1);
+		assertThat(channel.<String>readOutbound()).isEqualTo("0");
+		assertThat(channel.<String>readOutbound()).isEqualTo("1");
+
+		source.emitNext("2", Sinks.EmitFailureHandler.FAIL_FAST);
+		source.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+		channel.runPendingTasks();
+
+		assertThat(flushes).hasValue(2);
+		assertThat(channel.<String>readOutbound()).isEqualTo("2");
+		assertThat(completed).isTrue();
+	}
+
+	@Test
+	void flushPolicyBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.builder().maxDelay(Duration.ofMillis(-1)));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.builder().maxPendingBytes(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.builder().maxPendingMessages(0));
+	}
+
+	static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+		final AtomicInteger flushes;
+
+		FlushCounter(AtomicInteger flushes) {
+			this.flushes = flushes;
+		}
+
+		@Override
+		public void flush(ChannelHandlerContext ctx) {
+			flushes.incrementAndGet();
+			ctx.flush();
+		}
+	}
+
 	static void wait(WeakReference<Subscription> ref) {
 		int duration = 5_000;
 		int spins = duration / 100;
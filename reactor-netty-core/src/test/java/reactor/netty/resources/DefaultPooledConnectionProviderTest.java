@@ -16,10 +16,12 @@
 package reactor.netty.resources;
 
 import java.net.ConnectException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,13 +41,17 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.resolver.AbstractAddressResolver;
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import io.netty.util.NetUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -474,6 +480,324 @@ class DefaultPooledConnectionProviderTest {
 		}
 	}
 
+	@Test
+	void eventLoopAffinity() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(2);
+		EventLoop loop1 = group.next();
+		EventLoop loop2 = group.next();
+		assertThat(loop1).isNotSameAs(loop2);
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .wiretap(true)
+				         .bindNow();
+
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("eventLoopAffinity")
+				                                                    .maxConnections(4)
+				                                                    .eventLoopAffinity(true)
+				                                                    .build();
+		try (AddressResolverGroup<?> resolver =
+				NameResolverProvider.builder().build().newNameResolverGroup(TcpResources.get(), true)) {
+			InetSocketAddress address = AddressUtils.createUnresolved("localhost", disposableServer.port());
+			Supplier<? extends SocketAddress> remoteAddress = () -> address;
+			ClientTransportConfigImpl config =
+					new ClientTransportConfigImpl(group, provider, Collections.emptyMap(), remoteAddress, resolver);
+
+			PooledConnection c1 = acquire(provider, config, remoteAddress, loop1);
+			PooledConnection c2 = acquire(provider, config, remoteAddress, loop2);
+
+			// every event loop has its own pool and the connections are registered on the caller's event loop
+			assertThat(provider.channelPools).hasSize(2);
+			assertThat(provider.channelPools.keySet()).extracting(key -> key.eventLoop).containsExactlyInAnyOrder(loop1, loop2);
+			assertThat(c1.channel().eventLoop()).isSameAs(loop1);
+			assertThat(c2.channel().eventLoop()).isSameAs(loop2);
+			assertThat(c1.pool.config().allocationStrategy().permitMaximum()).isEqualTo(2);
+
+			c1.onStateChange(c1, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c1.pool.metrics().idleSize()).isEqualTo(1));
+
+			// the pool of the second event loop has no idle connection, the idle connection of the first event loop is used
+			PooledConnection c3 = acquire(provider, config, remoteAddress, loop2);
+			assertThat(c3.channel()).isSameAs(c1.channel());
+			assertThat(c3.pool).isSameAs(c1.pool);
+			assertThat(provider.channelPools.values()).extracting(pool -> pool.metrics().allocatedSize()).containsExactly(1, 1);
+
+			c3.onStateChange(c3, ConnectionObserver.State.DISCONNECTING);
+			c2.onStateChange(c2, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c2.pool.metrics().idleSize()).isEqualTo(1));
+
+			// the idle connection of the caller's event loop is preferred
+			PooledConnection c4 = acquire(provider, config, remoteAddress, loop2);
+			assertThat(c4.channel()).isSameAs(c2.channel());
+
+			c4.onStateChange(c4, ConnectionObserver.State.DISCONNECTING);
+		}
+		finally {
+			disposableServer.disposeNow();
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void eventLoopAffinityMinConnections() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(3);
+		try {
+			ConnectionProvider.Builder builder =
+					ConnectionProvider.builder("eventLoopAffinityMinConnections")
+					                  .maxConnections(8)
+					                  .minConnections(4)
+					                  .eventLoopAffinity(true);
+			PooledConnectionProvider.PoolFactory<PooledConnection> poolFactory =
+					new PooledConnectionProvider.PoolFactory<>(builder, builder.disposeTimeout);
+
+			// the minimum connections are distributed between the partitions, the maximum connections are rounded up
+			List<Integer> minConnections = new ArrayList<>();
+			for (EventExecutor executor : group) {
+				PooledConnectionProvider.PoolFactory<PooledConnection> partition = poolFactory.partition(group, (EventLoop) executor);
+				minConnections.add(partition.minConnections);
+				assertThat(partition.maxConnections).isEqualTo(3);
+			}
+			assertThat(minConnections).containsExactly(2, 1, 1);
+		}
+		finally {
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void rebalanceOnDnsChange() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(1);
+		EventLoop loop = group.next();
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .host("0.0.0.0")
+				         .port(0)
+				         .wiretap(true)
+				         .bindNow();
+
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("rebalanceOnDnsChange")
+				                                                    .maxConnections(4)
+				                                                    .rebalanceOnDnsChange(Duration.ZERO)
+				                                                    .build();
+		InetAddress ip1 = InetAddress.getByName("127.0.0.1");
+		InetAddress ip2 = InetAddress.getByName("127.0.0.2");
+		InetAddress ip3 = InetAddress.getByName("127.0.0.3");
+		AtomicReference<List<InetAddress>> answer = new AtomicReference<>(Arrays.asList(ip1, ip2));
+		AddressResolverGroup<InetSocketAddress> resolver = new AddressResolverGroup<InetSocketAddress>() {
+			@Override
+			protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+				return new AbstractAddressResolver<InetSocketAddress>(executor) {
+					@Override
+					protected boolean doIsResolved(InetSocketAddress address) {
+						return !address.isUnresolved();
+					}
+
+					@Override
+					protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+						promise.setSuccess(new InetSocketAddress(answer.get().get(0), unresolvedAddress.getPort()));
+					}
+
+					@Override
+					protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+						List<InetSocketAddress> addresses = new ArrayList<>();
+						for (InetAddress ip : answer.get()) {
+							addresses.add(new InetSocketAddress(ip, unresolvedAddress.getPort()));
+						}
+						promise.setSuccess(addresses);
+					}
+				};
+			}
+		};
+		try {
+			InetSocketAddress address = AddressUtils.createUnresolved("example.com", disposableServer.port());
+			Supplier<? extends SocketAddress> remoteAddress = () -> address;
+			ClientTransportConfigImpl config =
+					new ClientTransportConfigImpl(group, provider, Collections.emptyMap(), remoteAddress, resolver);
+
+			// The connections are spread across the resolved addresses
+			PooledConnection c1 = acquire(provider, config, remoteAddress, loop);
+			PooledConnection c2 = acquire(provider, config, remoteAddress, loop);
+			assertThat(Arrays.asList(remoteIp(c1), remoteIp(c2))).containsExactlyInAnyOrder(ip1, ip2);
+
+			c1.onStateChange(c1, ConnectionObserver.State.DISCONNECTING);
+			c2.onStateChange(c2, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c1.pool.metrics().idleSize()).isEqualTo(2));
+
+			answer.set(Arrays.asList(ip2, ip3));
+
+			// The connection to the address that is no longer resolved is retired,
+			// the new connection is opened to the new address
+			PooledConnection c3 = acquire(provider, config, remoteAddress, loop);
+			PooledConnection c4 = acquire(provider, config, remoteAddress, loop);
+			assertThat(Arrays.asList(remoteIp(c3), remoteIp(c4))).containsExactlyInAnyOrder(ip2, ip3);
+			PooledConnection retired = ip1.equals(remoteIp(c1)) ? c1 : c2;
+			await().atMost(5, TimeUnit.SECONDS)
+			       .until(() -> !retired.channel().isActive());
+
+			c3.onStateChange(c3, ConnectionObserver.State.DISCONNECTING);
+			c4.onStateChange(c4, ConnectionObserver.State.DISCONNECTING);
+		}
+		finally {
+			disposableServer.disposeNow();
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void rebalanceOnDnsChangeResolvesOnceAtATime() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(1);
+		EventLoop loop = group.next();
+
+		InetAddress ip = InetAddress.getByName("127.0.0.1");
+		AtomicInteger resolutions = new AtomicInteger();
+		AtomicReference<Promise<List<InetSocketAddress>>> pending = new AtomicReference<>();
+		AddressResolverGroup<InetSocketAddress> resolver = new AddressResolverGroup<InetSocketAddress>() {
+			@Override
+			protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+				return new AbstractAddressResolver<InetSocketAddress>(executor) {
+					@Override
+					protected boolean doIsResolved(InetSocketAddress address) {
+						return !address.isUnresolved();
+					}
+
+					@Override
+					protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+						promise.setFailure(new UnsupportedOperationException());
+					}
+
+					@Override
+					protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+						resolutions.incrementAndGet();
+						pending.set(promise);
+					}
+				};
+			}
+		};
+		try {
+			ResolvedAddressBalancer balancer =
+					new ResolvedAddressBalancer(AddressUtils.createUnresolved("example.com", 80), resolver, Duration.ZERO);
+
+			// Both selections wait for the same name resolution
+			Mono<Void> first = balancer.resolved(loop);
+			Mono<Void> second = balancer.resolved(loop);
+			assertThat(resolutions.get()).isEqualTo(1);
+
+			pending.get().setSuccess(Collections.singletonList(new InetSocketAddress(ip, 80)));
+			StepVerifier.create(first)
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(5));
+			StepVerifier.create(second)
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(5));
+
+			// The address is counted only once it is selected for a connection
+			assertThat(balancer.connections).isEmpty();
+			SocketAddress selected = balancer.select();
+			assertThat(((InetSocketAddress) selected).getAddress()).isEqualTo(ip);
+			assertThat(balancer.connections).containsEntry(ip, 1);
+			balancer.release(selected);
+			assertThat(balancer.connections).isEmpty();
+
+			// The known address is used while it is resolved again
+			StepVerifier.create(balancer.resolved(loop))
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(5));
+			StepVerifier.create(balancer.resolved(loop))
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(5));
+			assertThat(resolutions.get()).isEqualTo(2);
+			pending.get().setSuccess(Collections.singletonList(new InetSocketAddress(ip, 80)));
+		}
+		finally {
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void minConnections() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(1);
+		EventLoop loop = group.next();
+
+		AtomicInteger serverConnections = new AtomicInteger();
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .doOnConnection(c -> serverConnections.incrementAndGet())
+				         .wiretap(true)
+				         .bindNow();
+
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("minConnections")
+				                                                    .maxConnections(4)
+				                                                    .minConnections(2)
+				                                                    .evictInBackground(Duration.ofMillis(50))
+				                                                    .build();
+		try {
+			Supplier<? extends SocketAddress> remoteAddress = disposableServer::address;
+			ClientTransportConfigImpl config =
+					new ClientTransportConfigImpl(group, provider, Collections.emptyMap(), remoteAddress,
+							DefaultAddressResolverGroup.INSTANCE);
+
+			// The first acquire opens the minimum number of connections
+			PooledConnection c1 = acquire(provider, config, remoteAddress, loop);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> {
+			           assertThat(c1.pool.metrics().allocatedSize()).isEqualTo(2);
+			           assertThat(c1.pool.metrics().idleSize()).isEqualTo(1);
+			           assertThat(serverConnections.get()).isEqualTo(2);
+			       });
+
+			c1.onStateChange(c1, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c1.pool.metrics().idleSize()).isEqualTo(2));
+
+			// The closed connection is evicted in the background and replaced without any acquire
+			c1.channel().close().sync();
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> {
+			           assertThat(serverConnections.get()).isEqualTo(3);
+			           assertThat(c1.pool.metrics().allocatedSize()).isEqualTo(2);
+			           assertThat(c1.pool.metrics().idleSize()).isEqualTo(2);
+			       });
+		}
+		finally {
+			disposableServer.disposeNow();
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	static InetAddress remoteIp(PooledConnection connection) {
+		return ((InetSocketAddress) connection.channel().remoteAddress()).getAddress();
+	}
+
+	static PooledConnection acquire(DefaultPooledConnectionProvider provider, ClientTransportConfigImpl config,
+			Supplier<? extends SocketAddress> remoteAddress, EventLoop eventLoop) {
+		PooledConnection connection = (PooledConnection)
+				provider.acquire(config, ConnectionObserver.emptyListener(), remoteAddress, config.resolverInternal())
+				        .contextWrite(ctx -> ctx.put(PooledConnectionProvider.CONTEXT_CALLER_EVENTLOOP, eventLoop))
+				        .block(Duration.ofSeconds(5));
+		assertThat(connection).isNotNull();
+		return connection;
+	}
+
 	@Test
 	void testIssue1790FIFOPool() {
 		doTestIssue1790(true);
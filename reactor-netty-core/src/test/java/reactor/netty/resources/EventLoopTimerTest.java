@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventLoopTimerTest {
+
+	private EventLoopGroup group;
+
+	@BeforeEach
+	void setUp() {
+		group = new DefaultEventLoopGroup(1);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		group.shutdownGracefully(0, 5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void timerPerEventLoop() {
+		EventLoop loop = group.next();
+		Timer timer = EventLoopTimer.get(loop);
+		assertThat(timer).isInstanceOf(EventLoopTimer.class);
+		assertThat(EventLoopTimer.get(loop)).isSameAs(timer);
+		// The timer is shared, stopping it does not cancel the timeouts of the other connections
+		Timeout timeout = timer.newTimeout(t -> { }, 1, TimeUnit.MINUTES);
+		assertThat(timer.stop()).isEmpty();
+		assertThat(timeout.isCancelled()).isFalse();
+		timeout.cancel();
+
+		EmbeddedChannel channel = new EmbeddedChannel();
+		assertThat(EventLoopTimer.get(channel.eventLoop())).isInstanceOf(EventLoopTimer.ExecutorTimer.class);
+	}
+
+	@Test
+	void timeoutExpiresOnEventLoop() throws Exception {
+		EventLoop loop = group.next();
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicBoolean inEventLoop = new AtomicBoolean();
+		AtomicLong elapsed = new AtomicLong();
+		long start = System.nanoTime();
+
+		Timeout timeout = EventLoopTimer.get(loop).newTimeout(t -> {
+			elapsed.set(System.nanoTime() - start);
+			inEventLoop.set(loop.inEventLoop());
+			latch.countDown();
+		}, 50, TimeUnit.MILLISECONDS);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(timeout.isExpired()).isTrue();
+		assertThat(inEventLoop.get()).isTrue();
+		assertThat(elapsed.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(loop.submit(() -> ((EventLoopTimer) EventLoopTimer.get(loop)).pending).get(5, TimeUnit.SECONDS))
+				.isZero();
+	}
+
+	@Test
+	void timeoutLongerThanWheelRound() throws Exception {
+		EventLoop loop = group.next();
+		CountDownLatch latch = new CountDownLatch(1);
+		long delay = EventLoopTimer.TICK_NANOS * EventLoopTimer.WHEEL_SIZE + TimeUnit.MILLISECONDS.toNanos(100);
+		long start = System.nanoTime();
+
+		EventLoopTimer.get(loop).newTimeout(t -> latch.countDown(), delay, TimeUnit.NANOSECONDS);
+
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(delay);
+	}
+
+	@Test
+	void cancelledTimeoutDoesNotExpire() throws Exception {
+		EventLoop loop = group.next();
+		EventLoopTimer timer = (EventLoopTimer) EventLoopTimer.get(loop);
+		AtomicBoolean expired = new AtomicBoolean();
+
+		Timeout fromLoop = loop.submit(() -> timer.newTimeout(t -> expired.set(true), 20, TimeUnit.MILLISECONDS))
+		                       .get(5, TimeUnit.SECONDS);
+		assertThat(loop.submit(() -> {
+			boolean cancelled = fromLoop.cancel();
+			return cancelled && timer.pending == 0;
+		}).get(5, TimeUnit.SECONDS)).isTrue();
+
+		Timeout fromOtherThread = timer.newTimeout(t -> expired.set(true), 20, TimeUnit.MILLISECONDS);
+		assertThat(fromOtherThread.cancel()).isTrue();
+		assertThat(fromOtherThread.isCancelled()).isTrue();
+		assertThat(fromOtherThread.cancel()).isFalse();
+
+		CountDownLatch latch = new CountDownLatch(1);
+		timer.newTimeout(t -> latch.countDown(), 50, TimeUnit.MILLISECONDS);
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(expired.get()).isFalse();
+		assertThat(loop.submit(() -> timer.pending == 0 && timer.ticker == null).get(5, TimeUnit.SECONDS)).isTrue();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class EventLoopLoadSheddingTest {
+
+	private EventLoopGroup group;
+
+	@BeforeEach
+	void setUp() {
+		group = new DefaultEventLoopGroup(1);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		group.shutdownGracefully(0, 5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void buildBadValues() {
+		EventLoopLoadShedding.Builder builder = EventLoopLoadShedding.builder();
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxLag(Duration.ZERO))
+				.withMessage("maxLag must be strictly positive");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxPendingTasks(0))
+				.withMessage("maxPendingTasks must be strictly positive");
+
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.probeInterval(null));
+	}
+
+	@Test
+	void overloadedWhileEventLoopIsBusy() throws Exception {
+		EventLoopLoadShedding loadShedding =
+				EventLoopLoadShedding.builder()
+				                     .maxLag(Duration.ofMillis(50))
+				                     .probeInterval(Duration.ofMillis(10))
+				                     .build();
+		EventLoop loop = group.next();
+		assertThat(loadShedding.isOverloaded(loop)).isFalse();
+
+		loadShedding.start(group);
+		loadShedding.start(group);
+		assertThat(loadShedding.isOverloaded(loop)).isFalse();
+
+		CountDownLatch busy = new CountDownLatch(1);
+		loop.execute(() -> {
+			busy.countDown();
+			long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+			long spins = 0;
+			while (System.nanoTime() < end) {
+				spins++;
+			}
+			assertThat(spins).isPositive();
+		});
+		assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Thread.sleep(150);
+		assertThat(loadShedding.isOverloaded(loop)).isTrue();
+
+		Thread.sleep(400);
+		assertThat(loadShedding.isOverloaded(loop)).isFalse();
+		assertThat(loadShedding.lag(loop)).isLessThan(Duration.ofMillis(50));
+
+		loadShedding.stop(group);
+		assertThat(loadShedding.probes).containsKey(loop);
+
+		loadShedding.stop(group);
+		assertThat(loadShedding.probes).isEmpty();
+	}
+}
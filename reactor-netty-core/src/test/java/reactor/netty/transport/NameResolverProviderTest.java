@@ -123,6 +123,33 @@ class NameResolverProviderTest {
 				.isThrownBy(() -> builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE));
 	}
 
+	@Test
+	void cacheRefreshAhead() {
+		assertThat(builder.build().cacheRefreshAhead()).isNull();
+		assertThat(builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE))
+				.isNotInstanceOf(RefreshAheadDnsAddressResolverGroup.class);
+
+		Duration maxStaleness = Duration.ofSeconds(5);
+		builder.cacheRefreshAhead(maxStaleness);
+		assertThat(builder.build().cacheRefreshAhead()).isEqualTo(maxStaleness);
+		assertThat(builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE))
+				.isInstanceOf(RefreshAheadDnsAddressResolverGroup.class);
+
+		// A custom resolve cache takes precedence
+		builder.resolveCache(new TestDnsCache());
+		assertThat(builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE))
+				.isNotInstanceOf(RefreshAheadDnsAddressResolverGroup.class);
+	}
+
+	@Test
+	void cacheRefreshAheadBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.cacheRefreshAhead(null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.cacheRefreshAhead(Duration.ofSeconds(-1)));
+	}
+
 	@Test
 	void completeOncePreferredResolved() {
 		assertThat(builder.build().isCompleteOncePreferredResolved()).isTrue();
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.channel.MicrometerChannelMetricsRecorder;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_HITS;
+import static reactor.netty.Metrics.NAME;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * This test class verifies {@link RefreshAheadDnsCache}.
+ */
+class RefreshAheadDnsCacheTest {
+
+	static final DnsRecord[] EMPTY_ADDITIONALS = new DnsRecord[0];
+	static final String HOSTNAME = "example.com";
+
+	final AtomicLong clock = new AtomicLong();
+
+	EventLoop loop;
+	RefreshAheadDnsCache cache;
+	TestResolverGroup resolverGroup;
+
+	@BeforeEach
+	void setUp() {
+		loop = new DefaultEventLoop();
+		cache = new RefreshAheadDnsCache(0, 60, 0, Duration.ofSeconds(5), clock::get);
+		resolverGroup = new TestResolverGroup(cache);
+		cache.resolverGroup(resolverGroup);
+	}
+
+	@AfterEach
+	void tearDown() {
+		resolverGroup.close();
+		loop.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void refreshAheadBeforeExpiration() throws Exception {
+		cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 10, loop);
+
+		assertThat(addresses()).containsExactly(address(1));
+		assertThat(cache.refreshes.sum()).isEqualTo(0);
+
+		// During the last 20% of the time to live, the cached addresses are served and refreshed in the background
+		clock.set(TimeUnit.SECONDS.toNanos(9));
+		resolverGroup.next.set(2);
+		assertThat(addresses()).containsExactly(address(1));
+		await().atMost(Duration.ofSeconds(5))
+		       .untilAsserted(() -> assertThat(addresses()).containsExactly(address(2)));
+
+		assertThat(cache.refreshes.sum()).isEqualTo(1);
+		assertThat(cache.misses.sum()).isEqualTo(0);
+		assertThat(cache.staleHits.sum()).isEqualTo(0);
+		assertThat(resolverGroup.queries.get()).isEqualTo(1);
+	}
+
+	@Test
+	void serveStaleWhileRevalidate() throws Exception {
+		cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 10, loop);
+
+		// Expired but still within the staleness window
+		clock.set(TimeUnit.SECONDS.toNanos(12));
+		resolverGroup.next.set(2);
+		assertThat(addresses()).containsExactly(address(1));
+		await().atMost(Duration.ofSeconds(5))
+		       .untilAsserted(() -> assertThat(addresses()).containsExactly(address(2)));
+
+		assertThat(cache.staleHits.sum()).isGreaterThanOrEqualTo(1);
+		assertThat(cache.refreshes.sum()).isEqualTo(1);
+
+		// Beyond the staleness window, the entry is removed
+		clock.set(TimeUnit.SECONDS.toNanos(100));
+		assertThat(cache.get(HOSTNAME, EMPTY_ADDITIONALS)).isNull();
+		assertThat(cache.misses.sum()).isEqualTo(1);
+	}
+
+	@Test
+	void refreshFailureServesStaleUntilTheEndOfTheStalenessWindow() throws Exception {
+		cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 10, loop);
+
+		clock.set(TimeUnit.SECONDS.toNanos(11));
+		resolverGroup.fail = true;
+		assertThat(addresses()).containsExactly(address(1));
+		await().atMost(Duration.ofSeconds(5))
+		       .until(() -> cache.resolveCache.get(HOSTNAME).state == RefreshAheadDnsCache.Entries.REFRESH_FAILED);
+
+		// No other refresh is attempted for the failed entry
+		assertThat(addresses()).containsExactly(address(1));
+		assertThat(cache.refreshes.sum()).isEqualTo(1);
+
+		clock.set(TimeUnit.SECONDS.toNanos(16));
+		assertThat(cache.get(HOSTNAME, EMPTY_ADDITIONALS)).isNull();
+	}
+
+	@Test
+	void expiredEntryIsRemovedWithoutLookup() throws Exception {
+		cache = new RefreshAheadDnsCache(0, 60, 0, Duration.ZERO, clock::get);
+		cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 1, loop);
+
+		assertThat(cache.resolveCache).containsKey(HOSTNAME);
+		await().atMost(Duration.ofSeconds(5))
+		       .until(() -> cache.resolveCache.isEmpty());
+	}
+
+	@Test
+	void noCacheWhenMaxTimeToLiveIsZero() throws Exception {
+		cache = new RefreshAheadDnsCache(0, 0, 0, Duration.ofSeconds(5), clock::get);
+		cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 10, loop);
+
+		assertThat(cache.get(HOSTNAME, EMPTY_ADDITIONALS)).isNull();
+	}
+
+	@Test
+	void cacheMetersPerResolverGroup() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		RefreshAheadDnsCache otherCache = new RefreshAheadDnsCache(0, 60, 0, Duration.ofSeconds(5), clock::get);
+		TestResolverGroup otherResolverGroup = new TestResolverGroup(otherCache);
+		try {
+			// The group of a custom dnsAddressResolverGroupProvider is not a RefreshAheadDnsAddressResolverGroup
+			otherCache.resolverGroup(otherResolverGroup);
+			assertThat(RefreshAheadDnsCache.of(resolverGroup)).isSameAs(cache);
+			assertThat(RefreshAheadDnsCache.of(otherResolverGroup)).isSameAs(otherCache);
+
+			MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test.refresh.ahead", "tcp");
+			new MicrometerAddressResolverGroupMetrics<>(resolverGroup, recorder);
+			new MicrometerAddressResolverGroupMetrics<>(otherResolverGroup, recorder);
+
+			cache.cache(HOSTNAME, EMPTY_ADDITIONALS, address(1), 10, loop);
+			addresses();
+
+			FunctionCounter hits = registry.find("test.refresh.ahead" + ADDRESS_RESOLVER_CACHE_HITS)
+			                               .tag(NAME, cache.name)
+			                               .functionCounter();
+			FunctionCounter otherHits = registry.find("test.refresh.ahead" + ADDRESS_RESOLVER_CACHE_HITS)
+			                                    .tag(NAME, otherCache.name)
+			                                    .functionCounter();
+			assertThat(hits).isNotNull();
+			assertThat(otherHits).isNotNull();
+			assertThat(hits.count()).isEqualTo(1);
+			assertThat(otherHits.count()).isEqualTo(0);
+
+			// The meters are removed when the cache is closed
+			cache.close();
+			assertThat(registry.find("test.refresh.ahead" + ADDRESS_RESOLVER_CACHE_HITS).tag(NAME, cache.name).meter()).isNull();
+			assertThat(registry.find("test.refresh.ahead" + ADDRESS_RESOLVER_CACHE_HITS).tag(NAME, otherCache.name).meter()).isNotNull();
+		}
+		finally {
+			otherResolverGroup.close();
+			Metrics.removeRegistry(registry);
+			registry.clear();
+		}
+	}
+
+	List<InetAddress> addresses() {
+		List<? extends DnsCacheEntry> entries = cache.get(HOSTNAME, EMPTY_ADDITIONALS);
+		assertThat(entries).isNotNull();
+		List<InetAddress> addresses = new ArrayList<>(entries.size());
+		for (DnsCacheEntry entry : entries) {
+			addresses.add(entry.address());
+		}
+		return addresses;
+	}
+
+	static InetAddress address(int i) throws UnknownHostException {
+		return InetAddress.getByAddress(HOSTNAME, new byte[] {10, 0, 0, (byte) i});
+	}
+
+	/**
+	 * Mimics the lookups of {@code DnsNameResolver}, the cache is checked first and the result of the query
+	 * is cached.
+	 */
+	static final class TestResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+		final RefreshAheadDnsCache cache;
+		final AtomicInteger next = new AtomicInteger(1);
+		final AtomicInteger queries = new AtomicInteger();
+
+		volatile boolean fail;
+
+		TestResolverGroup(RefreshAheadDnsCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+			return new AbstractAddressResolver<InetSocketAddress>(executor) {
+
+				@Override
+				protected boolean doIsResolved(InetSocketAddress address) {
+					return !address.isUnresolved();
+				}
+
+				@Override
+				protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise)
+						throws Exception {
+					String hostname = unresolvedAddress.getHostString();
+					List<InetSocketAddress> result = new ArrayList<>();
+					List<? extends DnsCacheEntry> entries = cache.get(hostname, EMPTY_ADDITIONALS);
+					if (entries != null) {
+						for (DnsCacheEntry entry : entries) {
+							result.add(new InetSocketAddress(entry.address(), unresolvedAddress.getPort()));
+						}
+						promise.setSuccess(result);
+						return;
+					}
+
+					queries.incrementAndGet();
+					if (fail) {
+						UnknownHostException cause = new UnknownHostException(hostname);
+						cache.cache(hostname, EMPTY_ADDITIONALS, cause, (EventLoop) executor());
+						promise.setFailure(cause);
+						return;
+					}
+					InetAddress address = address(next.get());
+					cache.cache(hostname, EMPTY_ADDITIONALS, address, 10, (EventLoop) executor());
+					result.add(new InetSocketAddress(address, unresolvedAddress.getPort()));
+					promise.setSuccess(result);
+				}
+			};
+		}
+	}
+}
@@ -16,12 +16,31 @@
 package reactor.netty.transport;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
 import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
 import reactor.netty.tcp.TcpClient;
 import reactor.netty.tcp.TcpClientConfig;
+import reactor.netty.tcp.TcpServer;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +68,123 @@ class TransportConnectorTest {
 		channel1.close();
 	}
 
+	@Test
+	void connect_whenConnectAttemptDelay_thenFirstEstablishedConnectionWins() {
+		DisposableServer server = TcpServer.create()
+		                                   .host("127.0.0.1")
+		                                   .port(0)
+		                                   .bindNow();
+		try {
+			InetSocketAddress blackHole = new InetSocketAddress("10.255.255.1", server.port());
+			InetSocketAddress refused = new InetSocketAddress("127.0.0.1", 1);
+			InetSocketAddress live = new InetSocketAddress("127.0.0.1", server.port());
+
+			AtomicReference<Channel> blackHoleChannel = new AtomicReference<>();
+			Connection connection =
+					TcpClient.create()
+					         .resolver(new StaticAddressResolverGroup(Arrays.asList(blackHole, refused, live)))
+					         .host("example.com")
+					         .port(server.port())
+					         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 30_000)
+					         .connectAttemptDelay(Duration.ofMillis(100))
+					         .doOnChannelInit((observer, channel, remoteAddress) ->
+					                 channel.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+					                     @Override
+					                     public void connect(ChannelHandlerContext ctx, SocketAddress remote,
+					                             SocketAddress local, ChannelPromise promise) {
+					                         if (blackHole.equals(remote)) {
+					                             // Never completes, as with a black-holed address
+					                             blackHoleChannel.set(ctx.channel());
+					                         }
+					                         else {
+					                             ctx.connect(remote, local, promise);
+					                         }
+					                     }
+					                 }))
+					         .connectNow(Duration.ofSeconds(10));
+			try {
+				assertThat(connection.channel().remoteAddress()).isEqualTo(live);
+				assertThat(blackHoleChannel.get()).isNotNull();
+				assertThat(blackHoleChannel.get().closeFuture().awaitUninterruptibly(5, TimeUnit.SECONDS)).isTrue();
+			}
+			finally {
+				connection.disposeNow();
+			}
+		}
+		finally {
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	void connect_whenConnectAttemptDelayAndAllAttemptsFail_thenError() {
+		InetSocketAddress refused1 = new InetSocketAddress("127.0.0.1", 1);
+		InetSocketAddress refused2 = new InetSocketAddress("127.0.0.1", 2);
+
+		assertThatThrownBy(() ->
+				TcpClient.create()
+				         .resolver(new StaticAddressResolverGroup(Arrays.asList(refused1, refused2)))
+				         .host("example.com")
+				         .port(1)
+				         .connectAttemptDelay(Duration.ofMillis(100))
+				         .connectNow(Duration.ofSeconds(10)))
+				.hasMessageContaining("Connection refused");
+	}
+
+	@Test
+	void interleaveAddressFamilies() throws Exception {
+		InetSocketAddress v6a = new InetSocketAddress(InetAddress.getByName("::1"), 80);
+		InetSocketAddress v6b = new InetSocketAddress(InetAddress.getByName("::2"), 80);
+		InetSocketAddress v6c = new InetSocketAddress(InetAddress.getByName("::3"), 80);
+		InetSocketAddress v4a = new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 80);
+		InetSocketAddress v4b = new InetSocketAddress(InetAddress.getByName("127.0.0.2"), 80);
+
+		assertThat(TransportConnector.ConnectRace.interleaveAddressFamilies(Arrays.asList(v6a, v6b, v6c, v4a, v4b)))
+				.containsExactly(v6a, v4a, v6b, v4b, v6c);
+		assertThat(TransportConnector.ConnectRace.interleaveAddressFamilies(Arrays.asList(v4a, v4b, v6a)))
+				.containsExactly(v4a, v6a, v4b);
+		assertThat(TransportConnector.ConnectRace.interleaveAddressFamilies(Arrays.asList(v4a, v4b)))
+				.containsExactly(v4a, v4b);
+	}
+
+	@Test
+	void connectAttemptDelayBadValues() {
+		assertThatThrownBy(() -> TcpClient.create().connectAttemptDelay(Duration.ofMillis(-1)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(TcpClient.create().connectAttemptDelay(Duration.ofMillis(250)).configuration().connectAttemptDelay())
+				.isEqualTo(Duration.ofMillis(250));
+	}
+
+	static final class StaticAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+		final List<InetSocketAddress> addresses;
+
+		StaticAddressResolverGroup(List<InetSocketAddress> addresses) {
+			this.addresses = addresses;
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+			return new AbstractAddressResolver<InetSocketAddress>(executor) {
+
+				@Override
+				protected boolean doIsResolved(InetSocketAddress address) {
+					return !address.isUnresolved();
+				}
+
+				@Override
+				protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+					promise.setSuccess(addresses.get(0));
+				}
+
+				@Override
+				protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+					promise.setSuccess(addresses);
+				}
+			};
+		}
+	}
+
 	private static class RecordingChannelInitializer extends ChannelInitializer<Channel> {
 		Channel channel;
 		@Override
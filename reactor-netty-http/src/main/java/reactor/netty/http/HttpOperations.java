@@ -46,6 +46,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.FlushPolicy;
 import reactor.netty.FutureMono;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
@@ -519,11 +520,21 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 			return parent.send(dataStream, predicate);
 		}
 
+		@Override
+		public NettyOutbound send(Publisher<? extends ByteBuf> dataStream, FlushPolicy flushPolicy) {
+			return parent.send(dataStream, flushPolicy);
+		}
+
 		@Override
 		public NettyOutbound sendObject(Publisher<?> dataStream, Predicate<Object> predicate) {
 			return parent.sendObject(dataStream, predicate);
 		}
 
+		@Override
+		public NettyOutbound sendObject(Publisher<?> dataStream, FlushPolicy flushPolicy) {
+			return parent.sendObject(dataStream, flushPolicy);
+		}
+
 		@Override
 		public NettyOutbound sendObject(Object message) {
 			return parent.sendObject(message);
@@ -22,7 +22,7 @@ import reactor.netty.Metrics;
 import reactor.netty.channel.ChannelMeters;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.channel.MicrometerChannelMetricsRecorder;
-import reactor.netty.internal.util.MapUtils;
+import reactor.netty.internal.util.MeterCache;
 
 import java.net.SocketAddress;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,11 +48,11 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 
 	protected final ConcurrentMap<MeterKey, Timer> responseTimeCache = new ConcurrentHashMap<>();
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
+	private final MeterCache<DistributionSummary> dataReceivedCache = new MeterCache<>();
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
+	private final MeterCache<DistributionSummary> dataSentCache = new MeterCache<>();
 
-	private final ConcurrentMap<MeterKey, Counter> errorsCache = new ConcurrentHashMap<>();
+	private final MeterCache<Counter> errorsCache = new MeterCache<>();
 
 	protected MicrometerHttpMetricsRecorder(String name, String protocol) {
 		super(name, protocol);
@@ -60,13 +60,14 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
-		String address = Metrics.formatSocketAddress(remoteAddress);
-		MeterKey meterKey = new MeterKey(uri, address, null, null);
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, meterKey,
-				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
-				                                 .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
-				                                 .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataReceived = dataReceivedCache.get(remoteAddress, uri);
+		if (dataReceived == null) {
+			dataReceived = dataReceivedCache.computeIfAbsent(remoteAddress, uri,
+					() -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
+					                                .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
+					                                .tags(REMOTE_ADDRESS.asString(), Metrics.formatSocketAddress(remoteAddress), URI.asString(), uri)
+					                                .register(REGISTRY)));
+		}
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
 		}
@@ -74,13 +75,14 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
-		String address = Metrics.formatSocketAddress(remoteAddress);
-		MeterKey meterKey = new MeterKey(uri, address, null, null);
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, meterKey,
-				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
-				                                 .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
-				                                 .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataSent = dataSentCache.get(remoteAddress, uri);
+		if (dataSent == null) {
+			dataSent = dataSentCache.computeIfAbsent(remoteAddress, uri,
+					() -> filter(DistributionSummary.builder(name() + DATA_SENT)
+					                                .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
+					                                .tags(REMOTE_ADDRESS.asString(), Metrics.formatSocketAddress(remoteAddress), URI.asString(), uri)
+					                                .register(REGISTRY)));
+		}
 		if (dataSent != null) {
 			dataSent.record(bytes);
 		}
@@ -88,12 +90,13 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
-		String address = Metrics.formatSocketAddress(remoteAddress);
-		MeterKey meterKey = new MeterKey(uri, address, null, null);
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, meterKey,
-				key -> filter(Counter.builder(name() + ERRORS)
-				                     .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
-				                     .register(REGISTRY)));
+		Counter errors = errorsCache.get(remoteAddress, uri);
+		if (errors == null) {
+			errors = errorsCache.computeIfAbsent(remoteAddress, uri,
+					() -> filter(Counter.builder(name() + ERRORS)
+					                    .tags(REMOTE_ADDRESS.asString(), Metrics.formatSocketAddress(remoteAddress), URI.asString(), uri)
+					                    .register(REGISTRY)));
+		}
 		if (errors != null) {
 			errors.increment();
 		}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
+import io.netty.handler.codec.http.cookie.Cookie;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.Cookies;
+import reactor.netty.http.HttpOperations;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link HttpClientResponse} whose body has already been received and which is not bound to a connection,
+ * i.e. a response served from the {@link HttpResponseCache} or replayed to coalesced requests.
+ *
+ * @since 1.2.0
+ */
+final class AggregatedHttpClientResponse implements HttpClientResponse {
+
+	static final String[] EMPTY_REDIRECTS = new String[0];
+
+	final ContextView contextView;
+	final Cookies cookies;
+	final String path;
+	final String[] redirectedFrom;
+	final HttpHeaders requestHeaders;
+	final String resourceUrl;
+	final HttpHeaders responseHeaders;
+	final HttpResponseStatus status;
+	final String uri;
+	final HttpVersion version;
+
+	AggregatedHttpClientResponse(HttpResponseStatus status, HttpVersion version, HttpHeaders responseHeaders,
+			String[] redirectedFrom, String resourceUrl, HttpClientConnect.HttpClientHandler handler,
+			HttpClientConfig config, ContextView contextView) {
+		this.contextView = contextView;
+		this.cookies = Cookies.newClientResponseHolder(responseHeaders,
+				config.cookieDecoder != null ? config.cookieDecoder : ClientCookieDecoder.STRICT);
+		this.redirectedFrom = redirectedFrom;
+		this.requestHeaders = config.headers;
+		this.resourceUrl = resourceUrl;
+		this.responseHeaders = responseHeaders;
+		this.status = status;
+		this.uri = handler.toURI.getPathAndQuery();
+		this.path = HttpOperations.resolvePath(uri);
+		this.version = version;
+	}
+
+	@Override
+	public Map<CharSequence, Set<Cookie>> cookies() {
+		return cookies.getCachedCookies();
+	}
+
+	@Override
+	public Context currentContext() {
+		return Context.of(contextView);
+	}
+
+	@Override
+	public ContextView currentContextView() {
+		return contextView;
+	}
+
+	@Override
+	public String fullPath() {
+		return path;
+	}
+
+	@Override
+	public boolean isKeepAlive() {
+		return true;
+	}
+
+	@Override
+	public boolean isWebsocket() {
+		return false;
+	}
+
+	@Override
+	public HttpMethod method() {
+		return HttpMethod.GET;
+	}
+
+	@Override
+	public String[] redirectedFrom() {
+		return redirectedFrom.clone();
+	}
+
+	@Override
+	public HttpHeaders requestHeaders() {
+		return requestHeaders;
+	}
+
+	@Override
+	public String requestId() {
+		return Integer.toHexString(System.identityHashCode(this));
+	}
+
+	@Override
+	public String resourceUrl() {
+		return resourceUrl;
+	}
+
+	@Override
+	public HttpHeaders responseHeaders() {
+		return responseHeaders;
+	}
+
+	@Override
+	public HttpResponseStatus status() {
+		return status;
+	}
+
+	@Override
+	public Mono<HttpHeaders> trailerHeaders() {
+		return Mono.just(EmptyHttpHeaders.INSTANCE);
+	}
+
+	@Override
+	public String uri() {
+		return uri;
+	}
+
+	@Override
+	public HttpVersion version() {
+		return version;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregatedHttpClientResponse{" +
+				"resourceUrl=" + resourceUrl +
+				", status=" + status +
+				'}';
+	}
+}
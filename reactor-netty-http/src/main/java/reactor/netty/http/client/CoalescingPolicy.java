@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.internal.util.MapUtils;
+import reactor.util.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Configures the coalescing of the identical {@code GET} requests sent by {@link HttpClient}.
+ * <p>
+ * When a {@code GET} request is sent while an identical request is in flight, i.e. a request with the same
+ * URL and the same values for the {@link Builder#keyHeaders(CharSequence...) key headers}, no new request
+ * is sent, the response of the in-flight request is received once, aggregated, and replayed to all the
+ * coalesced requests. A request sent after the in-flight request has completed starts a new exchange.
+ * <p>
+ * The in-flight request is sent with the configuration of the first coalesced request and is cancelled
+ * only when all the coalesced requests are cancelled. An error is propagated to all the coalesced requests.
+ * When the body of the response exceeds {@link Builder#maxResponseSize(int)}, the in-flight request is cancelled
+ * and each coalesced request sends its own request.
+ * <p>
+ * The key headers are the headers configured with {@link HttpClient#headers(java.util.function.Consumer)} or
+ * {@link HttpClient#headersWhen(java.util.function.Function)}, the {@code Authorization}, {@code Cookie} and
+ * {@code Proxy-Authorization} headers are always part of the key. The requests with a body or a sender function,
+ * see {@link HttpClient.RequestSender}, which may set headers when the request is sent, and the websocket upgrade
+ * requests are never coalesced. When a {@link HttpResponseCache}
+ * is configured, the coalesced requests share one cache lookup.
+ * The same instance can be shared by several clients, in which case their requests are coalesced together.
+ *
+ * @since 1.2.0
+ */
+public final class CoalescingPolicy {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link CoalescingPolicy}.
+		 *
+		 * @return a new {@link CoalescingPolicy}
+		 */
+		CoalescingPolicy build();
+
+		/**
+		 * Configures the names of the request headers whose values are part of the coalescing key,
+		 * in addition to the method, the URL and the {@code Authorization}, {@code Cookie} and
+		 * {@code Proxy-Authorization} headers.
+		 * Default to all the request headers.
+		 *
+		 * @param keyHeaders the names of the request headers that are part of the coalescing key
+		 * @return {@code this}
+		 */
+		Builder keyHeaders(CharSequence... keyHeaders);
+
+		/**
+		 * Configures the maximum size of a response body that is replayed to the coalesced requests.
+		 * Default to {@code 1MB}.
+		 *
+		 * @param maxResponseSize the maximum size of a response body that is replayed to the coalesced requests
+		 * @return {@code this}
+		 */
+		Builder maxResponseSize(int maxResponseSize);
+	}
+
+	/**
+	 * Creates a builder for {@link CoalescingPolicy}.
+	 *
+	 * @return a new {@link CoalescingPolicy.Builder}
+	 */
+	public static CoalescingPolicy.Builder builder() {
+		return new CoalescingPolicy.Build();
+	}
+
+	/**
+	 * Returns the names of the request headers that are part of the coalescing key, lower-cased,
+	 * or {@code null} when all the request headers are part of the coalescing key.
+	 *
+	 * @return the names of the request headers that are part of the coalescing key or {@code null}
+	 */
+	@Nullable
+	public List<String> keyHeaders() {
+		return keyHeaders;
+	}
+
+	/**
+	 * Returns the maximum size of a response body that is replayed to the coalesced requests.
+	 *
+	 * @return the maximum size of a response body that is replayed to the coalesced requests
+	 */
+	public int maxResponseSize() {
+		return maxResponseSize;
+	}
+
+	@Override
+	public String toString() {
+		return "CoalescingPolicy{" +
+				"keyHeaders=" + keyHeaders +
+				", maxResponseSize=" + maxResponseSize +
+				'}';
+	}
+
+	/**
+	 * The headers that are always part of the coalescing key, a response is never shared by requests
+	 * sent with different credentials.
+	 */
+	static final List<String> CREDENTIAL_HEADERS = Arrays.asList("authorization", "cookie", "proxy-authorization");
+
+	final ConcurrentMap<List<String>, InFlight> inFlight = new ConcurrentHashMap<>();
+	final List<String> keyHeaders;
+	final int maxResponseSize;
+
+	CoalescingPolicy(Build build) {
+		this.keyHeaders = build.keyHeaders;
+		this.maxResponseSize = build.maxResponseSize;
+	}
+
+	/**
+	 * Aggregates the response of the in-flight request.
+	 *
+	 * @param response the response
+	 * @param body the response body
+	 * @return the aggregated response or {@link Response#TOO_LARGE}
+	 */
+	Mono<Response> aggregate(HttpClientResponse response, ByteBufFlux body) {
+		HttpResponseCache.Body collected = new HttpResponseCache.Body(maxResponseSize);
+		// Reduced rather than ignored, the exchange runs with the context of the first coalesced request,
+		// which may release the discarded buffers
+		return body.takeUntil(buf -> collected.truncated)
+		           .reduce(collected, (c, buf) -> {
+		               c.add(buf);
+		               return c;
+		           })
+		           .map(c -> c.truncated ? Response.TOO_LARGE :
+		               new Response(response.status(), response.version(), response.responseHeaders().copy(),
+		                       c.toByteArray(), response.redirectedFrom(), response.resourceUrl()));
+	}
+
+	/**
+	 * Joins the in-flight request with the given key or starts a new one.
+	 *
+	 * @param key the coalescing key
+	 * @param exchange supplies the exchange when there is no in-flight request with the given key
+	 * @return the aggregated response
+	 */
+	Mono<Response> join(List<String> key, Supplier<Mono<Response>> exchange) {
+		return Mono.defer(() -> MapUtils.computeIfAbsent(inFlight, key, k -> new InFlight(k, exchange.get())).response);
+	}
+
+	/**
+	 * Returns the coalescing key of a request: the method, the URL and the values of the key headers
+	 * and of the credential headers, sorted by lower-cased name.
+	 *
+	 * @param method the request method
+	 * @param resourceUrl the request URL
+	 * @param headers the request headers
+	 * @return the coalescing key
+	 */
+	List<String> key(String method, String resourceUrl, HttpHeaders headers) {
+		Map<String, List<String>> values = new TreeMap<>();
+		if (keyHeaders == null) {
+			for (String name : headers.names()) {
+				values.put(name.toLowerCase(Locale.ROOT), headers.getAll(name));
+			}
+		}
+		else {
+			putAll(values, headers, keyHeaders);
+			putAll(values, headers, CREDENTIAL_HEADERS);
+		}
+		List<String> key = new ArrayList<>(2 + values.size() * 2);
+		key.add(method);
+		key.add(resourceUrl);
+		for (Map.Entry<String, List<String>> value : values.entrySet()) {
+			key.add(value.getKey());
+			key.add(String.join(",", value.getValue()));
+		}
+		return key;
+	}
+
+	static void putAll(Map<String, List<String>> values, HttpHeaders headers, List<String> names) {
+		for (String name : names) {
+			List<String> all = headers.getAll(name);
+			if (!all.isEmpty()) {
+				values.put(name, all);
+			}
+		}
+	}
+
+	/**
+	 * An in-flight request, shared by the coalesced requests.
+	 */
+	final class InFlight {
+
+		final Mono<Response> response;
+
+		InFlight(List<String> key, Mono<Response> exchange) {
+			// Removed before the response is delivered so that a later request starts a new exchange
+			this.response = exchange.doOnEach(s -> inFlight.remove(key, this))
+			                        .doOnCancel(() -> inFlight.remove(key, this))
+			                        .flux()
+			                        .publish()
+			                        .refCount()
+			                        .singleOrEmpty();
+		}
+	}
+
+	/**
+	 * The aggregated response of an in-flight request.
+	 */
+	static final class Response {
+
+		static final Response TOO_LARGE = new Response(HttpResponseStatus.OK, HttpVersion.HTTP_1_1, EmptyHttpHeaders.INSTANCE,
+				HttpResponseCache.Body.EMPTY_BYTES, AggregatedHttpClientResponse.EMPTY_REDIRECTS, "");
+
+		final byte[] body;
+		final HttpHeaders headers;
+		final String[] redirectedFrom;
+		final String resourceUrl;
+		final HttpResponseStatus status;
+		final HttpVersion version;
+
+		Response(HttpResponseStatus status, HttpVersion version, HttpHeaders headers, byte[] body,
+				String[] redirectedFrom, String resourceUrl) {
+			this.body = body;
+			this.headers = headers;
+			this.redirectedFrom = redirectedFrom;
+			this.resourceUrl = resourceUrl;
+			this.status = status;
+			this.version = version;
+		}
+	}
+
+	static final class Build implements Builder {
+		static final int DEFAULT_MAX_RESPONSE_SIZE = 1024 * 1024;
+
+		List<String> keyHeaders;
+		int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+		@Override
+		public CoalescingPolicy build() {
+			return new CoalescingPolicy(this);
+		}
+
+		@Override
+		public Builder keyHeaders(CharSequence... keyHeaders) {
+			Objects.requireNonNull(keyHeaders, "keyHeaders");
+			String[] names = new String[keyHeaders.length];
+			for (int i = 0; i < keyHeaders.length; i++) {
+				names[i] = Objects.requireNonNull(keyHeaders[i], "keyHeaders").toString().toLowerCase(Locale.ROOT);
+			}
+			Arrays.sort(names);
+			this.keyHeaders = Collections.unmodifiableList(Arrays.asList(names));
+			return this;
+		}
+
+		@Override
+		public Builder maxResponseSize(int maxResponseSize) {
+			if (maxResponseSize < 1) {
+				throw new IllegalArgumentException("maxResponseSize must be strictly positive");
+			}
+			this.maxResponseSize = maxResponseSize;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.netty.internal.util.MapUtils;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Configures the hedging of the requests sent by {@link HttpClient}.
+ * <p>
+ * When the response of a request is not received after the hedging delay, the same request is sent again,
+ * up to {@link Builder#maxHedges(int)} times, the first response that is received is used and the other
+ * requests are cancelled, i.e. their connections are closed. With {@code HTTP/1.1}, a hedged request is
+ * always sent over another connection as the connection of the original request is still in use.
+ * <p>
+ * The hedging delay is the configured {@link Builder#latencyPercentile(double) percentile} of the latencies
+ * observed for the remote host, i.e. the time to receive the response headers, computed over the most recent
+ * requests. Until enough requests have been observed for the remote host, {@link Builder#delay(Duration)}
+ * is used. When a hedged request wins, the time elapsed since the original request was sent is recorded,
+ * as a lower bound of its latency, so that the hedging does not lower the observed latencies.
+ * <p>
+ * Only the requests with a safe method ({@code GET}, {@code HEAD}, {@code OPTIONS} and {@code TRACE}) are hedged,
+ * the websocket upgrade requests are never hedged. A hedged request is sent with the same request handler,
+ * thus the handler is invoked once per hedged request. The same instance can be shared by several clients,
+ * in which case they share the observed latencies. The latencies are kept for at most {@code 1024} remote hosts,
+ * the least recently used remote host is evicted first.
+ *
+ * @since 1.2.0
+ */
+public final class HedgingPolicy {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HedgingPolicy}.
+		 *
+		 * @return a new {@link HedgingPolicy}
+		 */
+		HedgingPolicy build();
+
+		/**
+		 * Configures the hedging delay used until enough requests have been observed for the remote host.
+		 * Default to {@code 100ms}.
+		 *
+		 * @param delay the hedging delay used until enough requests have been observed for the remote host
+		 * @return {@code this}
+		 */
+		Builder delay(Duration delay);
+
+		/**
+		 * Configures the percentile of the observed latencies that is used as a hedging delay.
+		 * Default to {@code 0.95}.
+		 *
+		 * @param latencyPercentile the percentile of the observed latencies, in the range (0, 1)
+		 * @return {@code this}
+		 */
+		Builder latencyPercentile(double latencyPercentile);
+
+		/**
+		 * Configures the maximum number of hedged requests sent for a request, in addition to the original request.
+		 * The hedged requests are sent one hedging delay apart.
+		 * Default to {@code 1}.
+		 *
+		 * @param maxHedges the maximum number of hedged requests sent for a request
+		 * @return {@code this}
+		 */
+		Builder maxHedges(int maxHedges);
+
+		/**
+		 * Configures the minimum hedging delay, so that hedging a remote host with very low latencies
+		 * does not double the load on it.
+		 * Default to {@link Duration#ZERO}.
+		 *
+		 * @param minDelay the minimum hedging delay
+		 * @return {@code this}
+		 */
+		Builder minDelay(Duration minDelay);
+	}
+
+	/**
+	 * Creates a builder for {@link HedgingPolicy}.
+	 *
+	 * @return a new {@link HedgingPolicy.Builder}
+	 */
+	public static HedgingPolicy.Builder builder() {
+		return new HedgingPolicy.Build();
+	}
+
+	/**
+	 * Returns the hedging delay used until enough requests have been observed for the remote host.
+	 *
+	 * @return the hedging delay used until enough requests have been observed for the remote host
+	 */
+	public Duration delay() {
+		return delay;
+	}
+
+	/**
+	 * Returns the percentile of the observed latencies that is used as a hedging delay.
+	 *
+	 * @return the percentile of the observed latencies that is used as a hedging delay
+	 */
+	public double latencyPercentile() {
+		return latencyPercentile;
+	}
+
+	/**
+	 * Returns the maximum number of hedged requests sent for a request.
+	 *
+	 * @return the maximum number of hedged requests sent for a request
+	 */
+	public int maxHedges() {
+		return maxHedges;
+	}
+
+	/**
+	 * Returns the minimum hedging delay.
+	 *
+	 * @return the minimum hedging delay
+	 */
+	public Duration minDelay() {
+		return minDelay;
+	}
+
+	@Override
+	public String toString() {
+		return "HedgingPolicy{" +
+				"delay=" + delay +
+				", latencyPercentile=" + latencyPercentile +
+				", maxHedges=" + maxHedges +
+				", minDelay=" + minDelay +
+				'}';
+	}
+
+	/**
+	 * The maximum number of remote hosts for which the latencies are kept.
+	 */
+	static final int MAX_REMOTE_ADDRESSES = 1024;
+
+	final Duration delay;
+	final long delayNanos;
+	final ConcurrentMap<SocketAddress, Latencies> latencies = new ConcurrentHashMap<>();
+	final double latencyPercentile;
+	final int maxHedges;
+	final Duration minDelay;
+	final long minDelayNanos;
+
+	HedgingPolicy(Build build) {
+		this.delay = build.delay;
+		this.delayNanos = build.delay.toNanos();
+		this.latencyPercentile = build.latencyPercentile;
+		this.maxHedges = build.maxHedges;
+		this.minDelay = build.minDelay;
+		this.minDelayNanos = build.minDelay.toNanos();
+	}
+
+	/**
+	 * Returns the hedging delay for the remote host.
+	 *
+	 * @param remoteAddress the remote host
+	 * @return the hedging delay for the remote host (resolution: ns)
+	 */
+	long hedgingDelay(SocketAddress remoteAddress) {
+		Latencies latencies = this.latencies.get(remoteAddress);
+		long percentile = latencies != null ? latencies.percentile : -1;
+		return Math.max(minDelayNanos, percentile != -1 ? percentile : delayNanos);
+	}
+
+	static boolean isHedged(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ||
+				HttpMethod.OPTIONS.equals(method) || HttpMethod.TRACE.equals(method);
+	}
+
+	/**
+	 * Records the latency of a request sent to the remote host.
+	 *
+	 * @param remoteAddress the remote host
+	 * @param latency the latency (resolution: ns)
+	 */
+	void recordLatency(SocketAddress remoteAddress, long latency) {
+		Latencies latencies = this.latencies.get(remoteAddress);
+		if (latencies == null) {
+			latencies = MapUtils.computeIfAbsent(this.latencies, remoteAddress, key -> new Latencies(latencyPercentile));
+			if (this.latencies.size() > MAX_REMOTE_ADDRESSES) {
+				evictLeastRecentlyUsed();
+			}
+		}
+		latencies.record(latency);
+	}
+
+	/**
+	 * Evicts the latencies of the remote host that has not recorded a latency for the longest time.
+	 * The scan is done only when a new remote host is added above the limit.
+	 */
+	void evictLeastRecentlyUsed() {
+		SocketAddress eldestAddress = null;
+		Latencies eldest = null;
+		for (Map.Entry<SocketAddress, Latencies> entry : latencies.entrySet()) {
+			Latencies candidate = entry.getValue();
+			if (eldest == null || candidate.lastRecorded - eldest.lastRecorded < 0) {
+				eldestAddress = entry.getKey();
+				eldest = candidate;
+			}
+		}
+		if (eldestAddress != null) {
+			latencies.remove(eldestAddress, eldest);
+		}
+	}
+
+	/**
+	 * The most recent latencies observed for a remote host.
+	 */
+	static final class Latencies {
+
+		/**
+		 * The minimum number of latencies before the percentile is computed.
+		 */
+		static final int MIN_SAMPLES = 32;
+
+		/**
+		 * The number of latencies recorded between two computations of the percentile.
+		 */
+		static final int RECOMPUTE_INTERVAL = 16;
+
+		/**
+		 * The number of most recent latencies that are kept.
+		 */
+		static final int SAMPLES = 256;
+
+		final double latencyPercentile;
+		final long[] samples = new long[SAMPLES];
+
+		int count;
+		int next;
+		long recorded;
+
+		volatile long lastRecorded = System.nanoTime();
+		volatile long percentile = -1;
+
+		Latencies(double latencyPercentile) {
+			this.latencyPercentile = latencyPercentile;
+		}
+
+		synchronized void record(long latency) {
+			lastRecorded = System.nanoTime();
+			samples[next] = latency;
+			next = (next + 1) % SAMPLES;
+			if (count < SAMPLES) {
+				count++;
+			}
+			if (++recorded % RECOMPUTE_INTERVAL == 0 && count >= MIN_SAMPLES) {
+				long[] sorted = Arrays.copyOf(samples, count);
+				Arrays.sort(sorted);
+				percentile = sorted[Math.min(count - 1, (int) Math.ceil(latencyPercentile * count) - 1)];
+			}
+		}
+	}
+
+	static final class Build implements Builder {
+		static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+		static final double DEFAULT_LATENCY_PERCENTILE = 0.95d;
+		static final int DEFAULT_MAX_HEDGES = 1;
+		static final Duration DEFAULT_MIN_DELAY = Duration.ZERO;
+
+		Duration delay = DEFAULT_DELAY;
+		double latencyPercentile = DEFAULT_LATENCY_PERCENTILE;
+		int maxHedges = DEFAULT_MAX_HEDGES;
+		Duration minDelay = DEFAULT_MIN_DELAY;
+
+		@Override
+		public HedgingPolicy build() {
+			return new HedgingPolicy(this);
+		}
+
+		@Override
+		public Builder delay(Duration delay) {
+			Objects.requireNonNull(delay, "delay");
+			if (delay.isNegative()) {
+				throw new IllegalArgumentException("delay must be positive or zero");
+			}
+			this.delay = delay;
+			return this;
+		}
+
+		@Override
+		public Builder latencyPercentile(double latencyPercentile) {
+			if (!(latencyPercentile > 0 && latencyPercentile < 1)) {
+				throw new IllegalArgumentException("latencyPercentile must be in the range (0, 1)");
+			}
+			this.latencyPercentile = latencyPercentile;
+			return this;
+		}
+
+		@Override
+		public Builder maxHedges(int maxHedges) {
+			if (maxHedges < 1) {
+				throw new IllegalArgumentException("maxHedges must be strictly positive");
+			}
+			this.maxHedges = maxHedges;
+			return this;
+		}
+
+		@Override
+		public Builder minDelay(Duration minDelay) {
+			Objects.requireNonNull(minDelay, "minDelay");
+			if (minDelay.isNegative()) {
+				throw new IllegalArgumentException("minDelay must be positive or zero");
+			}
+			this.minDelay = minDelay;
+			return this;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package reactor.netty.http.client;
 
 import reactor.netty.resources.ConnectionProvider;
 
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
@@ -30,6 +31,24 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
  */
 public final class Http2AllocationStrategy implements ConnectionProvider.AllocationStrategy<Http2AllocationStrategy> {
 
+	/**
+	 * Defines how a cached connection is selected for opening a new stream.
+	 *
+	 * @since 1.2.0
+	 */
+	public enum ConnectionSelection {
+
+		/**
+		 * The cached connections are checked in FIFO order, the first connection that can open a new stream is selected.
+		 */
+		FIFO,
+
+		/**
+		 * The cached connection with the fewest active streams is selected.
+		 */
+		LEAST_ACTIVE_STREAMS
+	}
+
 	public interface Builder {
 
 		/**
@@ -39,6 +58,16 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		 */
 		Http2AllocationStrategy build();
 
+		/**
+		 * Configures how a cached connection is selected for opening a new stream.
+		 * Default to {@link ConnectionSelection#FIFO}.
+		 *
+		 * @param connectionSelection how a cached connection is selected for opening a new stream
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		Builder connectionSelection(ConnectionSelection connectionSelection);
+
 		/**
 		 * Configures the maximum number of the concurrent streams that can be opened to the remote peer.
 		 * When evaluating how many streams can be opened to the remote peer,
@@ -66,6 +95,18 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		 * @return {@code this}
 		 */
 		Builder minConnections(int minConnections);
+
+		/**
+		 * Configures the ratio of active streams to max concurrent streams above which a new connection is opened
+		 * instead of opening a new stream on a cached connection, when the maximum number of connections is not
+		 * reached. A new connection is opened only when all cached connections are above the threshold.
+		 * Default to {@code 1.0} - a new connection is opened only when no cached connection can open a new stream.
+		 *
+		 * @param streamsUtilizationThreshold the ratio of active streams to max concurrent streams, in the range (0, 1]
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		Builder streamsUtilizationThreshold(double streamsUtilizationThreshold);
 	}
 
 	/**
@@ -77,6 +118,16 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		return new Http2AllocationStrategy.Build();
 	}
 
+	/**
+	 * Returns how a cached connection is selected for opening a new stream.
+	 *
+	 * @return how a cached connection is selected for opening a new stream
+	 * @since 1.2.0
+	 */
+	public ConnectionSelection connectionSelection() {
+		return connectionSelection;
+	}
+
 	@Override
 	public Http2AllocationStrategy copy() {
 		return new Http2AllocationStrategy(this);
@@ -127,6 +178,16 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		return maxConnections;
 	}
 
+	/**
+	 * Returns the ratio of active streams to max concurrent streams above which a new connection is opened.
+	 *
+	 * @return the ratio of active streams to max concurrent streams above which a new connection is opened
+	 * @since 1.2.0
+	 */
+	public double streamsUtilizationThreshold() {
+		return streamsUtilizationThreshold;
+	}
+
 	@Override
 	public void returnPermits(int returned) {
 		for (;;) {
@@ -141,24 +202,30 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		}
 	}
 
+	final ConnectionSelection connectionSelection;
 	final long maxConcurrentStreams;
 	final int maxConnections;
 	final int minConnections;
+	final double streamsUtilizationThreshold;
 
 	volatile int permits;
 	static final AtomicIntegerFieldUpdater<Http2AllocationStrategy> PERMITS = AtomicIntegerFieldUpdater.newUpdater(Http2AllocationStrategy.class, "permits");
 
 	Http2AllocationStrategy(Build build) {
+		this.connectionSelection = build.connectionSelection;
 		this.maxConcurrentStreams = build.maxConcurrentStreams;
 		this.maxConnections = build.maxConnections;
 		this.minConnections = build.minConnections;
+		this.streamsUtilizationThreshold = build.streamsUtilizationThreshold;
 		PERMITS.lazySet(this, this.maxConnections);
 	}
 
 	Http2AllocationStrategy(Http2AllocationStrategy copy) {
+		this.connectionSelection = copy.connectionSelection;
 		this.maxConcurrentStreams = copy.maxConcurrentStreams;
 		this.maxConnections = copy.maxConnections;
 		this.minConnections = copy.minConnections;
+		this.streamsUtilizationThreshold = copy.streamsUtilizationThreshold;
 		PERMITS.lazySet(this, this.maxConnections);
 	}
 
@@ -166,10 +233,14 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		static final long DEFAULT_MAX_CONCURRENT_STREAMS = -1;
 		static final int DEFAULT_MAX_CONNECTIONS = Integer.MAX_VALUE;
 		static final int DEFAULT_MIN_CONNECTIONS = 0;
+		static final ConnectionSelection DEFAULT_CONNECTION_SELECTION = ConnectionSelection.FIFO;
+		static final double DEFAULT_STREAMS_UTILIZATION_THRESHOLD = 1.0d;
 
+		ConnectionSelection connectionSelection = DEFAULT_CONNECTION_SELECTION;
 		long maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
 		int maxConnections = DEFAULT_MAX_CONNECTIONS;
 		int minConnections = DEFAULT_MIN_CONNECTIONS;
+		double streamsUtilizationThreshold = DEFAULT_STREAMS_UTILIZATION_THRESHOLD;
 
 		@Override
 		public Http2AllocationStrategy build() {
@@ -180,6 +251,12 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 			return new Http2AllocationStrategy(this);
 		}
 
+		@Override
+		public Builder connectionSelection(ConnectionSelection connectionSelection) {
+			this.connectionSelection = Objects.requireNonNull(connectionSelection, "connectionSelection");
+			return this;
+		}
+
 		@Override
 		public Builder maxConcurrentStreams(long maxConcurrentStreams) {
 			if (maxConcurrentStreams < -1) {
@@ -206,5 +283,14 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 			this.minConnections = minConnections;
 			return this;
 		}
+
+		@Override
+		public Builder streamsUtilizationThreshold(double streamsUtilizationThreshold) {
+			if (!(streamsUtilizationThreshold > 0 && streamsUtilizationThreshold <= 1)) {
+				throw new IllegalArgumentException("streamsUtilizationThreshold must be in the range (0, 1]");
+			}
+			this.streamsUtilizationThreshold = streamsUtilizationThreshold;
+			return this;
+		}
 	}
 }
@@ -134,6 +134,13 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 		return new PooledConnectionAllocator(id, name(), parent, config, poolFactory, remoteAddress, resolverGroup).pool;
 	}
 
+	@Override
+	protected boolean hasIdleCapacity(InstrumentedPool<Connection> pool) {
+		// the idle connections of the HTTP/2 pool might have reached their max active streams
+		InstrumentedPool.PoolMetrics metrics = pool.metrics();
+		return metrics instanceof Http2Pool ? ((Http2Pool) metrics).hasAvailableStreams() : metrics.idleSize() > 0;
+	}
+
 	@Override
 	protected void registerDefaultMetrics(String id, SocketAddress remoteAddress, InstrumentedPool.PoolMetrics metrics) {
 		MicrometerHttp2ConnectionProviderMeterRegistrar.INSTANCE
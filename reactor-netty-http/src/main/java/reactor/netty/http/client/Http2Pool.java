@@ -17,8 +17,12 @@ package reactor.netty.http.client;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
@@ -29,8 +33,10 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslHandler;
 import org.reactivestreams.Publisher;
@@ -80,11 +86,19 @@ import static reactor.netty.ReactorNetty.format;
  *     in the pool, but it is not used. Once the number of the active streams is below max active streams configuration,
  *     the connection can be used again.</li>
  * </ul>
+ * Filtered out connections are parked, they are not checked on acquire until one of their active streams is closed
+ * or the peer updates its settings. The parked connections are checked by the background eviction.
+ * <p>
+ * By default, the cached connections are checked in FIFO order. With
+ * {@link Http2AllocationStrategy.ConnectionSelection#LEAST_ACTIVE_STREAMS}, the connection with the fewest active streams
+ * is checked first. If {@link Http2AllocationStrategy#streamsUtilizationThreshold()} is reached for all the cached
+ * connections and the maximum connections is not reached, a new connection is opened instead.
  * <p>
  * This pool always invalidate the {@link PooledRef}, there is no release functionality.
  * <ul>
- *     <li>{@link PoolMetrics#acquiredSize()}, {@link PoolMetrics#allocatedSize()} and {@link PoolMetrics#idleSize()}
- *     always return the number of the cached connections.</li>
+ *     <li>{@link PoolMetrics#allocatedSize()} always returns the number of the cached connections.</li>
+ *     <li>{@link PoolMetrics#idleSize()} returns the number of the cached connections that are checked on acquire,
+ *     the parked connections are not included. {@link PoolMetrics#acquiredSize()} returns the remaining cached connections.</li>
  *     <li>{@link Http2Pool#activeStreams()} always return the active streams from all connections currently in the pool.</li>
  * </ul>
  * <p>
@@ -114,10 +128,9 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 	static final AtomicIntegerFieldUpdater<Http2Pool> ACQUIRED =
 			AtomicIntegerFieldUpdater.newUpdater(Http2Pool.class, "acquired");
 
-	volatile ConcurrentLinkedQueue<Slot> connections;
-	@SuppressWarnings("rawtypes")
-	static final AtomicReferenceFieldUpdater<Http2Pool, ConcurrentLinkedQueue> CONNECTIONS =
-			AtomicReferenceFieldUpdater.newUpdater(Http2Pool.class, ConcurrentLinkedQueue.class, "connections");
+	volatile Slots connections;
+	static final AtomicReferenceFieldUpdater<Http2Pool, Slots> CONNECTIONS =
+			AtomicReferenceFieldUpdater.newUpdater(Http2Pool.class, Slots.class, "connections");
 
 	volatile int idleSize;
 	private static final AtomicIntegerFieldUpdater<Http2Pool> IDLE_SIZE =
@@ -153,9 +166,11 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 			AtomicIntegerFieldUpdater.newUpdater(Http2Pool.class, "wip");
 
 	final Clock clock;
+	final boolean leastActiveStreams;
 	final Long maxConcurrentStreams;
 	final int minConnections;
 	final PoolConfig<Connection> poolConfig;
+	final double streamsUtilizationThreshold;
 
 	long lastInteractionTimestamp;
 
@@ -163,10 +178,20 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 	Http2Pool(PoolConfig<Connection> poolConfig, @Nullable ConnectionProvider.AllocationStrategy<?> allocationStrategy) {
 		this.clock = poolConfig.clock();
-		this.connections = new ConcurrentLinkedQueue<>();
+		this.connections = new Slots();
 		this.lastInteractionTimestamp = clock.millis();
-		this.maxConcurrentStreams = allocationStrategy instanceof Http2AllocationStrategy ?
-				((Http2AllocationStrategy) allocationStrategy).maxConcurrentStreams() : -1;
+		if (allocationStrategy instanceof Http2AllocationStrategy) {
+			Http2AllocationStrategy http2AllocationStrategy = (Http2AllocationStrategy) allocationStrategy;
+			this.leastActiveStreams =
+					http2AllocationStrategy.connectionSelection() == Http2AllocationStrategy.ConnectionSelection.LEAST_ACTIVE_STREAMS;
+			this.maxConcurrentStreams = http2AllocationStrategy.maxConcurrentStreams();
+			this.streamsUtilizationThreshold = http2AllocationStrategy.streamsUtilizationThreshold();
+		}
+		else {
+			this.leastActiveStreams = false;
+			this.maxConcurrentStreams = -1L;
+			this.streamsUtilizationThreshold = 1.0d;
+		}
 		this.minConnections = allocationStrategy == null ? 0 : allocationStrategy.permitMinimum();
 		this.pending = new ConcurrentLinkedDeque<>();
 		this.poolConfig = poolConfig;
@@ -215,17 +240,22 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 					p.fail(new PoolShutdownException());
 				}
 
-				@SuppressWarnings("unchecked")
-				ConcurrentLinkedQueue<Slot> slots = CONNECTIONS.getAndSet(this, null);
+				Slots slots = CONNECTIONS.getAndSet(this, null);
 				if (slots != null) {
 					Mono<Void> closeMonos = Mono.empty();
-					while (!slots.isEmpty()) {
+					while (!slots.available.isEmpty()) {
 						Slot slot = pollSlot(slots);
 						if (slot != null) {
 							slot.invalidate();
 							closeMonos = closeMonos.and(DEFAULT_DESTROY_HANDLER.apply(slot.connection));
 						}
 					}
+					for (Slot slot : slots.parked) {
+						if (slots.parked.remove(slot)) {
+							slot.invalidate();
+							closeMonos = closeMonos.and(DEFAULT_DESTROY_HANDLER.apply(slot.connection));
+						}
+					}
 					return closeMonos;
 				}
 			}
@@ -284,6 +314,26 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		return acquired;
 	}
 
+	/**
+	 * Returns whether one of the available connections can open a new stream without reaching
+	 * the streams utilization threshold. The parked connections are not considered.
+	 *
+	 * @return {@code true} if one of the available connections can open a new stream
+	 */
+	boolean hasAvailableStreams() {
+		Slots slots = CONNECTIONS.get(this);
+		if (slots == null) {
+			return false;
+		}
+		for (Slot slot : slots.available) {
+			if (slot.connection.channel().isActive() && !slot.goAwayReceived() &&
+					slot.concurrency() < slot.maxConcurrentStreams * streamsUtilizationThreshold) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	void cancelAcquire(Borrower borrower) {
 		if (!isDisposed()) {
 			ConcurrentLinkedDeque<Borrower> q = pending;
@@ -296,8 +346,11 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		assert ref.slot.connection.channel().eventLoop().inEventLoop();
 		Mono<Void> mono = Mono.empty();
 		try {
+			int concurrency = ref.slot.decrementConcurrencyAndGet();
+			// A stream was closed, a parked connection has to be checked again on acquire
+			unparkSlot(CONNECTIONS.get(this), ref.slot);
 			// By default, check the connection for removal on acquire and invalidate (only if there are no active streams)
-			if (ref.slot.decrementConcurrencyAndGet() == 0) {
+			if (concurrency == 0) {
 				// not HTTP/2 request
 				if (ref.slot.http2FrameCodecCtx() == null) {
 					ref.slot.invalidate();
@@ -352,8 +405,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		int maxPending = poolConfig.maxPending();
 
 		for (;;) {
-			@SuppressWarnings("unchecked")
-			ConcurrentLinkedQueue<Slot> resources = CONNECTIONS.get(this);
+			Slots resources = CONNECTIONS.get(this);
 			@SuppressWarnings("unchecked")
 			ConcurrentLinkedDeque<Borrower> borrowers = PENDING.get(this);
 			if (resources == null || borrowers == TERMINATED) {
@@ -389,7 +441,8 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 					});
 				}
 				else {
-					int resourcesCount = idleSize;
+					// the parked connections are cached connections as well
+					int resourcesCount = idleSize + resources.parked.size();
 					if (minConnections > 0 &&
 							poolConfig.allocationStrategy().permitGranted() >= minConnections &&
 							resourcesCount == 0) {
@@ -460,8 +513,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 	@SuppressWarnings("FutureReturnValueIgnored")
 	void evictInBackground() {
-		@SuppressWarnings("unchecked")
-		ConcurrentLinkedQueue<Slot> resources = CONNECTIONS.get(this);
+		Slots resources = CONNECTIONS.get(this);
 		if (resources == null) {
 			//no need to schedule the task again, pool has been disposed
 			return;
@@ -469,7 +521,9 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 		if (WIP.getAndIncrement(this) == 0) {
 			if (pendingSize == 0) {
-				Iterator<Slot> slots = resources.iterator();
+				// parked connections have active streams, they are moved back to the available connections
+				// when a stream is closed
+				Iterator<Slot> slots = resources.available.iterator();
 				while (slots.hasNext()) {
 					Slot slot = slots.next();
 					if (slot.concurrency() == 0) {
@@ -508,6 +562,21 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 						}
 					}
 				}
+
+				// a parked connection is removed once it has no active streams, in case the stream closure
+				// raced with the parking of the connection
+				for (Slot slot : resources.parked) {
+					if (slot.concurrency() == 0 && (!slot.connection.channel().isActive() || slot.goAwayReceived() ||
+							testEvictionPredicate(slot)) && resources.parked.remove(slot)) {
+						if (log.isDebugEnabled()) {
+							log.debug(format(slot.connection.channel(), "Parked channel has no active streams, remove from pool"));
+						}
+						//"FutureReturnValueIgnored" this is deliberate
+						slot.connection.channel().close();
+						recordInteractionTimestamp();
+						slot.invalidate();
+					}
+				}
 			}
 			//at the end if there are racing drain calls, go into the drainLoop
 			if (WIP.decrementAndGet(this) > 0) {
@@ -520,7 +589,9 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 	@Nullable
 	@SuppressWarnings("FutureReturnValueIgnored")
-	Slot findConnection(ConcurrentLinkedQueue<Slot> resources) {
+	Slot findConnection(Slots resources) {
+		// the connections that reached the streams utilization threshold, offered back once all the candidates are compared
+		List<Slot> busySlots = null;
 		int resourcesCount = idleSize;
 		while (resourcesCount > 0) {
 			// There are connections in the queue
@@ -528,19 +599,24 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 			resourcesCount--;
 
 			// get the connection
-			Slot slot = pollSlot(resources);
+			Slot slot = leastActiveStreams ? pollLeastActiveStreamsSlot(resources) : pollSlot(resources);
 			if (slot == null) {
-				continue;
+				// the remaining connections are parked
+				break;
 			}
 
+			// the active streams are read before any check so that a stream closed concurrently is not missed
+			// when the connection is parked
+			int concurrency = slot.concurrency();
+
 			// check the connection is active
 			if (!slot.connection.channel().isActive()) {
-				if (slot.concurrency() > 0) {
+				if (concurrency > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Channel is closed, {} active streams"),
-								slot.concurrency());
+								concurrency);
 					}
-					offerSlot(resources, slot);
+					parkSlot(resources, slot, concurrency);
 				}
 				else {
 					if (log.isDebugEnabled()) {
@@ -553,12 +629,12 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 			// check the connection received GO_AWAY
 			if (slot.goAwayReceived()) {
-				if (slot.concurrency() > 0) {
+				if (concurrency > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, {} active streams"),
-								slot.concurrency());
+								concurrency);
 					}
-					offerSlot(resources, slot);
+					parkSlot(resources, slot, concurrency);
 				}
 				else {
 					if (log.isDebugEnabled()) {
@@ -571,12 +647,12 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 			// check whether the eviction predicate for the connection evaluates to true
 			if (testEvictionPredicate(slot)) {
-				if (slot.concurrency() > 0) {
+				if (concurrency > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Eviction predicate was true, {} active streams"),
-								slot.concurrency());
+								concurrency);
 					}
-					offerSlot(resources, slot);
+					parkSlot(resources, slot, concurrency);
 				}
 				else {
 					if (log.isDebugEnabled()) {
@@ -591,19 +667,49 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 			// check that the connection's max active streams has not been reached
 			if (!slot.canOpenStream()) {
-				offerSlot(resources, slot);
+				parkSlot(resources, slot, concurrency);
 				if (log.isDebugEnabled()) {
 					log.debug(format(slot.connection.channel(), "Max active streams is reached"));
 				}
 				continue;
 			}
 
+			// check whether a new connection should be opened instead of using the busy connection,
+			// a connection below the threshold is used if any
+			if (streamsUtilizationThreshold < 1.0d &&
+					concurrency >= slot.maxConcurrentStreams * streamsUtilizationThreshold &&
+					poolConfig.allocationStrategy().estimatePermitCount() > 0) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Streams utilization threshold is reached, {} active streams"),
+							concurrency);
+				}
+				if (busySlots == null) {
+					busySlots = new ArrayList<>();
+				}
+				busySlots.add(slot);
+				if (leastActiveStreams) {
+					// the remaining connections have at least as many active streams
+					break;
+				}
+				continue;
+			}
+
+			offerSlots(resources, busySlots);
 			return slot;
 		}
 
+		offerSlots(resources, busySlots);
 		return null;
 	}
 
+	void offerSlots(Slots slots, @Nullable List<Slot> busySlots) {
+		if (busySlots != null) {
+			for (Slot slot : busySlots) {
+				offerSlot(slots, slot);
+			}
+		}
+	}
+
 	boolean testEvictionPredicate(Slot slot) {
 		return poolConfig.evictionPredicate().test(slot.connection, slot);
 	}
@@ -632,7 +738,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		int postOffer = addPending(pendingQueue, borrower, false);
 
 		if (WIP.getAndIncrement(this) == 0) {
-			ConcurrentLinkedQueue<Slot> ir = connections;
+			Slots ir = connections;
 			if (maxPending >= 0 && postOffer > maxPending && ir.isEmpty() && poolConfig.allocationStrategy().estimatePermitCount() == 0) {
 				Borrower toCull = pollPending(pendingQueue, false);
 				if (toCull != null) {
@@ -678,18 +784,68 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		return PENDING_SIZE.incrementAndGet(this);
 	}
 
-	void offerSlot(@Nullable ConcurrentLinkedQueue<Slot> slots, Slot slot) {
-		if (slots != null && slots.offer(slot)) {
+	void offerSlot(@Nullable Slots slots, Slot slot) {
+		if (slots != null && slots.available.offer(slot)) {
 			IDLE_SIZE.incrementAndGet(this);
 		}
 	}
 
+	/**
+	 * Parks a connection that cannot be used for opening a new stream until one of its active streams is closed.
+	 * Parked connections are not polled on acquire, which avoids rotating them through the queue of
+	 * the available connections on every acquire. Parked connections are not included in {@link #idleSize()}.
+	 *
+	 * @param slots the connections of the pool
+	 * @param slot the connection to park
+	 * @param concurrency the active streams observed before deciding to park the connection
+	 */
+	void parkSlot(Slots slots, Slot slot, int concurrency) {
+		slots.parked.add(slot);
+		Slot.PARKED.set(slot, 1);
+		// a stream closed after the check did not see the connection parked
+		if (slot.concurrency() < concurrency) {
+			unparkSlot(slots, slot);
+		}
+	}
+
+	/**
+	 * Polls the available connection with the fewest active streams.
+	 * When there are several such connections, the first one in FIFO order is selected.
+	 * The connections are traversed once. A new candidate is removed while the iterator is positioned on it,
+	 * and the previous candidate is offered back, so that the candidate is not searched again for its removal.
+	 */
+	@Nullable
+	Slot pollLeastActiveStreamsSlot(Slots slots) {
+		Slot candidate = null;
+		int candidateConcurrency = Integer.MAX_VALUE;
+		Iterator<Slot> it = slots.available.iterator();
+		while (it.hasNext()) {
+			Slot slot = it.next();
+			int concurrency = slot.concurrency();
+			if (concurrency < candidateConcurrency) {
+				it.remove();
+				if (candidate != null) {
+					slots.available.offer(candidate);
+				}
+				else {
+					IDLE_SIZE.decrementAndGet(this);
+				}
+				candidate = slot;
+				candidateConcurrency = concurrency;
+				if (concurrency == 0) {
+					break;
+				}
+			}
+		}
+		return candidate;
+	}
+
 	@Nullable
-	Slot pollSlot(@Nullable ConcurrentLinkedQueue<Slot> slots) {
+	Slot pollSlot(@Nullable Slots slots) {
 		if (slots == null) {
 			return null;
 		}
-		Slot slot = slots.poll();
+		Slot slot = slots.available.poll();
 		if (slot != null) {
 			IDLE_SIZE.decrementAndGet(this);
 		}
@@ -697,10 +853,20 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 	}
 
 	void removeSlot(Slot slot) {
-		@SuppressWarnings("unchecked")
-		ConcurrentLinkedQueue<Slot> q = CONNECTIONS.get(slot.pool);
-		if (q != null && q.remove(slot)) {
-			IDLE_SIZE.decrementAndGet(this);
+		Slots slots = CONNECTIONS.get(slot.pool);
+		if (slots != null) {
+			if (slots.available.remove(slot)) {
+				IDLE_SIZE.decrementAndGet(this);
+			}
+			else {
+				slots.parked.remove(slot);
+			}
+		}
+	}
+
+	void unparkSlot(@Nullable Slots slots, Slot slot) {
+		if (slots != null && Slot.PARKED.compareAndSet(slot, 1, 0) && slots.parked.remove(slot)) {
+			offerSlot(slots, slot);
 		}
 	}
 
@@ -921,12 +1087,59 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 		}
 	}
 
+	/**
+	 * Moves a parked connection back to the available connections when the peer updates its settings,
+	 * as the max concurrent streams might have been increased.
+	 */
+	static final class SettingsListener extends ChannelInboundHandlerAdapter {
+
+		final Slot slot;
+
+		SettingsListener(Slot slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			if (msg instanceof Http2SettingsFrame) {
+				Http2Pool pool = slot.pool;
+				pool.unparkSlot(CONNECTIONS.get(pool), slot);
+				pool.drain();
+			}
+			ctx.fireChannelRead(msg);
+		}
+	}
+
+	/**
+	 * The connections of the pool. The connections that can be checked for opening a new stream are kept in FIFO order.
+	 * The connections that have active streams and that cannot be used for opening a new stream
+	 * (max active streams reached, closed, GO_AWAY received or eviction predicate evaluated to true) are parked
+	 * until one of their active streams is closed.
+	 */
+	static final class Slots {
+
+		final ConcurrentLinkedQueue<Slot> available = new ConcurrentLinkedQueue<>();
+		final Set<Slot> parked = ConcurrentHashMap.newKeySet();
+
+		boolean isEmpty() {
+			return available.isEmpty() && parked.isEmpty();
+		}
+
+		int size() {
+			return available.size() + parked.size();
+		}
+	}
+
 	static final class Slot extends AtomicBoolean implements PooledRefMetadata {
 
 		volatile int concurrency;
 		static final AtomicIntegerFieldUpdater<Slot> CONCURRENCY =
 				AtomicIntegerFieldUpdater.newUpdater(Slot.class, "concurrency");
 
+		volatile int parked;
+		static final AtomicIntegerFieldUpdater<Slot> PARKED =
+				AtomicIntegerFieldUpdater.newUpdater(Slot.class, "parked");
+
 		final Connection connection;
 		final long creationTimestamp;
 		final Http2Pool pool;
@@ -956,6 +1169,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 				this.maxConcurrentStreams = ((Http2FrameCodec) frameCodec.handler()).connection().local().maxActiveStreams();
 				this.maxConcurrentStreams = pool.maxConcurrentStreams == -1 ? maxConcurrentStreams :
 						Math.min(pool.maxConcurrentStreams, maxConcurrentStreams);
+				connection.channel().pipeline().addLast(new SettingsListener(this));
 			}
 			TOTAL_MAX_CONCURRENT_STREAMS.addAndGet(this.pool, this.maxConcurrentStreams);
 		}
@@ -985,9 +1199,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 			if (log.isDebugEnabled()) {
 				log.debug(format(connection.channel(), "Channel deactivated"));
 			}
-			@SuppressWarnings("unchecked")
-			ConcurrentLinkedQueue<Slot> slots = CONNECTIONS.get(pool);
-			pool.offerSlot(slots, this);
+			pool.offerSlot(CONNECTIONS.get(pool), this);
 		}
 
 		int decrementConcurrencyAndGet() {
@@ -508,6 +508,29 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Enables the coalescing of the identical {@code GET} requests: when a request is sent while an identical
+	 * request is in flight, no new request is sent and the response of the in-flight request is replayed.
+	 * Only the requests sent with {@link ResponseReceiver#response(BiFunction)},
+	 * {@link ResponseReceiver#responseContent()} and {@link ResponseReceiver#responseSingle(BiFunction)} are coalesced.
+	 * If the {@code coalescingPolicy} is {@code null}, any previous setting will be removed and the requests
+	 * will not be coalesced.
+	 * <p>By default the requests are not coalesced.
+	 *
+	 * @param coalescingPolicy the {@link CoalescingPolicy} to use or null to disable the coalescing
+	 * @return a new {@link HttpClient}
+	 * @since 1.2.0
+	 * @see CoalescingPolicy
+	 */
+	public final HttpClient coalescing(@Nullable CoalescingPolicy coalescingPolicy) {
+		if (coalescingPolicy == configuration().coalescingPolicy) {
+			return this;
+		}
+		HttpClient dup = duplicate();
+		dup.configuration().coalescingPolicy = coalescingPolicy;
+		return dup;
+	}
+
 	/**
 	 * Specifies whether GZip compression is enabled.
 	 *
@@ -1065,6 +1088,29 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Enables the hedging of the requests: when the response of a request is not received after the hedging delay,
+	 * the same request is sent again and the first response that is received is used, the other requests
+	 * are cancelled. Only the requests with a safe method ({@code GET}, {@code HEAD}, {@code OPTIONS}
+	 * and {@code TRACE}) are hedged.
+	 * If the {@code hedgingPolicy} is {@code null}, any previous setting will be removed and the requests
+	 * will not be hedged.
+	 * <p>By default the requests are not hedged.
+	 *
+	 * @param hedgingPolicy the {@link HedgingPolicy} to use or null to disable the hedging
+	 * @return a new {@link HttpClient}
+	 * @since 1.2.0
+	 * @see HedgingPolicy
+	 */
+	public final HttpClient hedging(@Nullable HedgingPolicy hedgingPolicy) {
+		if (hedgingPolicy == configuration().hedgingPolicy) {
+			return this;
+		}
+		HttpClient dup = duplicate();
+		dup.configuration().hedgingPolicy = hedgingPolicy;
+		return dup;
+	}
+
 	/**
 	 * Apply HTTP/2 configuration.
 	 *
@@ -1351,6 +1397,28 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Enables the caching of the responses as specified by RFC 9111, the responses of the {@code GET} requests
+	 * are stored in the given {@link HttpResponseCache} and served from it while they are fresh, the stale
+	 * stored responses are validated with conditional requests.
+	 * If the {@code responseCache} is {@code null}, any previous setting will be removed and the responses
+	 * will not be cached.
+	 * <p>By default the responses are not cached.
+	 *
+	 * @param responseCache the {@link HttpResponseCache} to use or null to disable the caching
+	 * @return a new {@link HttpClient}
+	 * @since 1.2.0
+	 * @see HttpResponseCache
+	 */
+	public final HttpClient responseCache(@Nullable HttpResponseCache responseCache) {
+		if (responseCache == configuration().responseCache) {
+			return this;
+		}
+		HttpClient dup = duplicate();
+		dup.configuration().responseCache = responseCache;
+		return dup;
+	}
+
 	/**
 	 * Specifies the maximum duration allowed between each network-level read operation while reading a given response
 	 * (resolution: ms). In other words, {@link io.netty.handler.timeout.ReadTimeoutHandler} is added to the channel
@@ -79,6 +79,7 @@ import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.logging.ReactorNettyHttpMessageLogFactory;
+import reactor.netty.internal.util.TimerReadTimeoutHandler;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.SslProvider;
@@ -128,6 +129,17 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return (ch, c, msg) -> new HttpClientOperations(ch, c, cookieEncoder, cookieDecoder, httpMessageLogFactory);
 	}
 
+	/**
+	 * Return the configured {@link CoalescingPolicy} or null.
+	 *
+	 * @return the configured {@link CoalescingPolicy} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public CoalescingPolicy coalescingPolicy() {
+		return coalescingPolicy;
+	}
+
 	@Override
 	public ConnectionProvider connectionProvider() {
 		return httpConnectionProvider().http1ConnectionProvider();
@@ -183,6 +195,17 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return headers.copy();
 	}
 
+	/**
+	 * Return the configured {@link HedgingPolicy} or null.
+	 *
+	 * @return the configured {@link HedgingPolicy} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public HedgingPolicy hedgingPolicy() {
+		return hedgingPolicy;
+	}
+
 	/**
 	 * Return the HTTP/2 configuration.
 	 *
@@ -257,6 +280,17 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return redirectRequestConsumer;
 	}
 
+	/**
+	 * Return the configured {@link HttpResponseCache} or null.
+	 *
+	 * @return the configured {@link HttpResponseCache} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public HttpResponseCache responseCache() {
+		return responseCache;
+	}
+
 	/**
 	 * Return the configured response timeout or null.
 	 *
@@ -315,6 +349,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	boolean acceptGzip;
 	String baseUrl;
 	BiFunction<? super HttpClientRequest, ? super NettyOutbound, ? extends Publisher<Void>> body;
+	CoalescingPolicy coalescingPolicy;
 	Function<? super Mono<? extends Connection>, ? extends Mono<? extends Connection>> connector;
 	ClientCookieDecoder cookieDecoder;
 	ClientCookieEncoder cookieEncoder;
@@ -329,6 +364,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	BiConsumer<? super HttpClientResponse, ? super Throwable> doOnResponseError;
 	BiPredicate<HttpClientRequest, HttpClientResponse> followRedirectPredicate;
 	HttpHeaders headers;
+	HedgingPolicy hedgingPolicy;
 	Http2SettingsSpec http2Settings;
 	HttpMessageLogFactory httpMessageLogFactory;
 	HttpMethod method;
@@ -336,6 +372,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	int _protocols;
 	BiConsumer<HttpHeaders, HttpClientRequest> redirectRequestBiConsumer;
 	Consumer<HttpClientRequest> redirectRequestConsumer;
+	HttpResponseCache responseCache;
 	Duration responseTimeout;
 	boolean retryDisabled;
 	SslProvider sslProvider;
@@ -364,6 +401,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this.acceptGzip = parent.acceptGzip;
 		this.baseUrl = parent.baseUrl;
 		this.body = parent.body;
+		this.coalescingPolicy = parent.coalescingPolicy;
 		this.connector = parent.connector;
 		this.cookieDecoder = parent.cookieDecoder;
 		this.cookieEncoder = parent.cookieEncoder;
@@ -378,6 +416,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this.doOnResponseError = parent.doOnResponseError;
 		this.followRedirectPredicate = parent.followRedirectPredicate;
 		this.headers = parent.headers;
+		this.hedgingPolicy = parent.hedgingPolicy;
 		this.http2Settings = parent.http2Settings;
 		this.httpMessageLogFactory = parent.httpMessageLogFactory;
 		this.method = parent.method;
@@ -385,6 +424,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this._protocols = parent._protocols;
 		this.redirectRequestBiConsumer = parent.redirectRequestBiConsumer;
 		this.redirectRequestConsumer = parent.redirectRequestConsumer;
+		this.responseCache = parent.responseCache;
 		this.responseTimeout = parent.responseTimeout;
 		this.retryDisabled = parent.retryDisabled;
 		this.sslProvider = parent.sslProvider;
@@ -589,7 +629,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 		if (responseTimeoutMillis > -1) {
 			Connection.from(ch).addHandlerFirst(NettyPipeline.ResponseTimeoutHandler,
-					new ReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS));
+					new TimerReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS));
 		}
 
 		if (log.isDebugEnabled()) {
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -48,9 +49,12 @@ import io.netty.util.NetUtil;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyOutbound;
@@ -116,6 +120,17 @@ class HttpClientConnect extends HttpClient {
 		else {
 			mono = new MonoHttpConnect(config);
 		}
+		return connect(mono);
+	}
+
+	/**
+	 * Applies the connect callbacks of this client to the given connect {@link Mono}.
+	 *
+	 * @param mono the connect {@link Mono}
+	 * @return the connect {@link Mono} with the connect callbacks of this client
+	 */
+	Mono<? extends Connection> connect(Mono<? extends Connection> mono) {
+		HttpClientConfig config = configuration();
 
 		if (config.doOnConnect() != null) {
 			mono = mono.doOnSubscribe(s -> config.doOnConnect().accept(config));
@@ -203,11 +218,22 @@ class HttpClientConnect extends HttpClient {
 		}
 
 		@Override
-		@SuppressWarnings("deprecation")
 		public void subscribe(CoreSubscriber<? super Connection> actual) {
 			HttpClientHandler handler = new HttpClientHandler(config);
 
-			Mono.<Connection>create(sink -> {
+			HedgingPolicy hedgingPolicy = config.hedgingPolicy;
+			if (hedgingPolicy != null && config.websocketClientSpec == null && HedgingPolicy.isHedged(config.method)) {
+				Mono.<Connection>create(sink -> new HedgedRequest(this, hedgingPolicy, handler, sink).start(handler))
+				    .subscribe(actual);
+			}
+			else {
+				connect(handler).subscribe(actual);
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		Mono<Connection> connect(HttpClientHandler handler) {
+			return Mono.<Connection>create(sink -> {
 				HttpClientConfig _config = config;
 
 				//append secure handler if needed
@@ -272,8 +298,7 @@ class HttpClientConnect extends HttpClient {
 						.acquire(_config, observer, handler, resolver)
 						.subscribe(new ClientTransportSubscriber(sink));
 
-			}).retryWhen(Retry.indefinitely().filter(handler))
-			  .subscribe(actual);
+			}).retryWhen(Retry.indefinitely().filter(handler));
 		}
 
 		private void removeIncompatibleProtocol(HttpClientConfig config, HttpProtocol protocol) {
@@ -286,6 +311,133 @@ class HttpClientConnect extends HttpClient {
 			config.protocols(newProtocols.toArray(new HttpProtocol[0]));
 		}
 
+		/**
+		 * Sends a request and hedges it when its response is not received after the hedging delay.
+		 */
+		static final class HedgedRequest implements Disposable {
+
+			final Disposable.Composite attempts;
+			final HedgingPolicy hedgingPolicy;
+			final MonoHttpConnect parent;
+			final SocketAddress remoteAddress;
+			final MonoSink<Connection> sink;
+
+			// Guarded by this
+			boolean done;
+			int hedges;
+			int inFlight;
+			// The number of the scheduled hedge, 0 when there is none
+			int pendingHedge;
+
+			long startedAt;
+
+			HedgedRequest(MonoHttpConnect parent, HedgingPolicy hedgingPolicy, HttpClientHandler handler,
+					MonoSink<Connection> sink) {
+				this.attempts = Disposables.composite();
+				this.hedgingPolicy = hedgingPolicy;
+				this.parent = parent;
+				this.remoteAddress = handler.toURI.getRemoteAddress();
+				this.sink = sink;
+			}
+
+			@Override
+			public void dispose() {
+				synchronized (this) {
+					done = true;
+				}
+				attempts.dispose();
+			}
+
+			void start(HttpClientHandler handler) {
+				sink.onCancel(this);
+				startedAt = System.nanoTime();
+				send(handler);
+			}
+
+			void hedge(int hedge) {
+				synchronized (this) {
+					if (pendingHedge != hedge) {
+						// Already sent because all the requests in flight failed
+						return;
+					}
+					pendingHedge = 0;
+				}
+				if (log.isDebugEnabled()) {
+					log.debug("No response received from [{}] after the hedging delay, hedging the request", remoteAddress);
+				}
+				send(new HttpClientHandler(parent.config));
+			}
+
+			void send(HttpClientHandler handler) {
+				synchronized (this) {
+					if (done) {
+						return;
+					}
+					inFlight++;
+				}
+				attempts.add(parent.connect(handler)
+				                   .contextWrite(sink.contextView())
+				                   .subscribe(this::onNext, this::onError));
+
+				int hedge;
+				long delay;
+				synchronized (this) {
+					if (done || hedges >= hedgingPolicy.maxHedges) {
+						return;
+					}
+					hedge = ++hedges;
+					pendingHedge = hedge;
+					delay = hedgingPolicy.hedgingDelay(remoteAddress);
+				}
+				attempts.add(Schedulers.parallel().schedule(() -> hedge(hedge), delay, TimeUnit.NANOSECONDS));
+			}
+
+			void onNext(Connection connection) {
+				boolean won;
+				synchronized (this) {
+					won = !done;
+					done = true;
+				}
+				if (!won) {
+					// Another request received its response first
+					connection.dispose();
+					return;
+				}
+				// When a hedged request wins, this is a lower bound of the latency of the original request
+				hedgingPolicy.recordLatency(remoteAddress, System.nanoTime() - startedAt);
+				// Cancels the other requests and the pending hedging
+				attempts.dispose();
+				sink.success(connection);
+			}
+
+			void onError(Throwable error) {
+				boolean sendHedge;
+				synchronized (this) {
+					if (done || --inFlight > 0) {
+						// The error is reported only when no other request can still receive a response
+						return;
+					}
+					sendHedge = pendingHedge != 0;
+					if (sendHedge) {
+						pendingHedge = 0;
+					}
+					else {
+						done = true;
+					}
+				}
+				if (sendHedge) {
+					// The scheduled hedge can still receive a response, it is sent without waiting for the hedging delay
+					if (log.isDebugEnabled()) {
+						log.debug("All the requests to [{}] failed, sending the scheduled hedge", remoteAddress);
+					}
+					send(new HttpClientHandler(parent.config));
+					return;
+				}
+				attempts.dispose();
+				sink.error(error);
+			}
+		}
+
 		static final class ClientTransportSubscriber implements CoreSubscriber<Connection> {
 
 			final MonoSink<Connection> sink;
@@ -16,6 +16,7 @@
 package reactor.netty.http.client;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -24,7 +25,10 @@ import java.util.function.Function;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -92,6 +96,9 @@ final class HttpClientFinalizer extends HttpClientConnect implements HttpClient.
 
 	@Override
 	public <V> Flux<V> response(BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver) {
+		if (isCachedOrCoalesced()) {
+			return cachedOrCoalescedResponse(receiver);
+		}
 		return _connect().flatMapMany(resp -> Flux.from(receiver.apply(resp, resp.receive()))
 		                                          .doFinally(s -> discard(resp))
 		                                          .contextWrite(resp.currentContextView()));
@@ -105,19 +112,20 @@ final class HttpClientFinalizer extends HttpClientConnect implements HttpClient.
 
 	@Override
 	public ByteBufFlux responseContent() {
-		ByteBufAllocator alloc = (ByteBufAllocator) configuration().options()
-		                                                           .get(ChannelOption.ALLOCATOR);
-		if (alloc == null) {
-			alloc = ByteBufAllocator.DEFAULT;
+		ByteBufAllocator alloc = alloc();
+
+		if (isCachedOrCoalesced()) {
+			return ByteBufFlux.fromInbound(cachedOrCoalescedResponse((resp, body) -> body), alloc);
 		}
 
-		@SuppressWarnings("unchecked")
-		Mono<ChannelOperations<?, ?>> connector = (Mono<ChannelOperations<?, ?>>) connect();
-		return ByteBufFlux.fromInbound(connector.flatMapMany(contentReceiver), alloc);
+		return ByteBufFlux.fromInbound(_connect().flatMapMany(contentReceiver), alloc);
 	}
 
 	@Override
 	public <V> Mono<V> responseSingle(BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		if (isCachedOrCoalesced()) {
+			return cachedOrCoalescedResponse((resp, body) -> receiver.apply(resp, body.aggregate())).singleOrEmpty();
+		}
 		return _connect().flatMap(resp -> receiver.apply(resp, resp.receive().aggregate())
 		                                          .doFinally(s -> discard(resp))
 		                                          .contextWrite(resp.currentContextView()));
@@ -156,7 +164,128 @@ final class HttpClientFinalizer extends HttpClientConnect implements HttpClient.
 
 	@SuppressWarnings("unchecked")
 	Mono<HttpClientOperations> _connect() {
-		return (Mono<HttpClientOperations>) connect();
+		Mono<HttpClientOperations> connect = (Mono<HttpClientOperations>) connect();
+		HttpResponseCache responseCache = configuration().responseCache;
+		if (responseCache != null && HttpResponseCache.isUnsafe(configuration().method)) {
+			connect = connect.doOnNext(responseCache::invalidate);
+		}
+		return connect;
+	}
+
+	ByteBufAllocator alloc() {
+		ByteBufAllocator alloc = (ByteBufAllocator) configuration().options()
+		                                                           .get(ChannelOption.ALLOCATOR);
+		return alloc != null ? alloc : ByteBufAllocator.DEFAULT;
+	}
+
+	/**
+	 * Returns whether the response of the request can be served from the {@link HttpResponseCache}
+	 * or shared with identical in-flight requests.
+	 *
+	 * @return whether the response of the request can be served from the cache or shared
+	 */
+	boolean isCachedOrCoalesced() {
+		HttpClientConfig config = configuration();
+		return HttpMethod.GET.equals(config.method) && config.websocketClientSpec == null &&
+				(config.responseCache != null || isCoalesced(config));
+	}
+
+	/**
+	 * Returns whether the request can be coalesced, the requests with a sender function are not coalesced
+	 * as the headers set when the request is sent are not part of the coalescing key.
+	 *
+	 * @param config the client configuration
+	 * @return whether the request can be coalesced
+	 */
+	static boolean isCoalesced(HttpClientConfig config) {
+		return config.coalescingPolicy != null && config.body == null;
+	}
+
+	/**
+	 * Resolves the deferred configuration, then coalesces or caches the response. When the requests are
+	 * both coalesced and cached, the in-flight request is the one served from the cache.
+	 */
+	<V> Flux<V> cachedOrCoalescedResponse(BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver) {
+		HttpClientConfig config = configuration();
+		Mono<HttpClientConfig> resolvedConfig =
+				config.deferredConf != null ? config.deferredConf.apply(Mono.just(config)) : Mono.just(config);
+		return resolvedConfig.flatMapMany(conf -> isCoalesced(conf) ?
+				coalescedResponse(conf, conf.coalescingPolicy, receiver) :
+				cachedResponse(conf, conf.responseCache, receiver));
+	}
+
+	/**
+	 * Joins an identical in-flight request or sends the request, the response is aggregated
+	 * and replayed to all the coalesced requests.
+	 */
+	<V> Flux<V> coalescedResponse(HttpClientConfig conf, CoalescingPolicy coalescingPolicy,
+			BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver) {
+		ByteBufAllocator alloc = alloc();
+		return Flux.deferContextual(contextView -> {
+			HttpClientHandler handler = new HttpClientHandler(conf);
+			HttpClientConfig exchangeConfig = new HttpClientConfig(conf);
+			exchangeConfig.coalescingPolicy = null;
+			exchangeConfig.deferredConf = null;
+			List<String> key = coalescingPolicy.key(conf.method.name(), handler.resourceUrl, conf.headers);
+			return coalescingPolicy.join(key, () -> new HttpClientFinalizer(exchangeConfig).response(coalescingPolicy::aggregate).singleOrEmpty())
+			                       .flatMapMany(response -> {
+			                           if (response == CoalescingPolicy.Response.TOO_LARGE) {
+			                               return new HttpClientFinalizer(exchangeConfig).response(receiver);
+			                           }
+			                           byte[] bytes = response.body;
+			                           return receiver.apply(
+			                                   new AggregatedHttpClientResponse(response.status, response.version, response.headers.copy(),
+			                                           response.redirectedFrom, response.resourceUrl, handler, conf, contextView),
+			                                   ByteBufFlux.fromInbound(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(bytes))
+			                                                               .filter(ByteBuf::isReadable), alloc));
+			                       });
+		});
+	}
+
+	/**
+	 * Serves the stored response when it can be used without validation, otherwise sends the request,
+	 * conditional when there is a stored response to validate, and stores the received response.
+	 */
+	<V> Flux<V> cachedResponse(HttpClientConfig conf, HttpResponseCache responseCache,
+			BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver) {
+		ByteBufAllocator alloc = alloc();
+		return Flux.deferContextual(contextView -> {
+			HttpClientHandler handler = new HttpClientHandler(conf);
+			String key = handler.resourceUrl;
+			boolean bypassed = HttpResponseCache.isBypassed(conf.headers);
+			HttpResponseCache.Entry stored = bypassed ? null : responseCache.get(key, conf.headers);
+			long requestTime = responseCache.clock.getAsLong();
+			if (stored != null && HttpResponseCache.isFresh(stored, conf.headers, requestTime)) {
+				HttpResponseCache.recordLookup(conf, handler, true);
+				return receiver.apply(stored.response(handler, conf, contextView, requestTime), stored.body(alloc));
+			}
+
+			HttpClientConfig requestConfig = stored != null ? stored.conditionalRequest(conf) : conf;
+			return connect(new MonoHttpConnect(requestConfig)).flatMapMany(connection -> {
+				HttpClientOperations ops = (HttpClientOperations) connection;
+				if (stored != null && ops.status().code() == HttpResponseStatus.NOT_MODIFIED.code()) {
+					HttpResponseCache.Entry updated = responseCache.update(stored, ops.responseHeaders(), requestTime);
+					discard(ops);
+					HttpResponseCache.recordLookup(conf, handler, true);
+					return Flux.from(receiver.apply(
+					                   updated.response(handler, conf, ops.currentContextView(), responseCache.clock.getAsLong()),
+					                   updated.body(alloc)))
+					           .contextWrite(ops.currentContextView());
+				}
+
+				ByteBufFlux body;
+				if (bypassed) {
+					body = ops.receive();
+				}
+				else {
+					HttpResponseCache.recordLookup(conf, handler, false);
+					body = responseCache.store(key, ops, requestTime, stored, alloc);
+				}
+				return Flux.from(receiver.apply(ops, body))
+				           .doFinally(s -> discard(ops))
+				           .contextWrite(ops.currentContextView());
+			});
+		});
 	}
 
 	static void discard(HttpClientOperations c) {
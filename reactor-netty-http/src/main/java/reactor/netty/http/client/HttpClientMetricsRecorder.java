@@ -58,4 +58,25 @@ public interface HttpClientMetricsRecorder extends HttpMetricsRecorder {
 	 * @param time the total time in nanoseconds for the request/response
 	 */
 	void recordResponseTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time);
+
+	/**
+	 * Increments the number of the requests whose response is served from the {@link HttpResponseCache},
+	 * including after a successful validation.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param uri the requested URI
+	 * @since 1.2.0
+	 */
+	default void recordResponseCacheHit(SocketAddress remoteAddress, String uri) {
+	}
+
+	/**
+	 * Increments the number of the requests whose response is not served from the {@link HttpResponseCache}.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param uri the requested URI
+	 * @since 1.2.0
+	 */
+	default void recordResponseCacheMiss(SocketAddress remoteAddress, String uri) {
+	}
 }
@@ -67,7 +67,6 @@ import io.netty.handler.codec.http.websocketx.extensions.compression.DeflateFram
 import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateClientExtensionHandshaker;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.stream.ChunkedWriteHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
@@ -80,6 +79,7 @@ import reactor.core.publisher.Operators;
 import reactor.core.publisher.Sinks;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.FlushPolicy;
 import reactor.netty.FutureMono;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
@@ -90,6 +90,7 @@ import reactor.netty.http.Cookies;
 import reactor.netty.http.HttpOperations;
 import reactor.netty.http.logging.HttpMessageArgProviderFactory;
 import reactor.netty.http.logging.HttpMessageLogFactory;
+import reactor.netty.internal.util.TimerReadTimeoutHandler;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 import reactor.util.annotation.Nullable;
@@ -488,6 +489,25 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 		return super.send(source);
 	}
 
+	@Override
+	public NettyOutbound send(Publisher<? extends ByteBuf> source, FlushPolicy flushPolicy) {
+		Objects.requireNonNull(flushPolicy, "flushPolicy");
+		// The body of a GET or HEAD request is aggregated and sent with its content length
+		if (Objects.equals(method(), HttpMethod.GET) || Objects.equals(method(), HttpMethod.HEAD)) {
+			return send(source);
+		}
+		return super.send(source, flushPolicy);
+	}
+
+	@Override
+	public NettyOutbound sendObject(Publisher<?> dataStream, FlushPolicy flushPolicy) {
+		Objects.requireNonNull(flushPolicy, "flushPolicy");
+		if (Objects.equals(method(), HttpMethod.GET) || Objects.equals(method(), HttpMethod.HEAD)) {
+			return sendObject(dataStream);
+		}
+		return super.sendObject(dataStream, flushPolicy);
+	}
+
 	final URI websocketUri() {
 		URI uri;
 		try {
@@ -644,7 +664,7 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 		listener().onStateChange(this, HttpClientState.REQUEST_SENT);
 		if (responseTimeout != null) {
 			addHandlerFirst(NettyPipeline.ResponseTimeoutHandler,
-					new ReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS));
+					new TimerReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS));
 		}
 		channel().read();
 		if (channel().parent() != null) {
@@ -0,0 +1,828 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.channel.ChannelMetricsRecorder;
+import reactor.netty.http.HttpOperations;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.ContextView;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory cache of the responses received by {@link HttpClient}, as specified by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * Only the responses of the {@code GET} requests that are consumed with {@link HttpClient.ResponseReceiver#response(java.util.function.BiFunction)},
+ * {@link HttpClient.ResponseReceiver#responseContent()} or {@link HttpClient.ResponseReceiver#responseSingle(java.util.function.BiFunction)}
+ * are cached, the response is stored once its body has been fully received. A stored response is served without
+ * sending the request while it is fresh, according to the {@code Cache-Control}, {@code Expires}, {@code Age}
+ * and {@code Date} headers, or heuristically from {@code Last-Modified}. A stale stored response is validated
+ * with a conditional request ({@code If-None-Match} and/or {@code If-Modified-Since}), a {@code 304 Not Modified}
+ * response updates the stored response which is then served. The request {@code Cache-Control} directives
+ * ({@code no-cache}, {@code no-store}, {@code max-age}, {@code max-stale} and {@code min-fresh}) are read from the
+ * headers configured with {@link HttpClient#headers(java.util.function.Consumer)}, as are the request headers
+ * that are matched against the {@code Vary} header of the stored responses.
+ * <p>
+ * As the same cache can be used by requests sent on behalf of different users, it behaves as a shared cache:
+ * the {@code private} responses are not stored, neither are the responses to requests with an {@code Authorization}
+ * header unless they are explicitly allowed to be stored by a shared cache. The requests with conditional or
+ * {@code Range} headers bypass the cache. A successful response to a request with an unsafe method invalidates
+ * the stored responses for the same URI.
+ * <p>
+ * The responses are evicted in least recently used order when the size of the stored bodies and headers exceeds
+ * {@link Builder#maxSize(long)}. The same instance can be shared by several clients.
+ *
+ * @since 1.2.0
+ */
+public final class HttpResponseCache {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpResponseCache}.
+		 *
+		 * @return a new {@link HttpResponseCache}
+		 */
+		HttpResponseCache build();
+
+		/**
+		 * Configures the maximum size in bytes of a stored response, larger responses are not stored.
+		 * When greater than {@link #maxSize(long)}, the maximum size of the cache is used.
+		 * Default to {@code 1MB}.
+		 *
+		 * @param maxEntrySize the maximum size in bytes of a stored response
+		 * @return {@code this}
+		 */
+		Builder maxEntrySize(long maxEntrySize);
+
+		/**
+		 * Configures the maximum size in bytes of the stored responses, the least recently used responses
+		 * are evicted when it is exceeded.
+		 * Default to {@code 16MB}.
+		 *
+		 * @param maxSize the maximum size in bytes of the stored responses
+		 * @return {@code this}
+		 */
+		Builder maxSize(long maxSize);
+	}
+
+	/**
+	 * Creates a builder for {@link HttpResponseCache}.
+	 *
+	 * @return a new {@link HttpResponseCache.Builder}
+	 */
+	public static HttpResponseCache.Builder builder() {
+		return new HttpResponseCache.Build();
+	}
+
+	/**
+	 * Removes all stored responses.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a stored response.
+	 *
+	 * @return the maximum size in bytes of a stored response
+	 */
+	public long maxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of the stored responses.
+	 *
+	 * @return the maximum size in bytes of the stored responses
+	 */
+	public long maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the current size in bytes of the stored responses.
+	 *
+	 * @return the current size in bytes of the stored responses
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "HttpResponseCache{" +
+				"maxEntrySize=" + maxEntrySize +
+				", maxSize=" + maxSize +
+				'}';
+	}
+
+	/**
+	 * The status codes that are cacheable by default, i.e. whose responses can be heuristically fresh.
+	 */
+	static final Set<Integer> HEURISTICALLY_CACHEABLE =
+			new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501));
+
+	/**
+	 * The headers of a {@code 304 Not Modified} response that do not update the stored response.
+	 */
+	static final Set<String> NOT_UPDATED_HEADERS = new HashSet<>(Arrays.asList(
+			HttpHeaderNames.CONNECTION.toString(), HttpHeaderNames.CONTENT_LENGTH.toString(),
+			HttpHeaderNames.KEEP_ALIVE.toString(), HttpHeaderNames.TE.toString(),
+			HttpHeaderNames.TRANSFER_ENCODING.toString(), HttpHeaderNames.UPGRADE.toString()));
+
+	/**
+	 * The percentage of the time elapsed since the last modification that is used as a heuristic freshness lifetime.
+	 */
+	static final int HEURISTIC_PERCENTAGE = 10;
+
+	final LongSupplier clock;
+	final LinkedHashMap<String, List<Entry>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	final long maxEntrySize;
+	final long maxSize;
+
+	long size;
+
+	HttpResponseCache(Build build) {
+		this(build, System::currentTimeMillis);
+	}
+
+	HttpResponseCache(Build build, LongSupplier clock) {
+		this.clock = clock;
+		this.maxEntrySize = Math.min(build.maxEntrySize, build.maxSize);
+		this.maxSize = build.maxSize;
+	}
+
+	/**
+	 * Returns the stored response that matches the request or {@code null}.
+	 *
+	 * @param key the URI of the request
+	 * @param requestHeaders the request headers
+	 * @return the stored response that matches the request or {@code null}
+	 */
+	@Nullable
+	synchronized Entry get(String key, HttpHeaders requestHeaders) {
+		List<Entry> variants = entries.get(key);
+		if (variants != null) {
+			for (Entry entry : variants) {
+				if (entry.matches(requestHeaders)) {
+					return entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the stored response can be served without validation.
+	 *
+	 * @param entry the stored response
+	 * @param requestHeaders the request headers
+	 * @param now the current time (resolution: ms)
+	 * @return true if the stored response can be served without validation
+	 */
+	static boolean isFresh(Entry entry, HttpHeaders requestHeaders, long now) {
+		CacheControl request = CacheControl.parse(requestHeaders, true);
+		CacheControl response = entry.cacheControl;
+		if (request.noCache || response.noCache) {
+			return false;
+		}
+		long age = entry.currentAge(now);
+		long freshnessLifetime = entry.freshnessLifetime;
+		if (request.maxAge >= 0 && age > TimeUnit.SECONDS.toMillis(request.maxAge)) {
+			return false;
+		}
+		if (request.minFresh >= 0 && freshnessLifetime - age < TimeUnit.SECONDS.toMillis(request.minFresh)) {
+			return false;
+		}
+		if (freshnessLifetime > age) {
+			return true;
+		}
+		// Stale, s-maxage implies proxy-revalidate
+		return request.maxStale >= 0 && !response.mustRevalidate && !response.proxyRevalidate && response.sMaxAge < 0 &&
+				(request.maxStale == Long.MAX_VALUE || age - freshnessLifetime <= TimeUnit.SECONDS.toMillis(request.maxStale));
+	}
+
+	/**
+	 * Returns whether the request bypasses the cache, i.e. a conditional or range request.
+	 *
+	 * @param requestHeaders the request headers
+	 * @return true if the request bypasses the cache
+	 */
+	static boolean isBypassed(HttpHeaders requestHeaders) {
+		return requestHeaders.contains(HttpHeaderNames.IF_NONE_MATCH) ||
+				requestHeaders.contains(HttpHeaderNames.IF_MODIFIED_SINCE) ||
+				requestHeaders.contains(HttpHeaderNames.IF_MATCH) ||
+				requestHeaders.contains(HttpHeaderNames.IF_UNMODIFIED_SINCE) ||
+				requestHeaders.contains(HttpHeaderNames.IF_RANGE) ||
+				requestHeaders.contains(HttpHeaderNames.RANGE);
+	}
+
+	static boolean isUnsafe(HttpMethod method) {
+		return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) &&
+				!HttpMethod.OPTIONS.equals(method) && !HttpMethod.TRACE.equals(method);
+	}
+
+	/**
+	 * Removes the stored responses for the target URI of a request with an unsafe method,
+	 * when the response is successful.
+	 *
+	 * @param ops the response
+	 */
+	void invalidate(HttpClientOperations ops) {
+		int code = ops.status().code();
+		if (code >= 200 && code < 400) {
+			synchronized (this) {
+				remove(ops.resourceUrl());
+			}
+		}
+	}
+
+	/**
+	 * Returns the body of the response and stores the response once its body has been fully received,
+	 * when the response can be stored. The stored response that was validated by the request is removed
+	 * when the response cannot be stored.
+	 *
+	 * @param key the URI of the request
+	 * @param ops the response
+	 * @param requestTime the time at which the request was sent (resolution: ms)
+	 * @param validated the stored response that was validated by the request or {@code null}
+	 * @param alloc the allocator of the response body
+	 * @return the body of the response
+	 */
+	ByteBufFlux store(String key, HttpClientOperations ops, long requestTime, @Nullable Entry validated, ByteBufAllocator alloc) {
+		long responseTime = clock.getAsLong();
+		HttpHeaders requestHeaders = ops.requestHeaders();
+		HttpHeaders responseHeaders = ops.responseHeaders();
+		CacheControl cacheControl = CacheControl.parse(responseHeaders, false);
+		long freshnessLifetime = freshnessLifetime(ops.status(), responseHeaders, cacheControl, responseTime);
+		if (!isStorable(ops, cacheControl, freshnessLifetime)) {
+			if (validated != null && ops.status().code() < 500) {
+				remove(validated);
+			}
+			return ops.receive();
+		}
+
+		String[] vary = vary(responseHeaders);
+		Map<String, String> varyValues = new HashMap<>();
+		for (String name : vary) {
+			varyValues.put(name, headerValue(requestHeaders, name));
+		}
+		long correctedInitialAge = correctedInitialAge(responseHeaders, requestTime, responseTime);
+		HttpHeaders headers = new DefaultHttpHeaders().set(responseHeaders);
+		HttpResponseStatus status = ops.status();
+		HttpVersion version = ops.version();
+		return ByteBufFlux.fromInbound(Flux.defer(() -> {
+			Body body = new Body(maxEntrySize);
+			return ops.receive()
+			          .doOnNext(body::add)
+			          .doOnComplete(() -> {
+			              if (!body.truncated) {
+			                  put(new Entry(key, status, version, headers, body.toByteArray(), cacheControl,
+			                          freshnessLifetime, correctedInitialAge, responseTime, vary, varyValues));
+			              }
+			          });
+		}), alloc);
+	}
+
+	/**
+	 * Updates the stored response with the headers of a {@code 304 Not Modified} response.
+	 *
+	 * @param entry the stored response
+	 * @param notModifiedHeaders the headers of the {@code 304 Not Modified} response
+	 * @param requestTime the time at which the conditional request was sent (resolution: ms)
+	 * @return the updated stored response
+	 */
+	Entry update(Entry entry, HttpHeaders notModifiedHeaders, long requestTime) {
+		long responseTime = clock.getAsLong();
+		HttpHeaders headers = new DefaultHttpHeaders().set(entry.headers);
+		for (String name : notModifiedHeaders.names()) {
+			if (!NOT_UPDATED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+				headers.set(name, notModifiedHeaders.getAll(name));
+			}
+		}
+		CacheControl cacheControl = CacheControl.parse(headers, false);
+		Entry updated = new Entry(entry.key, entry.status, entry.version, headers, entry.body, cacheControl,
+				freshnessLifetime(entry.status, headers, cacheControl, responseTime),
+				correctedInitialAge(headers, requestTime, responseTime), responseTime, entry.vary, entry.varyValues);
+		put(updated);
+		return updated;
+	}
+
+	synchronized void put(Entry entry) {
+		if (entry.size > maxEntrySize) {
+			return;
+		}
+		List<Entry> variants = entries.get(entry.key);
+		List<Entry> next = new ArrayList<>(variants != null ? variants.size() + 1 : 1);
+		next.add(entry);
+		if (variants != null) {
+			for (Entry variant : variants) {
+				if (variant.varyValues.equals(entry.varyValues)) {
+					size -= variant.size;
+				}
+				else {
+					next.add(variant);
+				}
+			}
+		}
+		entries.put(entry.key, next);
+		size += entry.size;
+
+		Iterator<List<Entry>> it = entries.values().iterator();
+		while (size > maxSize && it.hasNext()) {
+			for (Entry evicted : it.next()) {
+				size -= evicted.size;
+			}
+			it.remove();
+		}
+	}
+
+	synchronized void remove(Entry entry) {
+		List<Entry> variants = entries.get(entry.key);
+		if (variants != null && variants.contains(entry)) {
+			List<Entry> next = new ArrayList<>(variants);
+			next.remove(entry);
+			size -= entry.size;
+			if (next.isEmpty()) {
+				entries.remove(entry.key);
+			}
+			else {
+				entries.put(entry.key, next);
+			}
+		}
+	}
+
+	// Must be called while holding the lock of this cache
+	void remove(String key) {
+		List<Entry> variants = entries.remove(key);
+		if (variants != null) {
+			for (Entry entry : variants) {
+				size -= entry.size;
+			}
+		}
+	}
+
+	static boolean isStorable(HttpClientOperations ops, CacheControl cacheControl, long freshnessLifetime) {
+		HttpHeaders requestHeaders = ops.requestHeaders();
+		HttpHeaders responseHeaders = ops.responseHeaders();
+		if (cacheControl.noStore || cacheControl.isPrivate || CacheControl.parse(requestHeaders, true).noStore) {
+			return false;
+		}
+		if (requestHeaders.contains(HttpHeaderNames.AUTHORIZATION) &&
+				!cacheControl.isPublic && !cacheControl.mustRevalidate && cacheControl.sMaxAge < 0) {
+			return false;
+		}
+		int code = ops.status().code();
+		if (!HEURISTICALLY_CACHEABLE.contains(code) &&
+				(code < 200 || code == 206 || code == 304 || !hasExplicitExpiration(responseHeaders, cacheControl))) {
+			return false;
+		}
+		if (freshnessLifetime <= 0 && !responseHeaders.contains(HttpHeaderNames.ETAG) &&
+				!responseHeaders.contains(HttpHeaderNames.LAST_MODIFIED)) {
+			// Would never be served
+			return false;
+		}
+		for (String name : vary(responseHeaders)) {
+			if ("*".equals(name)) {
+				return false;
+			}
+		}
+		// The final response of a redirected request is not the response for the request URI
+		return ops.redirectedFrom().length == 0;
+	}
+
+	static boolean hasExplicitExpiration(HttpHeaders headers, CacheControl cacheControl) {
+		return cacheControl.maxAge >= 0 || cacheControl.sMaxAge >= 0 || headers.contains(HttpHeaderNames.EXPIRES);
+	}
+
+	/**
+	 * Computes the freshness lifetime of a response as specified by RFC 9111 section 4.2.1.
+	 *
+	 * @return the freshness lifetime (resolution: ms)
+	 */
+	static long freshnessLifetime(HttpResponseStatus status, HttpHeaders headers, CacheControl cacheControl, long responseTime) {
+		if (cacheControl.sMaxAge >= 0) {
+			return TimeUnit.SECONDS.toMillis(cacheControl.sMaxAge);
+		}
+		if (cacheControl.maxAge >= 0) {
+			return TimeUnit.SECONDS.toMillis(cacheControl.maxAge);
+		}
+		long date = date(headers, HttpHeaderNames.DATE.toString(), responseTime);
+		String expires = headers.get(HttpHeaderNames.EXPIRES);
+		if (expires != null) {
+			// An invalid date, e.g. "0", represents a time in the past
+			return Math.max(0, date(headers, HttpHeaderNames.EXPIRES.toString(), date) - date);
+		}
+		String lastModified = headers.get(HttpHeaderNames.LAST_MODIFIED);
+		if (lastModified != null && HEURISTICALLY_CACHEABLE.contains(status.code())) {
+			return Math.max(0, (date - date(headers, HttpHeaderNames.LAST_MODIFIED.toString(), date)) / 100 * HEURISTIC_PERCENTAGE);
+		}
+		return 0;
+	}
+
+	/**
+	 * Computes the corrected initial age of a response as specified by RFC 9111 section 4.2.3.
+	 *
+	 * @return the corrected initial age (resolution: ms)
+	 */
+	static long correctedInitialAge(HttpHeaders headers, long requestTime, long responseTime) {
+		long ageValue = TimeUnit.SECONDS.toMillis(deltaSeconds(headers.get(HttpHeaderNames.AGE), 0));
+		long apparentAge = Math.max(0, responseTime - date(headers, HttpHeaderNames.DATE.toString(), responseTime));
+		long responseDelay = responseTime - requestTime;
+		return Math.max(apparentAge, ageValue + responseDelay);
+	}
+
+	static long date(HttpHeaders headers, String name, long defaultValue) {
+		String value = headers.get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		Date date = DateFormatter.parseHttpDate(value);
+		return date != null ? date.getTime() : defaultValue;
+	}
+
+	static long deltaSeconds(@Nullable String value, long defaultValue) {
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			long seconds = Long.parseLong(value.trim());
+			return seconds >= 0 ? seconds : defaultValue;
+		}
+		catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the normalized value of a request header, i.e. the field lines combined and trimmed,
+	 * or {@code null} if the request does not contain this header.
+	 */
+	@Nullable
+	static String headerValue(HttpHeaders headers, String name) {
+		List<String> values = headers.getAll(name);
+		if (values.isEmpty()) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (String value : values) {
+			for (String element : value.split(",")) {
+				if (sb.length() > 0) {
+					sb.append(',');
+				}
+				sb.append(element.trim());
+			}
+		}
+		return sb.toString();
+	}
+
+	static String[] vary(HttpHeaders headers) {
+		List<String> values = headers.getAll(HttpHeaderNames.VARY);
+		if (values.isEmpty()) {
+			return EMPTY_VARY;
+		}
+		List<String> names = new ArrayList<>();
+		for (String value : values) {
+			for (String name : value.split(",")) {
+				name = name.trim();
+				if (!name.isEmpty()) {
+					names.add(name.toLowerCase(Locale.ROOT));
+				}
+			}
+		}
+		return names.toArray(new String[0]);
+	}
+
+	/**
+	 * Records the lookup of a request in the cache, a request is a hit when its response is served
+	 * from the cache, including after a successful validation.
+	 *
+	 * @param config the client configuration
+	 * @param handler the request
+	 * @param hit true if the response is served from the cache
+	 */
+	static void recordLookup(HttpClientConfig config, HttpClientConnect.HttpClientHandler handler, boolean hit) {
+		Supplier<? extends ChannelMetricsRecorder> metricsRecorder = config.metricsRecorder();
+		if (metricsRecorder == null) {
+			return;
+		}
+		ChannelMetricsRecorder recorder = metricsRecorder.get();
+		if (recorder instanceof HttpClientMetricsRecorder) {
+			SocketAddress remoteAddress = handler.toURI.getRemoteAddress();
+			String path = HttpOperations.resolvePath(handler.toURI.getPathAndQuery());
+			Function<String, String> uriTagValue = config.uriTagValue;
+			String uri = uriTagValue == null ? path : uriTagValue.apply(path);
+			if (hit) {
+				((HttpClientMetricsRecorder) recorder).recordResponseCacheHit(remoteAddress, uri);
+			}
+			else {
+				((HttpClientMetricsRecorder) recorder).recordResponseCacheMiss(remoteAddress, uri);
+			}
+		}
+	}
+
+	static final String[] EMPTY_VARY = new String[0];
+
+	/**
+	 * Collects the body of a response, until it exceeds the maximum size of a stored response.
+	 */
+	static final class Body {
+
+		static final byte[] EMPTY_BYTES = new byte[0];
+
+		final long maxSize;
+
+		byte[] bytes = EMPTY_BYTES;
+		int length;
+		boolean truncated;
+
+		Body(long maxSize) {
+			this.maxSize = Math.min(maxSize, Integer.MAX_VALUE - 8);
+		}
+
+		void add(ByteBuf buf) {
+			int readable = buf.readableBytes();
+			if (truncated || length + (long) readable > maxSize) {
+				truncated = true;
+				bytes = EMPTY_BYTES;
+				return;
+			}
+			if (length + readable > bytes.length) {
+				bytes = Arrays.copyOf(bytes, (int) Math.min(maxSize, Math.max(2L * bytes.length, length + readable)));
+			}
+			buf.getBytes(buf.readerIndex(), bytes, length, readable);
+			length += readable;
+		}
+
+		byte[] toByteArray() {
+			return bytes.length == length ? bytes : Arrays.copyOf(bytes, length);
+		}
+	}
+
+	/**
+	 * The {@code Cache-Control} directives of a request or a response.
+	 */
+	static final class CacheControl {
+
+		static final CacheControl EMPTY = new CacheControl();
+
+		boolean isPrivate;
+		boolean isPublic;
+		long maxAge = -1;
+		long maxStale = -1;
+		long minFresh = -1;
+		boolean mustRevalidate;
+		boolean noCache;
+		boolean noStore;
+		boolean proxyRevalidate;
+		long sMaxAge = -1;
+
+		static CacheControl parse(HttpHeaders headers, boolean request) {
+			List<String> values = headers.getAll(HttpHeaderNames.CACHE_CONTROL);
+			if (values.isEmpty()) {
+				if (request && headers.contains(HttpHeaderNames.PRAGMA, "no-cache", true)) {
+					CacheControl cacheControl = new CacheControl();
+					cacheControl.noCache = true;
+					return cacheControl;
+				}
+				return EMPTY;
+			}
+			CacheControl cacheControl = new CacheControl();
+			for (String value : values) {
+				for (String directive : value.split(",")) {
+					int index = directive.indexOf('=');
+					String name = (index == -1 ? directive : directive.substring(0, index)).trim().toLowerCase(Locale.ROOT);
+					String argument = index == -1 ? null : unquote(directive.substring(index + 1).trim());
+					switch (name) {
+						case "max-age":
+							// An invalid value is considered as stale
+							cacheControl.maxAge = deltaSeconds(argument, 0);
+							break;
+						case "max-stale":
+							cacheControl.maxStale = argument == null ? Long.MAX_VALUE : deltaSeconds(argument, 0);
+							break;
+						case "min-fresh":
+							cacheControl.minFresh = deltaSeconds(argument, 0);
+							break;
+						case "must-revalidate":
+							cacheControl.mustRevalidate = true;
+							break;
+						case "no-cache":
+							// The qualified form is handled as the unqualified one
+							cacheControl.noCache = true;
+							break;
+						case "no-store":
+							cacheControl.noStore = true;
+							break;
+						case "private":
+							cacheControl.isPrivate = true;
+							break;
+						case "proxy-revalidate":
+							cacheControl.proxyRevalidate = true;
+							break;
+						case "public":
+							cacheControl.isPublic = true;
+							break;
+						case "s-maxage":
+							cacheControl.sMaxAge = deltaSeconds(argument, 0);
+							break;
+						default:
+							break;
+					}
+				}
+			}
+			return cacheControl;
+		}
+
+		static String unquote(String value) {
+			if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+				return value.substring(1, value.length() - 1);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * A stored response.
+	 */
+	static final class Entry {
+
+		final byte[] body;
+		final CacheControl cacheControl;
+		final long correctedInitialAge;
+		final long freshnessLifetime;
+		final HttpHeaders headers;
+		final String key;
+		final long responseTime;
+		final long size;
+		final HttpResponseStatus status;
+		final String[] vary;
+		final Map<String, String> varyValues;
+		final HttpVersion version;
+
+		Entry(String key, HttpResponseStatus status, HttpVersion version, HttpHeaders headers, byte[] body,
+				CacheControl cacheControl, long freshnessLifetime, long correctedInitialAge, long responseTime,
+				String[] vary, Map<String, String> varyValues) {
+			this.body = body;
+			this.cacheControl = cacheControl;
+			this.correctedInitialAge = correctedInitialAge;
+			this.freshnessLifetime = freshnessLifetime;
+			this.headers = headers;
+			this.key = key;
+			this.responseTime = responseTime;
+			this.status = status;
+			this.vary = vary;
+			this.varyValues = varyValues;
+			this.version = version;
+
+			long size = key.length() + body.length;
+			for (Map.Entry<String, String> header : headers) {
+				size += header.getKey().length() + header.getValue().length();
+			}
+			this.size = size;
+		}
+
+		ByteBufFlux body(ByteBufAllocator alloc) {
+			return ByteBufFlux.fromInbound(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(body)).filter(ByteBuf::isReadable), alloc);
+		}
+
+		/**
+		 * Returns the configuration of the conditional request that validates this stored response.
+		 *
+		 * @param config the configuration of the request
+		 * @return the configuration of the conditional request
+		 */
+		HttpClientConfig conditionalRequest(HttpClientConfig config) {
+			String etag = headers.get(HttpHeaderNames.ETAG);
+			String lastModified = headers.get(HttpHeaderNames.LAST_MODIFIED);
+			if (etag == null && lastModified == null) {
+				return config;
+			}
+			HttpClientConfig conditional = new HttpClientConfig(config);
+			conditional.headers = config.headers.copy();
+			if (etag != null) {
+				conditional.headers.set(HttpHeaderNames.IF_NONE_MATCH, etag);
+			}
+			if (lastModified != null) {
+				conditional.headers.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified);
+			}
+			return conditional;
+		}
+
+		long currentAge(long now) {
+			return correctedInitialAge + (now - responseTime);
+		}
+
+		boolean matches(HttpHeaders requestHeaders) {
+			for (String name : vary) {
+				String value = headerValue(requestHeaders, name);
+				if (value == null) {
+					// The headers that are always sent by the client
+					if (HttpHeaderNames.ACCEPT.contentEqualsIgnoreCase(name)) {
+						value = HttpClientConnect.ALL.toString();
+					}
+					else if (HttpHeaderNames.USER_AGENT.contentEqualsIgnoreCase(name)) {
+						value = HttpClient.USER_AGENT;
+					}
+				}
+				if (!Objects.equals(value, varyValues.get(name))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the response served from this stored response.
+		 *
+		 * @param handler the request
+		 * @param config the configuration of the request
+		 * @param contextView the context of the request
+		 * @param now the current time (resolution: ms)
+		 * @return the response served from this stored response
+		 */
+		HttpClientResponse response(HttpClientConnect.HttpClientHandler handler, HttpClientConfig config,
+				ContextView contextView, long now) {
+			HttpHeaders responseHeaders = new DefaultHttpHeaders().set(headers)
+					.set(HttpHeaderNames.AGE, TimeUnit.MILLISECONDS.toSeconds(currentAge(now)));
+			return new AggregatedHttpClientResponse(status, version, responseHeaders, AggregatedHttpClientResponse.EMPTY_REDIRECTS,
+					handler.resourceUrl, handler, config, contextView);
+		}
+	}
+
+	static final class Build implements Builder {
+		static final long DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+		static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+		long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+		long maxSize = DEFAULT_MAX_SIZE;
+
+		@Override
+		public HttpResponseCache build() {
+			return new HttpResponseCache(this);
+		}
+
+		@Override
+		public Builder maxEntrySize(long maxEntrySize) {
+			if (maxEntrySize < 1) {
+				throw new IllegalArgumentException("maxEntrySize must be strictly positive");
+			}
+			this.maxEntrySize = maxEntrySize;
+			return this;
+		}
+
+		@Override
+		public Builder maxSize(long maxSize) {
+			if (maxSize < 1) {
+				throw new IllegalArgumentException("maxSize must be strictly positive");
+			}
+			this.maxSize = maxSize;
+			return this;
+		}
+	}
+}
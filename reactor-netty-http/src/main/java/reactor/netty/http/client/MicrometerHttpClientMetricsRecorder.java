@@ -15,10 +15,12 @@
  */
 package reactor.netty.http.client;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.http.MicrometerHttpMetricsRecorder;
 import reactor.netty.internal.util.MapUtils;
+import reactor.netty.internal.util.MeterCache;
 import reactor.util.annotation.Nullable;
 
 import java.net.SocketAddress;
@@ -30,6 +32,8 @@ import static reactor.netty.Metrics.HTTP_CLIENT_PREFIX;
 import static reactor.netty.Metrics.METHOD;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
+import static reactor.netty.Metrics.RESPONSE_CACHE_HITS;
+import static reactor.netty.Metrics.RESPONSE_CACHE_MISSES;
 import static reactor.netty.Metrics.RESPONSE_TIME;
 import static reactor.netty.Metrics.STATUS;
 import static reactor.netty.Metrics.URI;
@@ -45,21 +49,32 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 
 	static final MicrometerHttpClientMetricsRecorder INSTANCE = new MicrometerHttpClientMetricsRecorder();
 
+	private final MeterCache<Timer> dataReceivedTimers = new MeterCache<>();
+
+	private final MeterCache<Timer> dataSentTimers = new MeterCache<>();
+
+	private final MeterCache<Timer> responseTimers = new MeterCache<>();
+
+	private final MeterCache<Counter> responseCacheHitsCache = new MeterCache<>();
+
+	private final MeterCache<Counter> responseCacheMissesCache = new MeterCache<>();
+
 	private MicrometerHttpClientMetricsRecorder() {
 		super(HTTP_CLIENT_PREFIX, "http");
 	}
 
 	@Override
 	public void recordDataReceivedTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
-		String address = formatSocketAddress(remoteAddress);
-		MeterKey meterKey = new MeterKey(uri, address, method, status);
-		Timer dataReceivedTime = MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
-				key -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
-				                   .tags(HttpClientMeters.DataReceivedTimeTags.REMOTE_ADDRESS.asString(), address,
-				                         HttpClientMeters.DataReceivedTimeTags.URI.asString(), uri,
-				                         HttpClientMeters.DataReceivedTimeTags.METHOD.asString(), method,
-				                         HttpClientMeters.DataReceivedTimeTags.STATUS.asString(), status)
-				                   .register(REGISTRY)));
+		Timer dataReceivedTime = dataReceivedTimers.get(remoteAddress, uri, method, status);
+		if (dataReceivedTime == null) {
+			dataReceivedTime = dataReceivedTimers.computeIfAbsent(remoteAddress, uri, method, status,
+					() -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
+					                  .tags(HttpClientMeters.DataReceivedTimeTags.REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress),
+					                        HttpClientMeters.DataReceivedTimeTags.URI.asString(), uri,
+					                        HttpClientMeters.DataReceivedTimeTags.METHOD.asString(), method,
+					                        HttpClientMeters.DataReceivedTimeTags.STATUS.asString(), status)
+					                  .register(REGISTRY)));
+		}
 		if (dataReceivedTime != null) {
 			dataReceivedTime.record(time);
 		}
@@ -67,14 +82,15 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSentTime(SocketAddress remoteAddress, String uri, String method, Duration time) {
-		String address = formatSocketAddress(remoteAddress);
-		MeterKey meterKey = new MeterKey(uri, address, method, null);
-		Timer dataSentTime = MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
-				key -> filter(Timer.builder(name() + DATA_SENT_TIME)
-				                   .tags(HttpClientMeters.DataSentTimeTags.REMOTE_ADDRESS.asString(), address,
-				                         HttpClientMeters.DataSentTimeTags.URI.asString(), uri,
-				                         HttpClientMeters.DataSentTimeTags.METHOD.asString(), method)
-				                   .register(REGISTRY)));
+		Timer dataSentTime = dataSentTimers.get(remoteAddress, uri, method);
+		if (dataSentTime == null) {
+			dataSentTime = dataSentTimers.computeIfAbsent(remoteAddress, uri, method,
+					() -> filter(Timer.builder(name() + DATA_SENT_TIME)
+					                  .tags(HttpClientMeters.DataSentTimeTags.REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress),
+					                        HttpClientMeters.DataSentTimeTags.URI.asString(), uri,
+					                        HttpClientMeters.DataSentTimeTags.METHOD.asString(), method)
+					                  .register(REGISTRY)));
+		}
 		if (dataSentTime != null) {
 			dataSentTime.record(time);
 		}
@@ -82,13 +98,44 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordResponseTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
-		String address = formatSocketAddress(remoteAddress);
-		Timer responseTime = getResponseTimeTimer(name() + RESPONSE_TIME, address, uri, method, status);
+		Timer responseTime = responseTimers.get(remoteAddress, uri, method, status);
+		if (responseTime == null) {
+			responseTime = responseTimers.computeIfAbsent(remoteAddress, uri, method, status,
+					() -> getResponseTimeTimer(name() + RESPONSE_TIME, formatSocketAddress(remoteAddress), uri, method, status));
+		}
 		if (responseTime != null) {
 			responseTime.record(time);
 		}
 	}
 
+	@Override
+	public void recordResponseCacheHit(SocketAddress remoteAddress, String uri) {
+		Counter hits = responseCacheHitsCache.get(remoteAddress, uri);
+		if (hits == null) {
+			hits = responseCacheHitsCache.computeIfAbsent(remoteAddress, uri,
+					() -> filter(Counter.builder(name() + RESPONSE_CACHE_HITS)
+					                    .tags(REMOTE_ADDRESS, formatSocketAddress(remoteAddress), URI, uri)
+					                    .register(REGISTRY)));
+		}
+		if (hits != null) {
+			hits.increment();
+		}
+	}
+
+	@Override
+	public void recordResponseCacheMiss(SocketAddress remoteAddress, String uri) {
+		Counter misses = responseCacheMissesCache.get(remoteAddress, uri);
+		if (misses == null) {
+			misses = responseCacheMissesCache.computeIfAbsent(remoteAddress, uri,
+					() -> filter(Counter.builder(name() + RESPONSE_CACHE_MISSES)
+					                    .tags(REMOTE_ADDRESS, formatSocketAddress(remoteAddress), URI, uri)
+					                    .register(REGISTRY)));
+		}
+		if (misses != null) {
+			misses.increment();
+		}
+	}
+
 	@Nullable
 	final Timer getResponseTimeTimer(String name, String address, String uri, String method, String status) {
 		MeterKey meterKey = new MeterKey(uri, address, method, status);
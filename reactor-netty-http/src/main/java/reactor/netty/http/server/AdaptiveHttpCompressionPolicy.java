@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import reactor.util.annotation.Nullable;
+
+/**
+ * {@link HttpCompressionPolicy} that adapts the compression to the content type, to the content length
+ * and to the saturation of the event loop.
+ *
+ * @since 1.2.0
+ */
+final class AdaptiveHttpCompressionPolicy implements HttpCompressionPolicy {
+
+	/**
+	 * Above this size, the fastest level is used in order to bound the time spent on the event loop.
+	 */
+	static final long LARGE_CONTENT_LENGTH = 1024 * 1024;
+
+	static final int FASTEST_LEVEL = 1;
+
+	static final CompressionOptions FAST_GZIP = StandardCompressionOptions.gzip(FASTEST_LEVEL, 15, 8);
+	static final CompressionOptions FAST_DEFLATE = StandardCompressionOptions.deflate(FASTEST_LEVEL, 15, 8);
+
+	final int busyPendingTasks;
+
+	AdaptiveHttpCompressionPolicy(int busyPendingTasks) {
+		this.busyPendingTasks = busyPendingTasks;
+	}
+
+	@Override
+	@Nullable
+	public CompressionOptions select(ResponseInfo response) {
+		String contentType = response.contentType();
+		if (contentType != null && isCompressed(contentType)) {
+			return null;
+		}
+
+		int pendingTasks = response.pendingTasks();
+		if (pendingTasks > 2 * busyPendingTasks) {
+			return null;
+		}
+
+		if (pendingTasks > busyPendingTasks || response.contentLength() > LARGE_CONTENT_LENGTH) {
+			// Prefer the algorithms that are the cheapest at their fastest level
+			if (response.accepts("zstd") && Zstd.isAvailable()) {
+				return StandardCompressionOptions.zstd(FASTEST_LEVEL, 1 << 16, 1 << 25);
+			}
+			if (response.accepts("gzip")) {
+				return FAST_GZIP;
+			}
+			if (response.accepts("deflate")) {
+				return FAST_DEFLATE;
+			}
+			// Brotli at its fastest level is still slower than the other algorithms
+			return null;
+		}
+
+		return HttpCompressionPolicy.defaultOptions(response.encoding());
+	}
+
+	/**
+	 * Returns whether the media type is already compressed, media types are case-insensitive.
+	 *
+	 * @param contentType the value of the {@code Content-Type} header
+	 * @return true if the media type is already compressed
+	 */
+	static boolean isCompressed(String contentType) {
+		if (startsWith(contentType, "image/")) {
+			return !startsWith(contentType, "image/svg");
+		}
+		return startsWith(contentType, "video/") ||
+				startsWith(contentType, "audio/") ||
+				startsWith(contentType, "font/woff") ||
+				startsWith(contentType, "application/zip") ||
+				startsWith(contentType, "application/gzip") ||
+				startsWith(contentType, "application/x-gzip") ||
+				startsWith(contentType, "application/zstd") ||
+				startsWith(contentType, "application/x-7z-compressed") ||
+				startsWith(contentType, "application/x-rar-compressed");
+	}
+
+	static boolean startsWith(String contentType, String prefix) {
+		return contentType.regionMatches(true, 0, prefix, 0, prefix.length());
+	}
+}
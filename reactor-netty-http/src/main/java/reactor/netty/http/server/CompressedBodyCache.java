@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import reactor.util.annotation.Nullable;
+
+/**
+ * A bounded cache of compressed response bodies keyed by the content encoding and the uncompressed content.
+ * <p>
+ * The keys hold a copy of the uncompressed content, a lookup hashes and compares the content, which is much cheaper
+ * than compressing it again. A content is admitted, i.e. copied and recorded, only when it is seen for the second
+ * time, so that the bodies that are served once do not pay for the copy nor evict the frequently served ones.
+ * When the total size of the cached entries exceeds the configured maximum size, the least recently used
+ * entries are evicted.
+ *
+ * @since 1.2.0
+ */
+final class CompressedBodyCache {
+
+	/**
+	 * The number of hashes remembered by the admission filter, a power of two.
+	 */
+	static final int DOORKEEPER_SIZE = 4096;
+
+	final long maxSize;
+	final int maxEntrySize;
+	// Guarded by this
+	final LinkedHashMap<Key, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+	// The hashes of the contents seen once, indexed by their lower bits
+	final AtomicIntegerArray doorkeeper = new AtomicIntegerArray(DOORKEEPER_SIZE);
+
+	// Guarded by this
+	long size;
+
+	CompressedBodyCache(long maxSize) {
+		this.maxSize = maxSize;
+		// A single entry should not evict the whole cache
+		this.maxEntrySize = (int) Math.min(Integer.MAX_VALUE, maxSize / 8);
+	}
+
+	/**
+	 * Whether the compressed form of the given content can be cached.
+	 *
+	 * @param content the uncompressed content
+	 * @return true if the compressed form of the given content can be cached
+	 */
+	boolean isCacheable(ByteBuf content) {
+		int readableBytes = content.readableBytes();
+		return readableBytes > 0 && readableBytes <= maxEntrySize;
+	}
+
+	/**
+	 * Returns the cached compressed body for the given encoding and content.
+	 *
+	 * @param encoding the content encoding
+	 * @param content the uncompressed content
+	 * @return the cached compressed body or {@code null}
+	 */
+	@Nullable
+	byte[] get(String encoding, ByteBuf content) {
+		if (!isCacheable(content)) {
+			return null;
+		}
+		Key key = new Key(encoding, content);
+		synchronized (this) {
+			return cache.get(key);
+		}
+	}
+
+	/**
+	 * Whether the compressed form of the given content should be recorded and cached, i.e. the content is
+	 * cacheable and was already seen with the same encoding. The first time a content is seen, its hash is
+	 * only remembered.
+	 *
+	 * @param encoding the content encoding
+	 * @param content the uncompressed content
+	 * @return true if the compressed form of the given content should be recorded and cached
+	 */
+	boolean admit(String encoding, ByteBuf content) {
+		if (!isCacheable(content)) {
+			return false;
+		}
+		int hash = hash(encoding, content);
+		int index = hash & (DOORKEEPER_SIZE - 1);
+		if (doorkeeper.get(index) == hash) {
+			return true;
+		}
+		doorkeeper.lazySet(index, hash);
+		return false;
+	}
+
+	/**
+	 * Caches the compressed body for the given encoding and content.
+	 *
+	 * @param encoding the content encoding
+	 * @param content a copy of the uncompressed content, owned by the cache from now on
+	 * @param compressed the compressed body
+	 */
+	synchronized void put(String encoding, byte[] content, byte[] compressed) {
+		Key key = new Key(encoding, Unpooled.wrappedBuffer(content));
+		long entrySize = (long) content.length + compressed.length;
+		byte[] previous = cache.put(key, compressed);
+		size += previous != null ? compressed.length - previous.length : entrySize;
+
+		// The least recently used entries are evicted first
+		Iterator<Map.Entry<Key, byte[]>> it = cache.entrySet().iterator();
+		while (size > maxSize && it.hasNext()) {
+			Map.Entry<Key, byte[]> evicted = it.next();
+			size -= (long) evicted.getKey().content.readableBytes() + evicted.getValue().length;
+			it.remove();
+		}
+	}
+
+	static int hash(String encoding, ByteBuf content) {
+		return 31 * encoding.hashCode() + ByteBufUtil.hashCode(content);
+	}
+
+	static final class Key {
+
+		final String encoding;
+		final ByteBuf content;
+		final int hash;
+
+		Key(String encoding, ByteBuf content) {
+			this.encoding = encoding;
+			this.content = content;
+			this.hash = hash(encoding, content);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return hash == that.hash && encoding.equals(that.encoding) && ByteBufUtil.equals(content, that.content);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
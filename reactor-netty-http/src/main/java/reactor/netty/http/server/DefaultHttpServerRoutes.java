@@ -15,12 +15,9 @@
  */
 package reactor.netty.http.server;
 
-import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,10 +30,13 @@ import io.netty.handler.codec.http.HttpMethod;
 import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
 import reactor.util.annotation.Nullable;
 
 /**
  * Server routes are unique and only the first matching in order of declaration will be invoked.
+ * The routes are looked up through a {@link HttpRouteIndex} so that only the routes that can match
+ * the request path are tested.
  *
  * @author Stephane Maldini
  */
@@ -49,40 +49,35 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 
 	private Comparator<HttpRouteHandlerMetadata> comparator;
 
+	private volatile HttpRouteIndex index = new HttpRouteIndex(handlers);
+
 	@Override
 	public HttpServerRoutes directory(String uri, Path directory,
 			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
 		Objects.requireNonNull(directory, "directory");
-		Path absPath = directory.toAbsolutePath().normalize();
-		return route(HttpPredicate.prefix(uri), (req, resp) -> {
-
-			String prefix = URI.create(req.uri())
-			                   .getPath()
-			                   .replaceFirst(uri, "");
-
-			if (!prefix.isEmpty() && prefix.charAt(0) == '/') {
-				prefix = prefix.substring(1);
-			}
+		return route(HttpPredicate.prefix(uri), new HttpStaticFileHandler(uri, directory, interceptor));
+	}
 
-			Path p = absPath.resolve(prefix).toAbsolutePath().normalize();
-			if (Files.isReadable(p) && p.startsWith(absPath)) {
+	@Override
+	public HttpServerRoutes removeIf(Predicate<? super HttpRouteHandlerMetadata> condition) {
+		Objects.requireNonNull(condition, "condition");
 
-				if (interceptor != null) {
-					return interceptor.apply(resp)
-					                  .sendFile(p);
-				}
-				return resp.sendFile(p);
-			}
+		handlers.removeIf(condition);
+		index = new HttpRouteIndex(handlers);
 
-			return resp.sendNotFound();
-		});
+		return this;
 	}
 
 	@Override
-	public HttpServerRoutes removeIf(Predicate<? super HttpRouteHandlerMetadata> condition) {
+	public HttpServerRoutes concurrencyLimit(Predicate<? super HttpRouteHandlerMetadata> condition,
+			@Nullable HttpConcurrencyLimit concurrencyLimit) {
 		Objects.requireNonNull(condition, "condition");
 
-		handlers.removeIf(condition);
+		for (HttpRouteHandler handler : handlers) {
+			if (condition.test(handler)) {
+				handler.concurrencyLimit = concurrencyLimit;
+			}
+		}
 
 		return this;
 	}
@@ -111,6 +106,7 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		if (this.comparator != null) {
 			handlers.sort(this.comparator);
 		}
+		index = new HttpRouteIndex(handlers);
 
 		return this;
 	}
@@ -120,6 +116,7 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		Objects.requireNonNull(comparator, "comparator");
 		this.comparator = comparator;
 		handlers.sort(comparator);
+		index = new HttpRouteIndex(handlers);
 		return this;
 	}
 
@@ -127,21 +124,17 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 	public HttpServerRoutes noComparator() {
 		handlers.clear();
 		handlers.addAll(initialOrderHandlers);
+		index = new HttpRouteIndex(handlers);
 		return this;
 	}
 
 	@Override
 	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
 		// find I/0 handler to process this request
-		final Iterator<HttpRouteHandler> iterator = handlers.iterator();
-		HttpRouteHandler cursor;
-
 		try {
-			while (iterator.hasNext()) {
-				cursor = iterator.next();
-				if (cursor.test(request)) {
-					return cursor.apply(request, response);
-				}
+			HttpRouteHandler cursor = index.find(request);
+			if (cursor != null) {
+				return cursor.apply(request, response);
 			}
 		}
 		catch (Throwable t) {
@@ -165,6 +158,8 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 
 		final HttpMethod method;
 
+		volatile HttpConcurrencyLimit concurrencyLimit;
+
 		HttpRouteHandler(Predicate<? super HttpServerRequest> condition,
 				BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler,
 				@Nullable Function<? super String, Map<String, String>> resolver,
@@ -180,6 +175,11 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		@Override
 		public Publisher<Void> apply(HttpServerRequest request,
 				HttpServerResponse response) {
+			HttpConcurrencyLimit concurrencyLimit = this.concurrencyLimit;
+			if (concurrencyLimit != null && request instanceof Connection) {
+				return concurrencyLimit.apply((Connection) request, response,
+						() -> handler.apply(request.paramsResolver(resolver), response));
+			}
 			return handler.apply(request.paramsResolver(resolver), response);
 		}
 
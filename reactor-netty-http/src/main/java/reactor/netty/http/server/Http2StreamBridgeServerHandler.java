@@ -59,6 +59,7 @@ import static reactor.netty.ReactorNetty.format;
  */
 final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler implements ChannelFutureListener {
 
+	final HttpCompressionOptions                                  compressionOptions;
 	final BiPredicate<HttpServerRequest, HttpServerResponse>      compress;
 	final ServerCookieDecoder                                     cookieDecoder;
 	final ServerCookieEncoder                                     cookieEncoder;
@@ -81,6 +82,7 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler implemen
 	boolean pendingResponse;
 
 	Http2StreamBridgeServerHandler(
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compress,
 			ServerCookieDecoder decoder,
 			ServerCookieEncoder encoder,
@@ -92,6 +94,7 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler implemen
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout) {
 		this.compress = compress;
+		this.compressionOptions = compressionOptions;
 		this.cookieDecoder = decoder;
 		this.cookieEncoder = encoder;
 		this.formDecoderProvider = formDecoderProvider;
@@ -136,6 +139,7 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler implemen
 				ops = new HttpServerOperations(Connection.from(ctx.channel()),
 						listener,
 						request,
+						compressionOptions,
 						compress,
 						connectionInfo,
 						cookieDecoder,
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * The compression settings shared by the {@link SimpleCompressionHandler}s of a server.
+ *
+ * @since 1.2.0
+ */
+final class HttpCompressionOptions {
+
+	static final HttpCompressionOptions DEFAULT = new HttpCompressionOptions(0, null);
+
+	@Nullable
+	final CompressedBodyCache bodyCache;
+	@Nullable
+	final HttpCompressionPolicy policy;
+
+	HttpCompressionOptions(int bodyCacheSize, @Nullable HttpCompressionPolicy policy) {
+		this.bodyCache = bodyCacheSize > 0 ? new CompressedBodyCache(bodyCacheSize) : null;
+		this.policy = policy;
+	}
+}
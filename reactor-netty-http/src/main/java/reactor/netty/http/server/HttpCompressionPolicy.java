@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.http.HttpHeaders;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Selects the compression algorithm and level of a response, once the response is eligible for compression
+ * (see {@link HttpServer#compress(boolean)}, {@link HttpServer#compress(int)},
+ * {@link HttpServer#compress(java.util.function.BiPredicate)}).
+ * <p>
+ * The policy is invoked on the event loop for every compressed response, it must not block.
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface HttpCompressionPolicy {
+
+	/**
+	 * Returns a policy that skips the compression of content types that are already compressed
+	 * (images, audio, video, archives, fonts), uses the fastest level of a fast algorithm for large responses
+	 * or when the event loop of the connection is busy, and skips the compression when the event loop is overloaded.
+	 * Otherwise, the default options of the negotiated encoding are used.
+	 *
+	 * @param busyPendingTasks the number of pending tasks on the event loop above which the event loop is
+	 * considered busy, the event loop is considered overloaded above twice this number
+	 * @return a policy that adapts the compression to the content and to the event loop saturation
+	 */
+	static HttpCompressionPolicy adaptive(int busyPendingTasks) {
+		if (busyPendingTasks <= 0) {
+			throw new IllegalArgumentException("busyPendingTasks must be positive");
+		}
+		return new AdaptiveHttpCompressionPolicy(busyPendingTasks);
+	}
+
+	/**
+	 * Returns the default {@link CompressionOptions} for the given content encoding.
+	 *
+	 * @param encoding the content encoding ({@code br}, {@code zstd}, {@code gzip}, {@code deflate})
+	 * @return the default {@link CompressionOptions} for the given content encoding or {@code null}
+	 * when the content encoding is not supported
+	 */
+	@Nullable
+	static CompressionOptions defaultOptions(String encoding) {
+		switch (encoding) {
+			case "gzip":
+				return StandardCompressionOptions.gzip();
+			case "deflate":
+				return StandardCompressionOptions.deflate();
+			case "br":
+				return StandardCompressionOptions.brotli();
+			case "zstd":
+				return StandardCompressionOptions.zstd();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Selects the compression algorithm and level of the response.
+	 * The algorithm of the returned {@link CompressionOptions} must be accepted by the client, otherwise
+	 * the default options of the negotiated encoding are used.
+	 *
+	 * @param response the response to compress
+	 * @return the {@link CompressionOptions} to use, {@code null} to send the response uncompressed
+	 */
+	@Nullable
+	CompressionOptions select(ResponseInfo response);
+
+	/**
+	 * The information available for selecting the compression of a response.
+	 */
+	interface ResponseInfo {
+
+		/**
+		 * Returns the value of the request {@code Accept-Encoding} header.
+		 *
+		 * @return the value of the request {@code Accept-Encoding} header
+		 */
+		String acceptEncoding();
+
+		/**
+		 * Returns whether the client accepts the given content encoding.
+		 *
+		 * @param encoding the content encoding
+		 * @return true if the client accepts the given content encoding
+		 */
+		boolean accepts(String encoding);
+
+		/**
+		 * Returns the length of the uncompressed response body or {@code -1} when it is not known.
+		 *
+		 * @return the length of the uncompressed response body or {@code -1} when it is not known
+		 */
+		long contentLength();
+
+		/**
+		 * Returns the response {@code Content-Type} or {@code null}.
+		 *
+		 * @return the response {@code Content-Type} or {@code null}
+		 */
+		@Nullable
+		String contentType();
+
+		/**
+		 * Returns the content encoding negotiated with the client when there is no policy.
+		 *
+		 * @return the content encoding negotiated with the client when there is no policy
+		 */
+		String encoding();
+
+		/**
+		 * Returns the number of tasks pending on the event loop of the connection, a measure of its saturation.
+		 * Returns {@code -1} when the event loop does not support this information.
+		 *
+		 * @return the number of tasks pending on the event loop of the connection or {@code -1}
+		 */
+		int pendingTasks();
+
+		/**
+		 * Returns the response headers.
+		 *
+		 * @return the response headers
+		 */
+		HttpHeaders responseHeaders();
+	}
+}
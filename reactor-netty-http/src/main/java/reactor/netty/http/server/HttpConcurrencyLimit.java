@@ -0,0 +1,606 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.resources.EventLoopTimer;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * An adaptive limit of the number of requests processed concurrently by {@link HttpServer}.
+ * <p>
+ * The limit is adjusted with the latency of the requests, measured from the reception of the request headers
+ * to the end of the response: it grows while the latency stays close to its long term average, and shrinks
+ * proportionally to the latency increase when the server starts queueing work (gradient algorithm).
+ * The limit is never lower than {@link Builder#minLimit(int)} and never higher than {@link Builder#maxLimit(int)}.
+ * <p>
+ * A request received while the limit is reached waits, up to {@link Builder#maxQueueTime(Duration)}, in a queue of
+ * {@link Builder#maxQueueSize(int)} requests, otherwise it is rejected with {@link Builder#rejectedStatus(HttpResponseStatus)}
+ * without invoking the handler.
+ * <p>
+ * The limit applies to all the requests of the server when configured with {@link HttpServer#concurrencyLimit(HttpConcurrencyLimit)},
+ * and to the requests of some routes, in addition to the limit of the server, when configured with
+ * {@link HttpServerRoutes#concurrencyLimit(java.util.function.Predicate, HttpConcurrencyLimit)}.
+ * The same instance can be shared by several servers or routes, in which case they share the same limit.
+ *
+ * @since 1.2.0
+ */
+public final class HttpConcurrencyLimit {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpConcurrencyLimit}.
+		 *
+		 * @return a new {@link HttpConcurrencyLimit}
+		 */
+		HttpConcurrencyLimit build();
+
+		/**
+		 * Configures the limit before any latency is measured.
+		 * Default to {@code 100}.
+		 *
+		 * @param initialLimit the limit before any latency is measured
+		 * @return {@code this}
+		 */
+		Builder initialLimit(int initialLimit);
+
+		/**
+		 * Configures the maximum value of the limit.
+		 * Default to {@code 1000}.
+		 *
+		 * @param maxLimit the maximum value of the limit
+		 * @return {@code this}
+		 */
+		Builder maxLimit(int maxLimit);
+
+		/**
+		 * Configures the maximum number of requests waiting for the limit, {@code 0} to reject the requests
+		 * as soon as the limit is reached.
+		 * Default to {@code 0}.
+		 *
+		 * @param maxQueueSize the maximum number of requests waiting for the limit
+		 * @return {@code this}
+		 */
+		Builder maxQueueSize(int maxQueueSize);
+
+		/**
+		 * Configures the maximum time a request waits for the limit before being rejected.
+		 * Default to {@code 1s}.
+		 *
+		 * @param maxQueueTime the maximum time a request waits for the limit
+		 * @return {@code this}
+		 */
+		Builder maxQueueTime(Duration maxQueueTime);
+
+		/**
+		 * Configures the minimum value of the limit.
+		 * Default to {@code 10}.
+		 *
+		 * @param minLimit the minimum value of the limit
+		 * @return {@code this}
+		 */
+		Builder minLimit(int minLimit);
+
+		/**
+		 * Configures the status of the response sent when a request is rejected, typically
+		 * {@link HttpResponseStatus#SERVICE_UNAVAILABLE} or {@link HttpResponseStatus#TOO_MANY_REQUESTS}.
+		 * Default to {@link HttpResponseStatus#SERVICE_UNAVAILABLE}.
+		 *
+		 * @param rejectedStatus the status of the response sent when a request is rejected
+		 * @return {@code this}
+		 */
+		Builder rejectedStatus(HttpResponseStatus rejectedStatus);
+
+		/**
+		 * Configures the ratio between the latency of a request and the long term average latency
+		 * up to which the limit is not decreased.
+		 * Default to {@code 1.5}.
+		 *
+		 * @param rttTolerance the ratio up to which the latency increase is tolerated, greater than or equal to {@code 1}
+		 * @return {@code this}
+		 */
+		Builder rttTolerance(double rttTolerance);
+	}
+
+	/**
+	 * Creates a builder for {@link HttpConcurrencyLimit}.
+	 *
+	 * @return a new {@link HttpConcurrencyLimit.Builder}
+	 */
+	public static HttpConcurrencyLimit.Builder builder() {
+		return new HttpConcurrencyLimit.Build();
+	}
+
+	/**
+	 * Returns the number of requests in flight.
+	 *
+	 * @return the number of requests in flight
+	 */
+	public int inflight() {
+		return inflight.get();
+	}
+
+	/**
+	 * Returns the current limit.
+	 *
+	 * @return the current limit
+	 */
+	public int limit() {
+		return (int) estimate.limit;
+	}
+
+	/**
+	 * Returns the number of requests waiting for the limit.
+	 *
+	 * @return the number of requests waiting for the limit
+	 */
+	public int queued() {
+		return queued.get();
+	}
+
+	@Override
+	public String toString() {
+		return "HttpConcurrencyLimit{" +
+				"limit=" + limit() +
+				", inflight=" + inflight() +
+				", queued=" + queued() +
+				'}';
+	}
+
+	static final Logger log = Loggers.getLogger(HttpConcurrencyLimit.class);
+
+	/**
+	 * The weight of a latency sample in the long term average latency.
+	 */
+	static final double LONG_RTT_WEIGHT = 1d / 600;
+
+	/**
+	 * The weight of a new limit in the limit.
+	 */
+	static final double SMOOTHING = 0.2d;
+
+	static final AtomicIntegerFieldUpdater<HttpConcurrencyLimit.Waiter> WAITER_STATE =
+			AtomicIntegerFieldUpdater.newUpdater(HttpConcurrencyLimit.Waiter.class, "state");
+
+	static final AtomicReferenceFieldUpdater<HttpConcurrencyLimit, Estimate> ESTIMATE =
+			AtomicReferenceFieldUpdater.newUpdater(HttpConcurrencyLimit.class, Estimate.class, "estimate");
+
+	final AtomicInteger inflight = new AtomicInteger();
+	final int maxLimit;
+	final int maxQueueSize;
+	final long maxQueueTimeNanos;
+	final int minLimit;
+	final Queue<Waiter> queue = new ConcurrentLinkedQueue<>();
+	final AtomicInteger queued = new AtomicInteger();
+	final HttpResponseStatus rejectedStatus;
+	final double rttTolerance;
+
+	// Replaced with compare-and-set by the samples, read without lock when admitting the requests
+	volatile Estimate estimate;
+
+	HttpConcurrencyLimit(Build build) {
+		this.estimate = new Estimate(Math.max(build.minLimit, Math.min(build.maxLimit, build.initialLimit)), 0d, 0L);
+		this.maxLimit = build.maxLimit;
+		this.maxQueueSize = build.maxQueueSize;
+		this.maxQueueTimeNanos = build.maxQueueTime.toNanos();
+		this.minLimit = build.minLimit;
+		this.rejectedStatus = build.rejectedStatus;
+		this.rttTolerance = build.rttTolerance;
+	}
+
+	/**
+	 * Admits the request when the limit is not reached, queues it or rejects it.
+	 * The admission is invoked on the event loop of the given channel.
+	 *
+	 * @param channel the channel of the request
+	 * @param admission the request admission
+	 */
+	void acquire(Channel channel, Admission admission) {
+		if (tryAcquire()) {
+			if (!admission.admit()) {
+				release(-1);
+			}
+			return;
+		}
+		if (queued.incrementAndGet() > maxQueueSize) {
+			queued.decrementAndGet();
+			admission.reject();
+			return;
+		}
+		Waiter waiter = new Waiter(channel, admission);
+		waiter.timeout = EventLoopTimer.get(channel.eventLoop()).newTimeout(waiter, maxQueueTimeNanos, TimeUnit.NANOSECONDS);
+		queue.offer(waiter);
+		// A permit released before the request was queued would not be handed to it
+		if (tryAcquire()) {
+			handOff();
+		}
+	}
+
+	/**
+	 * Applies the limit to a route handler.
+	 *
+	 * @param connection the connection of the request
+	 * @param response the response used to reject the request
+	 * @param handler supplies the route handler publisher
+	 * @return the route handler publisher, subscribed once the request is admitted
+	 */
+	Mono<Void> apply(Connection connection, HttpServerResponse response, Supplier<? extends Publisher<Void>> handler) {
+		return Mono.create(sink -> {
+			Disposable.Swap swap = Disposables.swap();
+			sink.onCancel(swap);
+			acquire(connection.channel(), new Admission() {
+
+				@Override
+				boolean admit() {
+					if (swap.isDisposed()) {
+						return false;
+					}
+					long start = System.nanoTime();
+					swap.update(Mono.defer(() -> Mono.fromDirect(handler.get()))
+					                .doFinally(s -> release(start))
+					                .subscribe(null, sink::error, sink::success));
+					return true;
+				}
+
+				@Override
+				void reject() {
+					if (!swap.isDisposed()) {
+						swap.update(Mono.fromDirect(response.status(rejectedStatus).send())
+						                .subscribe(null, sink::error, sink::success));
+					}
+				}
+			});
+		});
+	}
+
+	/**
+	 * Applies the limit to the requests received on a connection.
+	 *
+	 * @param observer the observer invoking the handler of the requests
+	 * @return an observer invoking the handler once the request is admitted
+	 */
+	ConnectionObserver observer(ConnectionObserver observer) {
+		return new LimitedObserver(this, observer);
+	}
+
+	/**
+	 * Releases a permit and hands it to the next queued request, if any.
+	 *
+	 * @param start the time in nanoseconds at which the request was admitted or {@code -1} when the request
+	 * has not been processed
+	 */
+	void release(long start) {
+		if (start >= 0) {
+			onSample(System.nanoTime() - start, inflight.get());
+		}
+		if (queued.get() > 0 && inflight.get() <= estimate.limit) {
+			handOff();
+		}
+		else {
+			inflight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Hands the permit owned by the caller to the next queued request, releases it when there is none.
+	 */
+	void handOff() {
+		Waiter waiter;
+		while ((waiter = queue.poll()) != null) {
+			if (waiter.claim()) {
+				waiter.timeout.cancel();
+				Waiter admitted = waiter;
+				admitted.channel.eventLoop().execute(() -> {
+					if (!admitted.admission.admit()) {
+						release(-1);
+					}
+				});
+				return;
+			}
+		}
+		inflight.decrementAndGet();
+	}
+
+	/**
+	 * Updates the limit with the latency of a request.
+	 * The new estimate is computed without lock and published with a single compare-and-set, a sample
+	 * completed concurrently with another one is dropped rather than retried: the limit follows the
+	 * latency trend and does not need every sample, while the request completions on the different
+	 * event loops never wait for each other.
+	 *
+	 * @param rtt the latency in nanoseconds
+	 * @param inflightCount the number of requests in flight
+	 */
+	void onSample(long rtt, int inflightCount) {
+		if (rtt <= 0) {
+			return;
+		}
+		Estimate current = estimate;
+		double shortRtt = rtt;
+		long samples = current.samples;
+		double longRtt;
+		if (samples < 10) {
+			longRtt = (current.longRtt * samples + shortRtt) / ++samples;
+		}
+		else {
+			longRtt = current.longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+			// The latency recovered, the long term average catches up quickly
+			if (longRtt > 2 * shortRtt) {
+				longRtt *= 0.95;
+			}
+		}
+		double currentLimit = current.limit;
+		double newLimit = currentLimit;
+		// When the server is not limited by the limit, its latency says nothing about it
+		if (inflightCount >= currentLimit / 2) {
+			double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+			newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+			newLimit = currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+			newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		}
+		ESTIMATE.compareAndSet(this, current, new Estimate(newLimit, longRtt, samples));
+	}
+
+	boolean tryAcquire() {
+		for (;;) {
+			int current = inflight.get();
+			if (current >= (int) estimate.limit) {
+				return false;
+			}
+			if (inflight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * The limit and the long term average latency it is computed from.
+	 */
+	static final class Estimate {
+
+		final double limit;
+		final double longRtt;
+		final long samples;
+
+		Estimate(double limit, double longRtt, long samples) {
+			this.limit = limit;
+			this.longRtt = longRtt;
+			this.samples = samples;
+		}
+	}
+
+	/**
+	 * The admission of a request.
+	 */
+	abstract static class Admission {
+
+		/**
+		 * Invoked on the event loop when the request is admitted.
+		 *
+		 * @return false when the request is no longer in flight and does not need the permit
+		 */
+		abstract boolean admit();
+
+		/**
+		 * Invoked on the event loop when the request is rejected.
+		 */
+		abstract void reject();
+	}
+
+	/**
+	 * Admits the requests received on a connection before notifying {@link HttpServerState#REQUEST_RECEIVED}.
+	 * The rejected requests are answered without notifying it.
+	 */
+	static final class LimitedObserver implements ConnectionObserver {
+
+		final ConnectionObserver actual;
+		final HttpConcurrencyLimit limit;
+
+		LimitedObserver(HttpConcurrencyLimit limit, ConnectionObserver actual) {
+			this.actual = actual;
+			this.limit = limit;
+		}
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (newState != HttpServerState.REQUEST_RECEIVED || !(connection instanceof HttpServerOperations)) {
+				actual.onStateChange(connection, newState);
+				return;
+			}
+			HttpServerOperations ops = (HttpServerOperations) connection;
+			limit.acquire(ops.channel(), new Admission() {
+
+				@Override
+				boolean admit() {
+					if (ops.isDisposed()) {
+						return false;
+					}
+					long start = System.nanoTime();
+					ops.onTerminate()
+					   .subscribe(null, t -> limit.release(start), () -> limit.release(start));
+					actual.onStateChange(ops, HttpServerState.REQUEST_RECEIVED);
+					return true;
+				}
+
+				@Override
+				void reject() {
+					if (ops.isDisposed()) {
+						return;
+					}
+					if (log.isDebugEnabled()) {
+						log.debug(format(ops.channel(), "Concurrency limit reached, rejecting the request with {}"),
+								limit.rejectedStatus);
+					}
+					ops.status(limit.rejectedStatus)
+					   .send()
+					   .then()
+					   .subscribe(ops.disposeSubscriber());
+				}
+			});
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			actual.onUncaughtException(connection, error);
+		}
+	}
+
+	/**
+	 * A queued request, either admitted by a released permit or rejected when its time in the queue expires.
+	 */
+	final class Waiter implements TimerTask {
+
+		final Admission admission;
+		final Channel channel;
+
+		Timeout timeout;
+
+		volatile int state;
+
+		Waiter(Channel channel, Admission admission) {
+			this.admission = admission;
+			this.channel = channel;
+		}
+
+		boolean claim() {
+			if (WAITER_STATE.compareAndSet(this, 0, 1)) {
+				queued.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void run(Timeout timeout) {
+			if (claim()) {
+				queue.remove(this);
+				admission.reject();
+			}
+		}
+	}
+
+	static final class Build implements Builder {
+		static final int DEFAULT_INITIAL_LIMIT = 100;
+		static final int DEFAULT_MAX_LIMIT = 1000;
+		static final Duration DEFAULT_MAX_QUEUE_TIME = Duration.ofSeconds(1);
+		static final int DEFAULT_MIN_LIMIT = 10;
+		static final double DEFAULT_RTT_TOLERANCE = 1.5d;
+
+		int initialLimit = DEFAULT_INITIAL_LIMIT;
+		int maxLimit = DEFAULT_MAX_LIMIT;
+		int maxQueueSize;
+		Duration maxQueueTime = DEFAULT_MAX_QUEUE_TIME;
+		int minLimit = DEFAULT_MIN_LIMIT;
+		HttpResponseStatus rejectedStatus = HttpResponseStatus.SERVICE_UNAVAILABLE;
+		double rttTolerance = DEFAULT_RTT_TOLERANCE;
+
+		@Override
+		public HttpConcurrencyLimit build() {
+			if (minLimit > maxLimit) {
+				throw new IllegalArgumentException("minLimit must be less than or equal to maxLimit");
+			}
+			return new HttpConcurrencyLimit(this);
+		}
+
+		@Override
+		public Builder initialLimit(int initialLimit) {
+			if (initialLimit < 1) {
+				throw new IllegalArgumentException("initialLimit must be strictly positive");
+			}
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		@Override
+		public Builder maxLimit(int maxLimit) {
+			if (maxLimit < 1) {
+				throw new IllegalArgumentException("maxLimit must be strictly positive");
+			}
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		@Override
+		public Builder maxQueueSize(int maxQueueSize) {
+			if (maxQueueSize < 0) {
+				throw new IllegalArgumentException("maxQueueSize must be positive or 0");
+			}
+			this.maxQueueSize = maxQueueSize;
+			return this;
+		}
+
+		@Override
+		public Builder maxQueueTime(Duration maxQueueTime) {
+			Objects.requireNonNull(maxQueueTime, "maxQueueTime");
+			if (maxQueueTime.isNegative() || maxQueueTime.isZero()) {
+				throw new IllegalArgumentException("maxQueueTime must be strictly positive");
+			}
+			this.maxQueueTime = maxQueueTime;
+			return this;
+		}
+
+		@Override
+		public Builder minLimit(int minLimit) {
+			if (minLimit < 1) {
+				throw new IllegalArgumentException("minLimit must be strictly positive");
+			}
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		@Override
+		public Builder rejectedStatus(HttpResponseStatus rejectedStatus) {
+			Objects.requireNonNull(rejectedStatus, "rejectedStatus");
+			if (rejectedStatus.code() < 400) {
+				throw new IllegalArgumentException("rejectedStatus must be an error status");
+			}
+			this.rejectedStatus = rejectedStatus;
+			return this;
+		}
+
+		@Override
+		public Builder rttTolerance(double rttTolerance) {
+			if (rttTolerance < 1) {
+				throw new IllegalArgumentException("rttTolerance must be greater than or equal to 1");
+			}
+			this.rttTolerance = rttTolerance;
+			return this;
+		}
+	}
+}
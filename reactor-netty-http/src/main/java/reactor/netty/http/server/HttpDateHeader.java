@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+
+import java.util.Date;
+
+/**
+ * The value of the {@code Date} response header, formatted at most once per second.
+ * The header has a resolution of one second (RFC 9110, section 6.6.1), all the responses sent within
+ * the same second share the same pre-encoded value.
+ *
+ * @since 1.2.0
+ */
+final class HttpDateHeader {
+
+	static volatile HttpDateHeader current = new HttpDateHeader(System.currentTimeMillis() / 1000);
+
+	/**
+	 * Returns the value of the {@code Date} header for the current second.
+	 *
+	 * @return the value of the {@code Date} header for the current second
+	 */
+	static AsciiString value() {
+		long second = System.currentTimeMillis() / 1000;
+		HttpDateHeader current = HttpDateHeader.current;
+		if (current.second != second) {
+			// Racing threads format the same value, the instances are immutable
+			current = new HttpDateHeader(second);
+			HttpDateHeader.current = current;
+		}
+		return current.value;
+	}
+
+	final long second;
+	final AsciiString value;
+
+	HttpDateHeader(long second) {
+		this.second = second;
+		this.value = AsciiString.cached(DateFormatter.format(new Date(second * 1000)));
+	}
+}
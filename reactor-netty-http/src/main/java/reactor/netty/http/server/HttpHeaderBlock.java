@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable block of response headers, e.g. {@code content-type}, {@code cache-control} and {@code server},
+ * that is built once and attached to many responses with {@link HttpServerResponse#headerBlock(HttpHeaderBlock)}.
+ * <p>
+ * The names and values are validated and encoded to US-ASCII bytes when the block is built,
+ * the HTTP/1.1 encoder then copies them as raw bytes instead of encoding them on each response.
+ *
+ * @since 1.2.0
+ */
+public final class HttpHeaderBlock {
+
+	public interface Builder {
+
+		/**
+		 * Adds a header to the block. The same name can be added several times.
+		 *
+		 * @param name the header name
+		 * @param value the header value
+		 * @return {@code this}
+		 * @throws IllegalArgumentException if the header name or value contains a non US-ASCII character
+		 */
+		Builder add(CharSequence name, CharSequence value);
+
+		/**
+		 * Build a new {@link HttpHeaderBlock}.
+		 *
+		 * @return a new {@link HttpHeaderBlock}
+		 * @throws IllegalArgumentException if a header name or value is not valid
+		 */
+		HttpHeaderBlock build();
+	}
+
+	/**
+	 * Creates a builder for {@link HttpHeaderBlock}.
+	 *
+	 * @return a new {@link HttpHeaderBlock.Builder}
+	 */
+	public static HttpHeaderBlock.Builder builder() {
+		return new HttpHeaderBlock.Build();
+	}
+
+	/**
+	 * Returns the number of headers in the block.
+	 *
+	 * @return the number of headers in the block
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * Returns a copy of the headers of the block.
+	 *
+	 * @return a copy of the headers of the block
+	 */
+	public HttpHeaders toHttpHeaders() {
+		HttpHeaders headers = new DefaultHttpHeaders();
+		addTo(headers);
+		return headers;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("HttpHeaderBlock{");
+		for (int i = 0; i < names.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(names[i]).append('=').append(values[i]);
+		}
+		return sb.append('}').toString();
+	}
+
+	final AsciiString[] names;
+	final AsciiString[] values;
+	// true for the first occurrence of a name in the block, which replaces the existing values
+	final boolean[] first;
+
+	HttpHeaderBlock(Build build) {
+		int size = build.names.size();
+		this.names = build.names.toArray(new AsciiString[size]);
+		this.values = build.values.toArray(new AsciiString[size]);
+		this.first = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			first[i] = true;
+			for (int j = 0; j < i; j++) {
+				if (names[j].contentEqualsIgnoreCase(names[i])) {
+					first[i] = false;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the headers of the block, the existing values of the headers with the same names are replaced.
+	 */
+	void addTo(HttpHeaders headers) {
+		for (int i = 0; i < names.length; i++) {
+			if (first[i]) {
+				headers.set(names[i], values[i]);
+			}
+			else {
+				headers.add(names[i], values[i]);
+			}
+		}
+	}
+
+	static final class Build implements Builder {
+
+		final List<AsciiString> names = new ArrayList<>();
+		final List<AsciiString> values = new ArrayList<>();
+
+		@Override
+		public Builder add(CharSequence name, CharSequence value) {
+			Objects.requireNonNull(name, "name");
+			Objects.requireNonNull(value, "value");
+			// AsciiString.of would silently replace the non US-ASCII characters before the validation
+			checkAscii(name, "name");
+			checkAscii(value, "value");
+			names.add(AsciiString.of(name));
+			values.add(AsciiString.of(value));
+			return this;
+		}
+
+		@Override
+		public HttpHeaderBlock build() {
+			// Validate the names and the values once, as they would be validated by the response headers
+			HttpHeaders validator = new DefaultHttpHeaders(true);
+			for (int i = 0; i < names.size(); i++) {
+				validator.add(names.get(i), values.get(i));
+			}
+			return new HttpHeaderBlock(this);
+		}
+
+		static void checkAscii(CharSequence seq, String kind) {
+			for (int i = 0; i < seq.length(); i++) {
+				if (seq.charAt(i) > 0x7F) {
+					throw new IllegalArgumentException("Header " + kind + " contains a non US-ASCII character at index " + i);
+				}
+			}
+		}
+	}
+}
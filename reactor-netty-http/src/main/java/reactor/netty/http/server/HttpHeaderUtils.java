@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+/**
+ * Utilities for parsing the HTTP request headers.
+ *
+ * @since 1.2.0
+ */
+final class HttpHeaderUtils {
+
+	/**
+	 * Returns the quality value of the given encoding in the {@code Accept-Encoding} header,
+	 * {@code 0} when it is not accepted. Only the {@code q} parameter, case-insensitive, is the quality value,
+	 * the other parameters are ignored.
+	 *
+	 * @param acceptEncoding the value of the {@code Accept-Encoding} header
+	 * @param encoding the encoding
+	 * @return the quality value of the encoding, {@code 0} when it is not accepted
+	 */
+	static float quality(String acceptEncoding, String encoding) {
+		float wildcard = 0f;
+		int start = 0;
+		while (start < acceptEncoding.length()) {
+			int end = acceptEncoding.indexOf(',', start);
+			if (end == -1) {
+				end = acceptEncoding.length();
+			}
+			int semicolon = acceptEncoding.indexOf(';', start);
+			if (semicolon == -1 || semicolon > end) {
+				semicolon = end;
+			}
+			String candidate = acceptEncoding.substring(start, semicolon).trim();
+			float quality = semicolon < end ? qualityParameter(acceptEncoding, semicolon + 1, end) : 1.0f;
+			if (candidate.equalsIgnoreCase(encoding)) {
+				return quality;
+			}
+			if (candidate.equals("*")) {
+				wildcard = quality;
+			}
+			start = end + 1;
+		}
+		return wildcard;
+	}
+
+	/**
+	 * Returns the value of the {@code q} parameter among the parameters between the given indexes.
+	 *
+	 * @param header the value of the header
+	 * @param start the index of the first parameter
+	 * @param end the index after the last parameter
+	 * @return the value of the {@code q} parameter, {@code 1} when there is none and {@code 0} when it is not a number
+	 */
+	static float qualityParameter(String header, int start, int end) {
+		while (start < end) {
+			int next = header.indexOf(';', start);
+			if (next == -1 || next > end) {
+				next = end;
+			}
+			int equals = header.indexOf('=', start);
+			if (equals != -1 && equals < next) {
+				String name = header.substring(start, equals).trim();
+				if (name.equalsIgnoreCase("q")) {
+					try {
+						return Float.parseFloat(header.substring(equals + 1, next).trim());
+					}
+					catch (NumberFormatException e) {
+						return 0f;
+					}
+				}
+			}
+			start = next + 1;
+		}
+		return 1.0f;
+	}
+
+	private HttpHeaderUtils() {
+	}
+}
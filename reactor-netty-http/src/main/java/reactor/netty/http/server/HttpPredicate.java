@@ -227,6 +227,10 @@ final class HttpPredicate
 	 * Represents a URI template. A URI template is a URI-like String that contains
 	 * variables enclosed by braces (<code>{</code>, <code>}</code>), which can be
 	 * expanded to produce an actual URI.
+	 * <p>
+	 * Templates composed only of literal characters, {@code {name}}, {@code {name}**} and {@code **}
+	 * are matched segment by segment without regular expressions, the variables are extracted in the same pass.
+	 * Templates that contain other regular expression constructs are compiled to a {@link Pattern}.
 	 *
 	 * @author Arjen Poutsma
 	 * @author Juergen Hoeller
@@ -250,8 +254,12 @@ final class HttpPredicate
 
 		private final List<String> pathVariables = new ArrayList<>();
 
+		@Nullable
 		private final Pattern uriPattern;
 
+		@Nullable
+		private final Part[] parts;
+
 		private static String getNameSplatReplacement(String name) {
 			return "(?<" + name + ">.*)";
 		}
@@ -292,35 +300,15 @@ final class HttpPredicate
 		 * @param uriPattern The pattern to be used by the template
 		 */
 		UriPathTemplate(String uriPattern) {
-			String s = "^" + filterQueryParams(filterHostAndPort(uriPattern));
-
-			Matcher m = NAME_SPLAT_PATTERN.matcher(s);
-			while (m.find()) {
-				for (int i = 1; i <= m.groupCount(); i++) {
-					String name = m.group(i);
-					pathVariables.add(name);
-					s = m.replaceFirst(getNameSplatReplacement(name));
-					m.reset(s);
-				}
-			}
-
-			m = NAME_PATTERN.matcher(s);
-			while (m.find()) {
-				for (int i = 1; i <= m.groupCount(); i++) {
-					String name = m.group(i);
-					pathVariables.add(name);
-					s = m.replaceFirst(getNameReplacement(name));
-					m.reset(s);
-				}
+			String path = filterQueryParams(filterHostAndPort(uriPattern));
+			this.parts = compileParts(path, pathVariables);
+			if (parts != null) {
+				this.uriPattern = null;
 			}
-
-			m = FULL_SPLAT_PATTERN.matcher(s);
-			while (m.find()) {
-				s = m.replaceAll(FULL_SPLAT_REPLACEMENT);
-				m.reset(s);
+			else {
+				pathVariables.clear();
+				this.uriPattern = compilePattern("^" + path, pathVariables);
 			}
-
-			this.uriPattern = Pattern.compile(s + "$");
 		}
 
 		/**
@@ -332,7 +320,11 @@ final class HttpPredicate
 		 * @return {@code true} if there's a match, {@code false} otherwise
 		 */
 		public boolean matches(String uri) {
-			return matcher(uri).matches();
+			if (parts == null) {
+				return matcher(uri).matches();
+			}
+			String path = uri.startsWith("/") ? uri : filterHostAndPort(uri);
+			return matchParts(path, 0, pathEnd(path), 0, null);
 		}
 
 		/**
@@ -347,12 +339,23 @@ final class HttpPredicate
 		final Map<String, String> match(String uri) {
 			Map<String, String> pathParameters = new HashMap<>(MapUtils.calculateInitialCapacity(pathVariables.size()));
 
-			Matcher m = matcher(uri);
-			if (m.matches()) {
-				int i = 1;
-				for (String name : pathVariables) {
-					String val = m.group(i++);
-					pathParameters.put(name, val);
+			if (parts == null) {
+				Matcher m = matcher(uri);
+				if (m.matches()) {
+					int i = 1;
+					for (String name : pathVariables) {
+						String val = m.group(i++);
+						pathParameters.put(name, val);
+					}
+				}
+				return pathParameters;
+			}
+
+			String path = uri.startsWith("/") ? uri : filterHostAndPort(uri);
+			int[] captures = new int[pathVariables.size() * 2];
+			if (matchParts(path, 0, pathEnd(path), 0, captures)) {
+				for (int i = 0; i < pathVariables.size(); i++) {
+					pathParameters.put(pathVariables.get(i), path.substring(captures[2 * i], captures[2 * i + 1]));
 				}
 			}
 			return pathParameters;
@@ -363,6 +366,201 @@ final class HttpPredicate
 			return uriPattern.matcher(uri);
 		}
 
+		/**
+		 * Matches the parts of this template starting from {@code index} against the uri region
+		 * {@code [start, end)}. Variables are greedy and backtrack in the same way as their regular expression
+		 * counterparts, the captured regions are stored in {@code captures} only for a successful match.
+		 */
+		private boolean matchParts(String uri, int start, int end, int index, @Nullable int[] captures) {
+			Part[] parts = this.parts;
+			int position = start;
+			for (int i = index; i < parts.length; i++) {
+				Part part = parts[i];
+				if (part.kind == Part.LITERAL) {
+					String literal = part.value;
+					int length = literal.length();
+					if (end - position < length) {
+						return false;
+					}
+					for (int j = 0; j < length; j++) {
+						char expected = literal.charAt(j);
+						char actual = uri.charAt(position + j);
+						if (expected == '.' ? isLineTerminator(actual) : expected != actual) {
+							return false;
+						}
+					}
+					position += length;
+				}
+				else {
+					int limit = position;
+					if (part.kind == Part.VARIABLE) {
+						while (limit < end && uri.charAt(limit) != '/') {
+							limit++;
+						}
+					}
+					else {
+						while (limit < end && !isLineTerminator(uri.charAt(limit))) {
+							limit++;
+						}
+					}
+
+					if (i == parts.length - 1) {
+						if (limit != end) {
+							return false;
+						}
+						capture(captures, part, position, end);
+						return true;
+					}
+
+					// A variable cannot contain '/', when the next literal starts with '/' only the longest match is possible
+					Part next = parts[i + 1];
+					int lowest = part.kind == Part.VARIABLE && next.kind == Part.LITERAL && next.value.charAt(0) == '/' ?
+							limit : position;
+					for (int candidate = limit; candidate >= lowest; candidate--) {
+						if (matchParts(uri, candidate, end, i + 1, captures)) {
+							capture(captures, part, position, candidate);
+							return true;
+						}
+					}
+					return false;
+				}
+			}
+			return position == end;
+		}
+
+		static void capture(@Nullable int[] captures, Part part, int start, int end) {
+			if (captures != null && part.capture != -1) {
+				captures[2 * part.capture] = start;
+				captures[2 * part.capture + 1] = end;
+			}
+		}
+
+		static boolean isLineTerminator(char c) {
+			return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+		}
+
+		static int pathEnd(String path) {
+			int hasQuery = path.lastIndexOf('?');
+			return hasQuery != -1 ? hasQuery : path.length();
+		}
+
+		/**
+		 * Splits the template into literals and variables.
+		 *
+		 * @return the parts or {@code null} when the template contains regular expression constructs
+		 */
+		@Nullable
+		static Part[] compileParts(String path, List<String> pathVariables) {
+			List<Part> parts = new ArrayList<>();
+			StringBuilder literal = new StringBuilder();
+			int i = 0;
+			while (i < path.length()) {
+				char c = path.charAt(i);
+				if (c == '{') {
+					int close = path.indexOf('}', i + 1);
+					if (close == -1) {
+						return null;
+					}
+					String name = path.substring(i + 1, close);
+					if (!isGroupName(name) || pathVariables.contains(name)) {
+						return null;
+					}
+					boolean splat = path.startsWith("**", close + 1);
+					addLiteral(parts, literal);
+					parts.add(new Part(splat ? Part.SPLAT : Part.VARIABLE, name, pathVariables.size()));
+					pathVariables.add(name);
+					i = splat ? close + 3 : close + 1;
+				}
+				else if (c == '*') {
+					if (!path.startsWith("**", i) || path.startsWith("***", i)) {
+						return null;
+					}
+					addLiteral(parts, literal);
+					parts.add(new Part(Part.SPLAT, null, -1));
+					i += 2;
+				}
+				else if ("\\[]()+?^$|}".indexOf(c) != -1) {
+					return null;
+				}
+				else {
+					literal.append(c);
+					i++;
+				}
+			}
+			addLiteral(parts, literal);
+			return parts.toArray(new Part[0]);
+		}
+
+		static void addLiteral(List<Part> parts, StringBuilder literal) {
+			if (literal.length() > 0) {
+				parts.add(new Part(Part.LITERAL, literal.toString(), -1));
+				literal.setLength(0);
+			}
+		}
+
+		static boolean isGroupName(String name) {
+			if (name.isEmpty() || !isAsciiLetter(name.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < name.length(); i++) {
+				char c = name.charAt(i);
+				if (!isAsciiLetter(c) && (c < '0' || c > '9')) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static boolean isAsciiLetter(char c) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+		}
+
+		static Pattern compilePattern(String s, List<String> pathVariables) {
+			Matcher m = NAME_SPLAT_PATTERN.matcher(s);
+			while (m.find()) {
+				for (int i = 1; i <= m.groupCount(); i++) {
+					String name = m.group(i);
+					pathVariables.add(name);
+					s = m.replaceFirst(getNameSplatReplacement(name));
+					m.reset(s);
+				}
+			}
+
+			m = NAME_PATTERN.matcher(s);
+			while (m.find()) {
+				for (int i = 1; i <= m.groupCount(); i++) {
+					String name = m.group(i);
+					pathVariables.add(name);
+					s = m.replaceFirst(getNameReplacement(name));
+					m.reset(s);
+				}
+			}
+
+			m = FULL_SPLAT_PATTERN.matcher(s);
+			while (m.find()) {
+				s = m.replaceAll(FULL_SPLAT_REPLACEMENT);
+				m.reset(s);
+			}
+
+			return Pattern.compile(s + "$");
+		}
+
+		static final class Part {
+
+			static final int LITERAL  = 0;
+			static final int VARIABLE = 1;
+			static final int SPLAT    = 2;
+
+			final int    kind;
+			final String value;
+			final int    capture;
+
+			Part(int kind, @Nullable String value, int capture) {
+				this.kind = kind;
+				this.value = value;
+				this.capture = capture;
+			}
+		}
 	}
 
 	static final class HttpPrefixPredicate implements Predicate<HttpServerRequest> {
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.netty.http.server.DefaultHttpServerRoutes.HttpRouteHandler;
+import reactor.util.annotation.Nullable;
+
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterHostAndPort;
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterQueryParams;
+
+/**
+ * A compiled view of the routes declared in {@link DefaultHttpServerRoutes}.
+ * <p>
+ * Routes created with {@link HttpPredicate} or {@link HttpPredicate#prefix(String, HttpMethod)} are indexed
+ * by method and by the literal leading segments of their path in a segment tree. For a given request only the
+ * routes found along the request path, plus the routes with custom predicates, are tested. Candidates are always
+ * tested in the order of the routes list, so that the first matching route in order of declaration
+ * (or in the order defined by the comparator) is selected, exactly as with a linear scan.
+ *
+ * @since 1.2.0
+ */
+final class HttpRouteIndex {
+
+	static final int[] EMPTY = new int[0];
+
+	final HttpRouteHandler[] handlers;
+	final Node fallback;
+	final Map<HttpMethod, Node> roots;
+
+	HttpRouteIndex(List<HttpRouteHandler> handlers) {
+		this.handlers = handlers.toArray(new HttpRouteHandler[0]);
+		this.fallback = new Node();
+		this.roots = new HashMap<>();
+
+		for (int i = 0; i < this.handlers.length; i++) {
+			Predicate<? super HttpServerRequest> condition = this.handlers[i].condition;
+			HttpMethod method;
+			List<String> segments;
+			if (condition instanceof HttpPredicate) {
+				HttpPredicate predicate = (HttpPredicate) condition;
+				method = predicate.method;
+				segments = literalSegments(filterQueryParams(filterHostAndPort(predicate.uri)), false);
+			}
+			else if (condition instanceof HttpPredicate.HttpPrefixPredicate) {
+				HttpPredicate.HttpPrefixPredicate predicate = (HttpPredicate.HttpPrefixPredicate) condition;
+				method = predicate.method;
+				segments = literalSegments(predicate.prefix, true);
+			}
+			else {
+				fallback.add(i);
+				continue;
+			}
+
+			Node node = roots.computeIfAbsent(method, m -> new Node());
+			for (String segment : segments) {
+				node = node.children.computeIfAbsent(segment, s -> new Node());
+			}
+			node.add(i);
+		}
+	}
+
+	/**
+	 * Finds the first route matching the request.
+	 *
+	 * @param request the incoming request
+	 * @return the first route matching the request or {@code null}
+	 */
+	@Nullable
+	HttpRouteHandler find(HttpServerRequest request) {
+		if (handlers.length == 0) {
+			return null;
+		}
+
+		String path;
+		try {
+			path = filterQueryParams(filterHostAndPort(request.uri()));
+		}
+		catch (IllegalArgumentException e) {
+			// Keep the behaviour of the linear scan, the first route that cannot parse the uri will fail
+			return findLinear(request);
+		}
+
+		Node node = roots.get(request.method());
+		if (node == null) {
+			return fallback.size == 0 ? null : select(request, new Node[]{fallback}, 1);
+		}
+
+		int depth = 2;
+		for (int i = 0; i < path.length(); i++) {
+			if (path.charAt(i) == '/') {
+				depth++;
+			}
+		}
+
+		Node[] candidates = new Node[depth];
+		int count = 0;
+		if (fallback.size > 0) {
+			candidates[count++] = fallback;
+		}
+		if (node.size > 0) {
+			candidates[count++] = node;
+		}
+
+		if (!path.isEmpty() && path.charAt(0) == '/') {
+			int start = 1;
+			while (!node.children.isEmpty()) {
+				int end = path.indexOf('/', start);
+				node = node.children.get(end == -1 ? path.substring(start) : path.substring(start, end));
+				if (node == null) {
+					break;
+				}
+				if (node.size > 0) {
+					candidates[count++] = node;
+				}
+				if (end == -1) {
+					break;
+				}
+				start = end + 1;
+			}
+		}
+
+		return count == 0 ? null : select(request, candidates, count);
+	}
+
+	@Nullable
+	HttpRouteHandler findLinear(HttpServerRequest request) {
+		for (HttpRouteHandler handler : handlers) {
+			if (handler.test(request)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Merges the candidates found in the visited nodes and tests them in the order of the routes list.
+	 */
+	@Nullable
+	HttpRouteHandler select(HttpServerRequest request, Node[] candidates, int count) {
+		int[] cursors = new int[count];
+		for (;;) {
+			int next = -1;
+			int nextNode = -1;
+			for (int i = 0; i < count; i++) {
+				Node node = candidates[i];
+				if (cursors[i] < node.size) {
+					int position = node.handlers[cursors[i]];
+					if (next == -1 || position < next) {
+						next = position;
+						nextNode = i;
+					}
+				}
+			}
+
+			if (nextNode == -1) {
+				return null;
+			}
+
+			cursors[nextNode]++;
+			HttpRouteHandler handler = handlers[next];
+			if (handler.test(request)) {
+				return handler;
+			}
+		}
+	}
+
+	/**
+	 * Returns the leading segments of the path that can be compared literally with the request path.
+	 * Any segment that contains a path variable, a wildcard or a regular expression construct stops the indexing.
+	 *
+	 * @param path the path of the route
+	 * @param prefix whether the path is used as a prefix, in which case the last segment might be incomplete
+	 * @return the literal leading segments
+	 */
+	static List<String> literalSegments(String path, boolean prefix) {
+		List<String> segments = new ArrayList<>();
+		// An alternation applies to the whole expression, such routes can be indexed only by method
+		if (path.isEmpty() || path.charAt(0) != '/' || path.indexOf('|') != -1) {
+			return segments;
+		}
+
+		int start = 1;
+		for (;;) {
+			int end = path.indexOf('/', start);
+			if (end == -1) {
+				if (!prefix) {
+					String segment = path.substring(start);
+					if (isLiteral(segment)) {
+						segments.add(segment);
+					}
+				}
+				return segments;
+			}
+
+			String segment = path.substring(start, end);
+			if (!isLiteral(segment)) {
+				return segments;
+			}
+			segments.add(segment);
+			start = end + 1;
+		}
+	}
+
+	static boolean isLiteral(String segment) {
+		for (int i = 0; i < segment.length(); i++) {
+			switch (segment.charAt(i)) {
+				case '\\':
+				case '.':
+				case '[':
+				case ']':
+				case '{':
+				case '}':
+				case '(':
+				case ')':
+				case '*':
+				case '+':
+				case '?':
+				case '^':
+				case '$':
+				case '|':
+					return false;
+				default:
+					break;
+			}
+		}
+		return true;
+	}
+
+	static final class Node {
+
+		final Map<String, Node> children = new HashMap<>();
+
+		int[] handlers = EMPTY;
+		int size;
+
+		void add(int position) {
+			if (size == handlers.length) {
+				handlers = Arrays.copyOf(handlers, Math.max(4, size * 2));
+			}
+			handlers[size++] = position;
+		}
+	}
+}
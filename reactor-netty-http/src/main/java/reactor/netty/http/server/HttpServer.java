@@ -332,6 +332,69 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return dup;
 	}
 
+	/**
+	 * Cache the compressed form of the responses with a full body (e.g. {@code sendString(Mono)},
+	 * {@code sendByteArray(Mono)}) when the response compression is enabled.
+	 * The cache is keyed by the content encoding and the uncompressed content, a response with the same content
+	 * and the same content encoding as a previous response is not compressed again.
+	 * A body is cached only once it is sent for the second time.
+	 * The cache is bounded by the total size of the cached uncompressed and compressed bodies, the least recently
+	 * used bodies are evicted once this size is exceeded. By default the cache is disabled.
+	 * Note that the cache is useful only for a small set of frequently sent bodies, otherwise the bodies are
+	 * compared and copied for nothing.
+	 *
+	 * @param maxSizeInBytes the maximum size in bytes of the cache, {@code 0} disables the cache
+	 * @return a new {@link HttpServer}
+	 * @since 1.2.0
+	 */
+	public final HttpServer compressionCache(int maxSizeInBytes) {
+		if (maxSizeInBytes < 0) {
+			throw new IllegalArgumentException("maxSizeInBytes must be positive or 0");
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().compressionCacheSize = maxSizeInBytes;
+		return dup;
+	}
+
+	/**
+	 * Specifies the {@link HttpCompressionPolicy} that selects the compression algorithm and level of
+	 * every response eligible for compression, or skips its compression.
+	 * This does not enable the response compression, see {@link #compress(boolean)}.
+	 * For example {@link HttpCompressionPolicy#adaptive(int)} uses a faster level or skips the compression
+	 * when the event loops are busy.
+	 * By default the content encoding is negotiated with the client and compressed with its default level.
+	 *
+	 * @param compressionPolicy the {@link HttpCompressionPolicy}
+	 * @return a new {@link HttpServer}
+	 * @since 1.2.0
+	 */
+	public final HttpServer compressionPolicy(HttpCompressionPolicy compressionPolicy) {
+		Objects.requireNonNull(compressionPolicy, "compressionPolicy");
+		HttpServer dup = duplicate();
+		dup.configuration().compressionPolicy = compressionPolicy;
+		return dup;
+	}
+
+	/**
+	 * Limits the number of requests processed concurrently with an adaptive {@link HttpConcurrencyLimit}.
+	 * The requests received while the limit is reached are queued or rejected before the handler is invoked.
+	 * If the {@code concurrencyLimit} is {@code null}, any previous setting will be removed.
+	 * <p>By default the number of requests processed concurrently is not limited.
+	 *
+	 * @param concurrencyLimit the {@link HttpConcurrencyLimit} to use or null to remove the limit
+	 * @return a new {@link HttpServer}
+	 * @since 1.2.0
+	 * @see HttpServerRoutes#concurrencyLimit(Predicate, HttpConcurrencyLimit)
+	 */
+	public final HttpServer concurrencyLimit(@Nullable HttpConcurrencyLimit concurrencyLimit) {
+		if (concurrencyLimit == configuration().concurrencyLimit) {
+			return this;
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().concurrencyLimit = concurrencyLimit;
+		return dup;
+	}
+
 	/**
 	 * Configure the
 	 * {@link ServerCookieEncoder}; {@link ServerCookieDecoder} will be
@@ -373,6 +436,26 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return dup;
 	}
 
+	/**
+	 * Whether to add the {@code Date} header to the responses which do not set it.
+	 * The value of the header is formatted at most once per second and shared by all the responses sent
+	 * within the same second.
+	 * This configuration is applicable only for HTTP/1.x.
+	 * <p>By default the {@code Date} header is not added.
+	 *
+	 * @param dateHeader true enables adding the {@code Date} header
+	 * @return a new {@link HttpServer}
+	 * @since 1.2.0
+	 */
+	public final HttpServer dateHeader(boolean dateHeader) {
+		if (dateHeader == configuration().dateHeader) {
+			return this;
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().dateHeader = dateHeader;
+		return dup;
+	}
+
 	/**
 	 * Specifies a custom request handler for deriving information about the connection.
 	 *
@@ -875,6 +958,30 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return dup;
 	}
 
+	/**
+	 * Whether to reuse the per-connection HTTP/1.1 request state across the sequential requests
+	 * of a keep-alive connection. When enabled, the response message and its {@link io.netty.handler.codec.http.HttpHeaders}
+	 * are reset and reused by the next request once the previous response is fully written,
+	 * and {@link ConnectionInfo} is reused when the {@code Host} header does not change and
+	 * {@link #forwarded(boolean)} is not configured.
+	 * <p><strong>Note:</strong> with this option enabled, the I/O handler must not keep references to
+	 * {@link HttpServerResponse#responseHeaders()} after the response is completed, as they may be
+	 * already reused by the next request on the same connection.
+	 * <p>By default the request state is not reused.
+	 *
+	 * @param recycleRequestState true enables reusing the request state across sequential requests
+	 * @return a new {@link HttpServer}
+	 * @since 1.2.0
+	 */
+	public final HttpServer recycleRequestState(boolean recycleRequestState) {
+		if (recycleRequestState == configuration().recycleRequestState) {
+			return this;
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().recycleRequestState = recycleRequestState;
+		return dup;
+	}
+
 	/**
 	 * Specifies the maximum duration for reading a given request content (resolution: ms).
 	 * If the {@code requestTimeout} is {@code null}, any previous setting will be removed and no
@@ -27,6 +27,7 @@ import io.netty.handler.codec.haproxy.HAProxyMessageDecoder;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
@@ -46,8 +47,9 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AsciiString;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
 import reactor.core.publisher.Mono;
 import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.Connection;
@@ -65,8 +67,11 @@ import reactor.netty.http.logging.ReactorNettyHttpMessageLogFactory;
 import reactor.netty.http.server.logging.AccessLog;
 import reactor.netty.http.server.logging.AccessLogArgProvider;
 import reactor.netty.http.server.logging.AccessLogHandlerFactory;
+import reactor.netty.internal.util.TimerReadTimeoutHandler;
+import reactor.netty.resources.EventLoopTimer;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.SslProvider;
+import reactor.netty.transport.EventLoopLoadShedding;
 import reactor.netty.transport.ServerTransportConfig;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
 import reactor.util.Logger;
@@ -78,7 +83,6 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -98,6 +102,38 @@ import static reactor.netty.http.server.HttpServerFormDecoderProvider.DEFAULT_FO
  */
 public final class HttpServerConfig extends ServerTransportConfig<HttpServerConfig> {
 
+	/**
+	 * Return the maximum size in bytes of the cache of compressed response bodies, {@code 0} when disabled.
+	 *
+	 * @return the maximum size in bytes of the cache of compressed response bodies
+	 * @since 1.2.0
+	 */
+	public int compressionCacheSize() {
+		return compressionCacheSize;
+	}
+
+	/**
+	 * Return the configured {@link HttpCompressionPolicy} or null.
+	 *
+	 * @return the configured {@link HttpCompressionPolicy} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public HttpCompressionPolicy compressionPolicy() {
+		return compressionPolicy;
+	}
+
+	/**
+	 * Return the configured {@link HttpConcurrencyLimit} or null.
+	 *
+	 * @return the configured {@link HttpConcurrencyLimit} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public HttpConcurrencyLimit concurrencyLimit() {
+		return concurrencyLimit;
+	}
+
 	/**
 	 * Return the configured compression predicate or null.
 	 *
@@ -130,6 +166,18 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		return cookieEncoder;
 	}
 
+	/**
+	 * Returns true if the {@code Date} header is added to the responses which do not set it.
+	 * This configuration is applicable only for HTTP/1.x.
+	 *
+	 * @return true if the {@code Date} header is added to the responses which do not set it
+	 * @since 1.2.0
+	 * @see HttpServer#dateHeader(boolean)
+	 */
+	public boolean dateHeader() {
+		return dateHeader;
+	}
+
 	/**
 	 * Return the configured HTTP request decoder options or the default.
 	 *
@@ -238,6 +286,17 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		return readTimeout;
 	}
 
+	/**
+	 * Returns true if the per-connection HTTP/1.1 request state is reused across sequential requests.
+	 *
+	 * @return true if the per-connection HTTP/1.1 request state is reused across sequential requests
+	 * @since 1.2.0
+	 * @see HttpServer#recycleRequestState(boolean)
+	 */
+	public boolean recycleRequestState() {
+		return recycleRequestState;
+	}
+
 	/**
 	 * Returns true if that {@link HttpServer} will redirect HTTP to HTTPS by changing
 	 * the scheme only but otherwise leaving the port the same when SSL is enabled.
@@ -291,9 +350,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	boolean                                                 accessLogEnabled;
 	Function<AccessLogArgProvider, AccessLog>               accessLog;
+	int                                                     compressionCacheSize;
+	HttpCompressionPolicy                                   compressionPolicy;
 	BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
+	HttpConcurrencyLimit                                    concurrencyLimit;
 	ServerCookieDecoder                                     cookieDecoder;
 	ServerCookieEncoder                                     cookieEncoder;
+	boolean                                                 dateHeader;
 	HttpRequestDecoderSpec                                  decoder;
 	HttpServerFormDecoderProvider                           formDecoderProvider;
 	BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
@@ -309,6 +372,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	int                                                     _protocols;
 	ProxyProtocolSupportType                                proxyProtocolSupportType;
 	Duration                                                readTimeout;
+	boolean                                                 recycleRequestState;
 	boolean                                                 redirectHttpToHttps;
 	Duration                                                requestTimeout;
 	SslProvider                                             sslProvider;
@@ -333,9 +397,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		super(parent);
 		this.accessLogEnabled = parent.accessLogEnabled;
 		this.accessLog = parent.accessLog;
+		this.compressionCacheSize = parent.compressionCacheSize;
+		this.compressionPolicy = parent.compressionPolicy;
 		this.compressPredicate = parent.compressPredicate;
+		this.concurrencyLimit = parent.concurrencyLimit;
 		this.cookieDecoder = parent.cookieDecoder;
 		this.cookieEncoder = parent.cookieEncoder;
+		this.dateHeader = parent.dateHeader;
 		this.decoder = parent.decoder;
 		this.formDecoderProvider = parent.formDecoderProvider;
 		this.forwardedHeaderHandler = parent.forwardedHeaderHandler;
@@ -350,6 +418,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		this._protocols = parent._protocols;
 		this.proxyProtocolSupportType = parent.proxyProtocolSupportType;
 		this.readTimeout = parent.readTimeout;
+		this.recycleRequestState = parent.recycleRequestState;
 		this.redirectHttpToHttps = parent.redirectHttpToHttps;
 		this.requestTimeout = parent.requestTimeout;
 		this.sslProvider = parent.sslProvider;
@@ -443,6 +512,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	static void addStreamHandlers(Channel ch,
 			boolean accessLogEnabled,
 			@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder decoder,
 			ServerCookieEncoder encoder,
@@ -464,14 +534,14 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		}
 		pipeline.addLast(NettyPipeline.H2ToHttp11Codec, HTTP2_STREAM_FRAME_TO_HTTP_OBJECT)
 		        .addLast(NettyPipeline.HttpTrafficHandler,
-		                 new Http2StreamBridgeServerHandler(compressPredicate, decoder, encoder, formDecoderProvider,
+		                 new Http2StreamBridgeServerHandler(compressionOptions, compressPredicate, decoder, encoder, formDecoderProvider,
 		                         forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle,
 		                         readTimeout, requestTimeout));
 
 		boolean alwaysCompress = compressPredicate == null && minCompressionSize == 0;
 
 		if (alwaysCompress) {
-			pipeline.addLast(NettyPipeline.CompressionHandler, new SimpleCompressionHandler());
+			pipeline.addLast(NettyPipeline.CompressionHandler, new SimpleCompressionHandler(compressionOptions));
 		}
 
 		ChannelOperations.addReactiveBridge(ch, opsFactory, listener);
@@ -555,6 +625,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	static void configureH2Pipeline(ChannelPipeline p,
 			boolean accessLogEnabled,
 			@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
@@ -603,7 +674,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		}
 		p.addLast(NettyPipeline.HttpCodec, http2FrameCodec)
 		 .addLast(NettyPipeline.H2MultiplexHandler,
-		          new Http2MultiplexHandler(new H2Codec(accessLogEnabled, accessLog, compressPredicate, cookieDecoder,
+		          new Http2MultiplexHandler(new H2Codec(accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder,
 		                  cookieEncoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener,
 		                  mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue)));
 
@@ -623,9 +694,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	static void configureHttp11OrH2CleartextPipeline(ChannelPipeline p,
 			boolean accessLogEnabled,
 			@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
+			boolean dateHeader,
 			HttpRequestDecoderSpec decoder,
 			boolean enableGracefulShutdown,
 			HttpServerFormDecoderProvider formDecoderProvider,
@@ -641,6 +714,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			int minCompressionSize,
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
+			boolean recycleRequestState,
 			@Nullable Duration requestTimeout,
 			@Nullable Function<String, String> uriTagValue) {
 		HttpServerCodec httpServerCodec =
@@ -648,7 +722,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 						decoder.maxChunkSize(), decoder.validateHeaders(), decoder.initialBufferSize(),
 						decoder.allowDuplicateContentLengths());
 
-		Http11OrH2CleartextCodec upgrader = new Http11OrH2CleartextCodec(accessLogEnabled, accessLog, compressPredicate,
+		Http11OrH2CleartextCodec upgrader = new Http11OrH2CleartextCodec(accessLogEnabled, accessLog, compressionOptions, compressPredicate,
 				cookieDecoder, cookieEncoder, p.get(NettyPipeline.LoggingHandler) != null, enableGracefulShutdown, formDecoderProvider,
 				forwardedHeaderHandler, http2SettingsSpec, httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder,
 				minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue, decoder.validateHeaders());
@@ -666,9 +740,9 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		            NettyPipeline.H2CUpgradeHandler, h2cUpgradeHandler)
 		 .addBefore(NettyPipeline.ReactiveBridge,
 		            NettyPipeline.HttpTrafficHandler,
-		            new HttpTrafficHandler(compressPredicate, cookieDecoder, cookieEncoder, formDecoderProvider,
-		                    forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener, mapHandle, maxKeepAliveRequests,
-		                    readTimeout, requestTimeout));
+		            new HttpTrafficHandler(compressionOptions, compressPredicate, cookieDecoder, cookieEncoder, dateHeader,
+		                    formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener, mapHandle,
+		                    maxKeepAliveRequests, readTimeout, recycleRequestState, requestTimeout));
 
 		if (accessLogEnabled) {
 			p.addAfter(NettyPipeline.HttpTrafficHandler, NettyPipeline.AccessLogHandler, AccessLogHandlerFactory.H1.create(accessLog));
@@ -677,7 +751,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		boolean alwaysCompress = compressPredicate == null && minCompressionSize == 0;
 
 		if (alwaysCompress) {
-			p.addBefore(NettyPipeline.HttpTrafficHandler, NettyPipeline.CompressionHandler, new SimpleCompressionHandler());
+			p.addBefore(NettyPipeline.HttpTrafficHandler, NettyPipeline.CompressionHandler, new SimpleCompressionHandler(compressionOptions));
 		}
 
 		if (metricsRecorder != null) {
@@ -706,10 +780,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	static void configureHttp11Pipeline(ChannelPipeline p,
 			boolean accessLogEnabled,
 			@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
 			boolean channelOpened,
+			boolean dateHeader,
 			HttpRequestDecoderSpec decoder,
 			HttpServerFormDecoderProvider formDecoderProvider,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
@@ -722,6 +798,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			@Nullable ChannelMetricsRecorder metricsRecorder,
 			int minCompressionSize,
 			@Nullable Duration readTimeout,
+			boolean recycleRequestState,
 			@Nullable Duration requestTimeout,
 			@Nullable Function<String, String> uriTagValue) {
 		p.addBefore(NettyPipeline.ReactiveBridge,
@@ -731,9 +808,9 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		                    decoder.allowDuplicateContentLengths()))
 		 .addBefore(NettyPipeline.ReactiveBridge,
 		            NettyPipeline.HttpTrafficHandler,
-		            new HttpTrafficHandler(compressPredicate, cookieDecoder, cookieEncoder, formDecoderProvider,
-		                    forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener, mapHandle, maxKeepAliveRequests,
-		                    readTimeout, requestTimeout));
+		            new HttpTrafficHandler(compressionOptions, compressPredicate, cookieDecoder, cookieEncoder, dateHeader,
+		                    formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener, mapHandle,
+		                    maxKeepAliveRequests, readTimeout, recycleRequestState, requestTimeout));
 
 		if (accessLogEnabled) {
 			p.addAfter(NettyPipeline.HttpTrafficHandler, NettyPipeline.AccessLogHandler, AccessLogHandlerFactory.H1.create(accessLog));
@@ -742,7 +819,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		boolean alwaysCompress = compressPredicate == null && minCompressionSize == 0;
 
 		if (alwaysCompress) {
-			p.addBefore(NettyPipeline.HttpTrafficHandler, NettyPipeline.CompressionHandler, new SimpleCompressionHandler());
+			p.addBefore(NettyPipeline.HttpTrafficHandler, NettyPipeline.CompressionHandler, new SimpleCompressionHandler(compressionOptions));
 		}
 
 		if (metricsRecorder != null) {
@@ -911,6 +988,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		final boolean                                                 accessLogEnabled;
 		final Function<AccessLogArgProvider, AccessLog>               accessLog;
+		final HttpCompressionOptions                                  compressionOptions;
 		final BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 		final ServerCookieDecoder                                     cookieDecoder;
 		final ServerCookieEncoder                                     cookieEncoder;
@@ -931,6 +1009,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		H2Codec(
 				boolean accessLogEnabled,
 				@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+				HttpCompressionOptions compressionOptions,
 				@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 				ServerCookieDecoder decoder,
 				ServerCookieEncoder encoder,
@@ -948,6 +1027,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				@Nullable Function<String, String> uriTagValue) {
 			this.accessLogEnabled = accessLogEnabled;
 			this.accessLog = accessLog;
+			this.compressionOptions = compressionOptions;
 			this.compressPredicate = compressPredicate;
 			this.cookieDecoder = decoder;
 			this.cookieEncoder = encoder;
@@ -968,7 +1048,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		@Override
 		protected void initChannel(Channel ch) {
 			ch.pipeline().remove(this);
-			addStreamHandlers(ch, accessLogEnabled, accessLog, compressPredicate, cookieDecoder, cookieEncoder,
+			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder,
 					formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder,
 					minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
 		}
@@ -979,6 +1059,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		final boolean                                                 accessLogEnabled;
 		final Function<AccessLogArgProvider, AccessLog>               accessLog;
+		final HttpCompressionOptions                                  compressionOptions;
 		final BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 		final ServerCookieDecoder                                     cookieDecoder;
 		final ServerCookieEncoder                                     cookieEncoder;
@@ -1001,6 +1082,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		Http11OrH2CleartextCodec(
 				boolean accessLogEnabled,
 				@Nullable Function<AccessLogArgProvider, AccessLog> accessLog,
+				HttpCompressionOptions compressionOptions,
 				@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 				ServerCookieDecoder cookieDecoder,
 				ServerCookieEncoder cookieEncoder,
@@ -1022,6 +1104,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				boolean validate) {
 			this.accessLogEnabled = accessLogEnabled;
 			this.accessLog = accessLog;
+			this.compressionOptions = compressionOptions;
 			this.compressPredicate = compressPredicate;
 			this.cookieDecoder = cookieDecoder;
 			this.cookieEncoder = cookieEncoder;
@@ -1067,7 +1150,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		@Override
 		protected void initChannel(Channel ch) {
 			ch.pipeline().remove(this);
-			addStreamHandlers(ch, accessLogEnabled, accessLog, compressPredicate, cookieDecoder, cookieEncoder,
+			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder,
 					formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle, methodTagValue,
 					metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
 		}
@@ -1111,9 +1194,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		final boolean                                                 accessLogEnabled;
 		final Function<AccessLogArgProvider, AccessLog>               accessLog;
+		final HttpCompressionOptions                                  compressionOptions;
 		final BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 		final ServerCookieDecoder                                     cookieDecoder;
 		final ServerCookieEncoder                                     cookieEncoder;
+		final boolean                                                 dateHeader;
 		final HttpRequestDecoderSpec                                  decoder;
 		final boolean                                                 enableGracefulShutdown;
 		final HttpServerFormDecoderProvider                           formDecoderProvider;
@@ -1130,6 +1215,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final int                                                     minCompressionSize;
 		final ChannelOperations.OnSetup                               opsFactory;
 		final Duration                                                readTimeout;
+		final boolean                                                 recycleRequestState;
 		final Duration                                                requestTimeout;
 		final Function<String, String>                                uriTagValue;
 
@@ -1137,9 +1223,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			super(ApplicationProtocolNames.HTTP_1_1);
 			this.accessLogEnabled = initializer.accessLogEnabled;
 			this.accessLog = initializer.accessLog;
+			this.compressionOptions = initializer.compressionOptions;
 			this.compressPredicate = compressPredicate(initializer.compressPredicate, initializer.minCompressionSize);
 			this.cookieDecoder = initializer.cookieDecoder;
 			this.cookieEncoder = initializer.cookieEncoder;
+			this.dateHeader = initializer.dateHeader;
 			this.decoder = initializer.decoder;
 			this.enableGracefulShutdown = initializer.enableGracefulShutdown;
 			this.formDecoderProvider = initializer.formDecoderProvider;
@@ -1155,6 +1243,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.minCompressionSize = initializer.minCompressionSize;
 			this.opsFactory = initializer.opsFactory;
 			this.readTimeout = initializer.readTimeout;
+			this.recycleRequestState = initializer.recycleRequestState;
 			this.requestTimeout = initializer.requestTimeout;
 			this.uriTagValue = initializer.uriTagValue;
 		}
@@ -1168,7 +1257,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelPipeline p = ctx.pipeline();
 
 			if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
-				configureH2Pipeline(p, accessLogEnabled, accessLog, compressPredicate, cookieDecoder, cookieEncoder,
+				configureH2Pipeline(p, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder,
 						enableGracefulShutdown, formDecoderProvider, forwardedHeaderHandler, http2SettingsSpec, httpMessageLogFactory, idleTimeout,
 						listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout,
 						uriTagValue, decoder.validateHeaders());
@@ -1176,9 +1265,10 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			}
 
 			if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
-				configureHttp11Pipeline(p, accessLogEnabled, accessLog, compressPredicate, cookieDecoder, cookieEncoder, true,
-						decoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener,
-						mapHandle, maxKeepAliveRequests, methodTagValue, metricsRecorder, minCompressionSize, readTimeout, requestTimeout, uriTagValue);
+				configureHttp11Pipeline(p, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder, true,
+						dateHeader, decoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener,
+						mapHandle, maxKeepAliveRequests, methodTagValue, metricsRecorder, minCompressionSize, readTimeout, recycleRequestState,
+						requestTimeout, uriTagValue);
 
 				// When the server is configured with HTTP/1.1 and H2 and HTTP/1.1 is negotiated,
 				// when channelActive event happens, this HttpTrafficHandler is still not in the pipeline,
@@ -1195,9 +1285,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		final boolean                                                 accessLogEnabled;
 		final Function<AccessLogArgProvider, AccessLog>               accessLog;
+		final HttpCompressionOptions                                  compressionOptions;
 		final BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
+		final HttpConcurrencyLimit                                    concurrencyLimit;
 		final ServerCookieDecoder                                     cookieDecoder;
 		final ServerCookieEncoder                                     cookieEncoder;
+		final boolean                                                 dateHeader;
 		final HttpRequestDecoderSpec                                  decoder;
 		final boolean                                                 enableGracefulShutdown;
 		final HttpServerFormDecoderProvider                           formDecoderProvider;
@@ -1205,6 +1298,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final Http2SettingsSpec                                       http2SettingsSpec;
 		final HttpMessageLogFactory                                   httpMessageLogFactory;
 		final Duration                                                idleTimeout;
+		final EventLoopLoadShedding                                   loadShedding;
 		final BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>>
 		                                                              mapHandle;
 		final int                                                     maxKeepAliveRequests;
@@ -1217,15 +1311,19 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final boolean                                                 redirectHttpToHttps;
 		final SslProvider                                             sslProvider;
 		final Duration                                                readTimeout;
+		final boolean                                                 recycleRequestState;
 		final Duration                                                requestTimeout;
 		final Function<String, String>                                uriTagValue;
 
 		HttpServerChannelInitializer(HttpServerConfig config) {
 			this.accessLogEnabled = config.accessLogEnabled;
 			this.accessLog = config.accessLog;
+			this.compressionOptions = new HttpCompressionOptions(config.compressionCacheSize, config.compressionPolicy);
 			this.compressPredicate = config.compressPredicate;
+			this.concurrencyLimit = config.concurrencyLimit;
 			this.cookieDecoder = config.cookieDecoder;
 			this.cookieEncoder = config.cookieEncoder;
+			this.dateHeader = config.dateHeader;
 			this.decoder = config.decoder;
 			this.enableGracefulShutdown = config.channelGroup() != null;
 			this.formDecoderProvider = config.formDecoderProvider;
@@ -1233,6 +1331,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.http2SettingsSpec = config.http2Settings;
 			this.httpMessageLogFactory = config.httpMessageLogFactory;
 			this.idleTimeout = config.idleTimeout;
+			this.loadShedding = config.loadShedding();
 			this.mapHandle = config.mapHandle;
 			this.maxKeepAliveRequests = config.maxKeepAliveRequests;
 			this.methodTagValue = config.methodTagValue;
@@ -1242,6 +1341,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.protocols = config._protocols;
 			this.proxyProtocolSupportType = config.proxyProtocolSupportType;
 			this.readTimeout = config.readTimeout;
+			this.recycleRequestState = config.recycleRequestState;
 			this.redirectHttpToHttps = config.redirectHttpToHttps;
 			this.requestTimeout = config.requestTimeout;
 			this.sslProvider = config.sslProvider;
@@ -1252,6 +1352,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		public void onChannelInit(ConnectionObserver observer, Channel channel, @Nullable SocketAddress remoteAddress) {
 			boolean needRead = false;
 
+			if (concurrencyLimit != null) {
+				observer = concurrencyLimit.observer(observer);
+			}
+			if (loadShedding != null) {
+				observer = new LoadSheddingObserver(loadShedding, observer);
+			}
+
 			if (sslProvider != null) {
 				ChannelPipeline pipeline = channel.pipeline();
 				if (redirectHttpToHttps && (protocols & h2) != h2) {
@@ -1275,10 +1382,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							channel.pipeline(),
 							accessLogEnabled,
 							accessLog,
+							compressionOptions,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
 							false,
+							dateHeader,
 							decoder,
 							formDecoderProvider,
 							forwardedHeaderHandler,
@@ -1291,6 +1400,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							metricsRecorder,
 							minCompressionSize,
 							readTimeout,
+							recycleRequestState,
 							requestTimeout,
 							uriTagValue);
 				}
@@ -1299,6 +1409,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							channel.pipeline(),
 							accessLogEnabled,
 							accessLog,
+							compressionOptions,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
@@ -1326,9 +1437,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							channel.pipeline(),
 							accessLogEnabled,
 							accessLog,
+							compressionOptions,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
+							dateHeader,
 							decoder,
 							enableGracefulShutdown,
 							formDecoderProvider,
@@ -1344,6 +1457,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							minCompressionSize,
 							opsFactory,
 							readTimeout,
+							recycleRequestState,
 							requestTimeout,
 							uriTagValue);
 				}
@@ -1352,10 +1466,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							channel.pipeline(),
 							accessLogEnabled,
 							accessLog,
+							compressionOptions,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
 							false,
+							dateHeader,
 							decoder,
 							formDecoderProvider,
 							forwardedHeaderHandler,
@@ -1368,6 +1484,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							metricsRecorder,
 							minCompressionSize,
 							readTimeout,
+							recycleRequestState,
 							requestTimeout,
 							uriTagValue);
 				}
@@ -1376,6 +1493,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							channel.pipeline(),
 							accessLogEnabled,
 							accessLog,
+							compressionOptions,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
@@ -1417,13 +1535,50 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		}
 	}
 
+	/**
+	 * Fails fast the requests received on an overloaded event loop with {@code 503 Service Unavailable},
+	 * without notifying {@link HttpServerState#REQUEST_RECEIVED}.
+	 */
+	static final class LoadSheddingObserver implements ConnectionObserver {
+
+		final ConnectionObserver actual;
+		final EventLoopLoadShedding loadShedding;
+
+		LoadSheddingObserver(EventLoopLoadShedding loadShedding, ConnectionObserver actual) {
+			this.actual = actual;
+			this.loadShedding = loadShedding;
+		}
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (newState == HttpServerState.REQUEST_RECEIVED && connection instanceof HttpServerOperations &&
+					loadShedding.isOverloaded(connection.channel().eventLoop())) {
+				HttpServerOperations ops = (HttpServerOperations) connection;
+				if (log.isDebugEnabled()) {
+					log.debug(format(ops.channel(), "Event loop is overloaded, rejecting the request"));
+				}
+				ops.status(HttpResponseStatus.SERVICE_UNAVAILABLE)
+				   .send()
+				   .then()
+				   .subscribe(ops.disposeSubscriber());
+				return;
+			}
+			actual.onStateChange(connection, newState);
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			actual.onUncaughtException(connection, error);
+		}
+	}
+
 	static final class ReactorNettyHttpServerUpgradeHandler extends HttpServerUpgradeHandler {
 
 		final Duration readTimeout;
 		final Duration requestTimeout;
 
 		boolean requestAvailable;
-		Future<?> requestTimeoutFuture;
+		Timeout requestTimeoutFuture;
 
 		ReactorNettyHttpServerUpgradeHandler(
 				SourceCodec sourceCodec,
@@ -1451,11 +1606,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				if (req.headers().contains(HttpHeaderNames.UPGRADE)) {
 					if (readTimeout != null) {
 						ctx.channel().pipeline().addFirst(NettyPipeline.ReadTimeoutHandler,
-								new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+								new TimerReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
 					}
 					if (requestTimeout != null) {
-						requestTimeoutFuture =
-								ctx.executor().schedule(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
+						requestTimeoutFuture = EventLoopTimer.get(ctx.executor())
+								.newTimeout(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
 					}
 				}
 			}
@@ -1475,12 +1630,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ctx.channel().pipeline().remove(handler);
 			}
 			if (requestTimeoutFuture != null) {
-				requestTimeoutFuture.cancel(false);
+				requestTimeoutFuture.cancel();
 				requestTimeoutFuture = null;
 			}
 		}
 
-		final class RequestTimeoutTask implements Runnable {
+		final class RequestTimeoutTask implements TimerTask {
 
 			final ChannelHandlerContext ctx;
 
@@ -1490,7 +1645,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 			@Override
 			@SuppressWarnings("FutureReturnValueIgnored")
-			public void run() {
+			public void run(Timeout timeout) {
 				if (!requestAvailable) {
 					ctx.fireExceptionCaught(RequestTimeoutException.INSTANCE);
 					//"FutureReturnValueIgnored" this is deliberate
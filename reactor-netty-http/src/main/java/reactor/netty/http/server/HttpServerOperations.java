@@ -28,7 +28,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
@@ -47,6 +46,7 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
@@ -71,9 +71,10 @@ import io.netty.handler.codec.http.multipart.HttpData;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AsciiString;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
@@ -92,6 +93,8 @@ import reactor.netty.http.logging.HttpMessageArgProviderFactory;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.websocket.WebsocketInbound;
 import reactor.netty.http.websocket.WebsocketOutbound;
+import reactor.netty.internal.util.TimerReadTimeoutHandler;
+import reactor.netty.resources.EventLoopTimer;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 import reactor.util.annotation.Nullable;
@@ -111,6 +114,7 @@ import static reactor.netty.http.server.HttpServerState.REQUEST_DECODING_FAILED;
 class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerResponse>
 		implements HttpServerRequest, HttpServerResponse {
 
+	final HttpCompressionOptions compressionOptions;
 	final BiPredicate<HttpServerRequest, HttpServerResponse> configuredCompressionPredicate;
 	final ConnectionInfo connectionInfo;
 	final ServerCookieDecoder cookieDecoder;
@@ -123,21 +127,25 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	final HttpRequest nettyRequest;
 	final HttpResponse nettyResponse;
 	final Duration readTimeout;
+	final boolean recycledResponse;
 	final Duration requestTimeout;
 	final HttpHeaders responseHeaders;
 	final String scheme;
 	final ZonedDateTime timestamp;
 
 	BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate;
+	Map<String, String> params;
 	Function<? super String, Map<String, String>> paramsResolver;
+	boolean paramsResolved;
 	String path;
-	Future<?> requestTimeoutFuture;
+	Timeout requestTimeoutFuture;
 	Consumer<? super HttpHeaders> trailerHeadersConsumer;
 
 	volatile Context currentContext;
 
 	HttpServerOperations(HttpServerOperations replaced) {
 		super(replaced);
+		this.compressionOptions = replaced.compressionOptions;
 		this.compressionPredicate = replaced.compressionPredicate;
 		this.configuredCompressionPredicate = replaced.configuredCompressionPredicate;
 		this.connectionInfo = replaced.connectionInfo;
@@ -151,9 +159,12 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		this.mapHandle = replaced.mapHandle;
 		this.nettyRequest = replaced.nettyRequest;
 		this.nettyResponse = replaced.nettyResponse;
+		this.params = replaced.params;
 		this.paramsResolver = replaced.paramsResolver;
+		this.paramsResolved = replaced.paramsResolved;
 		this.path = replaced.path;
 		this.readTimeout = replaced.readTimeout;
+		this.recycledResponse = replaced.recycledResponse;
 		this.requestTimeout = replaced.requestTimeout;
 		this.responseHeaders = replaced.responseHeaders;
 		this.scheme = replaced.scheme;
@@ -162,6 +173,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	}
 
 	HttpServerOperations(Connection c, ConnectionObserver listener, HttpRequest nettyRequest,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate,
 			ConnectionInfo connectionInfo,
 			ServerCookieDecoder decoder,
@@ -174,11 +186,36 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 			@Nullable Duration requestTimeout,
 			boolean secured,
 			ZonedDateTime timestamp) {
-		this(c, listener, nettyRequest, compressionPredicate, connectionInfo, decoder, encoder, formDecoderProvider,
+		this(c, listener, nettyRequest, compressionOptions, compressionPredicate, connectionInfo, decoder, encoder, formDecoderProvider,
 				httpMessageLogFactory, isHttp2, mapHandle, readTimeout, requestTimeout, true, secured, timestamp);
 	}
 
 	HttpServerOperations(Connection c, ConnectionObserver listener, HttpRequest nettyRequest,
+			HttpCompressionOptions compressionOptions,
+			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate,
+			ConnectionInfo connectionInfo,
+			ServerCookieDecoder decoder,
+			ServerCookieEncoder encoder,
+			HttpServerFormDecoderProvider formDecoderProvider,
+			HttpMessageLogFactory httpMessageLogFactory,
+			boolean isHttp2,
+			@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle,
+			@Nullable Duration readTimeout,
+			@Nullable Duration requestTimeout,
+			boolean resolvePath,
+			boolean secured,
+			ZonedDateTime timestamp) {
+		this(c, listener, nettyRequest, null, compressionOptions, compressionPredicate, connectionInfo, decoder, encoder,
+				formDecoderProvider, httpMessageLogFactory, isHttp2, mapHandle, readTimeout, requestTimeout, resolvePath, secured, timestamp);
+	}
+
+	/**
+	 * When {@code nettyResponse} is provided, it must be a reset response with status {@code 200 OK}
+	 * and no headers, it is reused instead of allocating a new one.
+	 */
+	HttpServerOperations(Connection c, ConnectionObserver listener, HttpRequest nettyRequest,
+			@Nullable HttpResponse nettyResponse,
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate,
 			ConnectionInfo connectionInfo,
 			ServerCookieDecoder decoder,
@@ -193,6 +230,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 			boolean secured,
 			ZonedDateTime timestamp) {
 		super(c, listener, httpMessageLogFactory);
+		this.compressionOptions = compressionOptions;
 		this.compressionPredicate = compressionPredicate;
 		this.configuredCompressionPredicate = compressionPredicate;
 		this.connectionInfo = connectionInfo;
@@ -205,7 +243,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		this.isHttp2 = isHttp2;
 		this.mapHandle = mapHandle;
 		this.nettyRequest = nettyRequest;
-		this.nettyResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+		this.nettyResponse = nettyResponse != null ? nettyResponse :
+				new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+		this.recycledResponse = nettyResponse != null;
 		if (resolvePath) {
 			this.path = resolvePath(nettyRequest.uri());
 		}
@@ -214,7 +254,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		}
 		this.readTimeout = readTimeout;
 		this.requestTimeout = requestTimeout;
-		this.responseHeaders = nettyResponse.headers();
+		this.responseHeaders = this.nettyResponse.headers();
 		this.responseHeaders.set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
 		this.scheme = secured ? "https" : "http";
 		this.timestamp = timestamp;
@@ -238,7 +278,10 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 
 	@Override
 	protected HttpMessage newFullBodyMessage(ByteBuf body) {
-		HttpResponse res =
+		// The headers of a recycled response are reset only once the response is written, they are shared
+		// with the full response instead of being copied
+		HttpResponse res = recycledResponse ?
+				new DefaultFullHttpResponse(version(), status(), body, responseHeaders, EmptyHttpHeaders.INSTANCE) :
 				new DefaultFullHttpResponse(version(), status(), body);
 
 		if (!HttpMethod.HEAD.equals(method())) {
@@ -264,7 +307,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 			responseHeaders.remove(HttpHeaderNames.TRANSFER_ENCODING);
 		}
 
-		res.headers().set(responseHeaders);
+		if (!recycledResponse) {
+			res.headers().set(responseHeaders);
+		}
 		return res;
 	}
 
@@ -332,6 +377,18 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		return this;
 	}
 
+	@Override
+	public HttpServerResponse headerBlock(HttpHeaderBlock headerBlock) {
+		Objects.requireNonNull(headerBlock, "headerBlock");
+		if (!hasSentHeaders()) {
+			headerBlock.addTo(responseHeaders);
+		}
+		else {
+			throw new IllegalStateException("Status and headers already sent");
+		}
+		return this;
+	}
+
 	@Override
 	public HttpServerResponse headers(HttpHeaders headers) {
 		if (!hasSentHeaders()) {
@@ -384,22 +441,29 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	@Nullable
 	public String param(CharSequence key) {
 		Objects.requireNonNull(key, "key");
-		Map<String, String> params = null;
-		if (paramsResolver != null) {
-			params = this.paramsResolver.apply(uri());
-		}
+		Map<String, String> params = params();
 		return null != params ? params.get(key.toString()) : null;
 	}
 
 	@Override
 	@Nullable
 	public Map<String, String> params() {
-		return null != paramsResolver ? paramsResolver.apply(uri()) : null;
+		if (paramsResolver == null) {
+			return null;
+		}
+		// The uri does not change during the exchange, resolve the params only once
+		if (!paramsResolved) {
+			params = paramsResolver.apply(uri());
+			paramsResolved = true;
+		}
+		return params;
 	}
 
 	@Override
 	public HttpServerRequest paramsResolver(Function<? super String, Map<String, String>> paramsResolver) {
 		this.paramsResolver = paramsResolver;
+		this.params = null;
+		this.paramsResolved = false;
 		return this;
 	}
 
@@ -425,20 +489,32 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		//       No need to notify the upstream handlers - just log.
 		//       If decoding a response, just throw an error.
 		if (is100ContinueExpected) {
-			return FutureMono.deferFuture(() -> {
-						if (!hasSentHeaders()) {
-							return channel().writeAndFlush(CONTINUE);
-						}
-						return channel().newSucceededFuture();
-					})
-
-			                 .thenMany(super.receiveObject());
+			return send100Continue().thenMany(super.receiveObject());
 		}
 		else {
 			return super.receiveObject();
 		}
 	}
 
+	@Override
+	public Flux<List<Object>> receiveObjectBatches() {
+		if (is100ContinueExpected) {
+			return send100Continue().thenMany(super.receiveObjectBatches());
+		}
+		else {
+			return super.receiveObjectBatches();
+		}
+	}
+
+	final Mono<Void> send100Continue() {
+		return FutureMono.deferFuture(() -> {
+			if (!hasSentHeaders()) {
+				return channel().writeAndFlush(CONTINUE);
+			}
+			return channel().newSucceededFuture();
+		});
+	}
+
 	@Override
 	@Nullable
 	public InetSocketAddress hostAddress() {
@@ -620,7 +696,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		}
 		else if (channel().pipeline()
 		                  .get(NettyPipeline.CompressionHandler) == null) {
-			SimpleCompressionHandler handler = new SimpleCompressionHandler();
+			SimpleCompressionHandler handler = new SimpleCompressionHandler(compressionOptions);
 			try {
 				//Do not invoke handler.channelRead as it will trigger ctx.fireChannelRead
 				handler.decode(channel().pipeline().context(NettyPipeline.ReactiveBridge), nettyRequest);
@@ -641,11 +717,11 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 			if (!(isHttp2() && isFullHttpRequest)) {
 				if (readTimeout != null) {
 					addHandlerFirst(NettyPipeline.ReadTimeoutHandler,
-							new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+							new TimerReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
 				}
 				if (requestTimeout != null) {
-					requestTimeoutFuture =
-							ctx.executor().schedule(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
+					requestTimeoutFuture = EventLoopTimer.get(ctx.executor())
+							.newTimeout(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
 				}
 			}
 			try {
@@ -679,7 +755,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 			if (msg instanceof LastHttpContent) {
 				removeHandler(NettyPipeline.ReadTimeoutHandler);
 				if (requestTimeoutFuture != null) {
-					requestTimeoutFuture.cancel(false);
+					requestTimeoutFuture.cancel();
 					requestTimeoutFuture = null;
 				}
 				//force auto read to enable more accurate close selection now inbound is done
@@ -1059,7 +1135,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 				boolean secure,
 				ZonedDateTime timestamp,
 				ConnectionInfo connectionInfo) {
-			super(c, listener, nettyRequest, null, connectionInfo,
+			super(c, listener, nettyRequest, HttpCompressionOptions.DEFAULT, null, connectionInfo,
 					ServerCookieDecoder.STRICT, ServerCookieEncoder.STRICT, DEFAULT_FORM_DECODER_SPEC, httpMessageLogFactory, isHttp2,
 					null, null, null, false, secure, timestamp);
 			this.customResponse = nettyResponse;
@@ -1087,7 +1163,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	}
 
 
-	final class RequestTimeoutTask implements Runnable {
+	final class RequestTimeoutTask implements TimerTask {
 
 		final ChannelHandlerContext ctx;
 
@@ -1097,7 +1173,7 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 
 		@Override
 		@SuppressWarnings("FutureReturnValueIgnored")
-		public void run() {
+		public void run(Timeout timeout) {
 			if (ctx.channel().isActive() && !(isInboundCancelled() || isInboundDisposed())) {
 				onInboundError(RequestTimeoutException.INSTANCE);
 				//"FutureReturnValueIgnored" this is deliberate
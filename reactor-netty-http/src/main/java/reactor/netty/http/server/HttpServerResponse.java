@@ -94,6 +94,27 @@ public interface HttpServerResponse extends NettyOutbound, HttpServerInfos {
 	 */
 	HttpServerResponse header(CharSequence name, CharSequence value);
 
+	/**
+	 * Sets the outbound HTTP headers of a pre-encoded {@link HttpHeaderBlock}, replacing any pre-existing value
+	 * for these headers.
+	 *
+	 * @param headerBlock the pre-encoded headers
+	 *
+	 * @return this {@link HttpServerResponse}
+	 * @since 1.2.0
+	 */
+	default HttpServerResponse headerBlock(HttpHeaderBlock headerBlock) {
+		for (int i = 0; i < headerBlock.names.length; i++) {
+			if (headerBlock.first[i]) {
+				header(headerBlock.names[i], headerBlock.values[i]);
+			}
+			else {
+				addHeader(headerBlock.names[i], headerBlock.values[i]);
+			}
+		}
+		return this;
+	}
+
 	/**
 	 * Sets outbound HTTP headers, replacing any pre-existing value for these headers.
 	 *
@@ -261,6 +261,34 @@ public interface HttpServerRoutes extends
 	 */
 	HttpServerRoutes removeIf(Predicate<? super HttpRouteHandlerMetadata> condition);
 
+	/**
+	 * Limits the number of requests processed concurrently by the routes matching the given condition.
+	 * The routes share the given {@link HttpConcurrencyLimit}, the requests received while the limit is reached
+	 * are queued or rejected before the route handler is invoked.
+	 * If the {@code concurrencyLimit} is {@code null}, any previous limit of the matching routes will be removed.
+	 * <p>
+	 * Please note:
+	 * <ul>
+	 *     <li>the limit is attached only to the routes registered before this method is invoked,
+	 *     the routes registered afterwards are not limited</li>
+	 *     <li>the limit applies in addition to the limit configured with
+	 *     {@link HttpServer#concurrencyLimit(HttpConcurrencyLimit)}, which is checked first when the request is
+	 *     received, before the route is selected; to give the routes independent limits,
+	 *     do not configure a limit on the server</li>
+	 * </ul>
+	 * The default implementation throws {@link UnsupportedOperationException},
+	 * the routes created with {@link #newRoutes()} support it.
+	 *
+	 * @param condition a predicate given each http route handler {@link HttpRouteHandlerMetadata}
+	 * @param concurrencyLimit the {@link HttpConcurrencyLimit} to use or null to remove the limit
+	 * @return this {@link HttpServerRoutes}
+	 * @since 1.2.0
+	 */
+	default HttpServerRoutes concurrencyLimit(Predicate<? super HttpRouteHandlerMetadata> condition,
+			@Nullable HttpConcurrencyLimit concurrencyLimit) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * A generic route predicate that if matched invoke the passed I/O handler.
 	 *
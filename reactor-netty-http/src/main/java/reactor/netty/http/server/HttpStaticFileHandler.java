@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.NettyOutbound;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterHostAndPort;
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterQueryParams;
+
+/**
+ * Serves the files of a directory.
+ * <p>
+ * The metadata of the resolved files (size, last modified time, entity tag and content type) is cached and
+ * revalidated against the file system at most once per {@link #REVALIDATE_INTERVAL_NANOS}, so that a request
+ * for a file that is already known does not resolve and normalize paths or read file attributes. A file that
+ * became shorter within the revalidation interval fails the transfer, which closes the connection as the
+ * announced length cannot be honoured, and its metadata is evicted so that the next request revalidates it.
+ * At most {@link #MAX_CACHED_FILES} entries are cached, the least recently used entry is evicted first.
+ * A path with malformed percent-encoded octets is answered with {@code 400 Bad Request}.
+ * Conditional requests ({@code If-None-Match}, {@code If-Modified-Since}) are answered with
+ * {@code 304 Not Modified} and single byte ranges ({@code Range}, {@code If-Range}) with
+ * {@code 206 Partial Content}. The content is written with {@link HttpServerResponse#sendFile(Path, long, long)},
+ * i.e. zero-copy file transfer on plain connections and chunked file transfer when the connection is secured
+ * or compressed.
+ * <p>
+ * When a file has precompressed siblings ({@code file.br}, {@code file.zst}, {@code file.gz}) that are not older
+ * than the file itself, the best variant accepted by the client is sent as is with the matching
+ * {@code Content-Encoding}, bypassing the on-the-fly compression.
+ *
+ * @since 1.2.0
+ */
+final class HttpStaticFileHandler implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> {
+
+	static final Logger log = Loggers.getLogger(HttpStaticFileHandler.class);
+
+	static final long REVALIDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	static final int MAX_CACHED_FILES = 1024;
+
+	static final long[] UNSATISFIABLE = new long[0];
+
+	/**
+	 * The supported precompressed variants, in order of preference.
+	 */
+	static final String[] ENCODINGS = {"br", "zstd", "gzip"};
+	static final String[] EXTENSIONS = {".br", ".zst", ".gz"};
+
+	static final Variant[] NO_VARIANTS = new Variant[0];
+
+	final String prefix;
+	final Path directory;
+	final Function<HttpServerResponse, HttpServerResponse> interceptor;
+	// Guarded by this
+	final LinkedHashMap<String, FileMetadata> cache = new LinkedHashMap<String, FileMetadata>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, FileMetadata> eldest) {
+			return size() > MAX_CACHED_FILES;
+		}
+	};
+
+	HttpStaticFileHandler(String prefix, Path directory,
+			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
+		this.prefix = prefix;
+		this.directory = directory.toAbsolutePath().normalize();
+		this.interceptor = interceptor != null ? interceptor : Function.identity();
+	}
+
+	@Override
+	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		String relativePath;
+		try {
+			relativePath = relativePath(request.uri());
+		}
+		catch (IllegalArgumentException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Cannot decode the path of [" + request.uri() + "]", e);
+			}
+			return response.status(HttpResponseStatus.BAD_REQUEST)
+			               .send();
+		}
+		FileMetadata metadata = metadata(relativePath);
+		if (metadata == null) {
+			Path path = directory.resolve(relativePath).toAbsolutePath().normalize();
+			if (Files.isReadable(path) && path.startsWith(directory)) {
+				// Not a regular file, keep the default behaviour
+				return interceptor.apply(response)
+				                  .sendFile(path);
+			}
+			return response.sendNotFound();
+		}
+
+		HttpServerResponse resp = interceptor.apply(response);
+		Variant[] variants = metadata.variants;
+		HttpHeaders requestHeaders = request.requestHeaders();
+		String range = requestHeaders.get(HttpHeaderNames.RANGE);
+		Variant variant = variant(metadata, requestHeaders, range);
+
+		HttpHeaders responseHeaders = resp.responseHeaders();
+		responseHeaders.set(HttpHeaderNames.ETAG, variant != null ? variant.etag : metadata.etag)
+		               .set(HttpHeaderNames.LAST_MODIFIED, metadata.lastModified)
+		               .set(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+		if (variants.length > 0) {
+			responseHeaders.add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+		}
+		if (metadata.contentType != null && !responseHeaders.contains(HttpHeaderNames.CONTENT_TYPE)) {
+			responseHeaders.set(HttpHeaderNames.CONTENT_TYPE, metadata.contentType);
+		}
+
+		if (isNotModified(requestHeaders, metadata, variant != null ? variant.etag : metadata.etag)) {
+			return resp.status(HttpResponseStatus.NOT_MODIFIED)
+			           .send();
+		}
+
+		if (variant != null) {
+			// The content is already compressed, send it as is with zero-copy file transfer when possible
+			responseHeaders.set(HttpHeaderNames.CONTENT_ENCODING, variant.encoding);
+			return send(resp.compression(false)
+			                .sendFile(variant.path, 0L, variant.size), relativePath);
+		}
+
+		if (range != null && HttpMethod.GET.equals(request.method()) &&
+				isRangeApplicable(requestHeaders.get(HttpHeaderNames.IF_RANGE), metadata)) {
+			long[] byteRange = parseRange(range, metadata.size);
+			if (byteRange == UNSATISFIABLE) {
+				return resp.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+				           .header(HttpHeaderNames.CONTENT_RANGE, "bytes */" + metadata.size)
+				           .send();
+			}
+			if (byteRange != null) {
+				long count = byteRange[1] - byteRange[0] + 1;
+				resp.status(HttpResponseStatus.PARTIAL_CONTENT)
+				    .header(HttpHeaderNames.CONTENT_RANGE,
+				            "bytes " + byteRange[0] + "-" + byteRange[1] + "/" + metadata.size);
+				return send(resp.sendFile(metadata.path, byteRange[0], count), relativePath);
+			}
+		}
+
+		return send(resp.sendFile(metadata.path, 0L, metadata.size), relativePath);
+	}
+
+	/**
+	 * Sends the file, a file that is shorter than the cached size (it changed within the revalidation interval)
+	 * fails the transfer and its metadata is evicted, so that the next request revalidates it.
+	 *
+	 * @param outbound the file transfer
+	 * @param relativePath the path relative to the directory
+	 * @return the file transfer
+	 */
+	Publisher<Void> send(NettyOutbound outbound, String relativePath) {
+		return Mono.from(outbound)
+		           .doOnError(t -> {
+		               if (log.isDebugEnabled()) {
+		                   log.debug("Cannot send [" + relativePath + "], the cached metadata is evicted", t);
+		               }
+		               evict(relativePath);
+		           });
+	}
+
+	/**
+	 * Selects the precompressed variant to send, byte ranges are served from the identity representation.
+	 *
+	 * @param metadata the metadata of the file
+	 * @param requestHeaders the request headers
+	 * @param range the value of the {@code Range} header
+	 * @return the selected variant or {@code null} when the identity representation is sent
+	 */
+	@Nullable
+	static Variant variant(FileMetadata metadata, HttpHeaders requestHeaders, @Nullable String range) {
+		Variant[] variants = metadata.variants;
+		return variants.length == 0 || range != null ? null :
+				selectVariant(requestHeaders.get(HttpHeaderNames.ACCEPT_ENCODING), variants);
+	}
+
+	/**
+	 * Returns the cached metadata for the given path, reads the file attributes when there is no cached metadata
+	 * or when it was validated more than {@link #REVALIDATE_INTERVAL_NANOS} ago.
+	 *
+	 * @param relativePath the path relative to the directory
+	 * @return the metadata or {@code null} when the path cannot be served as a regular file
+	 */
+	@Nullable
+	FileMetadata metadata(String relativePath) {
+		FileMetadata metadata;
+		synchronized (this) {
+			metadata = cache.get(relativePath);
+		}
+		long now = System.nanoTime();
+		if (metadata != null && now - metadata.validatedAt < REVALIDATE_INTERVAL_NANOS) {
+			return metadata;
+		}
+
+		Path path = metadata != null ? metadata.path : directory.resolve(relativePath).toAbsolutePath().normalize();
+		if (!path.startsWith(directory) || !Files.isReadable(path)) {
+			evict(relativePath);
+			return null;
+		}
+
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		}
+		catch (IOException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Cannot read the attributes of [" + path + "]", e);
+			}
+			evict(relativePath);
+			return null;
+		}
+
+		if (!attributes.isRegularFile()) {
+			evict(relativePath);
+			return null;
+		}
+
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		Variant[] variants = variants(path, lastModified);
+		if (metadata != null && metadata.size == size && metadata.lastModifiedMillis == lastModified) {
+			metadata.variants = variants;
+			metadata.validatedAt = now;
+			return metadata;
+		}
+
+		metadata = new FileMetadata(path, size, lastModified, contentType(path), variants, now);
+		synchronized (this) {
+			// The least recently used entry is evicted when the cache is full
+			cache.put(relativePath, metadata);
+		}
+		return metadata;
+	}
+
+	synchronized void evict(String relativePath) {
+		cache.remove(relativePath);
+	}
+
+	/**
+	 * Finds the precompressed siblings of the given file that are not older than the file.
+	 *
+	 * @param path the file
+	 * @param lastModified the last modified time of the file
+	 * @return the precompressed variants in order of preference
+	 */
+	static Variant[] variants(Path path, long lastModified) {
+		Variant[] variants = NO_VARIANTS;
+		String fileName = path.getFileName().toString();
+		for (int i = 0; i < EXTENSIONS.length; i++) {
+			Path candidate = path.resolveSibling(fileName + EXTENSIONS[i]);
+			BasicFileAttributes attributes;
+			try {
+				attributes = Files.readAttributes(candidate, BasicFileAttributes.class);
+			}
+			catch (IOException e) {
+				continue;
+			}
+			long variantLastModified = attributes.lastModifiedTime().toMillis();
+			// A variant older than the file is stale
+			if (attributes.isRegularFile() && variantLastModified >= lastModified) {
+				variants = Arrays.copyOf(variants, variants.length + 1);
+				variants[variants.length - 1] = new Variant(ENCODINGS[i], candidate, attributes.size(), variantLastModified);
+			}
+		}
+		return variants;
+	}
+
+	/**
+	 * Selects the variant with the highest quality value in the {@code Accept-Encoding} header,
+	 * the order of preference of the variants breaks the ties.
+	 *
+	 * @param acceptEncoding the value of the {@code Accept-Encoding} header
+	 * @param variants the available variants in order of preference
+	 * @return the selected variant or {@code null} when the client does not accept any of the variants
+	 */
+	@Nullable
+	static Variant selectVariant(@Nullable String acceptEncoding, Variant[] variants) {
+		if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+			return null;
+		}
+
+		Variant selected = null;
+		float selectedQuality = 0f;
+		for (Variant variant : variants) {
+			float quality = HttpHeaderUtils.quality(acceptEncoding, variant.encoding);
+			if (quality > selectedQuality) {
+				selected = variant;
+				selectedQuality = quality;
+			}
+		}
+		return selected;
+	}
+
+	String relativePath(String uri) {
+		String path = filterQueryParams(filterHostAndPort(uri));
+		if (path.indexOf('%') != -1) {
+			path = URI.create(path).getPath();
+		}
+
+		if (path.startsWith(prefix)) {
+			path = path.substring(prefix.length());
+		}
+
+		if (!path.isEmpty() && path.charAt(0) == '/') {
+			path = path.substring(1);
+		}
+		return path;
+	}
+
+	/**
+	 * Parses a {@code Range} header with a single byte range.
+	 *
+	 * @param range the value of the {@code Range} header
+	 * @param size the size of the file
+	 * @return the first and the last positions of the range, {@link #UNSATISFIABLE} when the range cannot be satisfied,
+	 * or {@code null} when the header is not a single byte range and the full content should be sent
+	 */
+	@Nullable
+	static long[] parseRange(String range, long size) {
+		if (!range.startsWith("bytes=") || range.indexOf(',') != -1) {
+			return null;
+		}
+
+		int dash = range.indexOf('-', 6);
+		if (dash == -1) {
+			return null;
+		}
+
+		String first = range.substring(6, dash).trim();
+		String last = range.substring(dash + 1).trim();
+		long start;
+		long end;
+		try {
+			if (first.isEmpty()) {
+				if (last.isEmpty()) {
+					return null;
+				}
+				// Suffix range, the last N bytes
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0 || size == 0) {
+					return UNSATISFIABLE;
+				}
+				start = Math.max(0, size - suffix);
+				end = size - 1;
+			}
+			else {
+				start = Long.parseLong(first);
+				if (last.isEmpty()) {
+					end = size - 1;
+				}
+				else {
+					end = Long.parseLong(last);
+					if (end < start) {
+						return null;
+					}
+					end = Math.min(end, size - 1);
+				}
+				if (start >= size) {
+					return UNSATISFIABLE;
+				}
+			}
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+		return new long[]{start, end};
+	}
+
+	static boolean isNotModified(HttpHeaders requestHeaders, FileMetadata metadata, String etag) {
+		String ifNoneMatch = requestHeaders.get(HttpHeaderNames.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			return matches(ifNoneMatch, etag);
+		}
+
+		String ifModifiedSince = requestHeaders.get(HttpHeaderNames.IF_MODIFIED_SINCE);
+		if (ifModifiedSince != null) {
+			Date date = DateFormatter.parseHttpDate(ifModifiedSince);
+			// HTTP dates have a precision of one second
+			return date != null && metadata.lastModifiedMillis / 1000 <= date.getTime() / 1000;
+		}
+		return false;
+	}
+
+	static boolean isRangeApplicable(@Nullable String ifRange, FileMetadata metadata) {
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			// If-Range requires a strong comparison
+			return ifRange.equals(metadata.etag);
+		}
+		Date date = DateFormatter.parseHttpDate(ifRange);
+		return date != null && metadata.lastModifiedMillis / 1000 == date.getTime() / 1000;
+	}
+
+	static boolean matches(String ifNoneMatch, String etag) {
+		int start = 0;
+		while (start < ifNoneMatch.length()) {
+			int end = ifNoneMatch.indexOf(',', start);
+			if (end == -1) {
+				end = ifNoneMatch.length();
+			}
+			String candidate = ifNoneMatch.substring(start, end).trim();
+			if (candidate.equals("*") || candidate.equals(etag) ||
+					(candidate.startsWith("W/") && candidate.regionMatches(2, etag, 0, etag.length()) &&
+							candidate.length() == etag.length() + 2)) {
+				return true;
+			}
+			start = end + 1;
+		}
+		return false;
+	}
+
+	@Nullable
+	static String contentType(Path path) {
+		try {
+			return Files.probeContentType(path);
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	static final class FileMetadata {
+
+		final Path path;
+		final long size;
+		final long lastModifiedMillis;
+		final String lastModified;
+		final String etag;
+		@Nullable
+		final String contentType;
+
+		volatile Variant[] variants;
+		volatile long validatedAt;
+
+		FileMetadata(Path path, long size, long lastModifiedMillis, @Nullable String contentType, Variant[] variants,
+				long validatedAt) {
+			this.path = path;
+			this.size = size;
+			this.lastModifiedMillis = lastModifiedMillis;
+			this.lastModified = DateFormatter.format(new Date(lastModifiedMillis));
+			this.etag = "\"" + Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(size) + "\"";
+			this.contentType = contentType;
+			this.variants = variants;
+			this.validatedAt = validatedAt;
+		}
+	}
+
+	static final class Variant {
+
+		final String encoding;
+		final Path path;
+		final long size;
+		final String etag;
+
+		Variant(String encoding, Path path, long size, long lastModifiedMillis) {
+			this.encoding = encoding;
+			this.path = path;
+			this.size = size;
+			this.etag = "\"" + Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(size) + "-" + encoding + "\"";
+		}
+	}
+}
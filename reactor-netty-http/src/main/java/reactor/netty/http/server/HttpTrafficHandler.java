@@ -18,6 +18,7 @@ package reactor.netty.http.server;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.function.BiFunction;
@@ -30,6 +31,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.DecoderResultProvider;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
@@ -69,9 +71,11 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 
 	static final HttpVersion H2 = HttpVersion.valueOf("HTTP/2.0");
 
+	final HttpCompressionOptions                                  compressionOptions;
 	final BiPredicate<HttpServerRequest, HttpServerResponse>      compress;
 	final ServerCookieDecoder                                     cookieDecoder;
 	final ServerCookieEncoder                                     cookieEncoder;
+	final boolean                                                 dateHeader;
 	final HttpServerFormDecoderProvider                           formDecoderProvider;
 	final BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
 	final HttpMessageLogFactory                                   httpMessageLogFactory;
@@ -81,10 +85,17 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 	                                                              mapHandle;
 	final int                                                     maxKeepAliveRequests;
 	final Duration                                                readTimeout;
+	final boolean                                                 recycleRequestState;
 	final Duration                                                requestTimeout;
 
 	ChannelHandlerContext ctx;
 
+	// Per-connection request state reused by the sequential requests when recycleRequestState is enabled
+	ConnectionInfo   connectionInfo;
+	String           connectionInfoHost;
+	RecycledResponse currentResponse;
+	RecycledResponse recycledResponse;
+
 	boolean nonInformationalResponse;
 	boolean overflow;
 
@@ -99,9 +110,11 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 	Boolean secure;
 
 	HttpTrafficHandler(
+			HttpCompressionOptions compressionOptions,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compress,
 			ServerCookieDecoder decoder,
 			ServerCookieEncoder encoder,
+			boolean dateHeader,
 			HttpServerFormDecoderProvider formDecoderProvider,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
 			HttpMessageLogFactory httpMessageLogFactory,
@@ -110,18 +123,22 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 			@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle,
 			int maxKeepAliveRequests,
 			@Nullable Duration readTimeout,
+			boolean recycleRequestState,
 			@Nullable Duration requestTimeout) {
 		this.listener = listener;
 		this.formDecoderProvider = formDecoderProvider;
 		this.forwardedHeaderHandler = forwardedHeaderHandler;
 		this.compress = compress;
+		this.compressionOptions = compressionOptions;
 		this.cookieEncoder = encoder;
 		this.cookieDecoder = decoder;
+		this.dateHeader = dateHeader;
 		this.httpMessageLogFactory = httpMessageLogFactory;
 		this.idleTimeout = idleTimeout;
 		this.mapHandle = mapHandle;
 		this.maxKeepAliveRequests = maxKeepAliveRequests;
 		this.readTimeout = readTimeout;
+		this.recycleRequestState = recycleRequestState;
 		this.requestTimeout = requestTimeout;
 	}
 
@@ -206,14 +223,12 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 				ZonedDateTime timestamp = ZonedDateTime.now(ReactorNetty.ZONE_ID_SYSTEM);
 				ConnectionInfo connectionInfo = null;
 				try {
-					connectionInfo = ConnectionInfo.from(ctx.channel(),
-							request,
-							secure,
-							remoteAddress,
-							forwardedHeaderHandler);
+					connectionInfo = connectionInfo(ctx, request);
 					ops = new HttpServerOperations(Connection.from(ctx.channel()),
 							listener,
 							request,
+							nettyResponse(),
+							compressionOptions,
 							compress,
 							connectionInfo,
 							cookieDecoder,
@@ -224,6 +239,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 							mapHandle,
 							readTimeout,
 							requestTimeout,
+							true,
 							secure,
 							timestamp);
 				}
@@ -311,6 +327,9 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 		if (msg instanceof HttpResponse) {
 			final HttpResponse response = (HttpResponse) msg;
 			nonInformationalResponse = !isInformational(response);
+			if (dateHeader && nonInformationalResponse && !response.headers().contains(HttpHeaderNames.DATE)) {
+				response.headers().set(HttpHeaderNames.DATE, HttpDateHeader.value());
+			}
 			// Assume the response writer knows if they can persist or not and sets isKeepAlive on the response
 			boolean maxKeepAliveRequestsReached = maxKeepAliveRequests != -1 && HttpServerOperations.requestsCounter(ctx.channel()) == maxKeepAliveRequests;
 			if (maxKeepAliveRequestsReached || !isKeepAlive(response) || !isSelfDefinedMessageLength(response)) {
@@ -342,8 +361,15 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 				return;
 			}
 
-			ctx.write(msg, promise.unvoid())
-			   .addListener(this);
+			ChannelFuture future =
+					ctx.write(msg, promise.unvoid())
+					   .addListener(this);
+
+			RecycledResponse currentResponse = this.currentResponse;
+			if (currentResponse != null && nonInformationalResponse) {
+				this.currentResponse = null;
+				future.addListener(currentResponse);
+			}
 
 			if (!persistentConnection) {
 				return;
@@ -414,14 +440,12 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 				HttpServerOperations ops;
 				ConnectionInfo connectionInfo = null;
 				try {
-					connectionInfo = ConnectionInfo.from(ctx.channel(),
-							nextRequest,
-							secure,
-							remoteAddress,
-							forwardedHeaderHandler);
+					connectionInfo = connectionInfo(ctx, nextRequest);
 					ops = new HttpServerOperations(Connection.from(ctx.channel()),
 							listener,
 							nextRequest,
+							nettyResponse(),
+							compressionOptions,
 							compress,
 							connectionInfo,
 							cookieDecoder,
@@ -432,6 +456,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 							mapHandle,
 							readTimeout,
 							requestTimeout,
+							true,
 							secure,
 							holder.timestamp);
 				}
@@ -489,6 +514,37 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 		}
 	}
 
+	ConnectionInfo connectionInfo(ChannelHandlerContext ctx, HttpRequest request) {
+		if (!recycleRequestState || forwardedHeaderHandler != null) {
+			return ConnectionInfo.from(ctx.channel(), request, secure, remoteAddress, forwardedHeaderHandler);
+		}
+		// ConnectionInfo is immutable and depends only on the channel and the Host header
+		ConnectionInfo connectionInfo = this.connectionInfo;
+		String host = request.headers().get(HttpHeaderNames.HOST);
+		if (connectionInfo == null || !Objects.equals(connectionInfoHost, host)) {
+			connectionInfo = ConnectionInfo.from(ctx.channel(), request, secure, remoteAddress, null);
+			this.connectionInfo = connectionInfo;
+			this.connectionInfoHost = host;
+		}
+		return connectionInfo;
+	}
+
+	@Nullable
+	HttpResponse nettyResponse() {
+		if (!recycleRequestState) {
+			return null;
+		}
+		RecycledResponse response = recycledResponse;
+		if (response != null) {
+			recycledResponse = null;
+		}
+		else {
+			response = new RecycledResponse(this);
+		}
+		currentResponse = response;
+		return response.response;
+	}
+
 	boolean shouldKeepAlive() {
 		return pendingResponses != 0 && persistentConnection;
 	}
@@ -532,6 +588,36 @@ final class HttpTrafficHandler extends ChannelDuplexHandler
 				MULTIPART_PREFIX.length());
 	}
 
+	/**
+	 * Holds the response of a request so that it can be reused by the next request on the same connection.
+	 * The response is reset and handed back to the {@link HttpTrafficHandler} once the last HTTP packet is written
+	 * and all the listeners of the write, e.g. access log and metrics, observed the completed response.
+	 */
+	static final class RecycledResponse implements ChannelFutureListener, Runnable {
+		final HttpTrafficHandler parent;
+		final HttpResponse response;
+
+		RecycledResponse(HttpTrafficHandler parent) {
+			this.parent = parent;
+			this.response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+		}
+
+		@Override
+		public void operationComplete(ChannelFuture future) {
+			if (future.isSuccess() && future.channel().isActive()) {
+				future.channel().eventLoop().execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			response.setProtocolVersion(HttpVersion.HTTP_1_1);
+			response.setStatus(HttpResponseStatus.OK);
+			response.headers().clear();
+			parent.recycledResponse = this;
+		}
+	}
+
 	static final class HttpRequestHolder {
 		final HttpRequest request;
 		final ZonedDateTime timestamp;
@@ -22,8 +22,8 @@ import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
-import io.netty.handler.timeout.IdleStateHandler;
 import reactor.netty.NettyPipeline;
+import reactor.netty.internal.util.TimerIdleStateHandler;
 import reactor.util.annotation.Nullable;
 
 import java.time.Duration;
@@ -31,10 +31,10 @@ import java.util.concurrent.TimeUnit;
 
 import static reactor.netty.ReactorNetty.format;
 
-final class IdleTimeoutHandler extends IdleStateHandler {
+final class IdleTimeoutHandler extends TimerIdleStateHandler {
 
 	IdleTimeoutHandler(long idleTimeout) {
-		super(idleTimeout, 0, 0, TimeUnit.MILLISECONDS);
+		super(idleTimeout, 0, TimeUnit.MILLISECONDS);
 	}
 
 	@Override
@@ -22,12 +22,11 @@ import io.micrometer.core.instrument.Timer;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.http.MicrometerHttpMetricsRecorder;
 import reactor.netty.internal.util.MapUtils;
+import reactor.netty.internal.util.MeterCache;
 import reactor.util.annotation.Nullable;
 
 import java.net.SocketAddress;
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import static reactor.netty.Metrics.DATA_RECEIVED;
@@ -55,11 +54,14 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	static final MicrometerHttpServerMetricsRecorder INSTANCE = new MicrometerHttpServerMetricsRecorder();
 	private static final String PROTOCOL_VALUE_HTTP = "http";
-	private final ConcurrentMap<String, LongAdder> activeConnectionsCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, LongAdder> activeStreamsCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, Counter> errorsCache = new ConcurrentHashMap<>();
+	private final MeterCache<LongAdder> activeConnectionsCache = new MeterCache<>();
+	private final MeterCache<LongAdder> activeStreamsCache = new MeterCache<>();
+	private final MeterCache<DistributionSummary> dataReceivedCache = new MeterCache<>();
+	private final MeterCache<DistributionSummary> dataSentCache = new MeterCache<>();
+	private final MeterCache<Counter> errorsCache = new MeterCache<>();
+	private final MeterCache<Timer> dataReceivedTimers = new MeterCache<>();
+	private final MeterCache<Timer> dataSentTimers = new MeterCache<>();
+	private final MeterCache<Timer> responseTimers = new MeterCache<>();
 
 	private MicrometerHttpServerMetricsRecorder() {
 		super(HTTP_SERVER_PREFIX, PROTOCOL_VALUE_HTTP);
@@ -67,12 +69,14 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceivedTime(String uri, String method, Duration time) {
-		MeterKey meterKey = new MeterKey(uri, null, method, null);
-		Timer dataReceivedTime = MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
-				key -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
-				                   .tags(HttpServerMeters.DataReceivedTimeTags.URI.asString(), uri,
-				                         HttpServerMeters.DataReceivedTimeTags.METHOD.asString(), method)
-				                   .register(REGISTRY)));
+		Timer dataReceivedTime = dataReceivedTimers.get(uri, method);
+		if (dataReceivedTime == null) {
+			dataReceivedTime = dataReceivedTimers.computeIfAbsent(uri, method,
+					() -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
+					                  .tags(HttpServerMeters.DataReceivedTimeTags.URI.asString(), uri,
+					                        HttpServerMeters.DataReceivedTimeTags.METHOD.asString(), method)
+					                  .register(REGISTRY)));
+		}
 		if (dataReceivedTime != null) {
 			dataReceivedTime.record(time);
 		}
@@ -80,13 +84,15 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSentTime(String uri, String method, String status, Duration time) {
-		MeterKey meterKey = new MeterKey(uri, null, method, status);
-		Timer dataSentTime = MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
-				key -> filter(Timer.builder(name() + DATA_SENT_TIME)
-				                   .tags(HttpServerMeters.DataSentTimeTags.URI.asString(), uri,
-				                         HttpServerMeters.DataSentTimeTags.METHOD.asString(), method,
-				                         HttpServerMeters.DataSentTimeTags.STATUS.asString(), status)
-				                   .register(REGISTRY)));
+		Timer dataSentTime = dataSentTimers.get(uri, method, status);
+		if (dataSentTime == null) {
+			dataSentTime = dataSentTimers.computeIfAbsent(uri, method, status,
+					() -> filter(Timer.builder(name() + DATA_SENT_TIME)
+					                  .tags(HttpServerMeters.DataSentTimeTags.URI.asString(), uri,
+					                        HttpServerMeters.DataSentTimeTags.METHOD.asString(), method,
+					                        HttpServerMeters.DataSentTimeTags.STATUS.asString(), status)
+					                  .register(REGISTRY)));
+		}
 		if (dataSentTime != null) {
 			dataSentTime.record(time);
 		}
@@ -94,7 +100,11 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordResponseTime(String uri, String method, String status, Duration time) {
-		Timer responseTime = getResponseTimeTimer(name() + RESPONSE_TIME, uri, method, status);
+		Timer responseTime = responseTimers.get(uri, method, status);
+		if (responseTime == null) {
+			responseTime = responseTimers.computeIfAbsent(uri, method, status,
+					() -> getResponseTimeTimer(name() + RESPONSE_TIME, uri, method, status));
+		}
 		if (responseTime != null) {
 			responseTime.record(time);
 		}
@@ -111,11 +121,14 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, uri,
-				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
-				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_RECEIVED.getBaseUnit())
-				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataReceived = dataReceivedCache.get(uri);
+		if (dataReceived == null) {
+			dataReceived = dataReceivedCache.computeIfAbsent(uri,
+					() -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
+					                                .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_RECEIVED.getBaseUnit())
+					                                .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+					                                .register(REGISTRY)));
+		}
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
 		}
@@ -123,11 +136,14 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, uri,
-				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
-				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_SENT.getBaseUnit())
-				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataSent = dataSentCache.get(uri);
+		if (dataSent == null) {
+			dataSent = dataSentCache.computeIfAbsent(uri,
+					() -> filter(DistributionSummary.builder(name() + DATA_SENT)
+					                                .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_SENT.getBaseUnit())
+					                                .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+					                                .register(REGISTRY)));
+		}
 		if (dataSent != null) {
 			dataSent.record(bytes);
 		}
@@ -135,10 +151,13 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, uri,
-				key -> filter(Counter.builder(name() + ERRORS)
-				                     .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
-				                     .register(REGISTRY)));
+		Counter errors = errorsCache.get(uri);
+		if (errors == null) {
+			errors = errorsCache.computeIfAbsent(uri,
+					() -> filter(Counter.builder(name() + ERRORS)
+					                    .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+					                    .register(REGISTRY)));
+		}
 		if (errors != null) {
 			errors.increment();
 		}
@@ -208,31 +227,37 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Nullable
 	LongAdder getActiveStreamsAdder(SocketAddress localAddress) {
-		String address = formatSocketAddress(localAddress);
-		return MapUtils.computeIfAbsent(activeStreamsCache, address,
-				key -> {
-					LongAdder activeStreamsAdder = new LongAdder();
+		LongAdder activeStreamsAdder = activeStreamsCache.get(localAddress);
+		if (activeStreamsAdder != null) {
+			return activeStreamsAdder;
+		}
+		return activeStreamsCache.computeIfAbsent(localAddress,
+				() -> {
+					LongAdder adder = new LongAdder();
 					Gauge gauge = filter(
-							Gauge.builder(STREAMS_ACTIVE.getName(), activeStreamsAdder, LongAdder::longValue)
+							Gauge.builder(STREAMS_ACTIVE.getName(), adder, LongAdder::longValue)
 							     .tags(HttpServerMeters.StreamsActiveTags.URI.asString(), PROTOCOL_VALUE_HTTP,
-							           HttpServerMeters.StreamsActiveTags.LOCAL_ADDRESS.asString(), address)
+							           HttpServerMeters.StreamsActiveTags.LOCAL_ADDRESS.asString(), formatSocketAddress(localAddress))
 							     .register(REGISTRY));
-					return gauge != null ? activeStreamsAdder : null;
+					return gauge != null ? adder : null;
 				});
 	}
 
 	@Nullable
 	LongAdder getServerConnectionAdder(SocketAddress localAddress) {
-		String address = formatSocketAddress(localAddress);
-		return MapUtils.computeIfAbsent(activeConnectionsCache, address,
-				key -> {
-					LongAdder activeConnectionsAdder = new LongAdder();
+		LongAdder activeConnectionsAdder = activeConnectionsCache.get(localAddress);
+		if (activeConnectionsAdder != null) {
+			return activeConnectionsAdder;
+		}
+		return activeConnectionsCache.computeIfAbsent(localAddress,
+				() -> {
+					LongAdder adder = new LongAdder();
 					Gauge gauge = filter(
-							Gauge.builder(CONNECTIONS_ACTIVE.getName(), activeConnectionsAdder, LongAdder::longValue)
+							Gauge.builder(CONNECTIONS_ACTIVE.getName(), adder, LongAdder::longValue)
 							     .tags(HttpServerMeters.ConnectionsActiveTags.URI.asString(), PROTOCOL_VALUE_HTTP,
-							           HttpServerMeters.ConnectionsActiveTags.LOCAL_ADDRESS.asString(), address)
+							           HttpServerMeters.ConnectionsActiveTags.LOCAL_ADDRESS.asString(), formatSocketAddress(localAddress))
 							     .register(REGISTRY));
-					return gauge != null ? activeConnectionsAdder : null;
+					return gauge != null ? adder : null;
 				});
 	}
 }
@@ -16,29 +16,123 @@
 package reactor.netty.http.server;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliOptions;
 import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import reactor.util.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * {@link HttpContentCompressor} to enable on-demand compression.
+ * <p>
+ * When a {@link HttpCompressionPolicy} is configured, it selects the algorithm and the level of every compressed
+ * response, or skips the compression.
+ * When a {@link CompressedBodyCache} is configured, the compressed form of the responses with a full body
+ * served more than once is cached and reused for the next responses with the same content and content encoding.
  *
  * @author Stephane Maldini
  */
 final class SimpleCompressionHandler extends HttpContentCompressor {
 
-	SimpleCompressionHandler() {
+	final CompressedBodyCache bodyCache;
+	final HttpCompressionPolicy policy;
+
+	ChannelHandlerContext ctx;
+
+	SimpleCompressionHandler(HttpCompressionOptions compressionOptions) {
 		super((CompressionOptions[]) null);
+		this.bodyCache = compressionOptions.bodyCache;
+		this.policy = compressionOptions.policy;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+		this.ctx = ctx;
+		super.handlerAdded(ctx);
+	}
+
+	@Override
+	@Nullable
+	protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
+		ByteBuf content = bodyCache != null && httpResponse instanceof FullHttpResponse ?
+				((FullHttpResponse) httpResponse).content() : null;
+		if ((content == null && policy == null) || httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+			return super.beginEncode(httpResponse, acceptEncoding);
+		}
+
+		String targetContentEncoding = determineEncoding(acceptEncoding);
+		if (targetContentEncoding == null) {
+			return null;
+		}
+
+		CompressionOptions options = null;
+		if (policy != null) {
+			options = policy.select(new CompressionCandidate(ctx, httpResponse, content, acceptEncoding, targetContentEncoding));
+			if (options == null) {
+				return null;
+			}
+			String encoding = encoding(options);
+			if (encoding != null && HttpHeaderUtils.quality(acceptEncoding, encoding) > 0) {
+				targetContentEncoding = encoding;
+			}
+			else {
+				// Not supported or not accepted by the client, keep the negotiated encoding
+				options = null;
+			}
+		}
+
+		if (content != null) {
+			byte[] compressed = bodyCache.get(targetContentEncoding, content);
+			if (compressed != null) {
+				return new Result(targetContentEncoding, newEncoderChannel(new CachedBodyWriter(compressed)));
+			}
+		}
+
+		Result result = options != null ?
+				new Result(targetContentEncoding, newEncoderChannel(newEncoder(options))) :
+				super.beginEncode(httpResponse, acceptEncoding);
+		if (result != null && content != null && bodyCache.admit(result.targetContentEncoding(), content)) {
+			result.contentEncoder()
+			      .pipeline()
+			      .addFirst(new CompressedBodyRecorder(bodyCache, result.targetContentEncoding(), content));
+		}
+		return result;
+	}
+
+	EmbeddedChannel newEncoderChannel(ChannelHandler handler) {
+		return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+				ctx.channel().config(), handler);
 	}
 
 	@Override
@@ -77,4 +171,158 @@ final class SimpleCompressionHandler extends HttpContentCompressor {
 			out.clear();
 		}
 	}
+
+	/**
+	 * Returns the content encoding of the given {@link CompressionOptions}.
+	 *
+	 * @param options the compression options
+	 * @return the content encoding or {@code null} when the algorithm is not supported or not available
+	 */
+	@Nullable
+	static String encoding(CompressionOptions options) {
+		if (options instanceof GzipOptions) {
+			return "gzip";
+		}
+		if (options instanceof DeflateOptions) {
+			return "deflate";
+		}
+		if (options instanceof ZstdOptions) {
+			return Zstd.isAvailable() ? "zstd" : null;
+		}
+		if (options instanceof BrotliOptions) {
+			return Brotli.isAvailable() ? "br" : null;
+		}
+		return null;
+	}
+
+	static ChannelHandler newEncoder(CompressionOptions options) {
+		if (options instanceof GzipOptions) {
+			GzipOptions gzip = (GzipOptions) options;
+			return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, gzip.compressionLevel(), gzip.windowBits(), gzip.memLevel());
+		}
+		if (options instanceof DeflateOptions) {
+			DeflateOptions deflate = (DeflateOptions) options;
+			return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, deflate.compressionLevel(), deflate.windowBits(), deflate.memLevel());
+		}
+		if (options instanceof ZstdOptions) {
+			ZstdOptions zstd = (ZstdOptions) options;
+			return new ZstdEncoder(zstd.compressionLevel(), zstd.blockSize(), zstd.maxEncodeSize());
+		}
+		return new BrotliEncoder((BrotliOptions) options);
+	}
+
+	static final class CompressionCandidate implements HttpCompressionPolicy.ResponseInfo {
+
+		final ChannelHandlerContext ctx;
+		final HttpResponse response;
+		final ByteBuf content;
+		final String acceptEncoding;
+		final String encoding;
+
+		CompressionCandidate(ChannelHandlerContext ctx, HttpResponse response, @Nullable ByteBuf content,
+				String acceptEncoding, String encoding) {
+			this.ctx = ctx;
+			this.response = response;
+			this.content = content;
+			this.acceptEncoding = acceptEncoding;
+			this.encoding = encoding;
+		}
+
+		@Override
+		public String acceptEncoding() {
+			return acceptEncoding;
+		}
+
+		@Override
+		public boolean accepts(String encoding) {
+			return HttpHeaderUtils.quality(acceptEncoding, encoding) > 0;
+		}
+
+		@Override
+		public long contentLength() {
+			if (content != null) {
+				return content.readableBytes();
+			}
+			if (response instanceof FullHttpResponse) {
+				return ((FullHttpResponse) response).content().readableBytes();
+			}
+			return HttpUtil.getContentLength(response, -1L);
+		}
+
+		@Override
+		@Nullable
+		public String contentType() {
+			return response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+		}
+
+		@Override
+		public String encoding() {
+			return encoding;
+		}
+
+		@Override
+		public int pendingTasks() {
+			EventExecutor executor = ctx.executor();
+			return executor instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) executor).pendingTasks() : -1;
+		}
+
+		@Override
+		public HttpHeaders responseHeaders() {
+			return response.headers();
+		}
+	}
+
+	/**
+	 * Replaces the content written to the encoder with the cached compressed body.
+	 */
+	static final class CachedBodyWriter extends ChannelOutboundHandlerAdapter {
+
+		final byte[] compressed;
+
+		CachedBodyWriter(byte[] compressed) {
+			this.compressed = compressed;
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			ReferenceCountUtil.release(msg);
+			ctx.write(Unpooled.wrappedBuffer(compressed), promise);
+		}
+	}
+
+	/**
+	 * Records the output of the encoder and caches it once the encoder is finished.
+	 */
+	static final class CompressedBodyRecorder extends ChannelOutboundHandlerAdapter {
+
+		final CompressedBodyCache bodyCache;
+		final String encoding;
+		final byte[] content;
+		final ByteBuf compressed;
+
+		CompressedBodyRecorder(CompressedBodyCache bodyCache, String encoding, ByteBuf content) {
+			this.bodyCache = bodyCache;
+			this.encoding = encoding;
+			// The content is released by the time the encoder is finished
+			this.content = ByteBufUtil.getBytes(content);
+			this.compressed = Unpooled.buffer(content.readableBytes());
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			if (msg instanceof ByteBuf) {
+				ByteBuf buf = (ByteBuf) msg;
+				compressed.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+			}
+			ctx.write(msg, promise);
+		}
+
+		@Override
+		public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+			if (compressed.isReadable()) {
+				bodyCache.put(encoding, content, ByteBufUtil.getBytes(compressed));
+			}
+			super.close(ctx, promise);
+		}
+	}
 }
@@ -16,19 +16,23 @@
 package reactor.netty.http;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import com.aayushatharva.brotli4j.decoder.DecoderJNI;
 import com.aayushatharva.brotli4j.decoder.DirectDecompress;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
@@ -42,11 +46,13 @@ import reactor.netty.BaseHttpTest;
 import reactor.netty.DisposableServer;
 import reactor.netty.SocketUtils;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpCompressionPolicy;
 import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * This test class verifies HTTP compression.
@@ -192,6 +198,158 @@ class HttpCompressionClientServerTests extends BaseHttpTest {
 		assertThat(deflated).isEqualTo("reply");
 	}
 
+	@ParameterizedCompressionTest
+	void serverCompressionCacheEnabled(HttpServer server, HttpClient client) throws Exception {
+		String reply = String.join("", Collections.nCopies(100, "reply"));
+		disposableServer =
+				server.compress(true)
+				      .compressionCache(64 * 1024)
+				      .handle((in, out) -> out.sendString(Mono.just(reply)))
+				      .bindNow(Duration.ofSeconds(10));
+
+		//don't activate compression on the client options to avoid auto-handling (which removes the header)
+		for (int i = 0; i < 3; i++) {
+			Tuple2<byte[], HttpHeaders> resp =
+					client.port(disposableServer.port())
+					      .compress(false)
+					      .headers(h -> h.add("Accept-Encoding", "gzip"))
+					      .get()
+					      .uri("/test")
+					      .responseSingle((res, buf) -> buf.asByteArray()
+					                                       .zipWith(Mono.just(res.responseHeaders())))
+					      .block(Duration.ofSeconds(10));
+
+			assertThat(resp).isNotNull();
+			assertThat(resp.getT2().get("content-encoding")).isEqualTo("gzip");
+
+			ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+			try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(resp.getT1()))) {
+				byte[] deflatedBuf = new byte[1024];
+				int readable;
+				while ((readable = gis.read(deflatedBuf)) != -1) {
+					deflated.write(deflatedBuf, 0, readable);
+				}
+			}
+
+			assertThat(new String(deflated.toByteArray(), Charset.defaultCharset())).isEqualTo(reply);
+		}
+	}
+
+	@Test
+	void serverCompressionCacheBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpServer.create().compressionCache(-1));
+		assertThat(HttpServer.create().compressionCache(0).configuration().compressionCacheSize()).isEqualTo(0);
+	}
+
+	@ParameterizedCompressionTest
+	void serverCompressionPolicySelectsAlgorithm(HttpServer server, HttpClient client) throws Exception {
+		AtomicReference<String> negotiated = new AtomicReference<>();
+		disposableServer =
+				server.compress(true)
+				      .compressionPolicy(info -> {
+				          negotiated.set(info.encoding());
+				          return info.contentLength() == 5 ? StandardCompressionOptions.deflate(1, 15, 8) : null;
+				      })
+				      .route(r -> r.get("/small", (in, out) -> out.sendString(Mono.just("reply")))
+				                   .get("/other", (in, out) -> out.sendString(Mono.just("other reply"))))
+				      .bindNow(Duration.ofSeconds(10));
+
+		//don't activate compression on the client options to avoid auto-handling (which removes the header)
+		Tuple2<byte[], HttpHeaders> resp =
+				client.port(disposableServer.port())
+				      .compress(false)
+				      .headers(h -> h.add("Accept-Encoding", "gzip, deflate"))
+				      .get()
+				      .uri("/small")
+				      .responseSingle((res, buf) -> buf.asByteArray()
+				                                       .zipWith(Mono.just(res.responseHeaders())))
+				      .block(Duration.ofSeconds(10));
+
+		assertThat(resp).isNotNull();
+		assertThat(negotiated.get()).isEqualTo("gzip");
+		assertThat(resp.getT2().get("content-encoding")).isEqualTo("deflate");
+
+		InflaterInputStream iis = new InflaterInputStream(new ByteArrayInputStream(resp.getT1()));
+		byte[] inflatedBuf = new byte[1024];
+		int readable = iis.read(inflatedBuf);
+		iis.close();
+
+		assertThat(new String(inflatedBuf, 0, readable, Charset.defaultCharset())).isEqualTo("reply");
+
+		resp = client.port(disposableServer.port())
+		             .compress(false)
+		             .headers(h -> h.add("Accept-Encoding", "gzip, deflate"))
+		             .get()
+		             .uri("/other")
+		             .responseSingle((res, buf) -> buf.asByteArray()
+		                                              .zipWith(Mono.just(res.responseHeaders())))
+		             .block(Duration.ofSeconds(10));
+
+		assertThat(resp).isNotNull();
+		assertThat(resp.getT2().get("content-encoding")).isNull();
+		assertThat(new String(resp.getT1(), Charset.defaultCharset())).isEqualTo("other reply");
+	}
+
+	@ParameterizedCompressionTest
+	void serverCompressionPolicyNotAcceptedAlgorithm(HttpServer server, HttpClient client) {
+		disposableServer =
+				server.compress(true)
+				      .compressionPolicy(info -> StandardCompressionOptions.deflate())
+				      .handle((in, out) -> out.sendString(Mono.just("reply")))
+				      .bindNow(Duration.ofSeconds(10));
+
+		String contentEncoding =
+				client.port(disposableServer.port())
+				      .compress(false)
+				      .headers(h -> h.add("Accept-Encoding", "gzip"))
+				      .get()
+				      .uri("/test")
+				      .responseSingle((res, buf) -> Mono.just(res.responseHeaders().get("content-encoding")))
+				      .block(Duration.ofSeconds(10));
+
+		assertThat(contentEncoding).isEqualTo("gzip");
+	}
+
+	@ParameterizedCompressionTest
+	void serverCompressionAdaptivePolicy(HttpServer server, HttpClient client) {
+		disposableServer =
+				server.compress(true)
+				      .compressionPolicy(HttpCompressionPolicy.adaptive(1000))
+				      .route(r -> r.get("/text", (in, out) -> out.header("content-type", "text/plain")
+				                                                 .sendString(Mono.just("reply")))
+				                   .get("/image", (in, out) -> out.header("content-type", "image/png")
+				                                                  .sendString(Mono.just("reply"))))
+				      .bindNow(Duration.ofSeconds(10));
+
+		HttpClient localClient =
+				client.port(disposableServer.port())
+				      .compress(false)
+				      .headers(h -> h.add("Accept-Encoding", "gzip"));
+
+		String contentEncoding =
+				localClient.get()
+				           .uri("/text")
+				           .responseSingle((res, buf) -> Mono.justOrEmpty(res.responseHeaders().get("content-encoding")))
+				           .block(Duration.ofSeconds(10));
+		assertThat(contentEncoding).isEqualTo("gzip");
+
+		contentEncoding =
+				localClient.get()
+				           .uri("/image")
+				           .responseSingle((res, buf) -> Mono.justOrEmpty(res.responseHeaders().get("content-encoding")))
+				           .block(Duration.ofSeconds(10));
+		assertThat(contentEncoding).isNull();
+	}
+
+	@Test
+	void serverCompressionAdaptivePolicyBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpCompressionPolicy.adaptive(0));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> HttpServer.create().compressionPolicy(null));
+	}
+
 	@ParameterizedCompressionTest
 	void brotliServerCompressionEnabled(HttpServer server, HttpClient client) throws Exception {
 		assertThat(Brotli.isAvailable()).isTrue();
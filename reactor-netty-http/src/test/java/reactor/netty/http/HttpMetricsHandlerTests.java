@@ -35,6 +35,7 @@ import io.netty.channel.ChannelPromise;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.Http2StreamChannel;
@@ -63,6 +64,7 @@ import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyPipeline;
 import reactor.netty.http.client.ContextAwareHttpClientMetricsRecorder;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpResponseCache;
 import reactor.netty.http.server.ContextAwareHttpServerMetricsRecorder;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.http.server.HttpServerMetricsRecorder;
@@ -111,6 +113,8 @@ import static reactor.netty.Metrics.HTTP_SERVER_PREFIX;
 import static reactor.netty.Metrics.LOCAL_ADDRESS;
 import static reactor.netty.Metrics.METHOD;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
+import static reactor.netty.Metrics.RESPONSE_CACHE_HITS;
+import static reactor.netty.Metrics.RESPONSE_CACHE_MISSES;
 import static reactor.netty.Metrics.RESPONSE_TIME;
 import static reactor.netty.Metrics.STATUS;
 import static reactor.netty.Metrics.STREAMS_ACTIVE;
@@ -172,6 +176,7 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 	 *  <li> /5 is used by testServerConnectionsRecorder test</li>
 	 *  <li> /6 is used by testServerConnectionsMicrometerConnectionClose test</li>
 	 *  <li> /7 is used by testServerConnectionsRecorderConnectionClose test</li>
+	 *  <li> /8 is used by testResponseCacheMetrics test</li>
 	 * </ul>
 	 */
 	@BeforeEach
@@ -201,7 +206,9 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 				             .get("/7", (req, res) -> {
 				                 checkServerConnectionsRecorder(req);
 				                 return Mono.delay(Duration.ofMillis(200)).then(res.send());
-				             }));
+				             })
+				             .get("/8", (req, res) -> res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                                         .sendString(Mono.just("cached"))));
 
 		provider = ConnectionProvider.create("HttpMetricsHandlerTests", 1);
 		httpClient = createClient(provider, () -> disposableServer.address())
@@ -865,6 +872,28 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 		checkCounter(CLIENT_ERRORS, summaryTags, true, 2);
 	}
 
+	@Test
+	void testResponseCacheMetrics() {
+		disposableServer = httpServer.bindNow();
+
+		HttpClient client = httpClient.responseCache(HttpResponseCache.builder().build());
+		for (int i = 0; i < 3; i++) {
+			client.get()
+			      .uri("/8")
+			      .responseSingle((res, bytes) -> bytes.asString())
+			      .as(StepVerifier::create)
+			      .expectNext("cached")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(30));
+		}
+
+		InetSocketAddress sa = (InetSocketAddress) disposableServer.channel().localAddress();
+		String serverAddress = sa.getHostString() + ":" + sa.getPort();
+		String[] tags = new String[]{REMOTE_ADDRESS, serverAddress, URI, "/8"};
+		checkCounter(CLIENT_RESPONSE_CACHE_HITS, tags, true, 2);
+		checkCounter(CLIENT_RESPONSE_CACHE_MISSES, tags, true, 1);
+	}
+
 	// https://github.com/reactor/reactor-netty/issues/2145
 	@ParameterizedTest
 	@MethodSource("http11CompatibleProtocols")
@@ -1288,6 +1317,8 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 	private static final String CLIENT_DATA_SENT = HTTP_CLIENT_PREFIX + DATA_SENT;
 	private static final String CLIENT_DATA_RECEIVED = HTTP_CLIENT_PREFIX + DATA_RECEIVED;
 	static final String CLIENT_ERRORS = HTTP_CLIENT_PREFIX + ERRORS;
+	private static final String CLIENT_RESPONSE_CACHE_HITS = HTTP_CLIENT_PREFIX + RESPONSE_CACHE_HITS;
+	private static final String CLIENT_RESPONSE_CACHE_MISSES = HTTP_CLIENT_PREFIX + RESPONSE_CACHE_MISSES;
 	private static final String CLIENT_CONNECT_TIME = HTTP_CLIENT_PREFIX + CONNECT_TIME;
 	private static final String CLIENT_TLS_HANDSHAKE_TIME = HTTP_CLIENT_PREFIX + TLS_HANDSHAKE_TIME;
 
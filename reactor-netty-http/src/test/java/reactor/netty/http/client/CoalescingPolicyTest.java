@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.http.client.CoalescingPolicy.Build.DEFAULT_MAX_RESPONSE_SIZE;
+
+class CoalescingPolicyTest {
+
+	private CoalescingPolicy.Builder builder;
+
+	@BeforeEach
+	void setUp() {
+		builder = CoalescingPolicy.builder();
+	}
+
+	@Test
+	void build() {
+		CoalescingPolicy policy = builder.build();
+		assertThat(policy.keyHeaders()).isNull();
+		assertThat(policy.maxResponseSize()).isEqualTo(DEFAULT_MAX_RESPONSE_SIZE);
+
+		policy = builder.keyHeaders("X-Tenant", "Accept").maxResponseSize(1024).build();
+		assertThat(policy.keyHeaders()).containsExactly("accept", "x-tenant");
+		assertThat(policy.maxResponseSize()).isEqualTo(1024);
+	}
+
+	@Test
+	void buildBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.keyHeaders((CharSequence[]) null));
+
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.keyHeaders("Accept", null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxResponseSize(0))
+				.withMessage("maxResponseSize must be strictly positive");
+	}
+
+	@Test
+	void key() {
+		CoalescingPolicy policy = builder.build();
+		HttpHeaders headers1 = new DefaultHttpHeaders().add("Accept", "text/plain").add("X-Tenant", "a");
+		HttpHeaders headers2 = new DefaultHttpHeaders().add("x-tenant", "a").add("accept", "text/plain");
+		assertThat(policy.key("GET", "http://example.com/", headers1))
+				.isEqualTo(policy.key("GET", "http://example.com/", headers2));
+		assertThat(policy.key("GET", "http://example.com/", headers1))
+				.isNotEqualTo(policy.key("GET", "http://example.com/other", headers1));
+		assertThat(policy.key("GET", "http://example.com/", headers1))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", headers2.set("X-Tenant", "b")));
+
+		policy = CoalescingPolicy.builder().keyHeaders("X-Tenant").build();
+		assertThat(policy.key("GET", "http://example.com/", headers1.set("X-Request", "1")))
+				.isEqualTo(policy.key("GET", "http://example.com/", new DefaultHttpHeaders().add("X-Tenant", "a")));
+		assertThat(policy.key("GET", "http://example.com/", headers1))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", new DefaultHttpHeaders()));
+	}
+
+	@Test
+	void keyCredentialHeaders() {
+		CoalescingPolicy policy = builder.keyHeaders("X-Tenant").build();
+		HttpHeaders headers = new DefaultHttpHeaders().add("X-Tenant", "a");
+		assertThat(policy.key("GET", "http://example.com/", headers.copy().add("Authorization", "Basic a")))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", headers.copy().add("Authorization", "Basic b")))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", headers));
+		assertThat(policy.key("GET", "http://example.com/", headers.copy().add("Cookie", "session=a")))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", headers.copy().add("Cookie", "session=b")));
+		assertThat(policy.key("GET", "http://example.com/", headers.copy().add("Proxy-Authorization", "Basic a")))
+				.isNotEqualTo(policy.key("GET", "http://example.com/", headers.copy().add("Proxy-Authorization", "Basic b")));
+		assertThat(policy.key("GET", "http://example.com/", headers.copy().add("authorization", "Basic a")))
+				.isEqualTo(policy.key("GET", "http://example.com/", headers.copy().add("Authorization", "Basic a")));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.http.client.HedgingPolicy.Build.DEFAULT_DELAY;
+import static reactor.netty.http.client.HedgingPolicy.Build.DEFAULT_LATENCY_PERCENTILE;
+import static reactor.netty.http.client.HedgingPolicy.Build.DEFAULT_MAX_HEDGES;
+import static reactor.netty.http.client.HedgingPolicy.Build.DEFAULT_MIN_DELAY;
+
+class HedgingPolicyTest {
+	static final InetSocketAddress ADDRESS = InetSocketAddress.createUnresolved("example.com", 80);
+
+	private HedgingPolicy.Builder builder;
+
+	@BeforeEach
+	void setUp() {
+		builder = HedgingPolicy.builder();
+	}
+
+	@Test
+	void build() {
+		HedgingPolicy policy = builder.build();
+		assertThat(policy.delay()).isEqualTo(DEFAULT_DELAY);
+		assertThat(policy.latencyPercentile()).isEqualTo(DEFAULT_LATENCY_PERCENTILE);
+		assertThat(policy.maxHedges()).isEqualTo(DEFAULT_MAX_HEDGES);
+		assertThat(policy.minDelay()).isEqualTo(DEFAULT_MIN_DELAY);
+
+		policy = builder.delay(Duration.ofMillis(50)).latencyPercentile(0.99d).maxHedges(2).minDelay(Duration.ofMillis(5)).build();
+		assertThat(policy.delay()).isEqualTo(Duration.ofMillis(50));
+		assertThat(policy.latencyPercentile()).isEqualTo(0.99d);
+		assertThat(policy.maxHedges()).isEqualTo(2);
+		assertThat(policy.minDelay()).isEqualTo(Duration.ofMillis(5));
+	}
+
+	@Test
+	void buildBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.delay(null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.delay(Duration.ofMillis(-1)))
+				.withMessage("delay must be positive or zero");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.latencyPercentile(0))
+				.withMessage("latencyPercentile must be in the range (0, 1)");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.latencyPercentile(1))
+				.withMessage("latencyPercentile must be in the range (0, 1)");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxHedges(0))
+				.withMessage("maxHedges must be strictly positive");
+
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.minDelay(null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.minDelay(Duration.ofMillis(-1)))
+				.withMessage("minDelay must be positive or zero");
+	}
+
+	@Test
+	void hedgingDelay() {
+		HedgingPolicy policy = builder.delay(Duration.ofMillis(100)).build();
+
+		// Not enough latencies observed
+		for (int i = 1; i < HedgingPolicy.Latencies.MIN_SAMPLES; i++) {
+			policy.recordLatency(ADDRESS, TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		assertThat(policy.hedgingDelay(ADDRESS)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		for (int i = HedgingPolicy.Latencies.MIN_SAMPLES; i <= 64; i++) {
+			policy.recordLatency(ADDRESS, TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		// 95th percentile of 1..64ms
+		assertThat(policy.hedgingDelay(ADDRESS)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(61));
+
+		// Another remote host
+		assertThat(policy.hedgingDelay(InetSocketAddress.createUnresolved("example.org", 80)))
+				.isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	void hedgingDelayMinDelay() {
+		HedgingPolicy policy = builder.delay(Duration.ofMillis(1)).minDelay(Duration.ofMillis(10)).build();
+		assertThat(policy.hedgingDelay(ADDRESS)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+		for (int i = 0; i < 64; i++) {
+			policy.recordLatency(ADDRESS, TimeUnit.MILLISECONDS.toNanos(2));
+		}
+		assertThat(policy.hedgingDelay(ADDRESS)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+	}
+
+	@Test
+	void latenciesBounded() {
+		HedgingPolicy policy = builder.build();
+		policy.recordLatency(ADDRESS, TimeUnit.MILLISECONDS.toNanos(1));
+		policy.latencies.get(ADDRESS).lastRecorded = System.nanoTime() - TimeUnit.MINUTES.toNanos(1);
+		for (int i = 1; i < HedgingPolicy.MAX_REMOTE_ADDRESSES; i++) {
+			policy.recordLatency(InetSocketAddress.createUnresolved("host" + i, 80), TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		assertThat(policy.latencies).hasSize(HedgingPolicy.MAX_REMOTE_ADDRESSES).containsKey(ADDRESS);
+
+		// The least recently used remote host is evicted
+		policy.recordLatency(InetSocketAddress.createUnresolved("example.org", 80), TimeUnit.MILLISECONDS.toNanos(1));
+		assertThat(policy.latencies).hasSize(HedgingPolicy.MAX_REMOTE_ADDRESSES).doesNotContainKey(ADDRESS);
+	}
+
+	@Test
+	void isHedged() {
+		assertThat(HedgingPolicy.isHedged(HttpMethod.GET)).isTrue();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.HEAD)).isTrue();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.OPTIONS)).isTrue();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.TRACE)).isTrue();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.POST)).isFalse();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.PUT)).isFalse();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.DELETE)).isFalse();
+		assertThat(HedgingPolicy.isHedged(HttpMethod.PATCH)).isFalse();
+	}
+}
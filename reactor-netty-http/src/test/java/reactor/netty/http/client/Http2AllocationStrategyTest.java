@@ -20,9 +20,11 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.http.client.Http2AllocationStrategy.Build.DEFAULT_CONNECTION_SELECTION;
 import static reactor.netty.http.client.Http2AllocationStrategy.Build.DEFAULT_MAX_CONCURRENT_STREAMS;
 import static reactor.netty.http.client.Http2AllocationStrategy.Build.DEFAULT_MAX_CONNECTIONS;
 import static reactor.netty.http.client.Http2AllocationStrategy.Build.DEFAULT_MIN_CONNECTIONS;
+import static reactor.netty.http.client.Http2AllocationStrategy.Build.DEFAULT_STREAMS_UTILIZATION_THRESHOLD;
 
 class Http2AllocationStrategyTest {
 	private Http2AllocationStrategy.Builder builder;
@@ -39,6 +41,8 @@ class Http2AllocationStrategyTest {
 		assertThat(strategy.maxConcurrentStreams()).isEqualTo(2);
 		assertThat(strategy.permitMaximum()).isEqualTo(2);
 		assertThat(strategy.permitMinimum()).isEqualTo(1);
+		assertThat(strategy.connectionSelection()).isEqualTo(DEFAULT_CONNECTION_SELECTION);
+		assertThat(strategy.streamsUtilizationThreshold()).isEqualTo(DEFAULT_STREAMS_UTILIZATION_THRESHOLD);
 	}
 
 	@Test
@@ -50,12 +54,31 @@ class Http2AllocationStrategyTest {
 
 	@Test
 	void copy() {
-		builder.maxConcurrentStreams(2).maxConnections(2).minConnections(1);
+		builder.maxConcurrentStreams(2).maxConnections(2).minConnections(1)
+				.connectionSelection(Http2AllocationStrategy.ConnectionSelection.LEAST_ACTIVE_STREAMS)
+				.streamsUtilizationThreshold(0.5d);
 		Http2AllocationStrategy strategy = builder.build();
 		Http2AllocationStrategy copy = strategy.copy();
 		assertThat(copy.maxConcurrentStreams()).isEqualTo(strategy.maxConcurrentStreams());
 		assertThat(copy.permitMaximum()).isEqualTo(strategy.permitMaximum());
 		assertThat(copy.permitMinimum()).isEqualTo(strategy.permitMinimum());
+		assertThat(copy.connectionSelection()).isEqualTo(strategy.connectionSelection());
+		assertThat(copy.streamsUtilizationThreshold()).isEqualTo(strategy.streamsUtilizationThreshold());
+	}
+
+	@Test
+	void connectionSelection() {
+		builder.connectionSelection(Http2AllocationStrategy.ConnectionSelection.LEAST_ACTIVE_STREAMS);
+		Http2AllocationStrategy strategy = builder.build();
+		assertThat(strategy.connectionSelection()).isEqualTo(Http2AllocationStrategy.ConnectionSelection.LEAST_ACTIVE_STREAMS);
+		assertThat(strategy.streamsUtilizationThreshold()).isEqualTo(DEFAULT_STREAMS_UTILIZATION_THRESHOLD);
+	}
+
+	@Test
+	void connectionSelectionBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.connectionSelection(null))
+				.withMessage("connectionSelection");
 	}
 
 	@Test
@@ -105,4 +128,23 @@ class Http2AllocationStrategyTest {
 				.isThrownBy(() -> builder.minConnections(-1))
 				.withMessage("minConnections must be positive or zero");
 	}
+
+	@Test
+	void streamsUtilizationThreshold() {
+		builder.streamsUtilizationThreshold(0.75d);
+		Http2AllocationStrategy strategy = builder.build();
+		assertThat(strategy.streamsUtilizationThreshold()).isEqualTo(0.75d);
+		assertThat(strategy.connectionSelection()).isEqualTo(DEFAULT_CONNECTION_SELECTION);
+	}
+
+	@Test
+	void streamsUtilizationThresholdBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.streamsUtilizationThreshold(0))
+				.withMessage("streamsUtilizationThreshold must be in the range (0, 1]");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.streamsUtilizationThreshold(1.5d))
+				.withMessage("streamsUtilizationThreshold must be in the range (0, 1]");
+	}
 }
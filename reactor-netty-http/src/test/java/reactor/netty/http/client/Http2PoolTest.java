@@ -19,8 +19,11 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelId;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2SettingsFrame;
+import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
 import org.junit.jupiter.api.Test;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -1170,6 +1173,237 @@ class Http2PoolTest {
 		}
 	}
 
+	@Test
+	void maxStreamsReachedConnectionIsParked() {
+		EmbeddedChannel channel = new EmbeddedChannel(Http2FrameCodecBuilder.forClient().build(),
+				new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.just(Connection.from(channel)))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(0, 1);
+		Http2AllocationStrategy strategy = Http2AllocationStrategy.builder()
+				.maxConnections(1)
+				.maxConcurrentStreams(1)
+				.build();
+		Http2Pool http2Pool = poolBuilder.build(config -> new Http2Pool(config, strategy));
+
+		try {
+			List<PooledRef<Connection>> acquired = new ArrayList<>();
+			http2Pool.acquire().subscribe(acquired::add);
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(1);
+			assertThat(http2Pool.connections.available).hasSize(1);
+
+			http2Pool.acquire().subscribe(acquired::add);
+			http2Pool.acquire().subscribe(acquired::add);
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(1);
+			assertThat(http2Pool.pendingAcquireSize()).isEqualTo(2);
+			assertThat(http2Pool.connections.available).isEmpty();
+			assertThat(http2Pool.connections.parked).hasSize(1);
+			assertThat(http2Pool.connections.size()).isEqualTo(1);
+			// the parked connection cannot be used, it is not idle
+			assertThat(http2Pool.idleSize()).isEqualTo(0);
+			assertThat(http2Pool.acquiredSize()).isEqualTo(1);
+
+			acquired.get(0).release().block(Duration.ofSeconds(1));
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(2);
+			assertThat(acquired.get(1).poolable()).isSameAs(acquired.get(0).poolable());
+			assertThat(http2Pool.pendingAcquireSize()).isEqualTo(1);
+			assertThat(http2Pool.connections.parked).hasSize(1);
+
+			acquired.get(1).release().block(Duration.ofSeconds(1));
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(3);
+			assertThat(http2Pool.pendingAcquireSize()).isEqualTo(0);
+
+			acquired.get(2).release().block(Duration.ofSeconds(1));
+
+			assertThat(http2Pool.activeStreams()).isEqualTo(0);
+			assertThat(http2Pool.connections.available).hasSize(1);
+			assertThat(http2Pool.connections.parked).isEmpty();
+			assertThat(http2Pool.idleSize()).isEqualTo(1);
+		}
+		finally {
+			channel.finishAndReleaseAll();
+			Connection.from(channel).dispose();
+		}
+	}
+
+	@Test
+	void parkedConnectionIsCheckedAgainOnSettings() {
+		EmbeddedChannel channel = new EmbeddedChannel(Http2FrameCodecBuilder.forClient().build(),
+				new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+		Http2FrameCodec frameCodec = channel.pipeline().get(Http2FrameCodec.class);
+		frameCodec.connection().local().maxActiveStreams(1);
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.just(Connection.from(channel)))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(0, 1);
+		Http2AllocationStrategy strategy = Http2AllocationStrategy.builder()
+				.maxConnections(1)
+				.maxConcurrentStreams(10)
+				.build();
+		Http2Pool http2Pool = poolBuilder.build(config -> new Http2Pool(config, strategy));
+
+		List<PooledRef<Connection>> acquired = new ArrayList<>();
+		try {
+			http2Pool.acquire().subscribe(acquired::add);
+			http2Pool.acquire().subscribe(acquired::add);
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(1);
+			assertThat(http2Pool.connections.parked).hasSize(1);
+
+			// the peer increases the max concurrent streams
+			frameCodec.connection().local().maxActiveStreams(2);
+			channel.pipeline().fireChannelRead(new DefaultHttp2SettingsFrame(Http2Settings.defaultSettings()));
+
+			channel.runPendingTasks();
+
+			assertThat(acquired).hasSize(2);
+			assertThat(acquired.get(1).poolable()).isSameAs(acquired.get(0).poolable());
+			assertThat(http2Pool.pendingAcquireSize()).isEqualTo(0);
+
+			for (PooledRef<Connection> slot : acquired) {
+				slot.release().block(Duration.ofSeconds(1));
+			}
+
+			assertThat(http2Pool.activeStreams()).isEqualTo(0);
+		}
+		finally {
+			channel.finishAndReleaseAll();
+			Connection.from(channel).dispose();
+		}
+	}
+
+	@Test
+	void leastActiveStreamsAndStreamsUtilizationThreshold() {
+		List<EmbeddedChannel> channels = new ArrayList<>();
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.fromSupplier(() -> {
+				               EmbeddedChannel channel = new EmbeddedChannel(new TestChannelId(),
+				                   Http2FrameCodecBuilder.forClient().build(),
+				                   new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+				               channels.add(channel);
+				               return Connection.from(channel);
+				           }))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(0, 2);
+		Http2AllocationStrategy strategy = Http2AllocationStrategy.builder()
+				.connectionSelection(Http2AllocationStrategy.ConnectionSelection.LEAST_ACTIVE_STREAMS)
+				.maxConcurrentStreams(4)
+				.maxConnections(2)
+				.streamsUtilizationThreshold(0.5d)
+				.build();
+		Http2Pool http2Pool = poolBuilder.build(config -> new Http2Pool(config, strategy));
+
+		List<PooledRef<Connection>> acquired = new ArrayList<>();
+		try {
+			for (int i = 0; i < 6; i++) {
+				http2Pool.acquire().subscribe(acquired::add);
+				channels.forEach(EmbeddedChannel::runPendingTasks);
+			}
+
+			assertThat(acquired).hasSize(6);
+			assertThat(channels).hasSize(2);
+			assertThat(http2Pool.activeStreams()).isEqualTo(6);
+
+			// The second connection is opened once the first one has 2 active streams (4 * 0.5),
+			// then the streams are opened on the connection with the fewest active streams
+			Channel first = channels.get(0);
+			Channel second = channels.get(1);
+			assertThat(acquired.get(0).poolable().channel()).isSameAs(first);
+			assertThat(acquired.get(1).poolable().channel()).isSameAs(first);
+			assertThat(acquired.get(2).poolable().channel()).isSameAs(second);
+			assertThat(acquired.get(3).poolable().channel()).isSameAs(second);
+			assertThat(acquired.get(4).poolable().channel()).isIn(first, second);
+			assertThat(acquired.get(5).poolable().channel()).isNotSameAs(acquired.get(4).poolable().channel());
+
+			acquired.get(0).release().block(Duration.ofSeconds(1));
+			acquired.get(1).release().block(Duration.ofSeconds(1));
+
+			http2Pool.acquire().subscribe(acquired::add);
+			channels.forEach(EmbeddedChannel::runPendingTasks);
+
+			assertThat(acquired).hasSize(7);
+			assertThat(acquired.get(6).poolable().channel()).isSameAs(first);
+
+			for (PooledRef<Connection> slot : acquired) {
+				slot.release().block(Duration.ofSeconds(1));
+			}
+
+			assertThat(http2Pool.activeStreams()).isEqualTo(0);
+		}
+		finally {
+			for (EmbeddedChannel channel : channels) {
+				channel.finishAndReleaseAll();
+				Connection.from(channel).dispose();
+			}
+		}
+	}
+
+	@Test
+	void streamsUtilizationThresholdComparesAllConnections() {
+		List<EmbeddedChannel> channels = new ArrayList<>();
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.fromSupplier(() -> {
+				               EmbeddedChannel channel = new EmbeddedChannel(new TestChannelId(),
+				                   Http2FrameCodecBuilder.forClient().build(),
+				                   new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+				               channels.add(channel);
+				               return Connection.from(channel);
+				           }))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(0, 3);
+		Http2AllocationStrategy strategy = Http2AllocationStrategy.builder()
+				.maxConcurrentStreams(4)
+				.maxConnections(3)
+				.streamsUtilizationThreshold(0.5d)
+				.build();
+		Http2Pool http2Pool = poolBuilder.build(config -> new Http2Pool(config, strategy));
+
+		List<PooledRef<Connection>> acquired = new ArrayList<>();
+		try {
+			for (int i = 0; i < 4; i++) {
+				http2Pool.acquire().subscribe(acquired::add);
+				channels.forEach(EmbeddedChannel::runPendingTasks);
+			}
+
+			// The first connection reached the threshold, the second connection is below it
+			// and is used instead of opening a third connection
+			assertThat(acquired).hasSize(4);
+			assertThat(channels).hasSize(2);
+			assertThat(acquired.get(3).poolable().channel()).isSameAs(channels.get(1));
+
+			for (PooledRef<Connection> slot : acquired) {
+				slot.release().block(Duration.ofSeconds(1));
+			}
+
+			assertThat(http2Pool.activeStreams()).isEqualTo(0);
+		}
+		finally {
+			for (EmbeddedChannel channel : channels) {
+				channel.finishAndReleaseAll();
+				Connection.from(channel).dispose();
+			}
+		}
+	}
+
 	@Test
 	void nonHttp2ConnectionEmittedOnce() {
 		EmbeddedChannel channel = new EmbeddedChannel();
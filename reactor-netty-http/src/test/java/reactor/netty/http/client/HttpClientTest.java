@@ -63,7 +63,11 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
@@ -86,11 +90,14 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
 import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.dns.DnsAddressResolverGroup;
 import io.netty.util.CharsetUtil;
 import io.netty.util.concurrent.DefaultEventExecutor;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -106,6 +113,7 @@ import reactor.netty.ByteBufFlux;
 import reactor.netty.ByteBufMono;
 import reactor.netty.CancelReceiverHandlerTest;
 import reactor.netty.Connection;
+import reactor.netty.FlushPolicy;
 import reactor.netty.FutureMono;
 import reactor.netty.LogTracker;
 import reactor.netty.NettyPipeline;
@@ -1292,6 +1300,33 @@ class HttpClientTest extends BaseHttpTest {
 				    .verify(Duration.ofSeconds(30));
 	}
 
+	@Test
+	void testContentLengthWhenGetWithFlushPolicy() {
+		disposableServer =
+				createServer()
+				          .handle((req, res) ->
+				                  res.sendString(req.receive()
+				                                    .aggregate()
+				                                    .asString()
+				                                    .map(body -> req.requestHeaders().get(HttpHeaderNames.CONTENT_LENGTH) + " " +
+				                                            req.requestHeaders().contains(HttpHeaderNames.TRANSFER_ENCODING) + " " + body)))
+				          .bindNow();
+
+		StepVerifier.create(
+				createHttpClientForContextWithAddress()
+				        .get()
+				        .uri("/")
+				        .send((req, out) -> out.send(Flux.just("hello", " world")
+				                                         .map(s -> Unpooled.wrappedBuffer(s.getBytes(Charset.defaultCharset()))),
+				                FlushPolicy.builder().build()))
+				        .responseContent()
+				        .aggregate()
+				        .asString())
+				    .expectNext("11 false hello world")
+				    .expectComplete()
+				    .verify(Duration.ofSeconds(30));
+	}
+
 	@Test
 	void testExplicitEmptyBodyOnGetWorks() throws Exception {
 		SslContext sslServer = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey())
@@ -3276,6 +3311,570 @@ class HttpClientTest extends BaseHttpTest {
 		doTestIssue1943(HttpProtocol.HTTP11);
 	}
 
+	@Test
+	void testHedgingSlowResponse() throws Exception {
+		AtomicInteger requests = new AtomicInteger();
+		CountDownLatch slowConnectionClosed = new CountDownLatch(1);
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            if (requests.incrementAndGet() == 1) {
+				                res.withConnection(conn -> conn.onDispose(slowConnectionClosed::countDown));
+				                return res.sendString(Mono.delay(Duration.ofSeconds(10)).map(l -> "slow"));
+				            }
+				            return res.sendString(Mono.just("hedged"));
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .hedging(HedgingPolicy.builder().delay(Duration.ofMillis(100)).build())
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("hedged")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+		// The slow request is cancelled
+		assertThat(slowConnectionClosed.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void testHedgingFastResponse() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just("fast"));
+				        })
+				        .bindNow();
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder().delay(Duration.ofSeconds(5)).build();
+		createClient(disposableServer.port())
+		        .hedging(hedgingPolicy)
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("fast")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+		assertThat(hedgingPolicy.latencies).hasSize(1);
+	}
+
+	@Test
+	void testHedgingNotAppliedToUnsafeMethods() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.delay(Duration.ofMillis(500)).map(l -> "slow"));
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .hedging(HedgingPolicy.builder().delay(Duration.ofMillis(50)).build())
+		        .post()
+		        .uri("/")
+		        .send(ByteBufFlux.fromString(Mono.just("test")))
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("slow")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testHedgingAllRequestsFail() {
+		int port = SocketUtils.findAvailableTcpPort();
+		createClient(port)
+		        .hedging(HedgingPolicy.builder().delay(Duration.ofMillis(10)).build())
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectError()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void testHedgingScheduledHedgeSentOnError() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> requests.incrementAndGet() == 1 ?
+				                res.withConnection(Connection::dispose).then() :
+				                res.sendString(Mono.just("hedged")))
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .disableRetry(true)
+		        .hedging(HedgingPolicy.builder().delay(Duration.ofSeconds(30)).build())
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("hedged")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testResponseCacheFreshResponse() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                      .sendString(Mono.just("cached"));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.responseCache(HttpResponseCache.builder().build());
+
+		for (int i = 0; i < 2; i++) {
+			client.get()
+			      .uri("/")
+			      .responseSingle((res, bytes) -> bytes.asString().map(body -> res.status().code() + " " + body))
+			      .as(StepVerifier::create)
+			      .expectNext("200 cached")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+		}
+
+		client.get()
+		      .uri("/")
+		      .responseContent()
+		      .aggregate()
+		      .asString()
+		      .as(StepVerifier::create)
+		      .expectNext("cached")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.get()
+		      .uri("/")
+		      .response((res, bytes) -> bytes.asString().map(body -> res.responseHeaders().get(HttpHeaderNames.AGE) + " " + body))
+		      .as(StepVerifier::create)
+		      .expectNext("0 cached")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testResponseCacheRevalidation() {
+		AtomicInteger requests = new AtomicInteger();
+		AtomicInteger notModified = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            res.header(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+				               .header(HttpHeaderNames.ETAG, "\"v1\"");
+				            if ("\"v1\"".equals(req.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+				                notModified.incrementAndGet();
+				                return res.status(HttpResponseStatus.NOT_MODIFIED).send();
+				            }
+				            return res.sendString(Mono.just("revalidated"));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.responseCache(HttpResponseCache.builder().build());
+
+		for (int i = 0; i < 3; i++) {
+			client.get()
+			      .uri("/")
+			      .responseSingle((res, bytes) -> bytes.asString().map(body -> res.status().code() + " " + body))
+			      .as(StepVerifier::create)
+			      .expectNext("200 revalidated")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+		}
+
+		assertThat(requests.get()).isEqualTo(3);
+		assertThat(notModified.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testResponseCacheNoStore() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60, no-store")
+				                      .sendString(Mono.just("not cached"));
+				        })
+				        .bindNow();
+
+		HttpResponseCache responseCache = HttpResponseCache.builder().build();
+		HttpClient client = createClient(disposableServer.port()).responseCache(responseCache);
+
+		for (int i = 0; i < 2; i++) {
+			client.get()
+			      .uri("/")
+			      .responseContent()
+			      .aggregate()
+			      .asString()
+			      .as(StepVerifier::create)
+			      .expectNext("not cached")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+		}
+
+		assertThat(requests.get()).isEqualTo(2);
+		assertThat(responseCache.size()).isEqualTo(0);
+	}
+
+	@Test
+	void testResponseCacheVary() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                      .header(HttpHeaderNames.VARY, "Accept-Language")
+				                      .sendString(Mono.just(req.requestHeaders().get(HttpHeaderNames.ACCEPT_LANGUAGE)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.responseCache(HttpResponseCache.builder().build());
+
+		String[] languages = {"en", "fr", "en", "fr"};
+		for (String language : languages) {
+			client.headers(h -> h.set(HttpHeaderNames.ACCEPT_LANGUAGE, language))
+			      .get()
+			      .uri("/")
+			      .responseSingle((res, bytes) -> bytes.asString())
+			      .as(StepVerifier::create)
+			      .expectNext(language)
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+		}
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testResponseCacheInvalidatedByUnsafeRequest() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                      .sendString(Mono.just(req.method().name()));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.responseCache(HttpResponseCache.builder().build());
+
+		Flux.concat(
+		        client.get().uri("/").responseContent().aggregate().asString(),
+		        client.get().uri("/").responseContent().aggregate().asString(),
+		        client.post().uri("/").send(ByteBufFlux.fromString(Mono.just("test"))).responseContent().aggregate().asString(),
+		        client.get().uri("/").responseContent().aggregate().asString())
+		    .as(StepVerifier::create)
+		    .expectNext("GET", "GET", "POST", "GET")
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(3);
+	}
+
+	@Test
+	void testCoalescing() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just("coalesced").delayElement(Duration.ofMillis(200)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.coalescing(CoalescingPolicy.builder().build());
+
+		Flux.range(0, 5)
+		    .flatMap(i -> client.get().uri("/").responseSingle((res, bytes) -> bytes.asString().map(body -> res.status().code() + " " + body)))
+		    .as(StepVerifier::create)
+		    .expectNext("200 coalesced", "200 coalesced", "200 coalesced", "200 coalesced", "200 coalesced")
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+
+		// The in-flight request has completed
+		client.get()
+		      .uri("/")
+		      .responseContent()
+		      .aggregate()
+		      .asString()
+		      .as(StepVerifier::create)
+		      .expectNext("coalesced")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testCoalescingKeyHeaders() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just(req.requestHeaders().get("X-Tenant"))
+				                                      .delayElement(Duration.ofMillis(200)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.coalescing(CoalescingPolicy.builder().keyHeaders("x-tenant").build());
+
+		Flux.range(0, 4)
+		    .flatMap(i -> client.headers(h -> h.set("X-Tenant", i % 2).set("X-Request", i))
+		                        .get()
+		                        .uri("/")
+		                        .responseContent()
+		                        .aggregate()
+		                        .asString())
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(list -> assertThat(list).containsExactlyInAnyOrder("0", "0", "1", "1"))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testCoalescingResponseTooLarge() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just("coalesced").delayElement(Duration.ofMillis(200)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.coalescing(CoalescingPolicy.builder().maxResponseSize(4).build());
+
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get().uri("/").responseContent().aggregate().asString())
+		    .as(StepVerifier::create)
+		    .expectNext("coalesced", "coalesced", "coalesced")
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		// The coalesced request and then one request per coalesced request
+		assertThat(requests.get()).isEqualTo(4);
+	}
+
+	@Test
+	void testCoalescingCredentialHeaders() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just(req.requestHeaders().get(HttpHeaderNames.AUTHORIZATION))
+				                                      .delayElement(Duration.ofMillis(200)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.coalescing(CoalescingPolicy.builder().keyHeaders("x-tenant").build());
+
+		Flux.range(0, 4)
+		    .flatMap(i -> client.headers(h -> h.set("X-Tenant", "a").set(HttpHeaderNames.AUTHORIZATION, "Basic " + i % 2))
+		                        .get()
+		                        .uri("/")
+		                        .responseContent()
+		                        .aggregate()
+		                        .asString())
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(list -> assertThat(list).containsExactlyInAnyOrder("Basic 0", "Basic 0", "Basic 1", "Basic 1"))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testCoalescingNotWithSender() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just(req.requestHeaders().get(HttpHeaderNames.COOKIE))
+				                                      .delayElement(Duration.ofMillis(200)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.coalescing(CoalescingPolicy.builder().build());
+
+		Flux.range(0, 2)
+		    .flatMap(i -> client.get()
+		                        .uri("/")
+		                        .send((req, out) -> {
+		                            req.addHeader(HttpHeaderNames.COOKIE, "session=" + i);
+		                            return out;
+		                        })
+		                        .responseContent()
+		                        .aggregate()
+		                        .asString())
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(list -> assertThat(list).containsExactlyInAnyOrder("session=0", "session=1"))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testCoalescingError() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return Mono.delay(Duration.ofMillis(200))
+				                       .then(res.withConnection(Connection::dispose).then());
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port())
+				.disableRetry(true)
+				.coalescing(CoalescingPolicy.builder().build());
+
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get()
+		                        .uri("/")
+		                        .responseContent()
+		                        .aggregate()
+		                        .asString()
+		                        .onErrorResume(PrematureCloseException.class, t -> Mono.just("error")))
+		    .as(StepVerifier::create)
+		    .expectNext("error", "error", "error")
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testConnectAttemptDelayEarlierAttemptWins() {
+		disposableServer =
+				createServer()
+				        .host("127.0.0.1")
+				        .handle((req, res) -> res.sendString(Mono.just("testConnectAttemptDelayEarlierAttemptWins")))
+				        .bindNow();
+
+		InetSocketAddress live = new InetSocketAddress("127.0.0.1", disposableServer.port());
+		InetSocketAddress blackHole = new InetSocketAddress("10.255.255.1", disposableServer.port());
+		List<InetSocketAddress> addresses = Arrays.asList(live, blackHole);
+
+		AddressResolverGroup<InetSocketAddress> resolverGroup = new AddressResolverGroup<InetSocketAddress>() {
+			@Override
+			protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+				return new AbstractAddressResolver<InetSocketAddress>(executor) {
+					@Override
+					protected boolean doIsResolved(InetSocketAddress address) {
+						return !address.isUnresolved();
+					}
+
+					@Override
+					protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+						promise.setSuccess(live);
+					}
+
+					@Override
+					protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+						promise.setSuccess(addresses);
+					}
+				};
+			}
+		};
+
+		ConnectionProvider provider = ConnectionProvider.create("testConnectAttemptDelayEarlierAttemptWins", 1);
+		try {
+			AtomicReference<Channel> blackHoleChannel = new AtomicReference<>();
+			Set<ChannelId> connected = ConcurrentHashMap.newKeySet();
+			HttpClient client =
+					HttpClient.create(provider)
+					          .resolver(resolverGroup)
+					          .host("example.com")
+					          .port(disposableServer.port())
+					          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 30_000)
+					          .connectAttemptDelay(Duration.ofMillis(100))
+					          .doOnChannelInit((observer, channel, remoteAddress) ->
+					                  channel.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+					                      @Override
+					                      @SuppressWarnings("FutureReturnValueIgnored")
+					                      public void connect(ChannelHandlerContext ctx, SocketAddress remote,
+					                              SocketAddress local, ChannelPromise promise) {
+					                          if (blackHole.equals(remote)) {
+					                              // Never completes, as with a black-holed address
+					                              blackHoleChannel.set(ctx.channel());
+					                          }
+					                          else {
+					                              // The first attempt completes after the second attempt has been initialized
+					                              // "FutureReturnValueIgnored" this is deliberate
+					                              ctx.executor().schedule(() -> ctx.connect(remote, local, promise), 300, TimeUnit.MILLISECONDS);
+					                          }
+					                      }
+					                  }))
+					          .doOnConnected(conn -> connected.add(conn.channel().id()));
+
+			for (int i = 0; i < 2; i++) {
+				client.get()
+				      .uri("/")
+				      .responseContent()
+				      .aggregate()
+				      .asString()
+				      .as(StepVerifier::create)
+				      .expectNext("testConnectAttemptDelayEarlierAttemptWins")
+				      .expectComplete()
+				      .verify(Duration.ofSeconds(5));
+			}
+
+			assertThat(blackHoleChannel.get()).isNotNull();
+			assertThat(connected).hasSize(1);
+			assertThat(connected).doesNotContain(blackHoleChannel.get().id());
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+		}
+	}
+
 	@Test
 	void testIssue1943H2C() {
 		doTestIssue1943(HttpProtocol.H2C);
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.http.client.HttpResponseCache.Build.DEFAULT_MAX_ENTRY_SIZE;
+import static reactor.netty.http.client.HttpResponseCache.Build.DEFAULT_MAX_SIZE;
+
+/**
+ * This test class verifies {@link HttpResponseCache}.
+ */
+class HttpResponseCacheTest {
+
+	static final long NOW = TimeUnit.DAYS.toMillis(20_000);
+
+	@Test
+	void build() {
+		HttpResponseCache cache = HttpResponseCache.builder().build();
+		assertThat(cache.maxEntrySize()).isEqualTo(DEFAULT_MAX_ENTRY_SIZE);
+		assertThat(cache.maxSize()).isEqualTo(DEFAULT_MAX_SIZE);
+
+		cache = HttpResponseCache.builder().maxEntrySize(2048).maxSize(1024).build();
+		assertThat(cache.maxEntrySize()).isEqualTo(1024);
+		assertThat(cache.maxSize()).isEqualTo(1024);
+	}
+
+	@Test
+	void buildBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpResponseCache.builder().maxEntrySize(0))
+				.withMessage("maxEntrySize must be strictly positive");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpResponseCache.builder().maxSize(0))
+				.withMessage("maxSize must be strictly positive");
+	}
+
+	@Test
+	void cacheControl() {
+		HttpResponseCache.CacheControl cacheControl = HttpResponseCache.CacheControl.parse(
+				headers(HttpHeaderNames.CACHE_CONTROL, "public, max-age=\"60\", S-MAXAGE=30, must-revalidate, no-cache=\"Set-Cookie\""),
+				false);
+		assertThat(cacheControl.isPublic).isTrue();
+		assertThat(cacheControl.maxAge).isEqualTo(60);
+		assertThat(cacheControl.sMaxAge).isEqualTo(30);
+		assertThat(cacheControl.mustRevalidate).isTrue();
+		assertThat(cacheControl.noCache).isTrue();
+		assertThat(cacheControl.noStore).isFalse();
+
+		cacheControl = HttpResponseCache.CacheControl.parse(headers(HttpHeaderNames.CACHE_CONTROL, "max-age=invalid, max-stale"), true);
+		assertThat(cacheControl.maxAge).isEqualTo(0);
+		assertThat(cacheControl.maxStale).isEqualTo(Long.MAX_VALUE);
+
+		cacheControl = HttpResponseCache.CacheControl.parse(headers(HttpHeaderNames.PRAGMA, "no-cache"), true);
+		assertThat(cacheControl.noCache).isTrue();
+
+		cacheControl = HttpResponseCache.CacheControl.parse(headers(HttpHeaderNames.PRAGMA, "no-cache"), false);
+		assertThat(cacheControl.noCache).isFalse();
+	}
+
+	@Test
+	void freshnessLifetime() {
+		HttpHeaders headers = headers(HttpHeaderNames.CACHE_CONTROL, "max-age=60, s-maxage=30");
+		assertThat(freshnessLifetime(headers)).isEqualTo(TimeUnit.SECONDS.toMillis(30));
+
+		headers = headers(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				.set(HttpHeaderNames.EXPIRES, DateFormatter.format(new Date(NOW + TimeUnit.SECONDS.toMillis(120))));
+		assertThat(freshnessLifetime(headers)).isEqualTo(TimeUnit.SECONDS.toMillis(60));
+
+		headers = headers(HttpHeaderNames.DATE, DateFormatter.format(new Date(NOW)))
+				.set(HttpHeaderNames.EXPIRES, DateFormatter.format(new Date(NOW + TimeUnit.SECONDS.toMillis(120))));
+		assertThat(freshnessLifetime(headers)).isEqualTo(TimeUnit.SECONDS.toMillis(120));
+
+		// An invalid date represents a time in the past
+		headers = headers(HttpHeaderNames.EXPIRES, "0");
+		assertThat(freshnessLifetime(headers)).isEqualTo(0);
+
+		// 10% of the time elapsed since the last modification
+		headers = headers(HttpHeaderNames.DATE, DateFormatter.format(new Date(NOW)))
+				.set(HttpHeaderNames.LAST_MODIFIED, DateFormatter.format(new Date(NOW - TimeUnit.SECONDS.toMillis(1000))));
+		assertThat(freshnessLifetime(headers)).isEqualTo(TimeUnit.SECONDS.toMillis(100));
+
+		assertThat(freshnessLifetime(new DefaultHttpHeaders())).isEqualTo(0);
+	}
+
+	@Test
+	void correctedInitialAge() {
+		// The response took 2s and was already 10s old
+		HttpHeaders headers = headers(HttpHeaderNames.AGE, "10")
+				.set(HttpHeaderNames.DATE, DateFormatter.format(new Date(NOW)));
+		assertThat(HttpResponseCache.correctedInitialAge(headers, NOW - TimeUnit.SECONDS.toMillis(2), NOW))
+				.isEqualTo(TimeUnit.SECONDS.toMillis(12));
+
+		// The clock of the origin server is behind
+		headers = headers(HttpHeaderNames.DATE, DateFormatter.format(new Date(NOW - TimeUnit.SECONDS.toMillis(30))));
+		assertThat(HttpResponseCache.correctedInitialAge(headers, NOW, NOW)).isEqualTo(TimeUnit.SECONDS.toMillis(30));
+	}
+
+	@Test
+	void isFresh() {
+		HttpResponseCache.Entry entry = entry("/", new DefaultHttpHeaders(), 10, 60);
+		HttpHeaders request = new DefaultHttpHeaders();
+
+		assertThat(HttpResponseCache.isFresh(entry, request, NOW)).isTrue();
+		assertThat(HttpResponseCache.isFresh(entry, request, NOW + TimeUnit.SECONDS.toMillis(49))).isTrue();
+		assertThat(HttpResponseCache.isFresh(entry, request, NOW + TimeUnit.SECONDS.toMillis(50))).isFalse();
+
+		assertThat(HttpResponseCache.isFresh(entry, headers(HttpHeaderNames.CACHE_CONTROL, "no-cache"), NOW)).isFalse();
+		assertThat(HttpResponseCache.isFresh(entry, headers(HttpHeaderNames.CACHE_CONTROL, "max-age=5"), NOW)).isFalse();
+		assertThat(HttpResponseCache.isFresh(entry, headers(HttpHeaderNames.CACHE_CONTROL, "min-fresh=55"), NOW)).isFalse();
+
+		HttpHeaders maxStale = headers(HttpHeaderNames.CACHE_CONTROL, "max-stale=20");
+		assertThat(HttpResponseCache.isFresh(entry, maxStale, NOW + TimeUnit.SECONDS.toMillis(70))).isTrue();
+		assertThat(HttpResponseCache.isFresh(entry, maxStale, NOW + TimeUnit.SECONDS.toMillis(71))).isFalse();
+
+		entry = entry("/", headers(HttpHeaderNames.CACHE_CONTROL, "max-age=60, must-revalidate"), 10, 60);
+		assertThat(HttpResponseCache.isFresh(entry, maxStale, NOW + TimeUnit.SECONDS.toMillis(60))).isFalse();
+
+		entry = entry("/", headers(HttpHeaderNames.CACHE_CONTROL, "no-cache"), 0, 60);
+		assertThat(HttpResponseCache.isFresh(entry, request, NOW)).isFalse();
+	}
+
+	@Test
+	void vary() {
+		HttpResponseCache cache = HttpResponseCache.builder().build();
+		Map<String, String> varyValues = new HashMap<>();
+		varyValues.put("accept-language", "en,fr");
+		varyValues.put("accept", "*/*");
+		cache.put(new HttpResponseCache.Entry("/", HttpResponseStatus.OK, HttpVersion.HTTP_1_1, new DefaultHttpHeaders(),
+				new byte[0], HttpResponseCache.CacheControl.EMPTY, 0, 0, NOW,
+				new String[] {"accept-language", "accept"}, varyValues));
+
+		assertThat(cache.get("/", headers(HttpHeaderNames.ACCEPT_LANGUAGE, "en, fr"))).isNotNull();
+		assertThat(cache.get("/", headers(HttpHeaderNames.ACCEPT_LANGUAGE, "en").add(HttpHeaderNames.ACCEPT_LANGUAGE, "fr")))
+				.isNotNull();
+		assertThat(cache.get("/", headers(HttpHeaderNames.ACCEPT_LANGUAGE, "fr"))).isNull();
+		assertThat(cache.get("/", new DefaultHttpHeaders())).isNull();
+		assertThat(cache.get("/", headers(HttpHeaderNames.ACCEPT_LANGUAGE, "en,fr").set(HttpHeaderNames.ACCEPT, "text/plain")))
+				.isNull();
+		assertThat(cache.get("/other", headers(HttpHeaderNames.ACCEPT_LANGUAGE, "en,fr"))).isNull();
+	}
+
+	@Test
+	void leastRecentlyUsedEviction() {
+		HttpResponseCache.Entry entry1 = entry("/1", new DefaultHttpHeaders(), 0, 60);
+		HttpResponseCache.Entry entry2 = entry("/2", new DefaultHttpHeaders(), 0, 60);
+		HttpResponseCache.Entry entry3 = entry("/3", new DefaultHttpHeaders(), 0, 60);
+		HttpResponseCache cache = HttpResponseCache.builder().maxSize(entry1.size * 2).build();
+
+		cache.put(entry1);
+		cache.put(entry2);
+		assertThat(cache.size()).isEqualTo(entry1.size * 2);
+
+		// "/1" is now the most recently used
+		assertThat(cache.get("/1", new DefaultHttpHeaders())).isSameAs(entry1);
+
+		cache.put(entry3);
+		assertThat(cache.size()).isEqualTo(entry1.size * 2);
+		assertThat(cache.get("/1", new DefaultHttpHeaders())).isSameAs(entry1);
+		assertThat(cache.get("/2", new DefaultHttpHeaders())).isNull();
+		assertThat(cache.get("/3", new DefaultHttpHeaders())).isSameAs(entry3);
+
+		// Replaces the stored response
+		HttpResponseCache.Entry entry4 = entry("/3", new DefaultHttpHeaders(), 0, 60);
+		cache.put(entry4);
+		assertThat(cache.size()).isEqualTo(entry1.size * 2);
+		assertThat(cache.get("/3", new DefaultHttpHeaders())).isSameAs(entry4);
+
+		cache.clear();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.get("/1", new DefaultHttpHeaders())).isNull();
+	}
+
+	@Test
+	void update() {
+		HttpResponseCache cache = new HttpResponseCache(new HttpResponseCache.Build(), () -> NOW);
+		HttpHeaders headers = headers(HttpHeaderNames.CACHE_CONTROL, "max-age=10")
+				.set(HttpHeaderNames.ETAG, "\"v1\"")
+				.set(HttpHeaderNames.CONTENT_LENGTH, 4);
+		HttpResponseCache.Entry entry = entry("/", headers, 20, 10);
+		cache.put(entry);
+
+		HttpHeaders notModified = headers(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				.set(HttpHeaderNames.CONTENT_LENGTH, 0);
+		HttpResponseCache.Entry updated = cache.update(entry, notModified, NOW);
+
+		assertThat(updated.headers.get(HttpHeaderNames.CACHE_CONTROL)).isEqualTo("max-age=60");
+		assertThat(updated.headers.get(HttpHeaderNames.ETAG)).isEqualTo("\"v1\"");
+		assertThat(updated.headers.get(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo("4");
+		assertThat(updated.body).isSameAs(entry.body);
+		assertThat(HttpResponseCache.isFresh(updated, new DefaultHttpHeaders(), NOW)).isTrue();
+		assertThat(cache.get("/", new DefaultHttpHeaders())).isSameAs(updated);
+	}
+
+	static HttpResponseCache.Entry entry(String key, HttpHeaders headers, long ageSeconds, long freshnessLifetimeSeconds) {
+		return new HttpResponseCache.Entry(key, HttpResponseStatus.OK, HttpVersion.HTTP_1_1, headers, new byte[] {'t', 'e', 's', 't'},
+				HttpResponseCache.CacheControl.parse(headers, false), TimeUnit.SECONDS.toMillis(freshnessLifetimeSeconds),
+				TimeUnit.SECONDS.toMillis(ageSeconds), NOW, HttpResponseCache.EMPTY_VARY, Collections.emptyMap());
+	}
+
+	static long freshnessLifetime(HttpHeaders headers) {
+		return HttpResponseCache.freshnessLifetime(HttpResponseStatus.OK, headers,
+				HttpResponseCache.CacheControl.parse(headers, false), NOW);
+	}
+
+	static HttpHeaders headers(CharSequence name, Object value) {
+		return new DefaultHttpHeaders().set(name, value);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedBodyCacheTest {
+
+	@Test
+	void admitContentSeenTwice() {
+		CompressedBodyCache cache = new CompressedBodyCache(1024);
+		ByteBuf content = content("body");
+		try {
+			assertThat(cache.admit("gzip", content)).isFalse();
+			assertThat(cache.admit("gzip", content)).isTrue();
+			assertThat(cache.admit("br", content)).isFalse();
+			assertThat(cache.admit("gzip", Unpooled.EMPTY_BUFFER)).isFalse();
+		}
+		finally {
+			content.release();
+		}
+	}
+
+	@Test
+	void evictLeastRecentlyUsed() {
+		// 3 entries of 15/16 bytes fit, not 4
+		CompressedBodyCache cache = new CompressedBodyCache(50);
+		ByteBuf first = content("first");
+		ByteBuf second = content("second");
+		ByteBuf third = content("third");
+		ByteBuf fourth = content("fourth");
+		try {
+			put(cache, first);
+			put(cache, second);
+			put(cache, third);
+			assertThat(cache.size).isEqualTo(5 + 6 + 5 + 3 * 10);
+
+			// The first entry becomes the most recently used
+			assertThat(cache.get("gzip", first)).isNotNull();
+			put(cache, fourth);
+
+			assertThat(cache.get("gzip", first)).isNotNull();
+			assertThat(cache.get("gzip", second)).isNull();
+			assertThat(cache.get("gzip", third)).isNotNull();
+			assertThat(cache.get("gzip", fourth)).isNotNull();
+			assertThat(cache.size).isEqualTo(5 + 5 + 6 + 3 * 10);
+		}
+		finally {
+			first.release();
+			second.release();
+			third.release();
+			fourth.release();
+		}
+	}
+
+	static void put(CompressedBodyCache cache, ByteBuf content) {
+		byte[] copy = new byte[content.readableBytes()];
+		content.getBytes(content.readerIndex(), copy);
+		cache.put("gzip", copy, new byte[10]);
+	}
+
+	static ByteBuf content(String content) {
+		return Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+	}
+}
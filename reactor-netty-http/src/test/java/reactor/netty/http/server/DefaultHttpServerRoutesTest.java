@@ -21,13 +21,18 @@ import org.mockito.Mockito;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
 import reactor.netty.NettyOutbound;
 import reactor.test.StepVerifier;
+import reactor.util.annotation.Nullable;
 
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -77,4 +82,93 @@ class DefaultHttpServerRoutesTest {
 				.verify(Duration.ofMillis(200));
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	void routesAreSelectedInDeclarationOrder() {
+		AtomicReference<String> selected = new AtomicReference<>();
+		DefaultHttpServerRoutes routes = new DefaultHttpServerRoutes();
+		routes.get("/api/users/{id}", handler("user", selected))
+		      .get("/api/users/me", handler("me", selected))
+		      .route(req -> req.uri().endsWith("/orders"), handler("custom", selected))
+		      .get("/api/users/{id}/orders", handler("orders", selected))
+		      .post("/api/users", handler("create", selected))
+		      .get("/api/**", handler("api", selected))
+		      .get("/static/app.js", handler("static", selected))
+		      .route(HttpPredicate.prefix("/files/"), handler("files", selected));
+
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "user", selected);
+		assertSelected(routes, HttpMethod.GET, "/api/users/1?q=1", "user", selected);
+		assertSelected(routes, HttpMethod.GET, "/api/users/1/orders", "custom", selected);
+		assertSelected(routes, HttpMethod.POST, "/api/users", "create", selected);
+		assertSelected(routes, HttpMethod.GET, "/api/users", "api", selected);
+		assertSelected(routes, HttpMethod.GET, "/api/other/path", "api", selected);
+		assertSelected(routes, HttpMethod.GET, "http://localhost:8080/api/users/2", "user", selected);
+		assertSelected(routes, HttpMethod.GET, "/static/app.js", "static", selected);
+		assertSelected(routes, HttpMethod.GET, "/static/appXjs", "static", selected);
+		assertSelected(routes, HttpMethod.GET, "/files/a/b/c", "files", selected);
+		assertSelected(routes, HttpMethod.GET, "/orders", "custom", selected);
+		assertSelected(routes, HttpMethod.DELETE, "/api/users/1/orders", "custom", selected);
+		assertSelected(routes, HttpMethod.DELETE, "/api/users/1", null, selected);
+		assertSelected(routes, HttpMethod.GET, "/unknown", null, selected);
+	}
+
+	@Test
+	void routesAreSelectedInComparatorOrder() {
+		AtomicReference<String> selected = new AtomicReference<>();
+		DefaultHttpServerRoutes routes = new DefaultHttpServerRoutes();
+		routes.get("/api/**", handler("api", selected))
+		      .get("/api/users/{id}", handler("user", selected))
+		      .get("/api/users/me", handler("me", selected));
+
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "api", selected);
+
+		routes.comparator(Comparator.comparing(metadata -> metadata.getPath().length(), Comparator.reverseOrder()));
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "user", selected);
+
+		routes.comparator(Comparator.comparing(metadata -> !metadata.getPath().endsWith("/me")));
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "me", selected);
+
+		routes.noComparator();
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "api", selected);
+
+		routes.removeIf(metadata -> "/api/**".equals(metadata.getPath()));
+		assertSelected(routes, HttpMethod.GET, "/api/users/me", "user", selected);
+	}
+
+	@Test
+	void routesWithRegularExpressionsAreSelected() {
+		AtomicReference<String> selected = new AtomicReference<>();
+		DefaultHttpServerRoutes routes = new DefaultHttpServerRoutes();
+		routes.get("/v1|/v2", handler("alternation", selected))
+		      .get("/api/v[0-9]+/items", handler("versioned", selected));
+
+		assertSelected(routes, HttpMethod.GET, "/v2", "alternation", selected);
+		assertSelected(routes, HttpMethod.GET, "/api/v12/items", "versioned", selected);
+	}
+
+	static BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> handler(String name,
+			AtomicReference<String> selected) {
+		return (req, res) -> {
+			selected.set(name);
+			return Mono.empty();
+		};
+	}
+
+	static void assertSelected(HttpServerRoutes routes, HttpMethod method, String uri, @Nullable String expected,
+			AtomicReference<String> selected) {
+		HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+		Mockito.when(request.paramsResolver(Mockito.any())).thenReturn(request);
+		Mockito.when(request.uri()).thenReturn(uri);
+		Mockito.when(request.method()).thenReturn(method);
+
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		Mockito.when(response.sendNotFound()).thenReturn(Mono.empty());
+
+		selected.set(null);
+		StepVerifier.create(routes.apply(request, response))
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		assertThat(selected.get()).as(method + " " + uri).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class HttpConcurrencyLimitTest {
+
+	private HttpConcurrencyLimit.Builder builder;
+
+	@BeforeEach
+	void setUp() {
+		builder = HttpConcurrencyLimit.builder();
+	}
+
+	@Test
+	void build() {
+		HttpConcurrencyLimit limit = builder.build();
+		assertThat(limit.limit()).isEqualTo(HttpConcurrencyLimit.Build.DEFAULT_INITIAL_LIMIT);
+		assertThat(limit.maxLimit).isEqualTo(HttpConcurrencyLimit.Build.DEFAULT_MAX_LIMIT);
+		assertThat(limit.minLimit).isEqualTo(HttpConcurrencyLimit.Build.DEFAULT_MIN_LIMIT);
+		assertThat(limit.maxQueueSize).isEqualTo(0);
+		assertThat(limit.rejectedStatus).isEqualTo(HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+		limit = builder.initialLimit(5).minLimit(10).maxLimit(20).build();
+		assertThat(limit.limit()).isEqualTo(10);
+	}
+
+	@Test
+	void buildBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.initialLimit(0))
+				.withMessage("initialLimit must be strictly positive");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxQueueSize(-1))
+				.withMessage("maxQueueSize must be positive or 0");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxQueueTime(Duration.ZERO))
+				.withMessage("maxQueueTime must be strictly positive");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.rejectedStatus(HttpResponseStatus.OK))
+				.withMessage("rejectedStatus must be an error status");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.rttTolerance(0.5))
+				.withMessage("rttTolerance must be greater than or equal to 1");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.minLimit(20).maxLimit(10).build())
+				.withMessage("minLimit must be less than or equal to maxLimit");
+	}
+
+	@Test
+	void tryAcquire() {
+		HttpConcurrencyLimit limit = builder.initialLimit(2).minLimit(1).build();
+		assertThat(limit.tryAcquire()).isTrue();
+		assertThat(limit.tryAcquire()).isTrue();
+		assertThat(limit.tryAcquire()).isFalse();
+		assertThat(limit.inflight()).isEqualTo(2);
+
+		limit.release(-1);
+		assertThat(limit.inflight()).isEqualTo(1);
+		assertThat(limit.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void limitIncreasesWhenLatencyIsStable() {
+		HttpConcurrencyLimit limit = builder.initialLimit(20).build();
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(1_000_000, limit.limit());
+		}
+		assertThat(limit.limit()).isGreaterThan(20);
+	}
+
+	@Test
+	void limitDecreasesWhenLatencyIncreases() {
+		HttpConcurrencyLimit limit = builder.initialLimit(100).build();
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(1_000_000, limit.limit());
+		}
+		int stable = limit.limit();
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(10_000_000, limit.limit());
+		}
+		assertThat(limit.limit()).isLessThan(stable);
+
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(10_000_000, limit.limit());
+		}
+		assertThat(limit.limit()).isGreaterThanOrEqualTo(HttpConcurrencyLimit.Build.DEFAULT_MIN_LIMIT);
+	}
+
+	@Test
+	void concurrentSamples() throws Exception {
+		HttpConcurrencyLimit limit = builder.initialLimit(20).minLimit(10).maxLimit(100).build();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10_000; i++) {
+						limit.onSample(1_000_000, limit.limit());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(5, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		// Some samples completed concurrently are dropped, the limit still follows the stable latency
+		assertThat(limit.limit()).isGreaterThan(20).isLessThanOrEqualTo(100);
+	}
+
+	@Test
+	void limitUnchangedWhenNotLimited() {
+		HttpConcurrencyLimit limit = builder.initialLimit(100).build();
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(1_000_000, 1);
+		}
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(10_000_000, 1);
+		}
+		assertThat(limit.limit()).isEqualTo(100);
+	}
+}
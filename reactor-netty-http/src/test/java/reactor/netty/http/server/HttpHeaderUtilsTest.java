@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpHeaderUtilsTest {
+
+	@Test
+	void quality() {
+		assertThat(HttpHeaderUtils.quality("gzip, br", "br")).isEqualTo(1.0f);
+		assertThat(HttpHeaderUtils.quality("gzip;q=0.5, br;Q=0.8", "gzip")).isEqualTo(0.5f);
+		assertThat(HttpHeaderUtils.quality("gzip;q=0.5, br;Q=0.8", "br")).isEqualTo(0.8f);
+		assertThat(HttpHeaderUtils.quality("GZIP ; q = 0.5", "gzip")).isEqualTo(0.5f);
+		assertThat(HttpHeaderUtils.quality("gzip;q=0", "gzip")).isEqualTo(0f);
+		assertThat(HttpHeaderUtils.quality("gzip;q=abc", "gzip")).isEqualTo(0f);
+		assertThat(HttpHeaderUtils.quality("*;q=0.3", "zstd")).isEqualTo(0.3f);
+		assertThat(HttpHeaderUtils.quality("gzip", "br")).isEqualTo(0f);
+	}
+
+	@Test
+	void qualityIgnoresOtherParameters() {
+		assertThat(HttpHeaderUtils.quality("gzip;level=9", "gzip")).isEqualTo(1.0f);
+		assertThat(HttpHeaderUtils.quality("gzip;level=9;q=0.4", "gzip")).isEqualTo(0.4f);
+		assertThat(HttpHeaderUtils.quality("gzip;qs=0.1, br", "gzip")).isEqualTo(1.0f);
+	}
+
+	@Test
+	void compressedContentTypeIsCaseInsensitive() {
+		assertThat(AdaptiveHttpCompressionPolicy.isCompressed("image/png")).isTrue();
+		assertThat(AdaptiveHttpCompressionPolicy.isCompressed("Image/PNG")).isTrue();
+		assertThat(AdaptiveHttpCompressionPolicy.isCompressed("Application/GZip")).isTrue();
+		assertThat(AdaptiveHttpCompressionPolicy.isCompressed("IMAGE/SVG+XML")).isFalse();
+		assertThat(AdaptiveHttpCompressionPolicy.isCompressed("Text/Plain")).isFalse();
+	}
+}
@@ -22,6 +22,8 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.cert.CertificateException;
@@ -45,8 +47,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 
 import io.netty.buffer.ByteBuf;
@@ -146,6 +150,7 @@ import reactor.netty.tcp.SslProvider;
 import reactor.netty.tcp.TcpClient;
 import reactor.netty.tcp.TcpServer;
 import reactor.netty.transport.AddressUtils;
+import reactor.netty.transport.EventLoopLoadShedding;
 import reactor.netty.transport.TransportConfig;
 import reactor.test.StepVerifier;
 import reactor.util.Logger;
@@ -153,13 +158,17 @@ import reactor.util.Loggers;
 import reactor.util.annotation.Nullable;
 import reactor.util.context.Context;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
 import javax.net.ssl.SNIHostName;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.awaitility.Awaitility.await;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.DEFAULT_FORM_DECODER_SPEC;
 import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HOST_NAME;
 import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HTTP_PORT;
@@ -567,6 +576,140 @@ class HttpServerTests extends BaseHttpTest {
 		p.dispose();
 	}
 
+	@Test
+	void recycleRequestState() {
+		doTestRecycleRequestState(true);
+	}
+
+	@Test
+	void noRecycleRequestState() {
+		doTestRecycleRequestState(false);
+	}
+
+	private void doTestRecycleRequestState(boolean recycle) {
+		List<HttpServerResponse> responses = new CopyOnWriteArrayList<>();
+		List<HttpHeaders> headers = new CopyOnWriteArrayList<>();
+		List<String> leaked = new CopyOnWriteArrayList<>();
+		disposableServer =
+				createServer()
+				        .recycleRequestState(recycle)
+				        .handle((req, res) -> {
+				            responses.add(res);
+				            headers.add(res.responseHeaders());
+				            if (res.responseHeaders().contains("X-Request")) {
+				                leaked.add(res.responseHeaders().get("X-Request"));
+				            }
+				            return res.header("X-Request", req.uri())
+				                      .sendString(Mono.just(req.uri()));
+				        })
+				        .bindNow();
+
+		assertThat(disposableServer.configuration().recycleRequestState()).isEqualTo(recycle);
+
+		ConnectionProvider provider = ConnectionProvider.create("recycleRequestState", 1);
+		try {
+			HttpClient client = createClient(provider, disposableServer.port());
+			for (int i = 0; i < 3; i++) {
+				String uri = "/" + i;
+				Tuple2<String, HttpHeaders> response =
+						client.get()
+						      .uri(uri)
+						      .responseSingle((res, bytes) -> bytes.asString().zipWith(Mono.just(res.responseHeaders())))
+						      .block(Duration.ofSeconds(5));
+
+				assertThat(response).isNotNull();
+				assertThat(response.getT1()).isEqualTo(uri);
+				assertThat(response.getT2().getAll("X-Request")).containsExactly(uri);
+
+				if (recycle) {
+					// The response is reset in a separate event loop task once it is written,
+					// wait for it so that the next request reuses it
+					HttpHeaders written = headers.get(i);
+					await().atMost(5, TimeUnit.SECONDS)
+					       .until(written::isEmpty);
+				}
+			}
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+		}
+
+		assertThat(leaked).isEmpty();
+		assertThat(responses).hasSize(3);
+		// The request state, except the response message, is never shared between requests
+		assertThat(responses.get(0)).isNotSameAs(responses.get(1)).isNotSameAs(responses.get(2));
+		if (recycle) {
+			assertThat(headers.get(0)).isSameAs(headers.get(1)).isSameAs(headers.get(2));
+		}
+		else {
+			assertThat(headers.get(0)).isNotSameAs(headers.get(1)).isNotSameAs(headers.get(2));
+		}
+		// A completed response cannot be modified, this prevents writing to the headers of the next request
+		assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> responses.get(0).header("X-Request", "stale"));
+	}
+
+	@Test
+	void dateHeaderAndHeaderBlock() {
+		HttpHeaderBlock block =
+				HttpHeaderBlock.builder()
+				               .add(HttpHeaderNames.CONTENT_TYPE, "text/plain")
+				               .add(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+				               .add(HttpHeaderNames.VARY, "Accept")
+				               .add(HttpHeaderNames.VARY, "Accept-Encoding")
+				               .build();
+		assertThat(block.size()).isEqualTo(4);
+
+		disposableServer =
+				createServer()
+				        .dateHeader(true)
+				        .route(r -> r.get("/block", (req, res) -> res.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+				                                                     .headerBlock(block)
+				                                                     .sendString(Mono.just("block")))
+				                     .get("/date", (req, res) -> res.header(HttpHeaderNames.DATE, "Thu, 01 Jan 1970 00:00:00 GMT")
+				                                                    .sendString(Mono.just("date"))))
+				        .bindNow();
+
+		assertThat(disposableServer.configuration().dateHeader()).isTrue();
+
+		HttpHeaders headers =
+				createClient(disposableServer.port())
+				        .get()
+				        .uri("/block")
+				        .responseSingle((res, bytes) -> bytes.then(Mono.just(res.responseHeaders())))
+				        .block(Duration.ofSeconds(5));
+
+		assertThat(headers).isNotNull();
+		assertThat(headers.getAll(HttpHeaderNames.CONTENT_TYPE)).containsExactly("text/plain");
+		assertThat(headers.get(HttpHeaderNames.CACHE_CONTROL)).isEqualTo("no-cache");
+		assertThat(headers.getAll(HttpHeaderNames.VARY)).containsExactly("Accept", "Accept-Encoding");
+		assertThat(headers.getTimeMillis(HttpHeaderNames.DATE))
+				.isNotNull()
+				.isCloseTo(System.currentTimeMillis(), within(TimeUnit.MINUTES.toMillis(1)));
+
+		headers =
+				createClient(disposableServer.port())
+				        .get()
+				        .uri("/date")
+				        .responseSingle((res, bytes) -> bytes.then(Mono.just(res.responseHeaders())))
+				        .block(Duration.ofSeconds(5));
+
+		assertThat(headers).isNotNull();
+		assertThat(headers.getAll(HttpHeaderNames.DATE)).containsExactly("Thu, 01 Jan 1970 00:00:00 GMT");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpHeaderBlock.builder().add("X Invalid", "value").build());
+
+		// The non US-ASCII characters are rejected instead of being replaced
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpHeaderBlock.builder().add("X-Name", "caf\u00e9"))
+				.withMessage("Header value contains a non US-ASCII character at index 3");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpHeaderBlock.builder().add("X-\u0100", "value"))
+				.withMessage("Header name contains a non US-ASCII character at index 2");
+	}
+
 	@Test
 	void gettingOptionsDuplicates() {
 		HttpServer server1 = HttpServer.create();
@@ -578,6 +721,361 @@ class HttpServerTests extends BaseHttpTest {
 				.isNotSameAs(((HttpServerBind) server2).duplicate());
 	}
 
+	@Test
+	void directoryConditionalAndRangeRequests() throws Exception {
+		Path resource = Paths.get(getClass().getResource("/public").toURI());
+		String content = new String(Files.readAllBytes(resource.resolve("test.css")), StandardCharsets.UTF_8);
+		disposableServer = createServer()
+		                             .route(routes -> routes.directory("/test", resource))
+		                             .bindNow();
+
+		HttpClient client = createClient(disposableServer.port());
+
+		Tuple3<Integer, HttpHeaders, String> full = directoryRequest(client, "/test/test.css", h -> {});
+		assertThat(full.getT1()).isEqualTo(200);
+		assertThat(full.getT3()).isEqualTo(content);
+		String etag = full.getT2().get(HttpHeaderNames.ETAG);
+		String lastModified = full.getT2().get(HttpHeaderNames.LAST_MODIFIED);
+		assertThat(etag).isNotNull();
+		assertThat(lastModified).isNotNull();
+		assertThat(full.getT2().get(HttpHeaderNames.ACCEPT_RANGES)).isEqualTo("bytes");
+
+		Tuple3<Integer, HttpHeaders, String> notModified =
+				directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.IF_NONE_MATCH, etag));
+		assertThat(notModified.getT1()).isEqualTo(304);
+		assertThat(notModified.getT3()).isEmpty();
+
+		notModified = directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified));
+		assertThat(notModified.getT1()).isEqualTo(304);
+
+		Tuple3<Integer, HttpHeaders, String> modified =
+				directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.IF_NONE_MATCH, "\"other\""));
+		assertThat(modified.getT1()).isEqualTo(200);
+		assertThat(modified.getT3()).isEqualTo(content);
+
+		Tuple3<Integer, HttpHeaders, String> partial =
+				directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.RANGE, "bytes=10-19"));
+		assertThat(partial.getT1()).isEqualTo(206);
+		assertThat(partial.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes 10-19/" + content.length());
+		assertThat(partial.getT3()).isEqualTo(content.substring(10, 20));
+
+		partial = directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.RANGE, "bytes=-5"));
+		assertThat(partial.getT1()).isEqualTo(206);
+		assertThat(partial.getT3()).isEqualTo(content.substring(content.length() - 5));
+
+		Tuple3<Integer, HttpHeaders, String> staleRange =
+				directoryRequest(client, "/test/test.css",
+						h -> h.set(HttpHeaderNames.RANGE, "bytes=10-19").set(HttpHeaderNames.IF_RANGE, "\"other\""));
+		assertThat(staleRange.getT1()).isEqualTo(200);
+		assertThat(staleRange.getT3()).isEqualTo(content);
+
+		Tuple3<Integer, HttpHeaders, String> unsatisfiable =
+				directoryRequest(client, "/test/test.css", h -> h.set(HttpHeaderNames.RANGE, "bytes=100000-"));
+		assertThat(unsatisfiable.getT1()).isEqualTo(416);
+		assertThat(unsatisfiable.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes */" + content.length());
+
+		assertThat(directoryRequest(client, "/test/missing.css", h -> {}).getT1()).isEqualTo(404);
+		assertThat(directoryRequest(client, "/test/../../build.gradle", h -> {}).getT1()).isEqualTo(404);
+	}
+
+	@Test
+	void directoryPrecompressedVariants() throws Exception {
+		Path directory = Files.createTempDirectory("precompressed");
+		try {
+			Path file = Files.write(directory.resolve("test.txt"), "plain".getBytes(StandardCharsets.UTF_8));
+			Path gzip = Files.write(directory.resolve("test.txt.gz"), "gzip".getBytes(StandardCharsets.UTF_8));
+			Path brotli = Files.write(directory.resolve("test.txt.br"), "br".getBytes(StandardCharsets.UTF_8));
+			Files.setLastModifiedTime(gzip, Files.getLastModifiedTime(file));
+			Files.setLastModifiedTime(brotli, Files.getLastModifiedTime(file));
+
+			disposableServer = createServer()
+			                             .route(routes -> routes.directory("/test", directory))
+			                             .bindNow();
+
+			HttpClient client = createClient(disposableServer.port());
+
+			Tuple3<Integer, HttpHeaders, String> identity =
+					directoryRequest(client, "/test/test.txt", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "identity"));
+			assertThat(identity.getT1()).isEqualTo(200);
+			assertThat(identity.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+			assertThat(identity.getT2().get(HttpHeaderNames.VARY)).isEqualToIgnoringCase("accept-encoding");
+			assertThat(identity.getT3()).isEqualTo("plain");
+
+			Tuple3<Integer, HttpHeaders, String> gzipped =
+					directoryRequest(client, "/test/test.txt", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, br;q=0.5"));
+			assertThat(gzipped.getT1()).isEqualTo(200);
+			assertThat(gzipped.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+			assertThat(gzipped.getT2().get(HttpHeaderNames.ETAG)).isNotEqualTo(identity.getT2().get(HttpHeaderNames.ETAG));
+			assertThat(gzipped.getT3()).isEqualTo("gzip");
+
+			Tuple3<Integer, HttpHeaders, String> brotlied =
+					directoryRequest(client, "/test/test.txt", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate, br"));
+			assertThat(brotlied.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("br");
+			assertThat(brotlied.getT3()).isEqualTo("br");
+
+			Tuple3<Integer, HttpHeaders, String> notModified =
+					directoryRequest(client, "/test/test.txt",
+							h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+							      .set(HttpHeaderNames.IF_NONE_MATCH, gzipped.getT2().get(HttpHeaderNames.ETAG)));
+			assertThat(notModified.getT1()).isEqualTo(304);
+
+			Tuple3<Integer, HttpHeaders, String> partial =
+					directoryRequest(client, "/test/test.txt",
+							h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip").set(HttpHeaderNames.RANGE, "bytes=1-2"));
+			assertThat(partial.getT1()).isEqualTo(206);
+			assertThat(partial.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+			assertThat(partial.getT3()).isEqualTo("la");
+		}
+		finally {
+			try (Stream<Path> files = Files.list(directory)) {
+				files.forEach(path -> path.toFile().delete());
+			}
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	void directoryFileChangedWithinRevalidationInterval() throws Exception {
+		Path directory = Files.createTempDirectory("changed");
+		try {
+			Path file = Files.write(directory.resolve("test.txt"), "plain and changed".getBytes(StandardCharsets.UTF_8));
+
+			disposableServer = createServer()
+			                             .route(routes -> routes.directory("/test", directory))
+			                             .bindNow();
+
+			HttpClient client = createClient(disposableServer.port());
+
+			assertThat(directoryRequest(client, "/test/test.txt", h -> {}).getT3()).isEqualTo("plain and changed");
+
+			// The cached metadata is not revalidated yet, the short read fails the transfer and evicts the metadata
+			Files.write(file, "plain".getBytes(StandardCharsets.UTF_8));
+			client.get()
+			      .uri("/test/test.txt")
+			      .responseContent()
+			      .aggregate()
+			      .asString()
+			      .as(StepVerifier::create)
+			      .expectError()
+			      .verify(Duration.ofSeconds(5));
+
+			Tuple3<Integer, HttpHeaders, String> changed = directoryRequest(client, "/test/test.txt", h -> {});
+			assertThat(changed.getT1()).isEqualTo(200);
+			assertThat(changed.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(5);
+			assertThat(changed.getT3()).isEqualTo("plain");
+		}
+		finally {
+			try (Stream<Path> files = Files.list(directory)) {
+				files.forEach(path -> path.toFile().delete());
+			}
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	void directoryMalformedPercentEncoding() throws Exception {
+		Path directory = Files.createTempDirectory("malformed");
+		try {
+			disposableServer = createServer()
+			                             .route(routes -> routes.directory("/test", directory))
+			                             .bindNow();
+
+			Connection connection =
+					TcpClient.create()
+					         .port(disposableServer.port())
+					         .wiretap(true)
+					         .connectNow();
+			try {
+				String response =
+						connection.outbound()
+						          .sendString(Mono.just("GET /test/%zz HTTP/1.1\r\nHost: localhost\r\n\r\n"))
+						          .then()
+						          .then(connection.inbound()
+						                          .receive()
+						                          .asString()
+						                          .next())
+						          .block(Duration.ofSeconds(5));
+				assertThat(response).startsWith("HTTP/1.1 400 Bad Request");
+			}
+			finally {
+				connection.disposeNow();
+			}
+		}
+		finally {
+			Files.delete(directory);
+		}
+	}
+
+	private static Tuple3<Integer, HttpHeaders, String> directoryRequest(HttpClient client, String uri,
+			Consumer<HttpHeaders> headers) {
+		Tuple3<Integer, HttpHeaders, String> result =
+				client.headers(headers)
+				      .get()
+				      .uri(uri)
+				      .responseSingle((res, bytes) -> bytes.asString()
+				                                           .defaultIfEmpty("")
+				                                           .map(body -> Tuples.of(res.status().code(), res.responseHeaders(), body)))
+				      .block(Duration.ofSeconds(5));
+		assertThat(result).isNotNull();
+		return result;
+	}
+
+	@Test
+	void concurrencyLimitRejectsExcessRequests() {
+		AtomicInteger requests = new AtomicInteger();
+		HttpConcurrencyLimit limit = HttpConcurrencyLimit.builder().initialLimit(1).minLimit(1).maxLimit(1).build();
+		disposableServer =
+				createServer()
+				        .concurrencyLimit(limit)
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.just("test").delayElement(Duration.ofMillis(300)));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port());
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get().uri("/").responseSingle((res, bytes) -> Mono.just(res.status().code())))
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(codes -> assertThat(codes).containsExactlyInAnyOrder(200, 503, 503))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrencyLimitQueuesExcessRequests() {
+		AtomicInteger concurrent = new AtomicInteger();
+		AtomicInteger maxConcurrent = new AtomicInteger();
+		HttpConcurrencyLimit limit =
+				HttpConcurrencyLimit.builder()
+				                    .initialLimit(1)
+				                    .minLimit(1)
+				                    .maxLimit(1)
+				                    .maxQueueSize(2)
+				                    .maxQueueTime(Duration.ofSeconds(5))
+				                    .build();
+		disposableServer =
+				createServer()
+				        .concurrencyLimit(limit)
+				        .handle((req, res) -> {
+				            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+				            return res.sendString(Mono.just("test")
+				                                      .delayElement(Duration.ofMillis(100))
+				                                      .doFinally(s -> concurrent.decrementAndGet()));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port());
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get().uri("/").responseSingle((res, bytes) -> Mono.just(res.status().code())))
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(codes -> assertThat(codes).containsExactly(200, 200, 200))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		assertThat(maxConcurrent.get()).isEqualTo(1);
+		assertThat(limit.queued()).isEqualTo(0);
+	}
+
+	@Test
+	void concurrencyLimitPerRoute() {
+		HttpConcurrencyLimit limit =
+				HttpConcurrencyLimit.builder()
+				                    .initialLimit(1)
+				                    .minLimit(1)
+				                    .maxLimit(1)
+				                    .rejectedStatus(HttpResponseStatus.TOO_MANY_REQUESTS)
+				                    .build();
+		disposableServer =
+				createServer()
+				        .route(routes -> routes.get("/slow", (req, res) -> res.sendString(Mono.just("slow").delayElement(Duration.ofMillis(300))))
+				                               .get("/fast", (req, res) -> res.sendString(Mono.just("fast").delayElement(Duration.ofMillis(300))))
+				                               .concurrencyLimit(route -> "/slow".equals(route.getPath()), limit))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port());
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get().uri("/slow").responseSingle((res, bytes) -> Mono.just(res.status().code())))
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(codes -> assertThat(codes).containsExactlyInAnyOrder(200, 429, 429))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+
+		Flux.range(0, 3)
+		    .flatMap(i -> client.get().uri("/fast").responseSingle((res, bytes) -> Mono.just(res.status().code())))
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .assertNext(codes -> assertThat(codes).containsExactly(200, 200, 200))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void loadSheddingRejectsRequestsOnOverloadedEventLoop() throws Exception {
+		LoopResources loop = LoopResources.create("loadShedding", 1, true);
+		try {
+			disposableServer =
+					createServer()
+					        .runOn(loop)
+					        .loadShedding(EventLoopLoadShedding.builder()
+					                                           .maxLag(Duration.ofMillis(50))
+					                                           .probeInterval(Duration.ofMillis(10))
+					                                           .build())
+					        .route(routes -> routes.get("/block", (req, res) -> {
+					                                   // Keeps the event loop busy on purpose
+					                                   long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+					                                   long spins = 0;
+					                                   while (System.nanoTime() < end) {
+					                                       spins++;
+					                                   }
+					                                   return res.sendString(Mono.just("block " + spins));
+					                               })
+					                               .get("/test", (req, res) -> res.sendString(Mono.just("test"))))
+					        .bindNow();
+
+			Connection connection =
+					TcpClient.create()
+					         .remoteAddress(disposableServer::address)
+					         .wiretap(true)
+					         .connectNow();
+
+			CountDownLatch latch = new CountDownLatch(1);
+			StringBuilder result = new StringBuilder();
+			connection.inbound()
+			          .receive()
+			          .asString()
+			          .doOnNext(s -> {
+			              result.append(s);
+			              if (result.indexOf("503") != -1 || result.indexOf("test") != -1) {
+			                  latch.countDown();
+			              }
+			          })
+			          .subscribe();
+
+			// The second request is pipelined, it is received right after the event loop was blocked
+			connection.outbound()
+			          .sendString(Mono.just("GET /block HTTP/1.1\r\nHost: localhost\r\n\r\n" +
+			                  "GET /test HTTP/1.1\r\nHost: localhost\r\n\r\n"))
+			          .then()
+			          .subscribe();
+
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(result.toString()).contains("200 OK", "block", "503 Service Unavailable")
+			                             .doesNotContain("test");
+
+			connection.disposeNow();
+		}
+		finally {
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(5));
+		}
+	}
+
 	@Test
 	void startRouter() {
 		disposableServer = createServer()
@@ -2095,6 +2593,7 @@ class HttpServerTests extends BaseHttpTest {
 				Connection.from(channel),
 				ConnectionObserver.emptyListener(),
 				new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"),
+				HttpCompressionOptions.DEFAULT,
 				null,
 				new ConnectionInfo(localSocketAddress, DEFAULT_HOST_NAME, DEFAULT_HTTP_PORT, remoteSocketAddress, "http", true),
 				ServerCookieDecoder.STRICT,
@@ -3072,6 +3571,7 @@ class HttpServerTests extends BaseHttpTest {
 				Connection.from(channel),
 				ConnectionObserver.emptyListener(),
 				request,
+				HttpCompressionOptions.DEFAULT,
 				null,
 				new ConnectionInfo(localSocketAddress, DEFAULT_HOST_NAME, DEFAULT_HTTP_PORT, remoteSocketAddress, "http", true),
 				ServerCookieDecoder.STRICT,
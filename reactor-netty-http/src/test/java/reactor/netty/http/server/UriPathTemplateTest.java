@@ -15,6 +15,11 @@
  */
 package reactor.netty.http.server;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 import reactor.netty.http.server.HttpPredicate.UriPathTemplate;
 
@@ -103,4 +108,56 @@ class UriPathTemplateTest {
         assertThat(template.match("/tags/v1.0.0").entrySet()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void namedSplatShouldMatchTrailingSegments() {
+        UriPathTemplate template = new UriPathTemplate("/files/{path}**");
+        assertThat(template.matches("/files/a/b/c.txt?download=true")).isTrue();
+        assertThat(template.match("/files/a/b/c.txt")).hasEntrySatisfying("path", s -> assertThat(s).isEqualTo("a/b/c.txt"));
+    }
+
+    @Test
+    void variablesShouldBeAssignedInOrderOfDeclaration() {
+        UriPathTemplate template = new UriPathTemplate("/{name}-{version}/{rest}**");
+        assertThat(template.match("/reactor-netty-1.2.0/docs/index.html"))
+                .containsEntry("name", "reactor-netty")
+                .containsEntry("version", "1.2.0")
+                .containsEntry("rest", "docs/index.html");
+    }
+
+    @Test
+    void absoluteUriShouldBeMatched() {
+        UriPathTemplate template = new UriPathTemplate("/comments/{id}");
+        assertThat(template.match("http://localhost:8080/comments/1?q=1")).containsEntry("id", "1");
+    }
+
+    @Test
+    void regularExpressionShouldBeMatched() {
+        UriPathTemplate template = new UriPathTemplate("/api/v[0-9]+/{id}");
+        assertThat(template.matches("/api/v12/1")).isTrue();
+        assertThat(template.matches("/api/vX/1")).isFalse();
+        assertThat(template.match("/api/v12/1")).containsEntry("id", "1");
+    }
+
+    @Test
+    void templatesShouldMatchAsRegularExpressions() {
+        String[] templates = {"/", "/comments", "/1.0/comments", "/comments/{id}", "/{a}{b}", "/{a}.json",
+                "/{a}-{b}", "/**", "/x/**/y", "/{a}/**", "/{a}**/{b}", "/{a}/{b}/{c}"};
+        String[] uris = {"/", "/comments", "/1.0/comments", "/1x0/comments", "/comments/1", "/comments/1/", "/a.json",
+                "/a.b.json", "/a-b-c", "/x/y", "/x/1/2/y", "/x/y/z", "/a/b/c", "/a//c", "/a\nb"};
+        for (String t : templates) {
+            UriPathTemplate template = new UriPathTemplate(t);
+            List<String> names = new ArrayList<>();
+            Pattern pattern = UriPathTemplate.compilePattern("^" + t, names);
+            for (String uri : uris) {
+                Matcher matcher = pattern.matcher(uri);
+                boolean matches = matcher.matches();
+                assertThat(template.matches(uri)).as(t + " " + uri).isEqualTo(matches);
+                if (matches) {
+                    for (String name : names) {
+                        assertThat(template.match(uri)).as(t + " " + uri).containsEntry(name, matcher.group(name));
+                    }
+                }
+            }
+        }
+    }
+}